@@ -6,16 +6,34 @@ package io.airbyte.commons.docker;
 
 import com.github.dockerjava.api.DockerClient;
 import com.github.dockerjava.api.command.BuildImageResultCallback;
+import com.github.dockerjava.api.command.PullImageResultCallback;
+import com.github.dockerjava.api.exception.DockerClientException;
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.NotFoundException;
+import com.github.dockerjava.api.model.Image;
 import com.github.dockerjava.core.DefaultDockerClientConfig;
 import com.github.dockerjava.core.DockerClientConfig;
 import com.github.dockerjava.core.DockerClientImpl;
 import com.github.dockerjava.httpclient5.ApacheDockerHttpClient;
 import com.github.dockerjava.transport.DockerHttpClient;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Strings;
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class DockerUtils {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(DockerUtils.class);
+
+  private static final String DEFAULT_TAG = "latest";
+
   private static final DockerClientConfig CONFIG = DefaultDockerClientConfig.createDefaultConfigBuilder().build();
   private static final DockerHttpClient HTTP_CLIENT = new ApacheDockerHttpClient.Builder()
       .dockerHost(CONFIG.getDockerHost())
@@ -36,4 +54,103 @@ public class DockerUtils {
         .awaitImageId();
   }
 
+  /**
+   * Docker treats an image name without a tag as the latest tag.
+   *
+   * @return the image name with its tag, or digest if it refers to one
+   */
+  public static String getImageNameWithTag(String imageName) {
+    final String name = imageName.substring(imageName.lastIndexOf('/') + 1);
+    return name.contains(":") || name.contains("@") ? imageName : getTaggedImageName(imageName, DEFAULT_TAG);
+  }
+
+  /**
+   * Looks the image up locally and, if it is not there, pulls it from its registry.
+   *
+   * The docker api pulls with the credentials stored in the {@code auths} of the docker config, but
+   * does not run the {@code credsStore} or {@code credHelpers} the docker cli uses (e.g. for ECR).
+   * When the registry refuses the pull, it is retried with {@code docker pull} so that those
+   * credentials are used.
+   *
+   * @return the id of the image, or empty if it does not exist locally nor could be pulled
+   */
+  public static Optional<String> getOrPullImageId(String imageName) throws InterruptedException {
+    final String taggedImageName = getImageNameWithTag(imageName);
+    final Optional<String> localImageId = getLocalImageId(taggedImageName);
+    if (localImageId.isPresent()) {
+      return localImageId;
+    }
+
+    try {
+      // the name is always tagged here: without a tag, the docker api pulls every tag of the repository.
+      DOCKER_CLIENT.pullImageCmd(taggedImageName)
+          .exec(new PullImageResultCallback())
+          .awaitCompletion();
+    } catch (NotFoundException | DockerClientException e) {
+      return Optional.empty();
+    } catch (DockerException e) {
+      if (!isAuthError(e)) {
+        LOGGER.warn("Could not pull image {}", taggedImageName, e);
+        return Optional.empty();
+      }
+      LOGGER.info("Pull of image {} was refused, retrying with the docker cli credentials", taggedImageName);
+      if (!pullWithCli(taggedImageName)) {
+        return Optional.empty();
+      }
+    }
+    return getLocalImageId(taggedImageName);
+  }
+
+  /**
+   * Some daemons answer a refused pull with a 500 and a "pull access denied" message instead of a
+   * 401 or 403.
+   */
+  @VisibleForTesting
+  static boolean isAuthError(DockerException e) {
+    final String message = Strings.nullToEmpty(e.getMessage()).toLowerCase();
+    return e.getHttpStatus() == 401
+        || e.getHttpStatus() == 403
+        || message.contains("unauthorized")
+        || message.contains("denied")
+        || message.contains("no basic auth credentials");
+  }
+
+  private static boolean pullWithCli(String taggedImageName) throws InterruptedException {
+    try {
+      final Process process = new ProcessBuilder("docker", "pull", taggedImageName).redirectErrorStream(true).start();
+      final String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+      if (process.waitFor() != 0) {
+        LOGGER.warn("Could not pull image {}: {}", taggedImageName, output);
+        return false;
+      }
+      return true;
+    } catch (IOException e) {
+      LOGGER.warn("Could not run docker pull for image {}", taggedImageName, e);
+      return false;
+    }
+  }
+
+  /**
+   * @return the ids of the images available locally, by tagged image name
+   */
+  public static Map<String, String> getLocalImageIds() {
+    final Map<String, String> imageIds = new HashMap<>();
+    for (final Image image : DOCKER_CLIENT.listImagesCmd().exec()) {
+      if (image.getRepoTags() != null) {
+        for (final String repoTag : image.getRepoTags()) {
+          imageIds.put(repoTag, image.getId());
+        }
+      }
+    }
+    return imageIds;
+  }
+
+  private static Optional<String> getLocalImageId(String imageName) {
+    try {
+      return Optional.of(DOCKER_CLIENT.inspectImageCmd(imageName).exec().getId());
+    } catch (NotFoundException e) {
+      return Optional.empty();
+    }
+  }
+
 }
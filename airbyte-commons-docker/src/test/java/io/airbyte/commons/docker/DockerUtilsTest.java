@@ -5,7 +5,12 @@
 package io.airbyte.commons.docker;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.github.dockerjava.api.exception.DockerException;
+import com.github.dockerjava.api.exception.InternalServerErrorException;
+import com.github.dockerjava.api.exception.UnauthorizedException;
 import org.junit.jupiter.api.Test;
 
 class DockerUtilsTest {
@@ -17,4 +22,14 @@ class DockerUtilsTest {
     assertEquals("airbyte/repo:12.3", DockerUtils.getTaggedImageName(repository, tag));
   }
 
+  @Test
+  void testIsAuthError() {
+    assertTrue(DockerUtils.isAuthError(new UnauthorizedException("authentication required")));
+    assertTrue(DockerUtils.isAuthError(new DockerException("forbidden", 403)));
+    assertTrue(DockerUtils.isAuthError(new InternalServerErrorException(
+        "pull access denied for airbyte/private, repository does not exist or may require 'docker login'")));
+    assertTrue(DockerUtils.isAuthError(new InternalServerErrorException("Get https://ecr/v2/: no basic auth credentials")));
+    assertFalse(DockerUtils.isAuthError(new InternalServerErrorException("received unexpected HTTP status: 503 Service Unavailable")));
+  }
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class VoidCallables {
+
+  /**
+   * Runs the @param tasks on up to @param parallelism threads and waits for all of them to complete.
+   * If a task fails, the tasks that are still pending or running are cancelled and the exception of
+   * the first task that failed, in the order of the list, is rethrown.
+   *
+   * @param threadNameFormat name format of the threads, see {@link ThreadFactoryBuilder#setNameFormat}
+   */
+  public static void runInParallel(final List<? extends VoidCallable> tasks, final int parallelism, final String threadNameFormat)
+      throws Exception {
+    if (tasks.isEmpty()) {
+      return;
+    }
+    final ExecutorService executor = Executors.newFixedThreadPool(Math.min(tasks.size(), parallelism),
+        new ThreadFactoryBuilder().setNameFormat(threadNameFormat).build());
+    try {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (final VoidCallable task : tasks) {
+        futures.add(executor.submit(task));
+      }
+      for (final Future<Void> future : futures) {
+        try {
+          future.get();
+        } catch (final ExecutionException e) {
+          if (e.getCause() instanceof Exception) {
+            throw (Exception) e.getCause();
+          }
+          throw e;
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+}
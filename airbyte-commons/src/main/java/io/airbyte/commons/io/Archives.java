@@ -7,11 +7,11 @@ package io.airbyte.commons.io;
 import io.airbyte.commons.lang.Exceptions;
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.util.stream.Stream;
 import java.util.zip.GZIPOutputStream;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
@@ -25,19 +25,25 @@ public class Archives {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(Archives.class);
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+
   /**
    * Compress a @param sourceFolder into a Gzip Tarball @param archiveFile
    */
   public static void createArchive(final Path sourceFolder, final Path archiveFile) throws IOException {
-    final TarArchiveOutputStream archive =
-        new TarArchiveOutputStream(new GZIPOutputStream(new BufferedOutputStream(new FileOutputStream(archiveFile.toFile()))));
-    Files.walk(sourceFolder)
-        .filter(Files::isRegularFile)
-        .forEach(file -> {
-          Path targetFile = sourceFolder.relativize(file);
-          Exceptions.toRuntime(() -> compressFile(file, targetFile, archive));
-        });
-    archive.close();
+    try (final TarArchiveOutputStream archive = new TarArchiveOutputStream(
+        new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(archiveFile), BUFFER_SIZE), BUFFER_SIZE));
+        final Stream<Path> files = Files.walk(sourceFolder)) {
+      // exported tables can be larger than 8GB and their paths longer than the 100 characters that
+      // the original tar format allows.
+      archive.setBigNumberMode(TarArchiveOutputStream.BIGNUMBER_POSIX);
+      archive.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      files.filter(Files::isRegularFile)
+          .forEach(file -> {
+            Path targetFile = sourceFolder.relativize(file);
+            Exceptions.toRuntime(() -> compressFile(file, targetFile, archive));
+          });
+    }
   }
 
   private static void compressFile(final Path file, final Path filename, final TarArchiveOutputStream archive) throws IOException {
@@ -51,21 +57,22 @@ public class Archives {
    * Uncompress a Gzip Tarball @param archiveFile into the @param destinationFolder
    */
   public static void extractArchive(final Path archiveFile, final Path destinationFolder) throws IOException {
-    final TarArchiveInputStream archive =
-        new TarArchiveInputStream(new GzipCompressorInputStream(new BufferedInputStream(Files.newInputStream(archiveFile))));
-    ArchiveEntry entry;
-    while ((entry = archive.getNextEntry()) != null) {
-      final Path newPath = zipSlipProtect(entry, destinationFolder);
-      if (entry.isDirectory()) {
-        Files.createDirectories(newPath);
-      } else {
-        final Path parent = newPath.getParent();
-        if (parent != null) {
-          if (Files.notExists(parent)) {
-            Files.createDirectories(parent);
+    try (final TarArchiveInputStream archive =
+        new TarArchiveInputStream(new GzipCompressorInputStream(new BufferedInputStream(Files.newInputStream(archiveFile), BUFFER_SIZE)))) {
+      ArchiveEntry entry;
+      while ((entry = archive.getNextEntry()) != null) {
+        final Path newPath = zipSlipProtect(entry, destinationFolder);
+        if (entry.isDirectory()) {
+          Files.createDirectories(newPath);
+        } else {
+          final Path parent = newPath.getParent();
+          if (parent != null) {
+            if (Files.notExists(parent)) {
+              Files.createDirectories(parent);
+            }
           }
+          Files.copy(archive, newPath, StandardCopyOption.REPLACE_EXISTING);
         }
-        Files.copy(archive, newPath, StandardCopyOption.REPLACE_EXISTING);
       }
     }
   }
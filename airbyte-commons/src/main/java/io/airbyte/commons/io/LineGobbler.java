@@ -4,6 +4,7 @@
 
 package io.airbyte.commons.io;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.airbyte.commons.concurrency.VoidCallable;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -11,6 +12,7 @@ import java.io.InputStream;
 import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,45 +22,57 @@ public class LineGobbler implements VoidCallable {
 
   private final static Logger LOGGER = LoggerFactory.getLogger(LineGobbler.class);
 
-  public static void gobble(final InputStream is, final Consumer<String> consumer) {
-    gobble(is, consumer, "generic");
+  /**
+   * Shared by all gobblers, so that the threads of finished streams are reused instead of starting a
+   * thread per stream. Each gobbler blocks on its stream until the process closes it, so the pool
+   * grows with the number of open streams: capping it would leave streams undrained and block the
+   * processes writing to them once the pipe buffer is full.
+   */
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+      .setNameFormat("line-gobbler-%d")
+      .setDaemon(true)
+      .build());
+
+  public static Future<?> gobble(final InputStream is, final Consumer<String> consumer) {
+    return gobble(is, consumer, "generic");
   }
 
-  public static void gobble(final InputStream is, final Consumer<String> consumer, String caller) {
-    final ExecutorService executor = Executors.newSingleThreadExecutor();
+  /**
+   * Reads the stream line by line on a pooled thread, with the MDC of the calling thread.
+   *
+   * @return a future that completes once the stream is closed
+   */
+  public static Future<?> gobble(final InputStream is, final Consumer<String> consumer, String caller) {
     final Map<String, String> mdc = MDC.getCopyOfContextMap();
-    var gobbler = new LineGobbler(is, consumer, executor, mdc, caller);
-    executor.submit(gobbler);
+    return EXECUTOR.submit(new LineGobbler(is, consumer, mdc, caller));
   }
 
   private final BufferedReader is;
   private final Consumer<String> consumer;
-  private final ExecutorService executor;
   private final Map<String, String> mdc;
   private final String caller;
 
   LineGobbler(final InputStream is,
               final Consumer<String> consumer,
-              final ExecutorService executor,
               final Map<String, String> mdc) {
-    this(is, consumer, executor, mdc, "generic");
+    this(is, consumer, mdc, "generic");
   }
 
   LineGobbler(final InputStream is,
               final Consumer<String> consumer,
-              final ExecutorService executor,
               final Map<String, String> mdc,
               final String caller) {
     this.is = IOs.newBufferedReader(is);
     this.consumer = consumer;
-    this.executor = executor;
     this.mdc = mdc;
     this.caller = caller;
   }
 
   @Override
   public void voidCall() {
-    MDC.setContextMap(mdc);
+    if (mdc != null) {
+      MDC.setContextMap(mdc);
+    }
     try {
       String line;
       while ((line = is.readLine()) != null) {
@@ -69,7 +83,8 @@ public class LineGobbler implements VoidCallable {
     } catch (Exception e) {
       LOGGER.error("{} gobbler error when reading stream", caller, e);
     } finally {
-      executor.shutdown();
+      // the thread goes back to the pool, so the context of this stream must not leak into the next.
+      MDC.clear();
     }
   }
 
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.commons.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class VoidCallablesTest {
+
+  @Test
+  void testRunsTasksInParallel() throws Exception {
+    final CountDownLatch allStarted = new CountDownLatch(3);
+    final AtomicInteger completed = new AtomicInteger();
+    final VoidCallable task = () -> {
+      allStarted.countDown();
+      // only completes if the other tasks are running at the same time.
+      assertTrue(allStarted.await(1, TimeUnit.MINUTES));
+      completed.incrementAndGet();
+    };
+
+    VoidCallables.runInParallel(List.of(task, task, task), 3, "test-%d");
+
+    assertEquals(3, completed.get());
+  }
+
+  @Test
+  void testRethrowsFailureAndCancelsOtherTasks() {
+    final AtomicBoolean interrupted = new AtomicBoolean();
+    final VoidCallable slowTask = () -> {
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      } catch (final InterruptedException e) {
+        interrupted.set(true);
+      }
+    };
+    final VoidCallable failingTask = () -> {
+      throw new IOException("failed");
+    };
+
+    final IOException exception =
+        assertThrows(IOException.class, () -> VoidCallables.runInParallel(List.of(failingTask, slowTask), 2, "test-%d"));
+
+    assertEquals("failed", exception.getMessage());
+    // the slow task is interrupted rather than waited for.
+    assertTrue(waitFor(interrupted));
+  }
+
+  private static boolean waitFor(final AtomicBoolean condition) {
+    final long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(1);
+    while (!condition.get() && System.currentTimeMillis() < deadline) {
+      Thread.onSpinWait();
+    }
+    return condition.get();
+  }
+
+}
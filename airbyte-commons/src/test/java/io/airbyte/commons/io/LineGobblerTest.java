@@ -4,61 +4,106 @@
 
 package io.airbyte.commons.io;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
-import com.google.common.util.concurrent.MoreExecutors;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutorService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.slf4j.MDC;
 
 class LineGobblerTest {
 
+  @AfterEach
+  void tearDown() {
+    MDC.clear();
+  }
+
   @Test
   @SuppressWarnings("unchecked")
-  void readAllLines() {
+  void readAllLines() throws Exception {
     final Consumer<String> consumer = Mockito.mock(Consumer.class);
     final InputStream is = new ByteArrayInputStream("test\ntest2\n".getBytes(StandardCharsets.UTF_8));
-    final ExecutorService executor = spy(MoreExecutors.newDirectExecutorService());
 
-    executor.submit(new LineGobbler(is, consumer, executor, ImmutableMap.of()));
+    new LineGobbler(is, consumer, ImmutableMap.of()).call();
 
     Mockito.verify(consumer).accept("test");
     Mockito.verify(consumer).accept("test2");
-    Mockito.verify(executor).shutdown();
   }
 
   @Test
   @SuppressWarnings("unchecked")
-  void shutdownOnSuccess() {
+  void stopOnError() throws Exception {
     final Consumer<String> consumer = Mockito.mock(Consumer.class);
+    Mockito.doThrow(RuntimeException.class).when(consumer).accept(anyString());
     final InputStream is = new ByteArrayInputStream("test\ntest2\n".getBytes(StandardCharsets.UTF_8));
-    final ExecutorService executor = spy(MoreExecutors.newDirectExecutorService());
 
-    executor.submit(new LineGobbler(is, consumer, executor, ImmutableMap.of()));
+    new LineGobbler(is, consumer, ImmutableMap.of()).call();
 
-    Mockito.verify(consumer, Mockito.times(2)).accept(anyString());
-    Mockito.verify(executor).shutdown();
+    verify(consumer).accept(anyString());
   }
 
   @Test
-  @SuppressWarnings("unchecked")
-  void shutdownOnError() {
-    final Consumer<String> consumer = Mockito.mock(Consumer.class);
-    Mockito.doThrow(RuntimeException.class).when(consumer).accept(anyString());
-    final InputStream is = new ByteArrayInputStream("test\ntest2\n".getBytes(StandardCharsets.UTF_8));
-    final ExecutorService executor = spy(MoreExecutors.newDirectExecutorService());
+  void mdcIsPropagatedAndCleared() throws Exception {
+    final AtomicReference<String> jobId = new AtomicReference<>();
+    final InputStream is = new ByteArrayInputStream("test\n".getBytes(StandardCharsets.UTF_8));
 
-    executor.submit(new LineGobbler(is, consumer, executor, ImmutableMap.of()));
+    new LineGobbler(is, line -> jobId.set(MDC.get("job_id")), ImmutableMap.of("job_id", "123")).call();
 
-    verify(consumer).accept(anyString());
-    Mockito.verify(executor).shutdown();
+    assertEquals("123", jobId.get());
+    // the gobbler runs on pooled threads, which must not keep the context of the stream.
+    assertNull(MDC.get("job_id"));
+  }
+
+  @Test
+  void gobbleManyConcurrentProcesses() throws Exception {
+    final int numProcesses = 100;
+    final int numLines = 1000;
+    final List<Process> processes = new ArrayList<>();
+    final List<Future<?>> gobblers = new ArrayList<>();
+    final List<AtomicInteger> lineCounts = new ArrayList<>();
+
+    MDC.put("job_id", "123");
+    final AtomicInteger linesWithoutMdc = new AtomicInteger();
+    for (int i = 0; i < numProcesses; i++) {
+      final Process process = new ProcessBuilder("sh", "-c", String.format("seq 1 %d; seq 1 %d >&2", numLines, numLines)).start();
+      final AtomicInteger lineCount = new AtomicInteger();
+      final Consumer<String> consumer = line -> {
+        lineCount.incrementAndGet();
+        if (!"123".equals(MDC.get("job_id"))) {
+          linesWithoutMdc.incrementAndGet();
+        }
+      };
+      gobblers.add(LineGobbler.gobble(process.getInputStream(), consumer));
+      gobblers.add(LineGobbler.gobble(process.getErrorStream(), consumer));
+      processes.add(process);
+      lineCounts.add(lineCount);
+    }
+
+    for (final Future<?> gobbler : gobblers) {
+      gobbler.get(1, TimeUnit.MINUTES);
+    }
+    for (final Process process : processes) {
+      process.waitFor(1, TimeUnit.MINUTES);
+    }
+
+    for (final AtomicInteger lineCount : lineCounts) {
+      assertEquals(2 * numLines, lineCount.get());
+    }
+    assertEquals(0, linesWithoutMdc.get());
   }
 
 }
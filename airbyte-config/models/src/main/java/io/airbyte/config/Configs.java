@@ -5,6 +5,7 @@
 package io.airbyte.config;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -65,6 +66,12 @@ public interface Configs {
 
   String getSpecCacheBucket();
 
+  /**
+   * @return how long a discovered source catalog is reused for the same connector image and source
+   *         configuration. 0 disables the cache.
+   */
+  Duration getDiscoverSchemaCacheTtl();
+
   WorkspaceRetentionConfig getWorkspaceRetentionConfig();
 
   List<WorkerPodToleration> getWorkerPodTolerations();
@@ -81,6 +88,12 @@ public interface Configs {
 
   String getSubmitterNumThreads();
 
+  /**
+   * @return the maximum number of jobs of a single workspace the scheduler runs at the same time. 0
+   *         means no limit besides the number of submitter threads.
+   */
+  int getSubmitterMaxJobsPerWorkspace();
+
   String getJobsImagePullSecret();
 
   // Resources
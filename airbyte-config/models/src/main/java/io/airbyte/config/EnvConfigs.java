@@ -9,6 +9,7 @@ import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
 import io.airbyte.config.helpers.LogClientSingleton;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -32,6 +33,7 @@ public class EnvConfigs implements Configs {
   public static final String INTERNAL_API_HOST = "INTERNAL_API_HOST";
   public static final String WORKER_ENVIRONMENT = "WORKER_ENVIRONMENT";
   public static final String SPEC_CACHE_BUCKET = "SPEC_CACHE_BUCKET";
+  public static final String DISCOVER_SCHEMA_CACHE_TTL_MINUTES = "DISCOVER_SCHEMA_CACHE_TTL_MINUTES";
   public static final String WORKSPACE_ROOT = "WORKSPACE_ROOT";
   public static final String WORKSPACE_DOCKER_MOUNT = "WORKSPACE_DOCKER_MOUNT";
   public static final String LOCAL_ROOT = "LOCAL_ROOT";
@@ -63,6 +65,7 @@ public class EnvConfigs implements Configs {
   private static final String TEMPORAL_WORKER_PORTS = "TEMPORAL_WORKER_PORTS";
   private static final String KUBE_NAMESPACE = "KUBE_NAMESPACE";
   private static final String SUBMITTER_NUM_THREADS = "SUBMITTER_NUM_THREADS";
+  private static final String SUBMITTER_MAX_JOBS_PER_WORKSPACE = "SUBMITTER_MAX_JOBS_PER_WORKSPACE";
   private static final String RESOURCE_CPU_REQUEST = "RESOURCE_CPU_REQUEST";
   private static final String RESOURCE_CPU_LIMIT = "RESOURCE_CPU_LIMIT";
   private static final String RESOURCE_MEMORY_REQUEST = "RESOURCE_MEMORY_REQUEST";
@@ -72,6 +75,7 @@ public class EnvConfigs implements Configs {
 
   // defaults
   private static final String DEFAULT_SPEC_CACHE_BUCKET = "io-airbyte-cloud-spec-cache";
+  private static final long DEFAULT_DISCOVER_SCHEMA_CACHE_TTL_MINUTES = 60;
   private static final String DEFAULT_KUBE_NAMESPACE = "default";
   private static final String DEFAULT_RESOURCE_REQUIREMENT_CPU = null;
   private static final String DEFAULT_RESOURCE_REQUIREMENT_MEMORY = null;
@@ -250,6 +254,11 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(SPEC_CACHE_BUCKET, DEFAULT_SPEC_CACHE_BUCKET);
   }
 
+  @Override
+  public Duration getDiscoverSchemaCacheTtl() {
+    return Duration.ofMinutes(getEnvOrDefault(DISCOVER_SCHEMA_CACHE_TTL_MINUTES, DEFAULT_DISCOVER_SCHEMA_CACHE_TTL_MINUTES));
+  }
+
   @Override
   public WorkspaceRetentionConfig getWorkspaceRetentionConfig() {
     final long minDays = getEnvOrDefault(MINIMUM_WORKSPACE_RETENTION_DAYS, DEFAULT_MINIMUM_WORKSPACE_RETENTION_DAYS);
@@ -358,6 +367,11 @@ public class EnvConfigs implements Configs {
     return getEnvOrDefault(SUBMITTER_NUM_THREADS, "5");
   }
 
+  @Override
+  public int getSubmitterMaxJobsPerWorkspace() {
+    return Integer.parseInt(getEnvOrDefault(SUBMITTER_MAX_JOBS_PER_WORKSPACE, "0"));
+  }
+
   @Override
   public String getCpuRequest() {
     return getEnvOrDefault(RESOURCE_CPU_REQUEST, DEFAULT_RESOURCE_REQUIREMENT_CPU);
@@ -0,0 +1,196 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Reads the parts of a log that are needed using ranged reads, instead of downloading the objects
+ * the log is made of. Shared by the cloud log clients and the local log files, which only differ in
+ * how a range of bytes is read.
+ *
+ * Log objects are written once and never appended to, so the objects of a log and their sizes can be
+ * listed once and cached.
+ */
+final class ChunkedLogReader {
+
+  static final int CHUNK_SIZE_BYTES = 1024 * 1024;
+
+  private static final byte NEWLINE = '\n';
+
+  @FunctionalInterface
+  interface RangeReader {
+
+    /**
+     * @return the bytes of the object from start (inclusive) to end (exclusive).
+     */
+    byte[] read(String objectName, long start, long end) throws IOException;
+
+  }
+
+  static class LogObject {
+
+    private final String name;
+    private final long size;
+
+    LogObject(final String name, final long size) {
+      this.name = name;
+      this.size = size;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    long getSize() {
+      return size;
+    }
+
+  }
+
+  private ChunkedLogReader() {}
+
+  /**
+   * Return the last numLines lines of the objects, read from the end of the last object backwards a
+   * chunk at a time. Like a full download, every object ends a line.
+   */
+  static List<String> tail(final List<LogObject> objects, final RangeReader reader, final int numLines) throws IOException {
+    return tail(objects, reader, numLines, CHUNK_SIZE_BYTES);
+  }
+
+  static List<String> tail(final List<LogObject> objects, final RangeReader reader, final int numLines, final int chunkSize)
+      throws IOException {
+    final Deque<String> lines = new ArrayDeque<>();
+    for (int i = objects.size() - 1; i >= 0 && lines.size() < numLines; i--) {
+      final List<String> objectLines = tailObject(objects.get(i), reader, numLines - lines.size(), chunkSize);
+      for (int j = objectLines.size() - 1; j >= 0; j--) {
+        lines.addFirst(objectLines.get(j));
+      }
+    }
+    return new ArrayList<>(lines);
+  }
+
+  private static List<String> tailObject(final LogObject object, final RangeReader reader, final int numLines, final int chunkSize)
+      throws IOException {
+    final Deque<byte[]> chunks = new ArrayDeque<>();
+    long start = object.getSize();
+    int newlines = 0;
+    // the last line usually ends with a newline, so it takes one more newline than lines to be sure
+    // the first of them is complete.
+    while (start > 0 && newlines <= numLines) {
+      final long end = start;
+      start = Math.max(0, end - chunkSize);
+      final byte[] chunk = reader.read(object.getName(), start, end);
+      chunks.addFirst(chunk);
+      newlines += countNewlines(chunk);
+    }
+
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    for (final byte[] chunk : chunks) {
+      bytes.write(chunk);
+    }
+    final byte[] data = bytes.toByteArray();
+    final List<String> lines = toLines(data, 0, data.length);
+    if (start > 0 && !lines.isEmpty()) {
+      // the first line started before the first chunk.
+      lines.remove(0);
+    }
+    return lines.subList(Math.max(0, lines.size() - numLines), lines.size());
+  }
+
+  /**
+   * Read at most maxBytes of the log made of the objects, starting at the given byte offset. Only
+   * complete lines are returned, so that a line still being written is returned whole by the next
+   * read. A line longer than maxBytes is returned in pieces.
+   *
+   * @param offset byte offset to read from. A negative offset reads the last maxBytes of the log.
+   */
+  static LogChunk read(final List<LogObject> objects, final RangeReader reader, final long offset, final int maxBytes) throws IOException {
+    final long logSize = objects.stream().mapToLong(LogObject::getSize).sum();
+    final long start = offset < 0 ? Math.max(0, logSize - maxBytes) : Math.min(offset, logSize);
+    final long end = Math.min(logSize, start + maxBytes);
+    // when tailing, read one more byte to tell whether the window starts on a new line.
+    final long readStart = offset < 0 && start > 0 ? start - 1 : start;
+    final byte[] data = readRange(objects, reader, readStart, end);
+
+    int from = 0;
+    if (readStart < start) {
+      final int firstNewline = indexOf(data, NEWLINE, 0);
+      from = firstNewline < 0 ? data.length : firstNewline + 1;
+    }
+    final int lastNewline = lastIndexOf(data, NEWLINE, from);
+    final boolean windowIsFull = end - start == maxBytes;
+    final int to = lastNewline >= 0 ? lastNewline + 1 : (windowIsFull ? data.length : from);
+
+    return new LogChunk(toLines(data, from, to), readStart + to);
+  }
+
+  private static byte[] readRange(final List<LogObject> objects, final RangeReader reader, final long start, final long end) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream((int) (end - start));
+    long objectStart = 0;
+    for (final LogObject object : objects) {
+      final long objectEnd = objectStart + object.getSize();
+      final long rangeStart = Math.max(start, objectStart);
+      final long rangeEnd = Math.min(end, objectEnd);
+      if (rangeStart < rangeEnd) {
+        bytes.write(reader.read(object.getName(), rangeStart - objectStart, rangeEnd - objectStart));
+      }
+      if (objectEnd >= end) {
+        break;
+      }
+      objectStart = objectEnd;
+    }
+    return bytes.toByteArray();
+  }
+
+  private static List<String> toLines(final byte[] data, final int from, final int to) throws IOException {
+    final List<String> lines = new ArrayList<>();
+    try (final var reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(data, from, to - from), StandardCharsets.UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+
+  private static int countNewlines(final byte[] data) {
+    int count = 0;
+    for (final byte b : data) {
+      if (b == NEWLINE) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static int indexOf(final byte[] data, final byte value, final int from) {
+    for (int i = from; i < data.length; i++) {
+      if (data[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static int lastIndexOf(final byte[] data, final byte value, final int from) {
+    for (int i = data.length - 1; i >= from; i--) {
+      if (data[i] == value) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+}
@@ -33,6 +33,13 @@ public interface CloudLogs {
    */
   List<String> tailCloudLog(LogConfigs configs, String logPath, int numLines) throws IOException;
 
+  /**
+   * Assume all the lexicographically ordered objects at the given path form one giant log file,
+   * return the complete lines in at most maxBytes of it starting at the given byte offset. A negative
+   * offset returns the end of the log. Only the needed byte ranges are downloaded.
+   */
+  LogChunk readCloudLog(LogConfigs configs, String logPath, long offset, int maxBytes) throws IOException;
+
   void deleteLogs(LogConfigs configs, String logPath);
 
   /**
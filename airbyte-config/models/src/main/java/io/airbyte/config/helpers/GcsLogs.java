@@ -6,19 +6,25 @@ package io.airbyte.config.helpers;
 
 import com.google.api.client.util.Preconditions;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.Blob.BlobSourceOption;
+import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
-import com.google.common.collect.Lists;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.airbyte.commons.string.Strings;
 import io.airbyte.config.EnvConfigs;
-import java.io.ByteArrayOutputStream;
+import io.airbyte.config.helpers.ChunkedLogReader.LogObject;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -28,6 +34,13 @@ public class GcsLogs implements CloudLogs {
 
   private static Storage GCS;
 
+  // the objects of each log path seen so far, keyed by bucket and path, so that polling a log only
+  // lists the objects written since the last poll.
+  private static final Cache<String, List<LogObject>> LISTINGS = CacheBuilder.newBuilder()
+      .maximumSize(1000)
+      .expireAfterAccess(1, TimeUnit.HOURS)
+      .build();
+
   @Override
   public File downloadCloudLog(LogConfigs configs, String logPath) throws IOException {
     return getFile(configs, logPath, LogClientSingleton.DEFAULT_PAGE_SIZE);
@@ -61,36 +74,9 @@ public class GcsLogs implements CloudLogs {
     LOGGER.debug("Tailing logs from GCS path: {}", logPath);
     createGcsClientIfNotExists(configs);
 
-    LOGGER.debug("Start GCS list request.");
-    Page<Blob> blobs = GCS.list(
-        configs.getGcpStorageBucket(),
-        Storage.BlobListOption.prefix(logPath));
-
-    var ascendingTimestampBlobs = new ArrayList<Blob>();
-    for (Blob blob : blobs.iterateAll()) {
-      ascendingTimestampBlobs.add(blob);
-    }
-    var descendingTimestampBlobs = Lists.reverse(ascendingTimestampBlobs);
-
-    var lines = new ArrayList<String>();
-    int linesRead = 0;
-
-    LOGGER.debug("Start getting GCS objects.");
-    while (linesRead <= numLines && !descendingTimestampBlobs.isEmpty()) {
-      var poppedBlob = descendingTimestampBlobs.remove(0);
-      try (var inMemoryData = new ByteArrayOutputStream()) {
-        poppedBlob.downloadTo(inMemoryData);
-        var currFileLines = inMemoryData.toString().split("\n");
-        List<String> currFileLinesReversed = Lists.reverse(List.of(currFileLines));
-        for (var line : currFileLinesReversed) {
-          if (linesRead == numLines) {
-            break;
-          }
-          lines.add(0, line);
-          linesRead++;
-        }
-      }
-    }
+    var bucket = configs.getGcpStorageBucket();
+    LOGGER.debug("Start getting GCS object ranges.");
+    var lines = ChunkedLogReader.tail(listObjects(bucket, logPath), rangeReader(bucket), numLines);
 
     LOGGER.debug("Done retrieving GCS logs: {}.", logPath);
     return lines;
@@ -106,9 +92,67 @@ public class GcsLogs implements CloudLogs {
     for (Blob blob : blobs.iterateAll()) {
       blob.delete(BlobSourceOption.generationMatch());
     }
+    LISTINGS.invalidate(listingKey(configs.getGcpStorageBucket(), logPath));
     LOGGER.debug("Finished all deletes.");
   }
 
+  @Override
+  public LogChunk readCloudLog(LogConfigs configs, String logPath, long offset, int maxBytes) throws IOException {
+    LOGGER.debug("Reading logs from GCS path: {} at offset {}", logPath, offset);
+    createGcsClientIfNotExists(configs);
+
+    var bucket = configs.getGcpStorageBucket();
+    return ChunkedLogReader.read(listObjects(bucket, logPath), rangeReader(bucket), offset, maxBytes);
+  }
+
+  /**
+   * @return the objects at the path in lexicographical order, which is the order they were written.
+   *         Only the objects from the last cached one on are listed.
+   */
+  private static List<LogObject> listObjects(String bucket, String logPath) {
+    var cached = LISTINGS.getIfPresent(listingKey(bucket, logPath));
+    var objects = cached == null ? new ArrayList<LogObject>() : new ArrayList<>(cached);
+
+    Page<Blob> blobs;
+    if (objects.isEmpty()) {
+      blobs = GCS.list(bucket, Storage.BlobListOption.prefix(logPath));
+    } else {
+      blobs = GCS.list(bucket, Storage.BlobListOption.prefix(logPath),
+          Storage.BlobListOption.startOffset(objects.get(objects.size() - 1).getName()));
+    }
+    // Objects are returned in lexicographical order.
+    for (Blob blob : blobs.iterateAll()) {
+      // the start offset is inclusive, so the last cached object is listed again.
+      if (!objects.isEmpty() && objects.get(objects.size() - 1).getName().equals(blob.getName())) {
+        continue;
+      }
+      objects.add(new LogObject(blob.getName(), blob.getSize()));
+    }
+
+    var listing = List.copyOf(objects);
+    LISTINGS.put(listingKey(bucket, logPath), listing);
+    return listing;
+  }
+
+  // bucket names cannot contain a slash, so the key is unique for each bucket and path.
+  private static String listingKey(String bucket, String logPath) {
+    return bucket + "/" + logPath;
+  }
+
+  private static ChunkedLogReader.RangeReader rangeReader(String bucket) {
+    return (name, start, end) -> {
+      var buffer = ByteBuffer.allocate(Math.toIntExact(end - start));
+      try (ReadChannel reader = GCS.reader(BlobId.of(bucket, name))) {
+        reader.seek(start);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+          read = reader.read(buffer);
+        }
+      }
+      return Arrays.copyOf(buffer.array(), buffer.position());
+    };
+  }
+
   private static void createGcsClientIfNotExists(LogConfigs configs) {
     if (GCS == null) {
       Preconditions.checkNotNull(configs.getGcpStorageBucket());
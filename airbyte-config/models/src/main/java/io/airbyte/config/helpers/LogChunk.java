@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A window of a log, as returned by an incremental read. Passing {@link #getNextOffset()} to the
+ * next read returns the lines written since.
+ */
+public class LogChunk {
+
+  private final List<String> lines;
+  private final long nextOffset;
+
+  public LogChunk(final List<String> lines, final long nextOffset) {
+    this.lines = lines;
+    this.nextOffset = nextOffset;
+  }
+
+  public List<String> getLines() {
+    return lines;
+  }
+
+  /**
+   * @return byte offset in the log right after the last returned line.
+   */
+  public long getNextOffset() {
+    return nextOffset;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    final LogChunk logChunk = (LogChunk) o;
+    return nextOffset == logChunk.nextOffset && Objects.equals(lines, logChunk.lines);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(lines, nextOffset);
+  }
+
+  @Override
+  public String toString() {
+    return "LogChunk{" +
+        "lines=" + lines.size() +
+        ", nextOffset=" + nextOffset +
+        '}';
+  }
+
+}
@@ -11,6 +11,7 @@ import io.airbyte.config.Configs.WorkerEnvironment;
 import io.airbyte.config.EnvConfigs;
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.file.Path;
 import java.util.List;
 import org.apache.commons.lang3.NotImplementedException;
@@ -104,6 +105,32 @@ public class LogClientSingleton {
     return logClient.tailCloudLog(logConfigs, cloudLogPath, LOG_TAIL_SIZE);
   }
 
+  /**
+   * Read the job log incrementally, see {@link CloudLogs#readCloudLog}. Pass the next offset of the
+   * returned chunk to get the lines written since.
+   */
+  public static LogChunk getJobLogChunk(Configs configs, Path logPath, long offset, int maxBytes) throws IOException {
+    if (shouldUseLocalLogs(configs)) {
+      var logFile = logPath.toFile();
+      if (!logFile.exists()) {
+        return new LogChunk(List.of(), 0);
+      }
+      try (var file = new RandomAccessFile(logFile, "r")) {
+        final ChunkedLogReader.RangeReader reader = (name, start, end) -> {
+          var bytes = new byte[Math.toIntExact(end - start)];
+          file.seek(start);
+          file.readFully(bytes);
+          return bytes;
+        };
+        return ChunkedLogReader.read(List.of(new ChunkedLogReader.LogObject(logPath.toString(), file.length())), reader, offset, maxBytes);
+      }
+    }
+
+    var logConfigs = new LogConfigDelegator(configs);
+    var cloudLogPath = JOB_LOGGING_CLOUD_PREFIX + logPath;
+    return logClient.readCloudLog(logConfigs, cloudLogPath, offset, maxBytes);
+  }
+
   /**
    * Primarily to clean up logs after testing. Only valid for Kube logs.
    */
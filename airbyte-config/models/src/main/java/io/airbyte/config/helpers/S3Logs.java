@@ -6,21 +6,22 @@ package io.airbyte.config.helpers;
 
 import com.google.api.client.util.Preconditions;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.airbyte.commons.string.Strings;
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
+import io.airbyte.config.helpers.ChunkedLogReader.LogObject;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.Delete;
@@ -35,6 +36,13 @@ public class S3Logs implements CloudLogs {
 
   private static S3Client S3;
 
+  // the objects of each log path seen so far, keyed by bucket and path, so that polling a log only
+  // lists the objects written since the last poll.
+  private static final Cache<String, List<LogObject>> LISTINGS = CacheBuilder.newBuilder()
+      .maximumSize(1000)
+      .expireAfterAccess(1, TimeUnit.HOURS)
+      .build();
+
   private static void assertValidS3Configuration(LogConfigs configs) {
     Preconditions.checkNotNull(configs.getAwsAccessKey());
     Preconditions.checkNotNull(configs.getAwsSecretAccessKey());
@@ -65,20 +73,14 @@ public class S3Logs implements CloudLogs {
     var tmpOutputFile = new File("/tmp/" + randomName);
     var os = new FileOutputStream(tmpOutputFile);
 
-    LOGGER.debug("Start S3 list request.");
-    var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket)
-        .prefix(logPath).maxKeys(pageSize).build();
     LOGGER.debug("Start getting S3 objects.");
-    // Objects are returned in lexicographical order.
-    for (var page : S3.listObjectsV2Paginator(listObjReq)) {
-      for (var objMetadata : page.contents()) {
-        var getObjReq = GetObjectRequest.builder()
-            .key(objMetadata.key())
-            .bucket(s3Bucket)
-            .build();
-        var data = S3.getObjectAsBytes(getObjReq).asByteArray();
-        os.write(data);
-      }
+    // Objects are streamed to the file one at a time, rather than held in memory.
+    for (var object : listObjects(s3Bucket, logPath, pageSize)) {
+      var getObjReq = GetObjectRequest.builder()
+          .key(object.getName())
+          .bucket(s3Bucket)
+          .build();
+      S3.getObject(getObjReq, ResponseTransformer.toOutputStream(os));
     }
     os.close();
 
@@ -92,25 +94,8 @@ public class S3Logs implements CloudLogs {
     createS3ClientIfNotExist(configs);
 
     var s3Bucket = configs.getS3LogBucket();
-    LOGGER.debug("Start making S3 list request.");
-    ArrayList<String> ascendingTimestampKeys = getAscendingObjectKeys(logPath, s3Bucket);
-    var descendingTimestampKeys = Lists.reverse(ascendingTimestampKeys);
-
-    var lines = new ArrayList<String>();
-    int linesRead = 0;
-
-    LOGGER.debug("Start getting S3 objects.");
-    while (linesRead <= numLines && !descendingTimestampKeys.isEmpty()) {
-      var poppedKey = descendingTimestampKeys.remove(0);
-      List<String> currFileLinesReversed = Lists.reverse(getCurrFile(s3Bucket, poppedKey));
-      for (var line : currFileLinesReversed) {
-        if (linesRead == numLines) {
-          break;
-        }
-        lines.add(0, line);
-        linesRead++;
-      }
-    }
+    LOGGER.debug("Start getting S3 object ranges.");
+    var lines = ChunkedLogReader.tail(listObjects(s3Bucket, logPath, LogClientSingleton.DEFAULT_PAGE_SIZE), rangeReader(s3Bucket), numLines);
 
     LOGGER.debug("Done retrieving S3 logs: {}.", logPath);
     return lines;
@@ -121,8 +106,8 @@ public class S3Logs implements CloudLogs {
     LOGGER.debug("Deleting logs from S3 path: {}", logPath);
     createS3ClientIfNotExist(configs);
 
-    var keys = getAscendingObjectKeys(logPath, configs.getS3LogBucket())
-        .stream().map(key -> ObjectIdentifier.builder().key(key).build())
+    var keys = listObjects(configs.getS3LogBucket(), logPath, LogClientSingleton.DEFAULT_PAGE_SIZE)
+        .stream().map(object -> ObjectIdentifier.builder().key(object.getName()).build())
         .collect(Collectors.toList());
     Delete del = Delete.builder()
         .objects(keys)
@@ -133,9 +118,25 @@ public class S3Logs implements CloudLogs {
         .build();
 
     S3.deleteObjects(multiObjectDeleteRequest);
+    LISTINGS.invalidate(listingKey(configs.getS3LogBucket(), logPath));
     LOGGER.debug("Multiple objects are deleted!");
   }
 
+  @Override
+  public LogChunk readCloudLog(LogConfigs configs, String logPath, long offset, int maxBytes) throws IOException {
+    LOGGER.debug("Reading logs from S3 path: {} at offset {}", logPath, offset);
+    createS3ClientIfNotExist(configs);
+
+    var s3Bucket = configs.getS3LogBucket();
+    return ChunkedLogReader.read(listObjects(s3Bucket, logPath, LogClientSingleton.DEFAULT_PAGE_SIZE), rangeReader(s3Bucket), offset, maxBytes);
+  }
+
+  @VisibleForTesting
+  static void setClient(S3Client client) {
+    S3 = client;
+    LISTINGS.invalidateAll();
+  }
+
   private static void createS3ClientIfNotExist(LogConfigs configs) {
     if (S3 == null) {
       assertValidS3Configuration(configs);
@@ -164,35 +165,45 @@ public class S3Logs implements CloudLogs {
     }
   }
 
-  private ArrayList<String> getAscendingObjectKeys(String logPath, String s3Bucket) {
-    var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).build();
-    var ascendingTimestampObjs = new ArrayList<String>();
-
+  /**
+   * @return the objects at the path in lexicographical order, which is the order they were written.
+   *         Only the objects written after the last cached one are listed.
+   */
+  private static List<LogObject> listObjects(String s3Bucket, String logPath, int pageSize) {
+    var cached = LISTINGS.getIfPresent(listingKey(s3Bucket, logPath));
+    var objects = cached == null ? new ArrayList<LogObject>() : new ArrayList<>(cached);
+
+    var listObjReq = ListObjectsV2Request.builder().bucket(s3Bucket).prefix(logPath).maxKeys(pageSize);
+    if (!objects.isEmpty()) {
+      listObjReq.startAfter(objects.get(objects.size() - 1).getName());
+    }
     // Objects are returned in lexicographical order.
-    for (var page : S3.listObjectsV2Paginator(listObjReq)) {
+    for (var page : S3.listObjectsV2Paginator(listObjReq.build())) {
       for (var objMetadata : page.contents()) {
-        ascendingTimestampObjs.add(objMetadata.key());
+        objects.add(new LogObject(objMetadata.key(), objMetadata.size()));
       }
     }
-    return ascendingTimestampObjs;
+
+    var listing = List.copyOf(objects);
+    LISTINGS.put(listingKey(s3Bucket, logPath), listing);
+    return listing;
   }
 
-  private static ArrayList<String> getCurrFile(String s3Bucket, String poppedKey) throws IOException {
-    var getObjReq = GetObjectRequest.builder()
-        .key(poppedKey)
-        .bucket(s3Bucket)
-        .build();
+  // bucket names cannot contain a slash, so the key is unique for each bucket and path.
+  private static String listingKey(String s3Bucket, String logPath) {
+    return s3Bucket + "/" + logPath;
+  }
 
-    var data = S3.getObjectAsBytes(getObjReq).asByteArray();
-    var is = new ByteArrayInputStream(data);
-    var currentFileLines = new ArrayList<String>();
-    try (var reader = new BufferedReader(new InputStreamReader(is))) {
-      String temp;
-      while ((temp = reader.readLine()) != null) {
-        currentFileLines.add(temp);
-      }
-    }
-    return currentFileLines;
+  private static ChunkedLogReader.RangeReader rangeReader(String s3Bucket) {
+    return (key, start, end) -> {
+      var getObjReq = GetObjectRequest.builder()
+          .key(key)
+          .bucket(s3Bucket)
+          // the range is inclusive.
+          .range("bytes=" + start + "-" + (end - 1))
+          .build();
+      return S3.getObjectAsBytes(getObjReq).asByteArray();
+    };
   }
 
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.config.helpers.ChunkedLogReader.LogObject;
+import io.airbyte.config.helpers.ChunkedLogReader.RangeReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ChunkedLogReaderTest {
+
+  // the log is "Line 1\nLine 2\nLine 3\nLine 4\nLine 5\nLine 6\n", each line 7 bytes.
+  private static final Map<String, byte[]> OBJECTS = Map.of(
+      "first-file.txt", "Line 1\nLine 2\nLine 3\n".getBytes(StandardCharsets.UTF_8),
+      "second-file.txt", "Line 4\nLine 5\n".getBytes(StandardCharsets.UTF_8),
+      "third-file.txt", "Line 6\n".getBytes(StandardCharsets.UTF_8));
+  private static final List<LogObject> LOG_OBJECTS = List.of(
+      new LogObject("first-file.txt", 21),
+      new LogObject("second-file.txt", 14),
+      new LogObject("third-file.txt", 7));
+
+  private List<String> readRanges;
+  private RangeReader reader;
+
+  @BeforeEach
+  void setup() {
+    readRanges = new ArrayList<>();
+    reader = (name, start, end) -> {
+      readRanges.add(name + ":" + start + "-" + end);
+      return Arrays.copyOfRange(OBJECTS.get(name), (int) start, (int) end);
+    };
+  }
+
+  @Test
+  void testTail() throws IOException {
+    assertEquals(List.of("Line 3", "Line 4", "Line 5", "Line 6"), ChunkedLogReader.tail(LOG_OBJECTS, reader, 4));
+    // the first object is only read as far back as needed.
+    assertEquals(List.of("third-file.txt:0-7", "second-file.txt:0-14", "first-file.txt:0-21"), readRanges);
+  }
+
+  @Test
+  void testTailReadsBackwardsInChunks() throws IOException {
+    assertEquals(List.of("Line 2", "Line 3"), ChunkedLogReader.tail(List.of(LOG_OBJECTS.get(0)), reader, 2, 8));
+    assertEquals(List.of("first-file.txt:13-21", "first-file.txt:5-13"), readRanges);
+  }
+
+  @Test
+  void testTailMoreLinesThanTheLogHas() throws IOException {
+    assertEquals(List.of("Line 1", "Line 2", "Line 3", "Line 4", "Line 5", "Line 6"), ChunkedLogReader.tail(LOG_OBJECTS, reader, 100, 4));
+  }
+
+  @Test
+  void testReadFromStart() throws IOException {
+    final LogChunk chunk = ChunkedLogReader.read(LOG_OBJECTS, reader, 0, 30);
+
+    // the window ends in the middle of "Line 5", which is left for the next read.
+    assertEquals(new LogChunk(List.of("Line 1", "Line 2", "Line 3", "Line 4"), 28), chunk);
+    assertEquals(List.of("first-file.txt:0-21", "second-file.txt:0-9"), readRanges);
+  }
+
+  @Test
+  void testReadFromOffset() throws IOException {
+    assertEquals(new LogChunk(List.of("Line 5", "Line 6"), 42), ChunkedLogReader.read(LOG_OBJECTS, reader, 28, 30));
+    assertEquals(List.of("second-file.txt:7-14", "third-file.txt:0-7"), readRanges);
+  }
+
+  @Test
+  void testReadAtTheEnd() throws IOException {
+    final LogChunk chunk = ChunkedLogReader.read(LOG_OBJECTS, reader, 42, 30);
+
+    assertTrue(chunk.getLines().isEmpty());
+    assertEquals(42, chunk.getNextOffset());
+    assertTrue(readRanges.isEmpty());
+  }
+
+  @Test
+  void testReadTail() throws IOException {
+    // the last 10 bytes start in the middle of "Line 5", which is dropped.
+    assertEquals(new LogChunk(List.of("Line 6"), 42), ChunkedLogReader.read(LOG_OBJECTS, reader, -1, 10));
+    // the last 14 bytes start right after a newline, so "Line 5" is complete.
+    assertEquals(new LogChunk(List.of("Line 5", "Line 6"), 42), ChunkedLogReader.read(LOG_OBJECTS, reader, -1, 14));
+  }
+
+  @Test
+  void testReadLineLongerThanMaxBytes() throws IOException {
+    assertEquals(new LogChunk(List.of("Lin"), 3), ChunkedLogReader.read(LOG_OBJECTS, reader, 0, 3));
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.helpers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.CreateBucketRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+/**
+ * Runs the S3 log client against a MinIO container, so that ranged reads and incremental listings
+ * are tested without an AWS bucket.
+ */
+class S3LogsMinioTest {
+
+  private static final String BUCKET = "airbyte-logs";
+  private static final String OTHER_BUCKET = "airbyte-other-logs";
+  private static final String MINIO_USER = "minioadmin";
+  private static final String MINIO_PASSWORD = "minioadmin";
+
+  private static GenericContainer<?> minio;
+  private static S3Client s3;
+
+  private LogConfigs configs;
+  private String logPath;
+
+  @BeforeAll
+  static void setupMinio() {
+    minio = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+        .withEnv("MINIO_ROOT_USER", MINIO_USER)
+        .withEnv("MINIO_ROOT_PASSWORD", MINIO_PASSWORD)
+        .withCommand("server", "/data")
+        .withExposedPorts(9000);
+    minio.start();
+
+    s3 = S3Client.builder()
+        .endpointOverride(URI.create("http://" + minio.getHost() + ":" + minio.getMappedPort(9000)))
+        .region(Region.US_EAST_1)
+        .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(MINIO_USER, MINIO_PASSWORD)))
+        .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+        .build();
+    s3.createBucket(CreateBucketRequest.builder().bucket(BUCKET).build());
+    s3.createBucket(CreateBucketRequest.builder().bucket(OTHER_BUCKET).build());
+    S3Logs.setClient(s3);
+  }
+
+  @AfterAll
+  static void tearDownMinio() {
+    S3Logs.setClient(null);
+    s3.close();
+    minio.stop();
+  }
+
+  @BeforeEach
+  void setup() {
+    configs = mock(LogConfigs.class);
+    when(configs.getS3LogBucket()).thenReturn(BUCKET);
+    logPath = "job-logging/" + System.nanoTime();
+
+    putObject("first-file.txt", "Line 1\nLine 2\nLine 3\n");
+    putObject("second-file.txt", "Line 4\nLine 5\nLine 6\n");
+    putObject("third-file.txt", "Line 7\nLine 8\nLine 9\n");
+  }
+
+  @Test
+  void testTail() throws IOException {
+    assertEquals(List.of("Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"), new S3Logs().tailCloudLog(configs, logPath, 6));
+  }
+
+  @Test
+  void testDownload() throws IOException {
+    final var file = S3Logs.getFile(configs, logPath, 2);
+
+    assertEquals(List.of("Line 1", "Line 2", "Line 3", "Line 4", "Line 5", "Line 6", "Line 7", "Line 8", "Line 9"),
+        Files.readAllLines(file.toPath()));
+  }
+
+  @Test
+  void testIncrementalRead() throws IOException {
+    final S3Logs s3Logs = new S3Logs();
+    final LogChunk tail = s3Logs.readCloudLog(configs, logPath, -1, 14);
+    assertEquals(new LogChunk(List.of("Line 8", "Line 9"), 63), tail);
+
+    // nothing new was written.
+    assertEquals(new LogChunk(List.of(), 63), s3Logs.readCloudLog(configs, logPath, tail.getNextOffset(), 14));
+
+    // objects written after the listing was cached are picked up.
+    putObject("fourth-file.txt", "Line 10\nLine 11\n");
+    final LogChunk next = s3Logs.readCloudLog(configs, logPath, tail.getNextOffset(), 1024);
+    assertEquals(new LogChunk(List.of("Line 10", "Line 11"), 79), next);
+  }
+
+  @Test
+  void testSamePathInAnotherBucket() throws IOException {
+    final S3Logs s3Logs = new S3Logs();
+    assertEquals(List.of("Line 9"), s3Logs.tailCloudLog(configs, logPath, 1));
+
+    // the listing cached for the first bucket is not used for the same path in another bucket.
+    final LogConfigs otherConfigs = mock(LogConfigs.class);
+    when(otherConfigs.getS3LogBucket()).thenReturn(OTHER_BUCKET);
+    s3.putObject(PutObjectRequest.builder().bucket(OTHER_BUCKET).key(logPath + "/first-file.txt").build(), RequestBody.fromString("Other\n"));
+    assertEquals(List.of("Other"), s3Logs.tailCloudLog(otherConfigs, logPath, 1));
+  }
+
+  @Test
+  void testDelete() throws IOException {
+    final S3Logs s3Logs = new S3Logs();
+    s3Logs.tailCloudLog(configs, logPath, 1);
+    s3Logs.deleteLogs(configs, logPath);
+
+    final var remaining = s3.listObjectsV2(ListObjectsV2Request.builder().bucket(BUCKET).prefix(logPath).build()).contents()
+        .stream().map(S3Object::key).collect(Collectors.toList());
+    assertTrue(remaining.isEmpty());
+    assertTrue(s3Logs.tailCloudLog(configs, logPath, 1).isEmpty());
+  }
+
+  private void putObject(final String name, final String content) {
+    s3.putObject(PutObjectRequest.builder().bucket(BUCKET).key(logPath + "/" + name).build(), RequestBody.fromString(content));
+  }
+
+}
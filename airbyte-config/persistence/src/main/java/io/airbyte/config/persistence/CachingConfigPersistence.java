@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.cache.CacheStats;
+import io.airbyte.commons.functional.CheckedSupplier;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.AirbyteConfig;
+import io.airbyte.validation.json.JsonValidationException;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the configs read through the decorated persistence in memory, one cache per config type.
+ *
+ * Each cache is tagged with the version of its config type at the time it was filled. Before every
+ * read the current versions are fetched (a single small query), and a cache whose version is
+ * outdated is dropped. Since the versions change on every write from any server replica or
+ * application, a replica never serves a config that another one has since changed. Writes through
+ * this persistence also drop the cache of their type right away.
+ *
+ * When wrapping a {@link ValidatingConfigPersistence}, configs are validated when they are written
+ * and when they are loaded into the cache, but not on cache hits.
+ */
+public class CachingConfigPersistence implements ConfigPersistence {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CachingConfigPersistence.class);
+
+  private final ConfigPersistence decoratedPersistence;
+  private final CheckedSupplier<Optional<Map<String, Long>>, IOException> versionSupplier;
+  private final Map<String, ConfigTypeCache> caches = new ConcurrentHashMap<>();
+  private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+  /**
+   * @param versionSupplier returns the current version of each config type. When it returns empty,
+   *        nothing is cached.
+   */
+  public CachingConfigPersistence(final ConfigPersistence decoratedPersistence,
+                                  final CheckedSupplier<Optional<Map<String, Long>>, IOException> versionSupplier) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.versionSupplier = versionSupplier;
+  }
+
+  @Override
+  public <T> T getConfig(final AirbyteConfig configType, final String configId, final Class<T> clazz)
+      throws ConfigNotFoundException, JsonValidationException, IOException {
+    final Optional<ConfigTypeCache> cache = getCache(configType);
+    final JsonNode cachedConfig = cache.map(c -> c.configsById.get(configId)).orElse(null);
+    if (cachedConfig != null) {
+      getCounters(configType).hits.increment();
+      return Jsons.object(cachedConfig, clazz);
+    }
+
+    getCounters(configType).misses.increment();
+    final T config = decoratedPersistence.getConfig(configType, configId, clazz);
+    cache.ifPresent(c -> c.configsById.put(configId, Jsons.jsonNode(config)));
+    return config;
+  }
+
+  @Override
+  public <T> List<T> listConfigs(final AirbyteConfig configType, final Class<T> clazz) throws JsonValidationException, IOException {
+    final Optional<ConfigTypeCache> cache = getCache(configType);
+    final List<JsonNode> cachedConfigs = cache.map(c -> c.allConfigs).orElse(null);
+    if (cachedConfigs != null) {
+      getCounters(configType).hits.increment();
+      return cachedConfigs.stream().map(config -> Jsons.object(config, clazz)).collect(Collectors.toList());
+    }
+
+    getCounters(configType).misses.increment();
+    final List<T> configs = decoratedPersistence.listConfigs(configType, clazz);
+    cache.ifPresent(c -> {
+      final List<JsonNode> configJsons = configs.stream().map(Jsons::jsonNode).collect(Collectors.toList());
+      if (configType.getIdFieldName() != null) {
+        configJsons.forEach(config -> c.configsById.put(config.get(configType.getIdFieldName()).asText(), config));
+      }
+      c.allConfigs = configJsons;
+    });
+    return configs;
+  }
+
+  @Override
+  public <T> List<T> listConfigsByField(final AirbyteConfig configType, final String fieldName, final Set<String> values, final Class<T> clazz)
+      throws JsonValidationException, IOException {
+    final List<JsonNode> cachedConfigs = getCache(configType).map(c -> c.allConfigs).orElse(null);
+    if (cachedConfigs != null) {
+      getCounters(configType).hits.increment();
+      return cachedConfigs.stream()
+          .filter(config -> ConfigPersistence.hasFieldValue(config, fieldName, values))
+          .map(config -> Jsons.object(config, clazz))
+          .collect(Collectors.toList());
+    }
+
+    // lookups by field are served by the decorated persistence's indexes and are not cached.
+    getCounters(configType).misses.increment();
+    return decoratedPersistence.listConfigsByField(configType, fieldName, values, clazz);
+  }
+
+  @Override
+  public <T> void writeConfig(final AirbyteConfig configType, final String configId, final T config) throws JsonValidationException, IOException {
+    try {
+      decoratedPersistence.writeConfig(configType, configId, config);
+    } finally {
+      caches.remove(configType.name());
+    }
+  }
+
+  @Override
+  public void deleteConfig(final AirbyteConfig configType, final String configId) throws ConfigNotFoundException, IOException {
+    try {
+      decoratedPersistence.deleteConfig(configType, configId);
+    } finally {
+      caches.remove(configType.name());
+    }
+  }
+
+  @Override
+  public void replaceAllConfigs(final Map<AirbyteConfig, Stream<?>> configs, final boolean dryRun) throws IOException {
+    try {
+      decoratedPersistence.replaceAllConfigs(configs, dryRun);
+    } finally {
+      caches.clear();
+    }
+  }
+
+  @Override
+  public Map<String, Stream<JsonNode>> dumpConfigs() throws IOException {
+    return decoratedPersistence.dumpConfigs();
+  }
+
+  @Override
+  public void loadData(final ConfigPersistence seedPersistence) throws IOException {
+    try {
+      decoratedPersistence.loadData(seedPersistence);
+    } finally {
+      caches.clear();
+    }
+  }
+
+  /**
+   * @return cache hits and misses per config type since startup. A miss is a read that went to the
+   *         decorated persistence.
+   */
+  public Map<String, CacheStats> getCacheStats() {
+    return counters.entrySet().stream().collect(Collectors.toMap(
+        Map.Entry::getKey,
+        e -> new CacheStats(e.getValue().hits.sum(), e.getValue().misses.sum(), 0, 0, 0, 0)));
+  }
+
+  /**
+   * @return the cache of the config type if it holds the current version of the configs, after
+   *         dropping it if it did not. Empty if configs of this type cannot be cached right now.
+   */
+  private Optional<ConfigTypeCache> getCache(final AirbyteConfig configType) throws IOException {
+    // the version must be read before the configs, so that configs cached under a version are at
+    // least as recent as that version.
+    final Optional<Map<String, Long>> versions = versionSupplier.get();
+    if (versions.isEmpty()) {
+      return Optional.empty();
+    }
+    final long version = versions.get().getOrDefault(configType.name(), 0L);
+    final ConfigTypeCache cache = caches.compute(configType.name(), (name, existing) -> {
+      if (existing == null || existing.version < version) {
+        if (existing != null) {
+          LOGGER.debug("{} configs changed (version {} -> {}), dropping their cache", name, existing.version, version);
+        }
+        return new ConfigTypeCache(version);
+      }
+      return existing;
+    });
+    // another thread has already seen a newer version. what this thread reads may be older than
+    // that, so it must not go in the cache.
+    return cache.version == version ? Optional.of(cache) : Optional.empty();
+  }
+
+  private Counters getCounters(final AirbyteConfig configType) {
+    return counters.computeIfAbsent(configType.name(), name -> new Counters());
+  }
+
+  private static class ConfigTypeCache {
+
+    private final long version;
+    private final Map<String, JsonNode> configsById = new ConcurrentHashMap<>();
+    private volatile List<JsonNode> allConfigs;
+
+    private ConfigTypeCache(final long version) {
+      this.version = version;
+    }
+
+  }
+
+  private static class Counters {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+  }
+
+}
@@ -5,11 +5,14 @@
 package io.airbyte.config.persistence;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.AirbyteConfig;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public interface ConfigPersistence {
@@ -18,6 +21,18 @@ public interface ConfigPersistence {
 
   <T> List<T> listConfigs(AirbyteConfig configType, Class<T> clazz) throws JsonValidationException, IOException;
 
+  /**
+   * Lists the configs whose top-level field fieldName has one of the given values, e.g. the sources
+   * of a workspace. Implementations backed by a database should answer this from an index rather
+   * than by reading every config of the type.
+   */
+  default <T> List<T> listConfigsByField(AirbyteConfig configType, String fieldName, Set<String> values, Class<T> clazz)
+      throws JsonValidationException, IOException {
+    return listConfigs(configType, clazz).stream()
+        .filter(config -> hasFieldValue(Jsons.jsonNode(config), fieldName, values))
+        .collect(Collectors.toList());
+  }
+
   <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws JsonValidationException, IOException;
 
   void deleteConfig(AirbyteConfig configType, String configId) throws ConfigNotFoundException, IOException;
@@ -28,4 +43,8 @@ public interface ConfigPersistence {
 
   void loadData(ConfigPersistence seedPersistence) throws IOException;
 
+  static boolean hasFieldValue(JsonNode config, String fieldName, Set<String> values) {
+    return config.hasNonNull(fieldName) && values.contains(config.get(fieldName).asText());
+  }
+
 }
@@ -35,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -73,8 +74,9 @@ public class ConfigRepository {
 
   public Optional<StandardWorkspace> getWorkspaceBySlugOptional(final String slug, final boolean includeTombstone)
       throws JsonValidationException, IOException {
-    for (final StandardWorkspace workspace : listStandardWorkspaces(includeTombstone)) {
-      if (workspace.getSlug().equals(slug)) {
+    for (final StandardWorkspace workspace : persistence.listConfigsByField(ConfigSchema.STANDARD_WORKSPACE, "slug", Set.of(slug),
+        StandardWorkspace.class)) {
+      if (!MoreBooleans.isTruthy(workspace.getTombstone()) || includeTombstone) {
         return Optional.of(workspace);
       }
     }
@@ -281,6 +283,10 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.SOURCE_CONNECTION, SourceConnection.class);
   }
 
+  public List<SourceConnection> listSourceConnectionsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    return persistence.listConfigsByField(ConfigSchema.SOURCE_CONNECTION, "workspaceId", Set.of(workspaceId.toString()), SourceConnection.class);
+  }
+
   public List<SourceConnection> listSourceConnectionWithSecrets() throws JsonValidationException, IOException {
     final var sources = listSourceConnection();
 
@@ -329,6 +335,11 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.DESTINATION_CONNECTION, DestinationConnection.class);
   }
 
+  public List<DestinationConnection> listDestinationConnectionsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    return persistence.listConfigsByField(ConfigSchema.DESTINATION_CONNECTION, "workspaceId", Set.of(workspaceId.toString()),
+        DestinationConnection.class);
+  }
+
   public List<DestinationConnection> listDestinationConnectionWithSecrets() throws JsonValidationException, IOException {
     final var destinations = listDestinationConnection();
 
@@ -349,6 +360,24 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC, StandardSync.class);
   }
 
+  /**
+   * A connection belongs to the workspace of its source.
+   */
+  public List<StandardSync> listStandardSyncsForWorkspace(final UUID workspaceId) throws JsonValidationException, IOException {
+    final Set<String> sourceIds = listSourceConnectionsForWorkspace(workspaceId).stream()
+        .map(source -> source.getSourceId().toString())
+        .collect(Collectors.toSet());
+    return persistence.listConfigsByField(ConfigSchema.STANDARD_SYNC, "sourceId", sourceIds, StandardSync.class);
+  }
+
+  public List<StandardSync> listStandardSyncsUsingSource(final UUID sourceId) throws JsonValidationException, IOException {
+    return persistence.listConfigsByField(ConfigSchema.STANDARD_SYNC, "sourceId", Set.of(sourceId.toString()), StandardSync.class);
+  }
+
+  public List<StandardSync> listStandardSyncsUsingDestination(final UUID destinationId) throws JsonValidationException, IOException {
+    return persistence.listConfigsByField(ConfigSchema.STANDARD_SYNC, "destinationId", Set.of(destinationId.toString()), StandardSync.class);
+  }
+
   public StandardSyncOperation getStandardSyncOperation(final UUID operationId) throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.STANDARD_SYNC_OPERATION, operationId.toString(), StandardSyncOperation.class);
   }
@@ -361,6 +390,11 @@ public class ConfigRepository {
     return persistence.listConfigs(ConfigSchema.STANDARD_SYNC_OPERATION, StandardSyncOperation.class);
   }
 
+  public List<StandardSyncOperation> listStandardSyncOperationsForWorkspace(final UUID workspaceId) throws IOException, JsonValidationException {
+    return persistence.listConfigsByField(ConfigSchema.STANDARD_SYNC_OPERATION, "workspaceId", Set.of(workspaceId.toString()),
+        StandardSyncOperation.class);
+  }
+
   public SourceOAuthParameter getSourceOAuthParams(final UUID SourceOAuthParameterId)
       throws JsonValidationException, IOException, ConfigNotFoundException {
     return persistence.getConfig(ConfigSchema.SOURCE_OAUTH_PARAM, SourceOAuthParameterId.toString(), SourceOAuthParameter.class);
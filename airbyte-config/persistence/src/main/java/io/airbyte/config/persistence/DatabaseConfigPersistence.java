@@ -7,6 +7,7 @@ package io.airbyte.config.persistence;
 import static io.airbyte.db.instance.configs.jooq.Tables.AIRBYTE_CONFIGS;
 import static org.jooq.impl.DSL.asterisk;
 import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.select;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -28,10 +29,12 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -52,6 +55,8 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
   private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseConfigPersistence.class);
 
   private final ExceptionWrappingDatabase database;
+  // the version table only appears once, when the configs database is migrated.
+  private volatile boolean hasConfigVersions = false;
 
   public DatabaseConfigPersistence(Database database) {
     this.database = new ExceptionWrappingDatabase(database);
@@ -91,6 +96,33 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
     return new ValidatingConfigPersistence(this);
   }
 
+  /**
+   * Validated configs, cached in memory for as long as {@link #getConfigVersions()} reports no
+   * change to their type.
+   */
+  public CachingConfigPersistence withValidationAndCaching() {
+    return new CachingConfigPersistence(withValidation(), this::getConfigVersions);
+  }
+
+  /**
+   * @return the version of each config type. It increases whenever a config of that type is written
+   *         or deleted, by any application. A type that has never been written has no version. Empty
+   *         if the configs database has not been migrated to keep versions yet.
+   */
+  public Optional<Map<String, Long>> getConfigVersions() throws IOException {
+    if (!hasConfigVersions) {
+      hasConfigVersions = database.query(ctx -> ctx
+          .fetchOne("SELECT to_regclass('airbyte_config_versions') IS NOT NULL AS table_exists")
+          .get("table_exists", Boolean.class));
+      if (!hasConfigVersions) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(database.query(ctx -> ctx.fetch("SELECT config_type, version FROM airbyte_config_versions"))
+        .stream()
+        .collect(Collectors.toMap(r -> r.get("config_type", String.class), r -> r.get("version", Long.class))));
+  }
+
   @Override
   public <T> T getConfig(AirbyteConfig configType, String configId, Class<T> clazz)
       throws ConfigNotFoundException, JsonValidationException, IOException {
@@ -120,6 +152,23 @@ public class DatabaseConfigPersistence implements ConfigPersistence {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public <T> List<T> listConfigsByField(AirbyteConfig configType, String fieldName, Set<String> values, Class<T> clazz) throws IOException {
+    if (values.isEmpty()) {
+      return Collections.emptyList();
+    }
+    // this expression must stay identical to the one of the config_blob indexes for them to be used.
+    final Field<String> configField = field("{0}->>{1}", String.class, AIRBYTE_CONFIGS.CONFIG_BLOB, inline(fieldName));
+    Result<Record> results = database.query(ctx -> ctx.select(asterisk())
+        .from(AIRBYTE_CONFIGS)
+        .where(AIRBYTE_CONFIGS.CONFIG_TYPE.eq(configType.name()), configField.in(values))
+        .orderBy(AIRBYTE_CONFIGS.CONFIG_TYPE, AIRBYTE_CONFIGS.CONFIG_ID)
+        .fetch());
+    return results.stream()
+        .map(record -> Jsons.deserialize(record.get(AIRBYTE_CONFIGS.CONFIG_BLOB).data(), clazz))
+        .collect(Collectors.toList());
+  }
+
   @Override
   public <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws IOException {
     database.transaction(ctx -> {
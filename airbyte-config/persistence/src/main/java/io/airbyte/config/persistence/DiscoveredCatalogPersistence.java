@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.Database;
+import io.airbyte.db.ExceptionWrappingDatabase;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+/**
+ * Stores discovered source catalogs in the configs database, under a key that identifies the
+ * connector image and source configuration they were discovered with. Stored catalogs outlive
+ * server restarts and are shared by all server replicas.
+ */
+public class DiscoveredCatalogPersistence {
+
+  private final ExceptionWrappingDatabase database;
+
+  public DiscoveredCatalogPersistence(final Database database) {
+    this.database = new ExceptionWrappingDatabase(database);
+  }
+
+  /**
+   * @return the catalog stored under the key, if it was discovered at or after the given time.
+   */
+  public Optional<AirbyteCatalog> getCatalog(final String cacheKey, final Instant discoveredAfter) throws IOException {
+    return database.query(ctx -> ctx
+        .fetch("SELECT catalog FROM discovered_catalog_cache WHERE cache_key = ? AND discovered_at >= ?",
+            cacheKey,
+            OffsetDateTime.ofInstant(discoveredAfter, ZoneOffset.UTC))
+        .stream()
+        .findFirst()
+        .map(r -> Jsons.deserialize(r.get("catalog", String.class), AirbyteCatalog.class)));
+  }
+
+  /**
+   * Stores the catalog under the key, replacing any catalog previously stored under it.
+   */
+  public void writeCatalog(final String cacheKey, final AirbyteCatalog catalog, final Instant discoveredAt) throws IOException {
+    database.query(ctx -> ctx.execute(
+        "INSERT INTO discovered_catalog_cache(cache_key, catalog, discovered_at) VALUES (?, CAST(? AS JSONB), ?) " +
+            "ON CONFLICT (cache_key) DO UPDATE SET catalog = EXCLUDED.catalog, discovered_at = EXCLUDED.discovered_at",
+        cacheKey,
+        Jsons.serialize(catalog),
+        OffsetDateTime.ofInstant(discoveredAt, ZoneOffset.UTC)));
+  }
+
+  /**
+   * @return the number of catalogs deleted because they were discovered before the given time.
+   */
+  public int deleteCatalogsDiscoveredBefore(final Instant discoveredBefore) throws IOException {
+    return database.query(ctx -> ctx.execute(
+        "DELETE FROM discovered_catalog_cache WHERE discovered_at < ?",
+        OffsetDateTime.ofInstant(discoveredBefore, ZoneOffset.UTC)));
+  }
+
+}
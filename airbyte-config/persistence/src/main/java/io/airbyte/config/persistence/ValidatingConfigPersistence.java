@@ -12,6 +12,7 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 // we force all interaction with disk storage to be effectively single threaded.
@@ -46,6 +47,16 @@ public class ValidatingConfigPersistence implements ConfigPersistence {
     return configs;
   }
 
+  @Override
+  public <T> List<T> listConfigsByField(AirbyteConfig configType, String fieldName, Set<String> values, Class<T> clazz)
+      throws JsonValidationException, IOException {
+    final List<T> configs = decoratedPersistence.listConfigsByField(configType, fieldName, values, clazz);
+    for (T config : configs) {
+      validateJson(config, configType);
+    }
+    return configs;
+  }
+
   @Override
   public <T> void writeConfig(AirbyteConfig configType, String configId, T config) throws JsonValidationException, IOException {
     validateJson(Jsons.jsonNode(config), configType);
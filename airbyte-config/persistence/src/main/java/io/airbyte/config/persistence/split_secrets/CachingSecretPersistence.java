@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Caches the secrets read from a {@link SecretPersistence}, so that hydrating the configs of every
+ * job, check and discover does not make a round trip to the secret store for each secret.
+ *
+ * A coordinate refers to a specific version of a secret and updating a secret writes a new version,
+ * so cached payloads only go stale if the payload of a version is overwritten or deleted. Writes
+ * through this persistence invalidate the coordinate they write, and entries expire after a while to
+ * bound how long a change made elsewhere goes unnoticed. Missing secrets are not cached.
+ */
+public class CachingSecretPersistence implements SecretPersistence {
+
+  private static final long MAX_CACHED_SECRETS = 10_000;
+  private static final Duration CACHE_TTL = Duration.ofMinutes(10);
+
+  private final SecretPersistence decoratedPersistence;
+  private final Cache<SecretCoordinate, String> secretCache;
+
+  public CachingSecretPersistence(final SecretPersistence decoratedPersistence) {
+    this(decoratedPersistence, CACHE_TTL, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  CachingSecretPersistence(final SecretPersistence decoratedPersistence, final Duration ttl, final Ticker ticker) {
+    this.decoratedPersistence = decoratedPersistence;
+    this.secretCache = CacheBuilder.newBuilder()
+        .maximumSize(MAX_CACHED_SECRETS)
+        .expireAfterWrite(ttl)
+        .ticker(ticker)
+        .build();
+  }
+
+  @Override
+  public Optional<String> read(final SecretCoordinate coordinate) {
+    final String cachedPayload = secretCache.getIfPresent(coordinate);
+    if (cachedPayload != null) {
+      return Optional.of(cachedPayload);
+    }
+
+    final Optional<String> payload = decoratedPersistence.read(coordinate);
+    payload.ifPresent(value -> secretCache.put(coordinate, value));
+    return payload;
+  }
+
+  @Override
+  public void write(final SecretCoordinate coordinate, final String payload) {
+    // invalidate before and after, so that a read racing with the write cannot leave the old payload
+    // cached.
+    secretCache.invalidate(coordinate);
+    decoratedPersistence.write(coordinate, payload);
+    secretCache.invalidate(coordinate);
+  }
+
+}
@@ -7,6 +7,7 @@ package io.airbyte.config.persistence.split_secrets;
 import com.google.api.gax.core.FixedCredentialsProvider;
 import com.google.api.gax.rpc.NotFoundException;
 import com.google.auth.oauth2.ServiceAccountCredentials;
+import com.google.common.base.Suppliers;
 import com.google.cloud.secretmanager.v1.ProjectName;
 import com.google.cloud.secretmanager.v1.Replication;
 import com.google.cloud.secretmanager.v1.Secret;
@@ -54,6 +55,7 @@ public class GoogleSecretManagerPersistence implements SecretPersistence {
       .build();
 
   private final String gcpProjectId;
+  // the client holds a gRPC channel, so it is created once and shared by all reads and writes.
   private final Supplier<SecretManagerServiceClient> clientSupplier;
 
   private final @Nullable Duration ttl;
@@ -77,15 +79,15 @@ public class GoogleSecretManagerPersistence implements SecretPersistence {
 
   private GoogleSecretManagerPersistence(final String gcpProjectId, final String gcpCredentialsJson, final @Nullable Duration ttl) {
     this.gcpProjectId = gcpProjectId;
-    this.clientSupplier = () -> Exceptions.toRuntime(() -> getSecretManagerServiceClient(gcpCredentialsJson));
+    this.clientSupplier = Suppliers.memoize(() -> Exceptions.toRuntime(() -> getSecretManagerServiceClient(gcpCredentialsJson)));
     this.ttl = ttl;
   }
 
   @Override
   public Optional<String> read(final SecretCoordinate coordinate) {
-    try (final var client = clientSupplier.get()) {
+    try {
       final var secretVersionName = SecretVersionName.of(gcpProjectId, coordinate.getFullCoordinate(), LATEST);
-      final var response = client.accessSecretVersion(secretVersionName);
+      final var response = clientSupplier.get().accessSecretVersion(secretVersionName);
       return Optional.of(response.getPayload().getData().toStringUtf8());
     } catch (NotFoundException e) {
       return Optional.empty();
@@ -94,24 +96,23 @@ public class GoogleSecretManagerPersistence implements SecretPersistence {
 
   @Override
   public void write(final SecretCoordinate coordinate, final String payload) {
-    try (final var client = clientSupplier.get()) {
-      if (read(coordinate).isEmpty()) {
-        final var secretBuilder = Secret.newBuilder().setReplication(REPLICATION_POLICY);
+    final var client = clientSupplier.get();
+    if (read(coordinate).isEmpty()) {
+      final var secretBuilder = Secret.newBuilder().setReplication(REPLICATION_POLICY);
 
-        if (ttl != null) {
-          secretBuilder.setTtl(ttl);
-        }
-
-        client.createSecret(ProjectName.of(gcpProjectId), coordinate.getFullCoordinate(), secretBuilder.build());
+      if (ttl != null) {
+        secretBuilder.setTtl(ttl);
       }
 
-      final var name = SecretName.of(gcpProjectId, coordinate.getFullCoordinate());
-      final var secretPayload = SecretPayload.newBuilder()
-          .setData(ByteString.copyFromUtf8(payload))
-          .build();
-
-      client.addSecretVersion(name, secretPayload);
+      client.createSecret(ProjectName.of(gcpProjectId), coordinate.getFullCoordinate(), secretBuilder.build());
     }
+
+    final var name = SecretName.of(gcpProjectId, coordinate.getFullCoordinate());
+    final var secretPayload = SecretPayload.newBuilder()
+        .setData(ByteString.copyFromUtf8(payload))
+        .build();
+
+    client.addSecretVersion(name, secretPayload);
   }
 
   public static SecretManagerServiceClient getSecretManagerServiceClient(String credentialsJson) throws IOException {
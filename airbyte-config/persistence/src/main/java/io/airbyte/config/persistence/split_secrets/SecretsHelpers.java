@@ -100,28 +100,33 @@ public class SecretsHelpers {
    * @return full config including actual secret values
    */
   public static JsonNode combineConfig(final JsonNode partialConfig, final ReadOnlySecretPersistence secretPersistence) {
-    final var config = partialConfig.deepCopy();
+    // the config is copied once and hydrated in place. a secret referenced more than once in the
+    // config is only read once.
+    return hydrate(partialConfig.deepCopy(), secretPersistence, new HashMap<>());
+  }
 
+  /**
+   * Replaces the secret coordinate objects in the config in place.
+   *
+   * @return the hydrated config, which is a new text node if the config is itself a secret coordinate
+   *         object
+   */
+  private static JsonNode hydrate(final JsonNode config,
+                                  final ReadOnlySecretPersistence secretPersistence,
+                                  final Map<SecretCoordinate, TextNode> hydratedSecrets) {
     // if the entire config is a secret coordinate object
     if (config.has(COORDINATE_FIELD)) {
-      final var coordinateNode = config.get(COORDINATE_FIELD);
-      final var coordinate = getCoordinateFromTextNode(coordinateNode);
-      return getOrThrowSecretValueNode(secretPersistence, coordinate);
+      final var coordinate = getCoordinateFromTextNode(config.get(COORDINATE_FIELD));
+      return hydratedSecrets.computeIfAbsent(coordinate, c -> getOrThrowSecretValueNode(secretPersistence, c));
     }
 
-    // otherwise iterate through all object fields
-    config.fields().forEachRemaining(field -> {
-      final var fieldName = field.getKey();
-      final var fieldNode = field.getValue();
-
-      if (fieldNode instanceof ArrayNode) {
-        for (int i = 0; i < fieldNode.size(); i++) {
-          ((ArrayNode) fieldNode).set(i, combineConfig(fieldNode.get(i), secretPersistence));
-        }
-      } else if (fieldNode instanceof ObjectNode) {
-        ((ObjectNode) config).replace(fieldName, combineConfig(fieldNode, secretPersistence));
+    if (config instanceof ArrayNode) {
+      for (int i = 0; i < config.size(); i++) {
+        ((ArrayNode) config).set(i, hydrate(config.get(i), secretPersistence, hydratedSecrets));
       }
-    });
+    } else if (config instanceof ObjectNode) {
+      config.fields().forEachRemaining(field -> field.setValue(hydrate(field.getValue(), secretPersistence, hydratedSecrets)));
+    }
 
     return config;
   }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.StandardSourceDefinition;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingConfigPersistenceTest {
+
+  private static final UUID UUID_1 = new UUID(0, 1);
+  private static final StandardSourceDefinition SOURCE_1 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_1)
+      .withName("apache storm");
+  private static final UUID UUID_2 = new UUID(0, 2);
+  private static final StandardSourceDefinition SOURCE_2 = new StandardSourceDefinition()
+      .withSourceDefinitionId(UUID_2)
+      .withName("apache kafka");
+
+  private ConfigPersistence decoratedConfigPersistence;
+  private AtomicReference<Optional<Map<String, Long>>> versions;
+  private CachingConfigPersistence configPersistence;
+
+  @BeforeEach
+  void setUp() {
+    decoratedConfigPersistence = mock(ConfigPersistence.class);
+    versions = new AtomicReference<>(Optional.of(Map.of(ConfigSchema.STANDARD_SOURCE_DEFINITION.name(), 1L)));
+    configPersistence = new CachingConfigPersistence(decoratedConfigPersistence, versions::get);
+  }
+
+  @Test
+  void testGetConfigIsCached() throws Exception {
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    assertEquals(SOURCE_1, configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class));
+    final StandardSourceDefinition cached =
+        configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+
+    assertEquals(SOURCE_1, cached);
+    // callers may modify what they get back, so hits return copies.
+    assertNotSame(SOURCE_1, cached);
+    verify(decoratedConfigPersistence, times(1))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    assertEquals(1, configPersistence.getCacheStats().get(ConfigSchema.STANDARD_SOURCE_DEFINITION.name()).hitCount());
+    assertEquals(1, configPersistence.getCacheStats().get(ConfigSchema.STANDARD_SOURCE_DEFINITION.name()).missCount());
+  }
+
+  @Test
+  void testListConfigsFillsTheCache() throws Exception {
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2));
+
+    assertEquals(List.of(SOURCE_1, SOURCE_2),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+    assertEquals(List.of(SOURCE_1, SOURCE_2),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+    assertEquals(SOURCE_2, configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), StandardSourceDefinition.class));
+
+    verify(decoratedConfigPersistence, times(1)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+    verify(decoratedConfigPersistence, times(0))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testWriteConfigInvalidatesTheCache() throws Exception {
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2));
+
+    configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), SOURCE_2);
+
+    assertEquals(List.of(SOURCE_1, SOURCE_2),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+    verify(decoratedConfigPersistence).writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString(), SOURCE_2);
+  }
+
+  @Test
+  void testDeleteConfigInvalidatesTheCache() throws Exception {
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2))
+        .thenReturn(List.of(SOURCE_1));
+
+    configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+    configPersistence.deleteConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_2.toString());
+
+    assertEquals(List.of(SOURCE_1), configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+  }
+
+  @Test
+  void testVersionChangeFromAnotherReplicaInvalidatesTheCache() throws Exception {
+    when(decoratedConfigPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class))
+        .thenReturn(List.of(SOURCE_1))
+        .thenReturn(List.of(SOURCE_1, SOURCE_2));
+
+    configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+    versions.set(Optional.of(Map.of(ConfigSchema.STANDARD_SOURCE_DEFINITION.name(), 2L)));
+
+    assertEquals(List.of(SOURCE_1, SOURCE_2),
+        configPersistence.listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class));
+    verify(decoratedConfigPersistence, times(2)).listConfigs(ConfigSchema.STANDARD_SOURCE_DEFINITION, StandardSourceDefinition.class);
+  }
+
+  @Test
+  void testNothingIsCachedWithoutVersions() throws Exception {
+    versions.set(Optional.empty());
+    when(decoratedConfigPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class))
+        .thenReturn(SOURCE_1);
+
+    configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+    configPersistence.getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+
+    verify(decoratedConfigPersistence, times(2))
+        .getConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, UUID_1.toString(), StandardSourceDefinition.class);
+  }
+
+}
@@ -9,12 +9,16 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.airbyte.config.ConfigSchema;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardSync;
 import io.airbyte.config.StandardWorkspace;
 import io.airbyte.config.persistence.split_secrets.MemorySecretPersistence;
 import io.airbyte.config.persistence.split_secrets.NoOpSecretsHydrator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,6 +53,28 @@ class ConfigRepositoryTest {
     assertReturnsWorkspace(new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withTombstone(true));
   }
 
+  @Test
+  void testGetWorkspaceBySlugSkipsTombstones() throws IOException, JsonValidationException {
+    final StandardWorkspace workspace = new StandardWorkspace().withWorkspaceId(WORKSPACE_ID).withSlug("slug").withTombstone(true);
+    when(configPersistence.listConfigsByField(ConfigSchema.STANDARD_WORKSPACE, "slug", Set.of("slug"), StandardWorkspace.class))
+        .thenReturn(List.of(workspace));
+
+    assertEquals(Optional.empty(), configRepository.getWorkspaceBySlugOptional("slug", false));
+    assertEquals(Optional.of(workspace), configRepository.getWorkspaceBySlugOptional("slug", true));
+  }
+
+  @Test
+  void testListStandardSyncsForWorkspace() throws IOException, JsonValidationException {
+    final UUID sourceId = UUID.randomUUID();
+    final StandardSync standardSync = new StandardSync().withConnectionId(UUID.randomUUID()).withSourceId(sourceId);
+    when(configPersistence.listConfigsByField(ConfigSchema.SOURCE_CONNECTION, "workspaceId", Set.of(WORKSPACE_ID.toString()), SourceConnection.class))
+        .thenReturn(List.of(new SourceConnection().withSourceId(sourceId).withWorkspaceId(WORKSPACE_ID)));
+    when(configPersistence.listConfigsByField(ConfigSchema.STANDARD_SYNC, "sourceId", Set.of(sourceId.toString()), StandardSync.class))
+        .thenReturn(List.of(standardSync));
+
+    assertEquals(List.of(standardSync), configRepository.listStandardSyncsForWorkspace(WORKSPACE_ID));
+  }
+
   void assertReturnsWorkspace(StandardWorkspace workspace) throws ConfigNotFoundException, IOException, JsonValidationException {
     when(configPersistence.getConfig(ConfigSchema.STANDARD_WORKSPACE, WORKSPACE_ID.toString(), StandardWorkspace.class)).thenReturn(workspace);
 
@@ -17,7 +17,9 @@ import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.persistence.DatabaseConfigPersistence.ConnectorInfo;
+import io.airbyte.db.instance.DatabaseMigrator;
 import io.airbyte.db.instance.configs.ConfigsDatabaseInstance;
+import io.airbyte.db.instance.configs.ConfigsDatabaseMigrator;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -203,6 +205,45 @@ public class DatabaseConfigPersistenceTest extends BaseDatabaseConfigPersistence
     assertHasSource(SOURCE_GITHUB);
   }
 
+  @Test
+  public void testListConfigsByField() throws Exception {
+    writeDestination(configPersistence, DESTINATION_S3);
+    writeDestination(configPersistence, DESTINATION_SNOWFLAKE);
+
+    assertEquals(
+        List.of(DESTINATION_S3),
+        configPersistence.listConfigsByField(ConfigSchema.STANDARD_DESTINATION_DEFINITION, "dockerRepository",
+            Set.of(DESTINATION_S3.getDockerRepository()), StandardDestinationDefinition.class));
+    assertEquals(
+        List.of(DESTINATION_SNOWFLAKE, DESTINATION_S3),
+        configPersistence.listConfigsByField(ConfigSchema.STANDARD_DESTINATION_DEFINITION, "dockerRepository",
+            Set.of(DESTINATION_S3.getDockerRepository(), DESTINATION_SNOWFLAKE.getDockerRepository()), StandardDestinationDefinition.class));
+    assertEquals(
+        Collections.emptyList(),
+        configPersistence.listConfigsByField(ConfigSchema.STANDARD_DESTINATION_DEFINITION, "dockerRepository", Set.of("unknown"),
+            StandardDestinationDefinition.class));
+  }
+
+  @Test
+  public void testGetConfigVersions() throws Exception {
+    final DatabaseMigrator configDbMigrator = new ConfigsDatabaseMigrator(database, DatabaseConfigPersistenceTest.class.getSimpleName());
+    configDbMigrator.createBaseline();
+    configDbMigrator.migrate();
+    final String type = ConfigSchema.STANDARD_DESTINATION_DEFINITION.name();
+    final long initialVersion = configPersistence.getConfigVersions().orElseThrow().getOrDefault(type, 0L);
+
+    writeDestination(configPersistence, DESTINATION_S3);
+    final long versionAfterInsert = configPersistence.getConfigVersions().orElseThrow().get(type);
+    assertTrue(versionAfterInsert > initialVersion);
+
+    writeDestination(configPersistence, DESTINATION_S3);
+    final long versionAfterUpdate = configPersistence.getConfigVersions().orElseThrow().get(type);
+    assertTrue(versionAfterUpdate > versionAfterInsert);
+
+    deleteDestination(configPersistence, DESTINATION_S3);
+    assertTrue(configPersistence.getConfigVersions().orElseThrow().get(type) > versionAfterUpdate);
+  }
+
   @Test
   public void testHasNewVersion() {
     assertTrue(DatabaseConfigPersistence.hasNewVersion("0.1.99", "0.2.0"));
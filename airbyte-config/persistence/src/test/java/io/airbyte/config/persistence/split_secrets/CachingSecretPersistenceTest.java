@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.config.persistence.split_secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.base.Ticker;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CachingSecretPersistenceTest {
+
+  private static final SecretCoordinate COORDINATE = new SecretCoordinate("airbyte_workspace_123_secret_456", 1);
+  private static final Duration TTL = Duration.ofMinutes(10);
+
+  private MemorySecretPersistence decoratedPersistence;
+  private AtomicLong nanos;
+  private CachingSecretPersistence cachingPersistence;
+
+  @BeforeEach
+  void setup() {
+    decoratedPersistence = spy(new MemorySecretPersistence());
+    nanos = new AtomicLong();
+    cachingPersistence = new CachingSecretPersistence(decoratedPersistence, TTL, new Ticker() {
+
+      @Override
+      public long read() {
+        return nanos.get();
+      }
+
+    });
+  }
+
+  @Test
+  void testReadIsCached() {
+    decoratedPersistence.write(COORDINATE, "secret");
+
+    assertEquals(Optional.of("secret"), cachingPersistence.read(COORDINATE));
+    assertEquals(Optional.of("secret"), cachingPersistence.read(COORDINATE));
+    verify(decoratedPersistence, times(1)).read(COORDINATE);
+  }
+
+  @Test
+  void testMissingSecretIsNotCached() {
+    assertEquals(Optional.empty(), cachingPersistence.read(COORDINATE));
+    decoratedPersistence.write(COORDINATE, "secret");
+
+    assertEquals(Optional.of("secret"), cachingPersistence.read(COORDINATE));
+  }
+
+  @Test
+  void testWriteInvalidatesCachedSecret() {
+    cachingPersistence.write(COORDINATE, "secret");
+    assertEquals(Optional.of("secret"), cachingPersistence.read(COORDINATE));
+
+    cachingPersistence.write(COORDINATE, "new secret");
+
+    assertEquals(Optional.of("new secret"), cachingPersistence.read(COORDINATE));
+  }
+
+  @Test
+  void testCachedSecretExpires() {
+    decoratedPersistence.write(COORDINATE, "secret");
+    assertEquals(Optional.of("secret"), cachingPersistence.read(COORDINATE));
+
+    decoratedPersistence.write(COORDINATE, "new secret");
+    assertEquals(Optional.of("secret"), cachingPersistence.read(COORDINATE));
+
+    nanos.addAndGet(TTL.toNanos());
+    assertEquals(Optional.of("new secret"), cachingPersistence.read(COORDINATE));
+  }
+
+}
@@ -5,7 +5,11 @@
 package io.airbyte.config.persistence.split_secrets;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.persistence.split_secrets.test_cases.ArrayOneOfTestCase;
 import io.airbyte.config.persistence.split_secrets.test_cases.ArrayTestCase;
 import io.airbyte.config.persistence.split_secrets.test_cases.NestedObjectTestCase;
@@ -156,6 +160,20 @@ public class SecretsHelpersTest {
     assertThrows(RuntimeException.class, () -> SecretsHelpers.combineConfig(testCase.getPartialConfig(), secretPersistence));
   }
 
+  @Test
+  void testCombineReadsEachSecretOnce() {
+    final var coordinate = new SecretCoordinate("airbyte_workspace_123_secret_456", 1);
+    final var secretPersistence = spy(new MemorySecretPersistence());
+    secretPersistence.write(coordinate, "hunter2");
+    final var partialConfig = Jsons.deserialize("{\"password\": {\"_secret\": \"airbyte_workspace_123_secret_456_v1\"}, "
+        + "\"tunnels\": [{\"password\": {\"_secret\": \"airbyte_workspace_123_secret_456_v1\"}}]}");
+
+    final var actualCombinedConfig = SecretsHelpers.combineConfig(partialConfig, secretPersistence);
+
+    assertEquals(Jsons.deserialize("{\"password\": \"hunter2\", \"tunnels\": [{\"password\": \"hunter2\"}]}"), actualCombinedConfig);
+    verify(secretPersistence, times(1)).read(coordinate);
+  }
+
   @Test
   void testUpdatingSecretsOneAtATime() {
     final var uuidIterator = UUIDS.iterator();
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * Keeps a version number per config type that increases on every change to airbyte_configs, so
+ * that each server replica can tell whether its cached configs are still current with a single
+ * primary key lookup. The version is maintained by triggers, so it also covers writes from other
+ * applications and older code paths.
+ */
+public class V0_30_4_001__Add_airbyte_config_versions extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createTableIfNotExists("airbyte_config_versions")
+        .column("config_type", SQLDataType.VARCHAR(60).nullable(false))
+        .column("version", SQLDataType.BIGINT.nullable(false))
+        .constraints(DSL.constraint("airbyte_config_versions_pkey").primaryKey("config_type"))
+        .execute();
+
+    ctx.execute("CREATE OR REPLACE FUNCTION airbyte_configs_bump_version() RETURNS TRIGGER AS $$\n" +
+        "BEGIN\n" +
+        "  IF TG_OP = 'TRUNCATE' THEN\n" +
+        "    UPDATE airbyte_config_versions SET version = version + 1;\n" +
+        "    RETURN NULL;\n" +
+        "  END IF;\n" +
+        "  IF TG_OP <> 'INSERT' THEN\n" +
+        "    INSERT INTO airbyte_config_versions(config_type, version) VALUES (OLD.config_type, 1)\n" +
+        "    ON CONFLICT (config_type) DO UPDATE SET version = airbyte_config_versions.version + 1;\n" +
+        "  END IF;\n" +
+        "  IF TG_OP <> 'DELETE' AND (TG_OP = 'INSERT' OR NEW.config_type <> OLD.config_type) THEN\n" +
+        "    INSERT INTO airbyte_config_versions(config_type, version) VALUES (NEW.config_type, 1)\n" +
+        "    ON CONFLICT (config_type) DO UPDATE SET version = airbyte_config_versions.version + 1;\n" +
+        "  END IF;\n" +
+        "  RETURN NULL;\n" +
+        "END;\n" +
+        "$$ LANGUAGE plpgsql");
+    ctx.execute("DROP TRIGGER IF EXISTS airbyte_configs_bump_version_row ON airbyte_configs");
+    ctx.execute("CREATE TRIGGER airbyte_configs_bump_version_row AFTER INSERT OR UPDATE OR DELETE ON airbyte_configs " +
+        "FOR EACH ROW EXECUTE PROCEDURE airbyte_configs_bump_version()");
+    ctx.execute("DROP TRIGGER IF EXISTS airbyte_configs_bump_version_truncate ON airbyte_configs");
+    ctx.execute("CREATE TRIGGER airbyte_configs_bump_version_truncate AFTER TRUNCATE ON airbyte_configs " +
+        "FOR EACH STATEMENT EXECUTE PROCEDURE airbyte_configs_bump_version()");
+  }
+
+}
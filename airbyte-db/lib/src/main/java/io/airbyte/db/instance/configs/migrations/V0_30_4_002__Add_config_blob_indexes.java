@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+/**
+ * Expression indexes on the config fields that configs are looked up by: the workspace of sources
+ * and destinations, the slug of workspaces, and the source and destination of connections. Without
+ * them, each of these lookups reads every config of the type.
+ */
+public class V0_30_4_002__Add_config_blob_indexes extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+    // the expressions must stay identical to the ones DatabaseConfigPersistence queries with.
+    createConfigBlobIndex(ctx, "airbyte_configs_workspace_id_idx", "workspaceId");
+    createConfigBlobIndex(ctx, "airbyte_configs_slug_idx", "slug");
+    createConfigBlobIndex(ctx, "airbyte_configs_source_id_idx", "sourceId");
+    createConfigBlobIndex(ctx, "airbyte_configs_destination_id_idx", "destinationId");
+  }
+
+  private static void createConfigBlobIndex(DSLContext ctx, String indexName, String fieldName) {
+    ctx.execute(String.format("CREATE INDEX IF NOT EXISTS %s ON airbyte_configs(config_type, (config_blob->>'%s'))", indexName, fieldName));
+  }
+
+}
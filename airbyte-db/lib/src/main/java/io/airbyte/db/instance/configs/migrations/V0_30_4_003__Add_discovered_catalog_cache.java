@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.configs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * Keeps the catalogs discovered for a connector image and source configuration, so that repeated
+ * schema discoveries, which can take minutes for large databases, are answered without running the
+ * connector again, including after a server restart.
+ */
+public class V0_30_4_003__Add_discovered_catalog_cache extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createTableIfNotExists("discovered_catalog_cache")
+        .column("cache_key", SQLDataType.VARCHAR(64).nullable(false))
+        .column("catalog", SQLDataType.JSONB.nullable(false))
+        .column("discovered_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false))
+        .constraints(DSL.constraint("discovered_catalog_cache_pkey").primaryKey("cache_key"))
+        .execute();
+  }
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+
+/**
+ * Indexes for the job queries that run on every scheduler tick. Without them, looking up the jobs of
+ * a connection, the next pending job or the jobs in a given status scans the whole jobs table.
+ */
+public class V0_30_4_001__Add_job_query_indexes extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+    // last job / current state / list jobs of a connection
+    ctx.createIndexIfNotExists("jobs_scope_config_type_created_at_idx")
+        .on("jobs", "scope", "config_type", "created_at")
+        .execute();
+    // next pending job, jobs in a given status
+    ctx.createIndexIfNotExists("jobs_status_created_at_idx")
+        .on("jobs", "status", "created_at")
+        .execute();
+  }
+
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.instance.jobs.migrations;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.jooq.impl.SQLDataType;
+
+/**
+ * Keeps the latest state of each connection in its own table, so reading it no longer scans the
+ * outputs of every attempt of the connection. The table is filled from the existing attempts.
+ */
+public class V0_30_4_002__Add_connection_state_table extends BaseJavaMigration {
+
+  @Override
+  public void migrate(Context context) throws Exception {
+    // Warning: please do not use any jOOQ generated code to write a migration.
+    // As database schema changes, the generated jOOQ code can be deprecated. So
+    // old migration may not compile if there is any generated code.
+    DSLContext ctx = DSL.using(context.getConnection());
+    ctx.createTableIfNotExists("connection_state")
+        .column("scope", SQLDataType.VARCHAR(255).nullable(false))
+        .column("state", SQLDataType.JSONB.nullable(false))
+        .column("job_id", SQLDataType.BIGINT.nullable(false))
+        .column("attempt_number", SQLDataType.INTEGER.nullable(false))
+        .column("updated_at", SQLDataType.TIMESTAMPWITHTIMEZONE.nullable(false))
+        .constraints(DSL.constraint("connection_state_pkey").primaryKey("scope"))
+        .execute();
+
+    // same rule as the query it replaces: the state of the most recently created replication attempt
+    // that has one.
+    ctx.execute("INSERT INTO connection_state(scope, state, job_id, attempt_number, updated_at) " +
+        "SELECT DISTINCT ON (jobs.scope) jobs.scope, attempts.output->'sync'->'state', attempts.job_id, attempts.attempt_number, " +
+        "COALESCE(attempts.updated_at, attempts.created_at, now()) " +
+        "FROM attempts JOIN jobs ON jobs.id = attempts.job_id " +
+        "WHERE jobs.config_type IN ('sync', 'reset_connection') AND jobs.scope IS NOT NULL AND " +
+        "attempts.output->'sync'->'state' IS NOT NULL " +
+        "ORDER BY jobs.scope, attempts.created_at DESC " +
+        "ON CONFLICT (scope) DO NOTHING");
+  }
+
+}
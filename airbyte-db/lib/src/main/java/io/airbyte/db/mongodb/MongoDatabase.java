@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.bson.BsonDocument;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,13 +94,15 @@ public class MongoDatabase extends AbstractDatabase {
 
   public Stream<JsonNode> read(String collectionName, List<String> columnNames, Optional<Bson> filter) {
     try {
-      final MongoCollection<Document> collection = database.getCollection(collectionName);
-      final MongoCursor<Document> cursor = collection
+      // documents are read as raw bytes and decoded into json directly, see MongoUtils#toJsonNode.
+      final MongoCollection<RawBsonDocument> collection = database.getCollection(collectionName, RawBsonDocument.class);
+      final MongoCursor<RawBsonDocument> cursor = collection
           .find(filter.orElse(new BsonDocument()))
           .batchSize(BATCH_SIZE)
           .cursor();
+      final Set<String> transformedFields = MongoUtils.getTransformedFields(columnNames);
 
-      return getStream(cursor, (document) -> MongoUtils.toJsonNode(document, columnNames))
+      return getStream(cursor, (document) -> MongoUtils.toJsonNode(document, transformedFields))
           .onClose(() -> {
             try {
               cursor.close();
@@ -114,13 +117,13 @@ public class MongoDatabase extends AbstractDatabase {
     }
   }
 
-  private Stream<JsonNode> getStream(MongoCursor<Document> cursor, CheckedFunction<Document, JsonNode, Exception> mapper) {
+  private Stream<JsonNode> getStream(MongoCursor<RawBsonDocument> cursor, CheckedFunction<RawBsonDocument, JsonNode, Exception> mapper) {
     return StreamSupport.stream(new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
 
       @Override
       public boolean tryAdvance(Consumer<? super JsonNode> action) {
         try {
-          Document document = cursor.tryNext();
+          RawBsonDocument document = cursor.tryNext();
           if (document == null) {
             return false;
           }
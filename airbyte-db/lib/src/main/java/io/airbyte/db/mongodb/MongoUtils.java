@@ -5,21 +5,30 @@
 package io.airbyte.db.mongodb;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ContainerNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.api.client.util.DateTime;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
-import io.airbyte.commons.json.Jsons;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
 import io.airbyte.db.DataTypeUtils;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
 import org.bson.BsonDateTime;
-import org.bson.BsonDocument;
-import org.bson.BsonDocumentReader;
 import org.bson.BsonDouble;
 import org.bson.BsonInt32;
 import org.bson.BsonInt64;
@@ -27,8 +36,9 @@ import org.bson.BsonReader;
 import org.bson.BsonString;
 import org.bson.BsonTimestamp;
 import org.bson.BsonType;
+import org.bson.BsonValue;
 import org.bson.Document;
-import org.bson.conversions.Bson;
+import org.bson.RawBsonDocument;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.bson.types.Symbol;
@@ -39,7 +49,7 @@ public class MongoUtils {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(MongoUtils.class);
 
-  private static final int DISCOVERY_BATCH_SIZE = 10000;
+  private static final int DISCOVERY_SAMPLE_SIZE = 10000;
   private static final String AIRBYTE_SUFFIX = "_aibyte_transform";
 
   public static JsonSchemaPrimitive getType(final BsonType dataType) {
@@ -53,10 +63,38 @@ public class MongoUtils {
     };
   }
 
-  public static JsonNode toJsonNode(final Document document, final List<String> columnNames) {
-    final ObjectNode objectNode = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
-    readBson(document, objectNode, columnNames);
-    return objectNode;
+  /**
+   * Fields which have different types across documents are discovered with a
+   * {@value AIRBYTE_SUFFIX} suffix and are read as strings. Computed once per read, so that each
+   * field of each document is checked with a lookup instead of a scan of the column names.
+   *
+   * @param columnNames selected columns
+   * @return names of the fields to read as strings
+   */
+  public static Set<String> getTransformedFields(final List<String> columnNames) {
+    return columnNames.stream()
+        .filter(columnName -> columnName.endsWith(AIRBYTE_SUFFIX))
+        .map(columnName -> columnName.substring(0, columnName.length() - AIRBYTE_SUFFIX.length()))
+        .collect(Collectors.toSet());
+  }
+
+  /**
+   * Reads the bytes of the document as the driver received them straight into json, nested
+   * documents and arrays included, without decoding the document into intermediate objects first.
+   *
+   * @param document raw document
+   * @param transformedFields top level fields to read as strings, see {@link #getTransformedFields}
+   * @return json of the document
+   */
+  public static JsonNode toJsonNode(final RawBsonDocument document, final Set<String> transformedFields) {
+    try (BsonReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
+      final ObjectNode objectNode = JsonNodeFactory.instance.objectNode();
+      readDocument(reader, objectNode, transformedFields);
+      return objectNode;
+    } catch (Exception e) {
+      LOGGER.error("Exception while parsing BsonDocument: ", e.getMessage());
+      throw new RuntimeException(e);
+    }
   }
 
   public static Object getBsonValue(BsonType type, String value) {
@@ -79,58 +117,106 @@ public class MongoUtils {
     }
   }
 
-  private static void readBson(final Document document, final ObjectNode o, final List<String> columnNames) {
-    final BsonDocument bsonDocument = toBsonDocument(document);
-    try (BsonReader reader = new BsonDocumentReader(bsonDocument)) {
-      reader.readStartDocument();
-      while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
-        final var fieldName = reader.readName();
-        final var fieldType = reader.getCurrentBsonType();
-
-        switch (fieldType) {
-          case BOOLEAN -> o.put(fieldName, reader.readBoolean());
-          case INT32 -> o.put(fieldName, reader.readInt32());
-          case INT64 -> o.put(fieldName, reader.readInt64());
-          case DOUBLE -> o.put(fieldName, reader.readDouble());
-          case DECIMAL128 -> o.put(fieldName, toDouble(reader.readDecimal128()));
-          case TIMESTAMP -> o.put(fieldName, toString(reader.readTimestamp()));
-          case DATE_TIME -> o.put(fieldName, DataTypeUtils.toISO8601String(reader.readDateTime()));
-          case BINARY -> o.put(fieldName, toByteArray(reader.readBinaryData()));
-          case SYMBOL -> o.put(fieldName, reader.readSymbol());
-          case STRING -> o.put(fieldName, reader.readString());
-          case OBJECT_ID -> o.put(fieldName, toString(reader.readObjectId()));
-          case JAVASCRIPT -> o.put(fieldName, reader.readJavaScript());
-          case JAVASCRIPT_WITH_SCOPE -> o.put(fieldName, reader.readJavaScriptWithScope());
-          case REGULAR_EXPRESSION -> o.put(fieldName, toString(reader.readRegularExpression()));
-          case DOCUMENT -> o.put(fieldName, documentToString(document.get(fieldName), reader));
-          case ARRAY -> o.put(fieldName, arrayToString(document.get(fieldName), reader));
-          default -> reader.skipValue();
-        }
+  private static void readDocument(final BsonReader reader, final ObjectNode o, final Set<String> transformedFields) {
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      final var fieldName = reader.readName();
+      final JsonNode value = readValue(reader, o);
+      // null values and unsupported types are left out of documents.
+      if (value == null || value.isNull()) {
+        continue;
+      }
+      if (transformedFields.contains(fieldName)) {
+        o.put(fieldName, value.isContainerNode() ? value.toString() : value.asText());
+      } else {
+        o.set(fieldName, value);
+      }
+    }
+    reader.readEndDocument();
+  }
 
-        if (columnNames.contains(fieldName + AIRBYTE_SUFFIX)) {
-          o.put(fieldName, o.get(fieldName).asText());
-        }
+  private static void readArray(final BsonReader reader, final ArrayNode a) {
+    reader.readStartArray();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      final JsonNode value = readValue(reader, a);
+      // elements keep their position, so null values and unsupported types are read as null.
+      a.add(value == null ? NullNode.getInstance() : value);
+    }
+    reader.readEndArray();
+  }
+
+  /**
+   * @param parent node that nested documents and arrays are created with
+   * @return json of the current value, or null if the type is not supported
+   */
+  private static JsonNode readValue(final BsonReader reader, final ContainerNode<?> parent) {
+    return switch (reader.getCurrentBsonType()) {
+      case BOOLEAN -> parent.booleanNode(reader.readBoolean());
+      case INT32 -> parent.numberNode(reader.readInt32());
+      case INT64 -> parent.numberNode(reader.readInt64());
+      case DOUBLE -> parent.numberNode(reader.readDouble());
+      case DECIMAL128 -> parent.numberNode(toDouble(reader.readDecimal128()));
+      case TIMESTAMP -> parent.textNode(toString(reader.readTimestamp()));
+      case DATE_TIME -> parent.textNode(DataTypeUtils.toISO8601String(reader.readDateTime()));
+      case BINARY -> parent.binaryNode(toByteArray(reader.readBinaryData()));
+      case SYMBOL -> parent.textNode(reader.readSymbol());
+      case STRING -> parent.textNode(reader.readString());
+      case OBJECT_ID -> parent.textNode(toString(reader.readObjectId()));
+      case JAVASCRIPT -> parent.textNode(reader.readJavaScript());
+      case JAVASCRIPT_WITH_SCOPE -> parent.textNode(readJavaScriptWithScope(reader));
+      case REGULAR_EXPRESSION -> parent.textNode(toString(reader.readRegularExpression()));
+      case DOCUMENT -> {
+        final ObjectNode document = parent.objectNode();
+        readDocument(reader, document, Collections.emptySet());
+        yield document;
       }
-      reader.readEndDocument();
-    } catch (Exception e) {
-      LOGGER.error("Exception while parsing BsonDocument: ", e.getMessage());
-      throw new RuntimeException(e);
+      case ARRAY -> {
+        final ArrayNode array = parent.arrayNode();
+        readArray(reader, array);
+        yield array;
+      }
+      case NULL -> {
+        reader.readNull();
+        yield parent.nullNode();
+      }
+      default -> {
+        reader.skipValue();
+        yield null;
+      }
+    };
+  }
+
+  private static String readJavaScriptWithScope(final BsonReader reader) {
+    final String code = reader.readJavaScriptWithScope();
+    // the scope follows the code and is not part of the value.
+    reader.readStartDocument();
+    while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+      reader.skipName();
+      reader.skipValue();
     }
+    reader.readEndDocument();
+    return code;
   }
 
   /**
-   * Gets 10.000 documents from collection, gathers all unique fields and its type. In case when one
-   * field has different types in 2 and more documents, the type is set to String.
+   * Samples 10.000 documents from collection, gathers all unique fields and its type. In case when
+   * one field has different types in 2 and more documents, the type is set to String. The $sample
+   * stage picks random documents instead of scanning the whole collection, and the documents are
+   * read as raw bson so that the values are skipped without being decoded.
    *
    * @param collection mongo collection
    * @return map of unique fields and its type
    */
   public static Map<String, BsonType> getUniqueFields(MongoCollection<Document> collection) {
     Map<String, BsonType> uniqueFields = new HashMap<>();
-    try (MongoCursor<Document> cursor = collection.find().batchSize(DISCOVERY_BATCH_SIZE).iterator()) {
+    try (MongoCursor<RawBsonDocument> cursor = collection.withDocumentClass(RawBsonDocument.class)
+        .aggregate(List.of(Aggregates.sample(DISCOVERY_SAMPLE_SIZE)))
+        .allowDiskUse(true)
+        .batchSize(DISCOVERY_SAMPLE_SIZE)
+        .iterator()) {
       while (cursor.hasNext()) {
-        BsonDocument document = toBsonDocument(cursor.next());
-        try (BsonReader reader = new BsonDocumentReader(document)) {
+        RawBsonDocument document = cursor.next();
+        try (BsonReader reader = new BsonBinaryReader(document.getByteBuffer().asNIO())) {
           reader.readStartDocument();
           while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
             var fieldName = reader.readName();
@@ -149,13 +235,25 @@ public class MongoUtils {
     return uniqueFields;
   }
 
-  private static BsonDocument toBsonDocument(final Document document) {
-    try {
-      return document.toBsonDocument(BsonDocument.class, Bson.DEFAULT_CODEC_REGISTRY);
-    } catch (Exception e) {
-      LOGGER.error("Exception while converting Document to BsonDocument: ", e.getMessage());
-      throw new RuntimeException(e);
-    }
+  /**
+   * Gets the type of the greatest value of the field in the collection, which is the value an
+   * incremental read on the field continues from. Unlike the types found by
+   * {@link #getUniqueFields}, it does not depend on which documents are sampled, and it is found
+   * however few documents have the field. The collection is sorted on the field, which scans it
+   * unless the field is indexed.
+   *
+   * @param collection mongo collection
+   * @param fieldName top level field
+   * @return the type, or empty if no document has a value for the field
+   */
+  public static Optional<BsonType> getGreatestValueType(MongoCollection<Document> collection, String fieldName) {
+    final RawBsonDocument document = collection.withDocumentClass(RawBsonDocument.class)
+        .find(Filters.ne(fieldName, null))
+        .projection(Projections.include(fieldName))
+        .sort(Sorts.descending(fieldName))
+        .limit(1)
+        .first();
+    return Optional.ofNullable(document).map(d -> d.get(fieldName)).map(BsonValue::getBsonType);
   }
 
   private static String toString(Object value) {
@@ -170,29 +268,6 @@ public class MongoUtils {
     return value == null ? null : value.getData();
   }
 
-  // temporary method for MVP
-  private static String documentToString(Object obj, BsonReader reader) {
-    try {
-      reader.skipValue();
-      Document document = (Document) obj;
-      return document.toJson();
-    } catch (Exception e) {
-      LOGGER.error("Failed to convert document to a String: ", e.getMessage());
-      return null;
-    }
-  }
-
-  // temporary method for MVP
-  private static String arrayToString(Object obj, BsonReader reader) {
-    try {
-      reader.skipValue();
-      return obj.toString();
-    } catch (Exception e) {
-      LOGGER.error("Failed to convert array to a String: ", e.getMessage());
-      return null;
-    }
-  }
-
   public enum MongoInstanceType {
 
     STANDALONE("standalone"),
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.base.Stopwatch;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.DataTypeUtils;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.conversions.Bson;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures how many documents per second are converted to json, from the bytes the driver receives,
+ * by {@link MongoUtils#toJsonNode} and by the conversion it replaced (decoding a {@link Document},
+ * copying it into a {@link BsonDocument} and rendering nested values to strings). Runs without a
+ * database, but takes a while, so it is disabled by default and meant to be run manually.
+ */
+@Disabled
+class MongoUtilsBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(MongoUtilsBenchmarkTest.class);
+
+  private static final int NUM_DOCUMENTS = 200_000;
+  private static final int NUM_FIELDS = 20;
+  private static final int NUM_ROUNDS = 5;
+
+  @Test
+  void benchmarkDocumentsPerSecond() {
+    final List<RawBsonDocument> documents = new ArrayList<>();
+    final List<String> columnNames = new ArrayList<>();
+    for (int i = 0; i < NUM_DOCUMENTS; i++) {
+      documents.add(createDocument(i));
+    }
+    documents.get(0).keySet().forEach(columnNames::add);
+    final Set<String> transformedFields = MongoUtils.getTransformedFields(columnNames);
+
+    // alternate between the two so that both see a warmed up jvm.
+    for (int round = 0; round < NUM_ROUNDS; round++) {
+      run("previous", documents, document -> previousToJsonNode(document, columnNames));
+      run("raw", documents, document -> MongoUtils.toJsonNode(document, transformedFields));
+    }
+  }
+
+  private static void run(final String name, final List<RawBsonDocument> documents, final Function<RawBsonDocument, JsonNode> converter) {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    long numFields = 0;
+    for (final RawBsonDocument document : documents) {
+      numFields += converter.apply(document).size();
+    }
+    final long elapsedMillis = stopwatch.elapsed(TimeUnit.MILLISECONDS);
+
+    assertEquals((long) NUM_DOCUMENTS * (NUM_FIELDS + 3), numFields);
+    LOGGER.info("{}: {} documents in {} ms, {} documents per second", name, documents.size(), elapsedMillis,
+        documents.size() * 1000L / Math.max(elapsedMillis, 1));
+  }
+
+  private static RawBsonDocument createDocument(final int i) {
+    final Document document = new Document("_id", new ObjectId())
+        .append("updated_at", new Date(1632836733000L + i))
+        .append("nested", new Document("name", "name " + i).append("count", i).append("tags", List.of("a", "b", "c")));
+    for (int field = 0; field < NUM_FIELDS; field++) {
+      document.append("field_" + field, field % 2 == 0 ? "value " + i : (Object) (i * 1.5));
+    }
+    return new RawBsonDocument(document, new DocumentCodec());
+  }
+
+  /**
+   * The conversion {@link MongoUtils#toJsonNode} replaced, trimmed to the types of the benchmark
+   * documents.
+   */
+  private static JsonNode previousToJsonNode(final RawBsonDocument rawDocument, final List<String> columnNames) {
+    // the driver decoded each document into a Document before it was converted.
+    final Document document = rawDocument.decode(new DocumentCodec());
+    final ObjectNode o = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+    final BsonDocument bsonDocument = document.toBsonDocument(BsonDocument.class, Bson.DEFAULT_CODEC_REGISTRY);
+    try (BsonReader reader = new BsonDocumentReader(bsonDocument)) {
+      reader.readStartDocument();
+      while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+        final var fieldName = reader.readName();
+        final var fieldType = reader.getCurrentBsonType();
+
+        switch (fieldType) {
+          case INT32 -> o.put(fieldName, reader.readInt32());
+          case DOUBLE -> o.put(fieldName, reader.readDouble());
+          case DATE_TIME -> o.put(fieldName, DataTypeUtils.toISO8601String(reader.readDateTime()));
+          case STRING -> o.put(fieldName, reader.readString());
+          case OBJECT_ID -> o.put(fieldName, reader.readObjectId().toString());
+          case DOCUMENT -> {
+            reader.skipValue();
+            o.put(fieldName, ((Document) document.get(fieldName)).toJson());
+          }
+          case ARRAY -> {
+            reader.skipValue();
+            o.put(fieldName, document.get(fieldName).toString());
+          }
+          default -> reader.skipValue();
+        }
+
+        if (columnNames.contains(fieldName + "_aibyte_transform")) {
+          o.put(fieldName, o.get(fieldName).asText());
+        }
+      }
+      reader.readEndDocument();
+    }
+    return o;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.db.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.db.DataTypeUtils;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonJavaScriptWithScope;
+import org.bson.BsonNull;
+import org.bson.BsonUndefined;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class MongoUtilsTest {
+
+  private static final ObjectId OBJECT_ID = new ObjectId("61531c7d8c4a4f5b2a9d0e01");
+  private static final Date DATE = new Date(1632836733000L);
+
+  @Test
+  void testToJsonNode() {
+    final Document document = new Document("_id", OBJECT_ID)
+        .append("boolean", true)
+        .append("int32", 1)
+        .append("int64", 2L)
+        .append("double", 3.5)
+        .append("decimal128", new Decimal128(4))
+        .append("date", DATE)
+        .append("binary", new BsonBinary(new byte[] {1, 2}))
+        .append("string", "text")
+        .append("null", null)
+        .append("undefined", new BsonUndefined())
+        .append("javascript_with_scope", new BsonJavaScriptWithScope("x", new BsonDocument("y", new BsonNull())))
+        .append("after_scope", "after")
+        .append("document", new Document("nested_string", "nested").append("nested_null", null).append("nested_int", 5))
+        .append("array", Arrays.asList(1, "two", null, new Document("three", 3), List.of(4)));
+
+    final ObjectNode expected = (ObjectNode) Jsons.jsonNode(Collections.emptyMap());
+    expected.put("_id", OBJECT_ID.toString());
+    expected.put("boolean", true);
+    expected.put("int32", 1);
+    expected.put("int64", 2L);
+    expected.put("double", 3.5);
+    expected.put("decimal128", 4.0);
+    expected.put("date", DataTypeUtils.toISO8601String(DATE.getTime()));
+    expected.put("binary", new byte[] {1, 2});
+    expected.put("string", "text");
+    expected.put("javascript_with_scope", "x");
+    expected.put("after_scope", "after");
+    // null values are left out of documents but keep their position in arrays.
+    expected.set("document", Jsons.deserialize("{\"nested_string\": \"nested\", \"nested_int\": 5}"));
+    expected.set("array", Jsons.deserialize("[1, \"two\", null, {\"three\": 3}, [4]]"));
+
+    assertEquals(expected, MongoUtils.toJsonNode(toRaw(document), Collections.emptySet()));
+  }
+
+  @Test
+  void testToJsonNodeWithTransformedFields() {
+    final Document document = new Document("number", 1)
+        .append("document", new Document("a", 1))
+        .append("other", 2);
+
+    final Set<String> transformedFields = MongoUtils.getTransformedFields(List.of("number_aibyte_transform", "document_aibyte_transform", "other"));
+
+    assertEquals(Set.of("number", "document"), transformedFields);
+    assertEquals(Jsons.deserialize("{\"number\": \"1\", \"document\": \"{\\\"a\\\":1}\", \"other\": 2}"),
+        MongoUtils.toJsonNode(toRaw(document), transformedFields));
+  }
+
+  private static RawBsonDocument toRaw(final Document document) {
+    return new RawBsonDocument(document, new DocumentCodec());
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.local_file;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Preconditions;
+
+/**
+ * Options shared by destinations that write files to the local mount: how large the write buffer
+ * is, whether output is compressed, and the size at which a stream's output rolls over to a new
+ * part file.
+ */
+public class LocalFileWriterConfig {
+
+  public static final String COMPRESSION_FIELD = "compression";
+  public static final String BUFFER_SIZE_KB_FIELD = "buffer_size_kb";
+  public static final String MAX_FILE_SIZE_MB_FIELD = "max_file_size_mb";
+
+  public static final int DEFAULT_BUFFER_SIZE_KB = 1024;
+  public static final int MIN_BUFFER_SIZE_KB = 8;
+  public static final int MAX_BUFFER_SIZE_KB = 64 * 1024;
+
+  public static final LocalFileWriterConfig DEFAULT = new LocalFileWriterConfig(Compression.NONE, DEFAULT_BUFFER_SIZE_KB * 1024, 0);
+
+  public enum Compression {
+
+    NONE(""),
+    GZIP(".gz"),
+    ZSTD(".zst");
+
+    private final String fileExtension;
+
+    Compression(final String fileExtension) {
+      this.fileExtension = fileExtension;
+    }
+
+    public String getFileExtension() {
+      return fileExtension;
+    }
+
+  }
+
+  private final Compression compression;
+  private final int bufferSizeBytes;
+  private final long maxFileSizeBytes;
+
+  public LocalFileWriterConfig(final Compression compression, final int bufferSizeBytes, final long maxFileSizeBytes) {
+    Preconditions.checkArgument(bufferSizeBytes > 0, "Buffer size must be positive.");
+    Preconditions.checkArgument(maxFileSizeBytes >= 0, "Max file size must not be negative.");
+    this.compression = compression;
+    this.bufferSizeBytes = bufferSizeBytes;
+    this.maxFileSizeBytes = maxFileSizeBytes;
+  }
+
+  public static LocalFileWriterConfig fromJson(final JsonNode config) {
+    final Compression compression = config.hasNonNull(COMPRESSION_FIELD)
+        ? Compression.valueOf(config.get(COMPRESSION_FIELD).asText().toUpperCase())
+        : Compression.NONE;
+    final long bufferSizeKb = config.hasNonNull(BUFFER_SIZE_KB_FIELD) ? config.get(BUFFER_SIZE_KB_FIELD).asLong() : DEFAULT_BUFFER_SIZE_KB;
+    Preconditions.checkArgument(bufferSizeKb >= MIN_BUFFER_SIZE_KB && bufferSizeKb <= MAX_BUFFER_SIZE_KB,
+        "%s must be between %s and %s, but was %s.", BUFFER_SIZE_KB_FIELD, MIN_BUFFER_SIZE_KB, MAX_BUFFER_SIZE_KB, bufferSizeKb);
+    final long maxFileSizeMb = config.hasNonNull(MAX_FILE_SIZE_MB_FIELD) ? config.get(MAX_FILE_SIZE_MB_FIELD).asLong() : 0;
+    return new LocalFileWriterConfig(compression, (int) (bufferSizeKb * 1024), maxFileSizeMb * 1024 * 1024);
+  }
+
+  public Compression getCompression() {
+    return compression;
+  }
+
+  public int getBufferSizeBytes() {
+    return bufferSizeBytes;
+  }
+
+  /**
+   * @return size in bytes after which output rolls over to a new part file, or 0 if output is never
+   *         split.
+   */
+  public long getMaxFileSizeBytes() {
+    return maxFileSizeBytes;
+  }
+
+  public boolean isRotationEnabled() {
+    return maxFileSizeBytes > 0;
+  }
+
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.local_file;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.CountingOutputStream;
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig.Compression;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes one stream's output to temporary files in a local directory through a large buffer,
+ * optionally compressed. Nothing is visible under the final names until {@link #commit()}.
+ *
+ * When rotation is disabled the output is a single file named {@code <finalBaseName><extension>},
+ * which is the layout these destinations have always produced. When rotation is enabled the output
+ * is split into {@code <finalBaseName>_00000<extension>}, {@code <finalBaseName>_00001<extension>},
+ * ... each roughly {@link LocalFileWriterConfig#getMaxFileSizeBytes()} bytes, so downstream tools can
+ * read them in parallel. Callers check {@link #rotateIfNeeded()} at record boundaries so that a
+ * record never spans two files.
+ */
+public class RotatingFileWriter implements Closeable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RotatingFileWriter.class);
+
+  private final Path directory;
+  private final String tmpBaseName;
+  private final String finalBaseName;
+  private final String extension;
+  private final LocalFileWriterConfig config;
+  private final boolean append;
+  private final List<Path> tmpParts = new ArrayList<>();
+
+  private boolean appendsToExistingFile = false;
+  private CountingOutputStream countingStream;
+  private Writer writer;
+
+  /**
+   * @param directory directory in which both the temporary and final files are written.
+   * @param tmpBaseName file name, without extension, of the temporary output.
+   * @param finalBaseName file name, without extension, of the committed output.
+   * @param extension format extension including the leading dot, e.g. ".csv". The compression
+   *        extension is appended to it.
+   * @param config buffer, compression and rotation options.
+   * @param append whether committed output is added to what a previous sync wrote instead of
+   *        replacing it.
+   */
+  public RotatingFileWriter(final Path directory,
+                            final String tmpBaseName,
+                            final String finalBaseName,
+                            final String extension,
+                            final LocalFileWriterConfig config,
+                            final boolean append)
+      throws IOException {
+    this.directory = directory;
+    this.tmpBaseName = tmpBaseName;
+    this.finalBaseName = finalBaseName;
+    this.extension = extension + config.getCompression().getFileExtension();
+    this.config = config;
+    this.append = append;
+
+    openPart();
+  }
+
+  /**
+   * @return the writer for the current part. Only valid until the next call to
+   *         {@link #rotateIfNeeded()} returns true.
+   */
+  public Writer getWriter() {
+    return writer;
+  }
+
+  /**
+   * @return true if the current part continues a file written by a previous sync (only possible in
+   *         append mode without rotation). CSV writers use this to skip writing a second header.
+   */
+  public boolean appendsToExistingFile() {
+    return appendsToExistingFile && tmpParts.size() == 1;
+  }
+
+  /**
+   * Closes the current part and opens a new one if it has reached the maximum file size.
+   *
+   * @return true if a new part was opened, in which case {@link #getWriter()} returns a new writer.
+   */
+  public boolean rotateIfNeeded() throws IOException {
+    if (!config.isRotationEnabled() || countingStream.getCount() < config.getMaxFileSizeBytes()) {
+      return false;
+    }
+    writer.close();
+    openPart();
+    return true;
+  }
+
+  public void flush() throws IOException {
+    writer.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    writer.close();
+  }
+
+  /**
+   * Closes the writer and moves the temporary parts to their final names.
+   *
+   * @return the committed files.
+   */
+  public List<Path> commit() throws IOException {
+    close();
+    final List<Path> committed = new ArrayList<>();
+    if (!config.isRotationEnabled()) {
+      final Path finalPath = directory.resolve(finalBaseName + extension);
+      Files.move(tmpParts.get(0), finalPath, StandardCopyOption.REPLACE_EXISTING);
+      committed.add(finalPath);
+      return committed;
+    }
+
+    final List<Integer> existingIndexes = listExistingPartIndexes();
+    int nextIndex = 0;
+    if (append) {
+      nextIndex = existingIndexes.stream().mapToInt(i -> i + 1).max().orElse(0);
+    } else {
+      for (final int index : existingIndexes) {
+        Files.deleteIfExists(finalPartPath(index));
+      }
+      Files.deleteIfExists(directory.resolve(finalBaseName + extension));
+    }
+    for (final Path tmpPart : tmpParts) {
+      final Path finalPath = finalPartPath(nextIndex++);
+      Files.move(tmpPart, finalPath, StandardCopyOption.REPLACE_EXISTING);
+      committed.add(finalPath);
+    }
+    return committed;
+  }
+
+  /**
+   * Deletes any temporary parts that were not committed.
+   */
+  public void cleanUp() throws IOException {
+    for (final Path tmpPart : tmpParts) {
+      Files.deleteIfExists(tmpPart);
+    }
+  }
+
+  @VisibleForTesting
+  List<Path> getTmpParts() {
+    return tmpParts;
+  }
+
+  private void openPart() throws IOException {
+    final Path tmpPath;
+    if (config.isRotationEnabled()) {
+      tmpPath = directory.resolve(String.format("%s_%05d%s", tmpBaseName, tmpParts.size(), extension));
+    } else {
+      tmpPath = directory.resolve(tmpBaseName + extension);
+      final Path finalPath = directory.resolve(finalBaseName + extension);
+      // gzip and zstd both allow concatenated streams, so appending a new compressed stream to a copy
+      // of the previous output still yields a readable file.
+      if (append && Files.exists(finalPath)) {
+        Files.copy(finalPath, tmpPath, StandardCopyOption.REPLACE_EXISTING);
+        appendsToExistingFile = true;
+      }
+    }
+    tmpParts.add(tmpPath);
+
+    final OutputStream fileStream = new BufferedOutputStream(new FileOutputStream(tmpPath.toFile(), appendsToExistingFile), config.getBufferSizeBytes());
+    countingStream = new CountingOutputStream(fileStream);
+    writer = new OutputStreamWriter(compress(countingStream, config.getCompression()), StandardCharsets.UTF_8);
+    LOGGER.debug("Opened output part {}", tmpPath);
+  }
+
+  private OutputStream compress(final OutputStream outputStream, final Compression compression) throws IOException {
+    return switch (compression) {
+      case NONE -> outputStream;
+      case GZIP -> new GZIPOutputStream(outputStream, config.getBufferSizeBytes());
+      case ZSTD -> new ZstdCompressorOutputStream(outputStream);
+    };
+  }
+
+  private Path finalPartPath(final int index) {
+    return directory.resolve(String.format("%s_%05d%s", finalBaseName, index, extension));
+  }
+
+  private List<Integer> listExistingPartIndexes() throws IOException {
+    final Pattern partPattern = Pattern.compile(Pattern.quote(finalBaseName) + "_(\\d+)" + Pattern.quote(extension));
+    try (final Stream<Path> files = Files.list(directory)) {
+      return files
+          .map(path -> partPattern.matcher(path.getFileName().toString()))
+          .filter(Matcher::matches)
+          .map(matcher -> Integer.parseInt(matcher.group(1)))
+          .collect(Collectors.toList());
+    }
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.local_file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig.Compression;
+import org.junit.jupiter.api.Test;
+
+class LocalFileWriterConfigTest {
+
+  @Test
+  void testDefaults() {
+    final LocalFileWriterConfig config = LocalFileWriterConfig.fromJson(Jsons.deserialize("{}"));
+
+    assertEquals(Compression.NONE, config.getCompression());
+    assertEquals(1024 * 1024, config.getBufferSizeBytes());
+    assertEquals(0, config.getMaxFileSizeBytes());
+  }
+
+  @Test
+  void testFromJson() {
+    final LocalFileWriterConfig config = LocalFileWriterConfig.fromJson(Jsons.deserialize(
+        "{\"compression\": \"gzip\", \"buffer_size_kb\": 65536, \"max_file_size_mb\": 4096}"));
+
+    assertEquals(Compression.GZIP, config.getCompression());
+    assertEquals(64 * 1024 * 1024, config.getBufferSizeBytes());
+    assertEquals(4096L * 1024 * 1024, config.getMaxFileSizeBytes());
+  }
+
+  @Test
+  void testBufferSizeOutOfBounds() {
+    // 2097152 KB would overflow to a negative int number of bytes.
+    assertThrows(IllegalArgumentException.class, () -> LocalFileWriterConfig.fromJson(Jsons.deserialize("{\"buffer_size_kb\": 2097152}")));
+    assertThrows(IllegalArgumentException.class, () -> LocalFileWriterConfig.fromJson(Jsons.deserialize("{\"buffer_size_kb\": 65537}")));
+    assertThrows(IllegalArgumentException.class, () -> LocalFileWriterConfig.fromJson(Jsons.deserialize("{\"buffer_size_kb\": 7}")));
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.local_file;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig.Compression;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RotatingFileWriterTest {
+
+  private static final String TMP_NAME = "_airbyte_tmp_users";
+  private static final String FINAL_NAME = "_airbyte_raw_users";
+
+  private Path directory;
+
+  @BeforeEach
+  void setup() throws IOException {
+    directory = Files.createTempDirectory("rotating_file_writer");
+  }
+
+  @Test
+  void testSingleFileOverwrite() throws IOException {
+    Files.writeString(directory.resolve(FINAL_NAME + ".jsonl"), "old\n");
+
+    final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".jsonl", LocalFileWriterConfig.DEFAULT, false);
+    writer.getWriter().write("new\n");
+    final List<Path> committed = writer.commit();
+    writer.cleanUp();
+
+    assertEquals(List.of(directory.resolve(FINAL_NAME + ".jsonl")), committed);
+    assertEquals("new\n", Files.readString(committed.get(0)));
+    assertEquals(Set.of(FINAL_NAME + ".jsonl"), listFileNames());
+  }
+
+  @Test
+  void testSingleFileAppend() throws IOException {
+    Files.writeString(directory.resolve(FINAL_NAME + ".jsonl"), "old\n");
+
+    final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".jsonl", LocalFileWriterConfig.DEFAULT, true);
+    assertTrue(writer.appendsToExistingFile());
+    writer.getWriter().write("new\n");
+    writer.commit();
+
+    assertEquals("old\nnew\n", Files.readString(directory.resolve(FINAL_NAME + ".jsonl")));
+  }
+
+  @Test
+  void testGzipAppendProducesReadableFile() throws IOException {
+    final LocalFileWriterConfig config = new LocalFileWriterConfig(Compression.GZIP, 64 * 1024, 0);
+    for (final String line : List.of("first\n", "second\n")) {
+      final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".jsonl", config, true);
+      writer.getWriter().write(line);
+      writer.commit();
+    }
+
+    try (final InputStream in = new GZIPInputStream(Files.newInputStream(directory.resolve(FINAL_NAME + ".jsonl.gz")))) {
+      assertEquals("first\nsecond\n", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void testRotation() throws IOException {
+    // rotate after every 10 bytes.
+    final LocalFileWriterConfig config = new LocalFileWriterConfig(Compression.NONE, 1024, 10);
+    final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".csv", config, false);
+    int rotations = 0;
+    for (int i = 0; i < 5; i++) {
+      if (writer.rotateIfNeeded()) {
+        rotations++;
+      }
+      writer.getWriter().write("0123456789");
+      writer.flush();
+    }
+    final List<Path> committed = writer.commit();
+
+    assertEquals(4, rotations);
+    assertEquals(5, committed.size());
+    assertEquals(directory.resolve(FINAL_NAME + "_00000.csv"), committed.get(0));
+    assertEquals(directory.resolve(FINAL_NAME + "_00004.csv"), committed.get(4));
+    for (final Path part : committed) {
+      assertEquals("0123456789", Files.readString(part));
+    }
+  }
+
+  @Test
+  void testRotationAppendContinuesNumbering() throws IOException {
+    final LocalFileWriterConfig config = new LocalFileWriterConfig(Compression.NONE, 1024, 10);
+    Files.writeString(directory.resolve(FINAL_NAME + "_00000.csv"), "old");
+    Files.writeString(directory.resolve(FINAL_NAME + "_00001.csv"), "old");
+
+    final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".csv", config, true);
+    assertFalse(writer.appendsToExistingFile());
+    writer.getWriter().write("new");
+    final List<Path> committed = writer.commit();
+
+    assertEquals(List.of(directory.resolve(FINAL_NAME + "_00002.csv")), committed);
+    assertEquals(Set.of(FINAL_NAME + "_00000.csv", FINAL_NAME + "_00001.csv", FINAL_NAME + "_00002.csv"), listFileNames());
+  }
+
+  @Test
+  void testRotationOverwriteRemovesOldParts() throws IOException {
+    final LocalFileWriterConfig config = new LocalFileWriterConfig(Compression.NONE, 1024, 10);
+    Files.writeString(directory.resolve(FINAL_NAME + "_00000.csv"), "old");
+    Files.writeString(directory.resolve(FINAL_NAME + "_00001.csv"), "old");
+
+    final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".csv", config, false);
+    writer.getWriter().write("new");
+    writer.commit();
+
+    assertEquals(Set.of(FINAL_NAME + "_00000.csv"), listFileNames());
+    assertEquals("new", Files.readString(directory.resolve(FINAL_NAME + "_00000.csv")));
+  }
+
+  @Test
+  void testCleanUpRemovesTmpParts() throws IOException {
+    final RotatingFileWriter writer = new RotatingFileWriter(directory, TMP_NAME, FINAL_NAME, ".csv", LocalFileWriterConfig.DEFAULT, false);
+    writer.getWriter().write("data");
+    writer.close();
+    writer.cleanUp();
+
+    assertEquals(Set.of(), listFileNames());
+  }
+
+  private Set<String> listFileNames() throws IOException {
+    return Files.list(directory).map(path -> path.getFileName().toString()).collect(Collectors.toSet());
+  }
+
+}
@@ -11,13 +11,15 @@ import io.airbyte.commons.util.CompositeIterator;
 import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.integrations.debezium.internals.AirbyteFileOffsetBackingStore;
 import io.airbyte.integrations.debezium.internals.AirbyteSchemaHistoryStorage;
+import io.airbyte.integrations.debezium.internals.ChangeEventWithMetadata;
 import io.airbyte.integrations.debezium.internals.DebeziumEventUtils;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordIterator;
 import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
+import io.airbyte.integrations.debezium.internals.DebeziumStateDecoratingIterator;
 import io.airbyte.integrations.debezium.internals.FilteredFileDatabaseHistory;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
-import io.debezium.engine.ChangeEvent;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.Iterator;
@@ -26,6 +28,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,25 +46,50 @@ public class AirbyteDebeziumHandler {
    * {@link io.debezium.config.CommonConnectorConfig#DEFAULT_MAX_QUEUE_SIZE} is 8192
    */
   private static final int QUEUE_CAPACITY = 10000;
+  /**
+   * Intermediate states are emitted every this many records or this much time, whichever comes
+   * first, so that a failed sync resumes close to where it failed.
+   */
+  public static final long DEFAULT_CHECKPOINT_RECORDS = 10_000;
+  public static final Duration DEFAULT_CHECKPOINT_INTERVAL = Duration.ofMinutes(15);
 
   private final Properties connectorProperties;
   private final JsonNode config;
   private final CdcTargetPosition targetPosition;
   private final ConfiguredAirbyteCatalog catalog;
   private final boolean trackSchemaHistory;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
 
-  private final LinkedBlockingQueue<ChangeEvent<String, String>> queue;
+  private final LinkedBlockingQueue<ChangeEventWithMetadata> queue;
 
   public AirbyteDebeziumHandler(JsonNode config,
                                 CdcTargetPosition targetPosition,
                                 Properties connectorProperties,
                                 ConfiguredAirbyteCatalog catalog,
                                 boolean trackSchemaHistory) {
+    this(config, targetPosition, connectorProperties, catalog, trackSchemaHistory, DEFAULT_CHECKPOINT_RECORDS, DEFAULT_CHECKPOINT_INTERVAL);
+  }
+
+  /**
+   * @param checkpointRecords number of records after which an intermediate state is emitted. Zero
+   *        disables it.
+   * @param checkpointInterval time after which an intermediate state is emitted. Zero disables it.
+   */
+  public AirbyteDebeziumHandler(JsonNode config,
+                                CdcTargetPosition targetPosition,
+                                Properties connectorProperties,
+                                ConfiguredAirbyteCatalog catalog,
+                                boolean trackSchemaHistory,
+                                long checkpointRecords,
+                                Duration checkpointInterval) {
     this.config = config;
     this.targetPosition = targetPosition;
     this.connectorProperties = connectorProperties;
     this.catalog = catalog;
     this.trackSchemaHistory = trackSchemaHistory;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
     this.queue = new LinkedBlockingQueue<>(QUEUE_CAPACITY);
   }
 
@@ -77,7 +105,7 @@ public class AirbyteDebeziumHandler {
     publisher.start(queue);
 
     // handle state machine around pub/sub logic.
-    final AutoCloseableIterator<ChangeEvent<String, String>> eventIterator = new DebeziumRecordIterator(
+    final AutoCloseableIterator<ChangeEventWithMetadata> eventIterator = new DebeziumRecordIterator(
         queue,
         targetPosition,
         publisher::hasClosed,
@@ -89,14 +117,24 @@ public class AirbyteDebeziumHandler {
             eventIterator,
             (event) -> DebeziumEventUtils.toAirbyteMessage(event, cdcMetadataInjector, emittedAt));
 
+    final Function<Map<String, String>, String> schemaHistorySupplier = offset -> trackSchemaHistory ? schemaHistoryManager
+        .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read(offset) : null;
+
+    // emit intermediate states while the changes are read.
+    final AutoCloseableIterator<AirbyteMessage> messageIteratorWithCheckpoints = new DebeziumStateDecoratingIterator(
+        messageIterator,
+        offsetManager,
+        schemaHistorySupplier,
+        cdcStateHandler,
+        publisher::getQueuedEventCount,
+        checkpointRecords,
+        checkpointInterval);
+
     // our goal is to get the state at the time this supplier is called (i.e. after all message records
     // have been produced)
     final Supplier<AirbyteMessage> stateMessageSupplier = () -> {
-      Map<String, String> offset = offsetManager.read();
-      String dbHistory = trackSchemaHistory ? schemaHistoryManager
-          .orElseThrow(() -> new RuntimeException("Schema History Tracking is true but manager is not initialised")).read() : null;
-
-      return cdcStateHandler.saveState(offset, dbHistory);
+      final Map<String, String> offset = offsetManager.read();
+      return cdcStateHandler.saveState(offset, schemaHistorySupplier.apply(offset));
     };
 
     // wrap the supplier in an iterator so that we can concat it to the message iterator.
@@ -106,7 +144,7 @@ public class AirbyteDebeziumHandler {
     // state file. we want this so that we have a guarantee that the debezium offset file (which we use
     // to produce the state file) is up-to-date.
     final CompositeIterator<AirbyteMessage> messageIteratorWithStateDecorator =
-        AutoCloseableIterators.concatWithEagerClose(messageIterator, AutoCloseableIterators.fromIterator(stateMessageIterator));
+        AutoCloseableIterators.concatWithEagerClose(messageIteratorWithCheckpoints, AutoCloseableIterators.fromIterator(stateMessageIterator));
 
     return Collections.singletonList(messageIteratorWithStateDecorator);
   }
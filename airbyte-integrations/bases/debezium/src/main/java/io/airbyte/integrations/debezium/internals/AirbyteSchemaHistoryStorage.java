@@ -5,36 +5,89 @@
 package io.airbyte.integrations.debezium.internals;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.commons.json.Jsons;
-import io.debezium.document.Document;
-import io.debezium.document.DocumentReader;
-import io.debezium.document.DocumentWriter;
 import io.debezium.relational.history.HistoryRecord;
+import java.io.BufferedReader;
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.BoundedInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * The purpose of this class is : to , 1. Read the contents of the file {@link #path} which contains
  * the schema history at the end of the sync so that it can be saved in state for future syncs.
- * Check {@link #read()} 2. Write the saved content back to the file {@link #path} at the beginning
- * of the sync so that debezium can function smoothly. Check {@link #persist(Optional<JsonNode>)}.
- * To understand more about file, please refer {@link FilteredFileDatabaseHistory}
+ * Check {@link #read(Map)} 2. Write the saved content back to the file {@link #path} at the
+ * beginning of the sync so that debezium can function smoothly. Check
+ * {@link #persist(Optional<JsonNode>)}. To understand more about file, please refer
+ * {@link FilteredFileDatabaseHistory}
+ *
+ * The history only grows: every DDL statement and every snapshot appends to it. To keep the state
+ * from growing with it, {@link #read(Map)} compacts the history before it is saved, and compresses
+ * it once it gets large. Both forms are accepted by {@link #persist(Optional<JsonNode>)}.
  */
 public class AirbyteSchemaHistoryStorage {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(AirbyteSchemaHistoryStorage.class);
+
+  // histories larger than this are saved gzipped and base64 encoded.
+  @VisibleForTesting
+  static final long COMPRESSION_THRESHOLD_BYTES = 1024 * 1024;
+  // history records are JSON objects, while base64 encoded gzip data always starts with these
+  // characters (the gzip magic bytes), so the two forms can be told apart.
+  private static final String GZIP_BASE64_PREFIX = "H4sI";
+
+  private static final String IDENTIFIER = "(?:`[^`]+`|[\\w$]+)";
+  private static final String TABLE_NAME = IDENTIFIER + "(?:\\s*\\.\\s*" + IDENTIFIER + ")?";
+  private static final Pattern TABLE_NAME_PATTERN = Pattern.compile(TABLE_NAME);
+  private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("`([^`]+)`|([\\w$]+)");
+  private static final Pattern CREATE_TABLE = Pattern.compile(
+      "CREATE\\s+TABLE\\s+(IF\\s+NOT\\s+EXISTS\\s+)?(" + TABLE_NAME + ")\\s*\\(.*",
+      Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+  private static final Pattern ALTER_TABLE = Pattern.compile(
+      "ALTER\\s+TABLE\\s+(" + TABLE_NAME + ")\\s.*",
+      Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+  private static final Pattern DROP_TABLE = Pattern.compile(
+      "DROP\\s+TABLE\\s+(?:IF\\s+EXISTS\\s+)?(" + TABLE_NAME + "(?:\\s*,\\s*" + TABLE_NAME + ")*)",
+      Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+  private static final Comparator<String> BINLOG_FILE_ORDER = Comparator.comparingInt(String::length)
+      .thenComparing(Comparator.naturalOrder());
+  // statements whose outcome depends on another table, or that move a table's definition around.
+  private static final Pattern NOT_SELF_CONTAINED = Pattern.compile("\\b(?:RENAME|LIKE|SELECT)\\b", Pattern.CASE_INSENSITIVE);
+
   private final Path path;
   private static final Charset UTF8 = StandardCharsets.UTF_8;
-  private final DocumentReader reader = DocumentReader.defaultReader();
-  private final DocumentWriter writer = DocumentWriter.defaultWriter();
 
   public AirbyteSchemaHistoryStorage(final Path path) {
     this.path = path;
@@ -47,24 +100,135 @@ public class AirbyteSchemaHistoryStorage {
   /**
    * This implementation is kind of similar to
    * {@link io.debezium.relational.history.FileDatabaseHistory#recoverRecords(Consumer)}
+   *
+   * The file is read twice, one line at a time: once to find the records that are superseded by a
+   * later record (see {@link #isSuperseded(HistoryEntry, int, Map, Set)}), then to copy the others.
+   * Debezium may be appending to the file while it is read during a sync, so only the bytes written
+   * when the read started are read, and a last line that is not completely written yet is left out.
+   *
+   * The history can run ahead of the offset it is saved with, as debezium records schema changes as
+   * soon as it reads them, before the events that precede them are handed over. When resuming from
+   * the offset debezium ignores the records after it, so only records at or before the offset can
+   * supersede earlier ones.
+   *
+   * @param offset the debezium offset the history is saved with, as read from the offset file.
    */
-  public String read() {
-    StringBuilder fileAsString = new StringBuilder();
+  public String read(final Map<String, String> offset) {
     try {
-      for (String line : Files.readAllLines(path, UTF8)) {
-        if (line != null && !line.isEmpty()) {
-          Document record = reader.read(line);
-          String recordAsString = writer.write(record);
-          fileAsString.append(recordAsString);
-          fileAsString.append(System.lineSeparator());
+      final Optional<JsonNode> offsetPosition = offset.size() == 1
+          ? Jsons.tryDeserialize(offset.values().iterator().next())
+          : Optional.empty();
+      final long size = Files.size(path);
+      final List<HistoryEntry> entries = new ArrayList<>();
+      final Map<String, Integer> lastDefinitions = new HashMap<>();
+      final Set<String> referencedIdentifiers = new HashSet<>();
+      boolean hasUnreadableLine = false;
+      try (final BufferedReader historyReader = openFile(size)) {
+        String line;
+        while ((line = historyReader.readLine()) != null) {
+          if (line.isEmpty()) {
+            continue;
+          }
+          if (hasUnreadableLine) {
+            throw new IllegalStateException("Unable to parse a record of the schema history at " + path);
+          }
+          final Optional<JsonNode> record = Jsons.tryDeserialize(line);
+          if (record.isEmpty()) {
+            // only acceptable for the last line, which may still be being written.
+            hasUnreadableLine = true;
+            continue;
+          }
+          final HistoryEntry entry = HistoryEntry.of(record.get());
+          if (entry.isDefinition && offsetPosition.isPresent()
+              && isAtOrBefore(record.get().get(HistoryRecord.Fields.POSITION), offsetPosition.get())) {
+            for (final String table : entry.tables.keySet()) {
+              lastDefinitions.put(table, entries.size());
+            }
+          }
+          referencedIdentifiers.addAll(entry.referencedIdentifiers);
+          entries.add(entry);
         }
       }
-      return fileAsString.toString();
-    } catch (IOException e) {
+
+      final boolean compress = size > COMPRESSION_THRESHOLD_BYTES;
+      final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      final StringWriter plain = new StringWriter();
+      int kept = 0;
+      try (final BufferedReader historyReader = openFile(size);
+          final Writer historyWriter = compress
+              ? new OutputStreamWriter(new GZIPOutputStream(compressed), UTF8)
+              : plain) {
+        int index = 0;
+        String line;
+        while (index < entries.size() && (line = historyReader.readLine()) != null) {
+          if (line.isEmpty()) {
+            continue;
+          }
+          if (!isSuperseded(entries.get(index), index, lastDefinitions, referencedIdentifiers)) {
+            historyWriter.append(line);
+            historyWriter.append(System.lineSeparator());
+            kept++;
+          }
+          index++;
+        }
+      }
+      LOGGER.info("Schema history compacted from {} to {} records", entries.size(), kept);
+      return compress ? Base64.getEncoder().encodeToString(compressed.toByteArray()) : plain.toString();
+    } catch (final IOException e) {
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * A record that only touches tables that are defined from scratch (created, dropped or, for
+   * connectors that save table definitions in the history, redefined) by a later record is not needed
+   * to recover the schema. Records debezium cannot attribute to tables, such as database level
+   * statements, are always kept, and so are the records of any table another kept statement refers
+   * to.
+   */
+  private static boolean isSuperseded(final HistoryEntry entry,
+                                      final int index,
+                                      final Map<String, Integer> lastDefinitions,
+                                      final Set<String> referencedIdentifiers) {
+    if (entry.tables.isEmpty()) {
+      return false;
+    }
+    for (final Map.Entry<String, String> table : entry.tables.entrySet()) {
+      if (referencedIdentifiers.contains(table.getValue()) || lastDefinitions.getOrDefault(table.getKey(), -1) <= index) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Compares the position of a history record to an offset, for the connectors that track the schema
+   * history: by binlog file and position for MySQL, and by log sequence number for SQL Server. Any
+   * other position is treated as after the offset, so that it does not supersede anything.
+   */
+  @VisibleForTesting
+  static boolean isAtOrBefore(final JsonNode position, final JsonNode offset) {
+    if (position == null || !position.isObject()) {
+      return false;
+    }
+    if (position.hasNonNull("file") && position.hasNonNull("pos") && offset.hasNonNull("file") && offset.hasNonNull("pos")) {
+      // binlog files are numbered with a fixed width suffix that only grows longer once it overflows.
+      final int fileComparison = BINLOG_FILE_ORDER.compare(position.get("file").asText(), offset.get("file").asText());
+      return fileComparison < 0 || (fileComparison == 0 && position.get("pos").asLong() <= offset.get("pos").asLong());
+    }
+    for (final String lsn : List.of("commit_lsn", "change_lsn")) {
+      if (position.hasNonNull(lsn) && offset.hasNonNull(lsn)) {
+        // log sequence numbers are fixed width hexadecimal strings.
+        return position.get(lsn).asText().compareTo(offset.get(lsn).asText()) <= 0;
+      }
+    }
+    return false;
+  }
+
+  private BufferedReader openFile(final long size) throws IOException {
+    return new BufferedReader(new InputStreamReader(new BoundedInputStream(Files.newInputStream(path), size), UTF8));
+  }
+
   /**
    * This implementation is kind of similar to
    * {@link io.debezium.relational.history.FileDatabaseHistory#start()}
@@ -108,23 +272,17 @@ public class AirbyteSchemaHistoryStorage {
    * This implementation is kind of similar to
    * {@link io.debezium.relational.history.FileDatabaseHistory#storeRecord(HistoryRecord)}
    *
-   * @param fileAsString Represents the contents of the file saved in state from previous syncs
+   * @param fileAsString Represents the contents of the file saved in state from previous syncs, as
+   *        returned by {@link #read(Map)}.
    */
   private void writeToFile(String fileAsString) {
-    try {
-      String[] split = fileAsString.split(System.lineSeparator());
-      for (String element : split) {
-        Document read = reader.read(element);
-        String line = writer.write(read);
-
-        try (BufferedWriter historyWriter = Files
-            .newBufferedWriter(path, StandardOpenOption.APPEND)) {
-          try {
-            historyWriter.append(line);
-            historyWriter.newLine();
-          } catch (IOException e) {
-            throw new RuntimeException(e);
-          }
+    try (final BufferedReader historyReader = new BufferedReader(openHistory(fileAsString));
+        final BufferedWriter historyWriter = Files.newBufferedWriter(path, UTF8)) {
+      String line;
+      while ((line = historyReader.readLine()) != null) {
+        if (!line.isEmpty()) {
+          historyWriter.append(line);
+          historyWriter.newLine();
         }
       }
     } catch (IOException e) {
@@ -132,6 +290,14 @@ public class AirbyteSchemaHistoryStorage {
     }
   }
 
+  private static Reader openHistory(final String fileAsString) throws IOException {
+    if (fileAsString.startsWith(GZIP_BASE64_PREFIX)) {
+      final byte[] compressed = Base64.getDecoder().decode(fileAsString);
+      return new InputStreamReader(new GZIPInputStream(new ByteArrayInputStream(compressed)), UTF8);
+    }
+    return new StringReader(fileAsString);
+  }
+
   public static AirbyteSchemaHistoryStorage initializeDBHistory(Optional<JsonNode> schemaHistory) {
     final Path dbHistoryWorkingDir;
     try {
@@ -146,4 +312,99 @@ public class AirbyteSchemaHistoryStorage {
     return schemaHistoryManager;
   }
 
+  /**
+   * What compaction needs to know about a history record: the tables it touches, whether it defines
+   * them from scratch, and the identifiers it refers to if it cannot be attributed to tables.
+   */
+  private static class HistoryEntry {
+
+    // the qualified names of the tables, mapped to their lower case table identifiers.
+    private final Map<String, String> tables;
+    private final boolean isDefinition;
+    private final Set<String> referencedIdentifiers;
+
+    private HistoryEntry(final Map<String, String> tables, final boolean isDefinition, final Set<String> referencedIdentifiers) {
+      this.tables = tables;
+      this.isDefinition = isDefinition;
+      this.referencedIdentifiers = referencedIdentifiers;
+    }
+
+    private static HistoryEntry of(final JsonNode record) {
+      // connectors that save table definitions in the history record the complete table on every
+      // change, so each record defines its tables from scratch.
+      final JsonNode tableChanges = record.get(HistoryRecord.Fields.TABLE_CHANGES);
+      if (tableChanges != null && tableChanges.isArray() && tableChanges.size() > 0) {
+        final Map<String, String> tables = new HashMap<>();
+        for (final JsonNode tableChange : tableChanges) {
+          if (!tableChange.hasNonNull("id")) {
+            return kept(Collections.emptySet());
+          }
+          final String id = tableChange.get("id").asText();
+          tables.put(id, id.toLowerCase(Locale.ROOT));
+        }
+        return new HistoryEntry(tables, true, Collections.emptySet());
+      }
+
+      final JsonNode ddlNode = record.get(HistoryRecord.Fields.DDL_STATEMENTS);
+      if (ddlNode == null || ddlNode.isNull()) {
+        return kept(Collections.emptySet());
+      }
+      final String databaseName = record.hasNonNull(HistoryRecord.Fields.DATABASE_NAME)
+          ? record.get(HistoryRecord.Fields.DATABASE_NAME).asText()
+          : "";
+      String ddl = ddlNode.asText().strip();
+      if (ddl.endsWith(";")) {
+        ddl = ddl.substring(0, ddl.length() - 1);
+      }
+      if (ddl.contains(";") || NOT_SELF_CONTAINED.matcher(ddl).find()) {
+        return kept(identifiersIn(ddl));
+      }
+
+      final Matcher create = CREATE_TABLE.matcher(ddl);
+      if (create.matches()) {
+        // CREATE TABLE IF NOT EXISTS does nothing if the table exists, so it does not replace it.
+        return new HistoryEntry(tableOf(create.group(2), databaseName), create.group(1) == null, Collections.emptySet());
+      }
+      final Matcher alter = ALTER_TABLE.matcher(ddl);
+      if (alter.matches()) {
+        return new HistoryEntry(tableOf(alter.group(1), databaseName), false, Collections.emptySet());
+      }
+      final Matcher drop = DROP_TABLE.matcher(ddl);
+      if (drop.matches()) {
+        final Map<String, String> tables = new HashMap<>();
+        final Matcher names = TABLE_NAME_PATTERN.matcher(drop.group(1));
+        while (names.find()) {
+          tables.putAll(tableOf(names.group(), databaseName));
+        }
+        return new HistoryEntry(tables, true, Collections.emptySet());
+      }
+      return kept(identifiersIn(ddl));
+    }
+
+    private static HistoryEntry kept(final Set<String> referencedIdentifiers) {
+      return new HistoryEntry(Collections.emptyMap(), false, referencedIdentifiers);
+    }
+
+    private static Map<String, String> tableOf(final String name, final String databaseName) {
+      final List<String> parts = new ArrayList<>();
+      final Matcher identifiers = IDENTIFIER_PATTERN.matcher(name);
+      while (identifiers.find()) {
+        parts.add(identifiers.group(1) != null ? identifiers.group(1) : identifiers.group(2));
+      }
+      final String database = parts.size() > 1 ? parts.get(0) : databaseName;
+      final String table = parts.get(parts.size() - 1);
+      return Map.of(database + "." + table, table.toLowerCase(Locale.ROOT));
+    }
+
+    private static Set<String> identifiersIn(final String ddl) {
+      final Set<String> identifiers = new HashSet<>();
+      final Matcher matcher = IDENTIFIER_PATTERN.matcher(ddl);
+      while (matcher.find()) {
+        identifiers.add((matcher.group(1) != null ? matcher.group(1) : matcher.group(2)).toLowerCase(Locale.ROOT));
+      }
+      return identifiers;
+    }
+
+  }
+
 }
@@ -9,18 +9,20 @@ import com.google.common.annotations.VisibleForTesting;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.SyncMode;
+import io.debezium.embedded.StopConnectorException;
 import io.debezium.engine.ChangeEvent;
 import io.debezium.engine.DebeziumEngine;
 import io.debezium.engine.format.Json;
 import io.debezium.engine.spi.OffsetCommitPolicy;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.codehaus.plexus.util.StringUtils;
@@ -34,6 +36,7 @@ import org.slf4j.LoggerFactory;
 public class DebeziumRecordPublisher implements AutoCloseable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumRecordPublisher.class);
+  private static final long HAND_OVER_WAIT_SECONDS = 1;
   private final ExecutorService executor;
   private DebeziumEngine<ChangeEvent<String, String>> engine;
 
@@ -44,6 +47,7 @@ public class DebeziumRecordPublisher implements AutoCloseable {
   private final AtomicBoolean hasClosed;
   private final AtomicBoolean isClosing;
   private final AtomicReference<Throwable> thrownError;
+  private final AtomicLong queuedEventCount;
   private final CountDownLatch engineLatch;
   private final Properties properties;
   private final ConfiguredAirbyteCatalog catalog;
@@ -61,11 +65,12 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     this.hasClosed = new AtomicBoolean(false);
     this.isClosing = new AtomicBoolean(false);
     this.thrownError = new AtomicReference<>();
+    this.queuedEventCount = new AtomicLong();
     this.executor = Executors.newSingleThreadExecutor();
     this.engineLatch = new CountDownLatch(1);
   }
 
-  public void start(Queue<ChangeEvent<String, String>> queue) {
+  public void start(BlockingQueue<ChangeEventWithMetadata> queue) {
     engine = DebeziumEngine.create(Json.class)
         .using(getDebeziumProperties())
         .using(new OffsetCommitPolicy.AlwaysCommitOffsetPolicy())
@@ -75,10 +80,9 @@ public class DebeziumRecordPublisher implements AutoCloseable {
           // more on the tombstone:
           // https://debezium.io/documentation/reference/configuration/event-flattening.html
           if (e.value() != null) {
-            boolean inserted = false;
-            while (!inserted) {
-              inserted = queue.offer(e);
-            }
+            // the event is parsed here, on the engine's thread, so that the consumer does not have to.
+            handOver(queue, new ChangeEventWithMetadata(e), isClosing);
+            queuedEventCount.incrementAndGet();
           }
         })
         .using((success, message, error) -> {
@@ -92,6 +96,39 @@ public class DebeziumRecordPublisher implements AutoCloseable {
     executor.execute(engine);
   }
 
+  /**
+   * Waits for the consumer to make room in the queue rather than spinning. Once the publisher is
+   * closing, the consumer may have stopped draining the queue and the engine interrupts this thread
+   * when it gives up waiting for it. In both cases the connector is stopped cleanly instead of failing
+   * the sync: the event was not handed over, so its offset is not committed and it is read again by
+   * the next sync.
+   */
+  @VisibleForTesting
+  public static <T> void handOver(final BlockingQueue<T> queue, final T event, final AtomicBoolean isClosing) {
+    try {
+      while (!queue.offer(event, HAND_OVER_WAIT_SECONDS, TimeUnit.SECONDS)) {
+        if (isClosing.get()) {
+          throw new StopConnectorException("Publisher is closing and the queue is full, stopping before the event is handed over.");
+        }
+      }
+    } catch (InterruptedException e) {
+      if (isClosing.get()) {
+        // the interrupt is how the engine asks to stop, it is not restored so that the offsets of the
+        // events already handed over can still be flushed.
+        throw new StopConnectorException("Publisher is closing, stopping before the event is handed over.");
+      }
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * @return the number of events handed over to the queue so far.
+   */
+  public long getQueuedEventCount() {
+    return queuedEventCount.get();
+  }
+
   public boolean hasClosed() {
     return hasClosed.get();
   }
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.AbstractIterator;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Emits intermediate state messages between the records of a CDC sync, so that a sync that fails
+ * after reading a large backlog of changes does not have to read it all again. A checkpoint is due
+ * after a number of records or an amount of time, whichever comes first.
+ *
+ * The state is built from the offset debezium last committed. Debezium commits the offset of the
+ * events it has handed over to the queue, some of which may not have been emitted yet. So when a
+ * checkpoint is due, the offset is read along with the number of events queued so far, and the
+ * state is only emitted once that many records have been emitted. Offsets taken while debezium is
+ * still snapshotting are skipped: restarting from them would not resume the snapshot.
+ */
+public class DebeziumStateDecoratingIterator extends AbstractIterator<AirbyteMessage> implements AutoCloseableIterator<AirbyteMessage> {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DebeziumStateDecoratingIterator.class);
+
+  private final AutoCloseableIterator<AirbyteMessage> messageIterator;
+  private final AirbyteFileOffsetBackingStore offsetManager;
+  private final Function<Map<String, String>, String> schemaHistorySupplier;
+  private final CdcStateHandler cdcStateHandler;
+  private final LongSupplier queuedEventCount;
+  private final long checkpointRecords;
+  private final Duration checkpointInterval;
+  private final Supplier<Instant> timeSupplier;
+
+  private Map<String, String> lastCheckpointOffset;
+  private Instant lastCheckpointAt;
+  private long emittedRecords;
+  private long recordsSinceLastCheckpoint;
+  private Checkpoint pendingCheckpoint;
+
+  /**
+   * @param schemaHistorySupplier returns the schema history to save along with the given offset, or
+   *        null if the connector does not track it.
+   * @param queuedEventCount returns the number of events debezium has handed over to the queue.
+   * @param checkpointRecords number of records after which a checkpoint is due. Zero disables it.
+   * @param checkpointInterval time after which a checkpoint is due. Zero disables it.
+   */
+  public DebeziumStateDecoratingIterator(final AutoCloseableIterator<AirbyteMessage> messageIterator,
+                                         final AirbyteFileOffsetBackingStore offsetManager,
+                                         final Function<Map<String, String>, String> schemaHistorySupplier,
+                                         final CdcStateHandler cdcStateHandler,
+                                         final LongSupplier queuedEventCount,
+                                         final long checkpointRecords,
+                                         final Duration checkpointInterval) {
+    this(messageIterator, offsetManager, schemaHistorySupplier, cdcStateHandler, queuedEventCount, checkpointRecords, checkpointInterval,
+        Instant::now);
+  }
+
+  @VisibleForTesting
+  DebeziumStateDecoratingIterator(final AutoCloseableIterator<AirbyteMessage> messageIterator,
+                                  final AirbyteFileOffsetBackingStore offsetManager,
+                                  final Function<Map<String, String>, String> schemaHistorySupplier,
+                                  final CdcStateHandler cdcStateHandler,
+                                  final LongSupplier queuedEventCount,
+                                  final long checkpointRecords,
+                                  final Duration checkpointInterval,
+                                  final Supplier<Instant> timeSupplier) {
+    this.messageIterator = messageIterator;
+    this.offsetManager = offsetManager;
+    this.schemaHistorySupplier = schemaHistorySupplier;
+    this.cdcStateHandler = cdcStateHandler;
+    this.queuedEventCount = queuedEventCount;
+    this.checkpointRecords = checkpointRecords;
+    this.checkpointInterval = checkpointInterval;
+    this.timeSupplier = timeSupplier;
+    // the offset the sync started from does not need to be checkpointed again.
+    this.lastCheckpointOffset = offsetManager.read();
+    this.lastCheckpointAt = timeSupplier.get();
+  }
+
+  @Override
+  protected AirbyteMessage computeNext() {
+    // this runs before the next record is requested from the queue, so every record dequeued so far
+    // has been emitted.
+    if (pendingCheckpoint == null && isCheckpointDue()) {
+      pendingCheckpoint = takeCheckpoint();
+      recordsSinceLastCheckpoint = 0;
+      lastCheckpointAt = timeSupplier.get();
+    }
+
+    if (pendingCheckpoint != null && emittedRecords >= pendingCheckpoint.queuedEvents) {
+      final Checkpoint checkpoint = pendingCheckpoint;
+      pendingCheckpoint = null;
+      LOGGER.info("Emitting intermediate CDC state after {} records", emittedRecords);
+      return cdcStateHandler.saveState(checkpoint.offset, checkpoint.schemaHistory);
+    }
+
+    if (!messageIterator.hasNext()) {
+      return endOfData();
+    }
+    emittedRecords++;
+    recordsSinceLastCheckpoint++;
+    return messageIterator.next();
+  }
+
+  @Override
+  public void close() throws Exception {
+    messageIterator.close();
+  }
+
+  private boolean isCheckpointDue() {
+    if (recordsSinceLastCheckpoint == 0) {
+      return false;
+    }
+    final boolean recordsReached = checkpointRecords > 0 && recordsSinceLastCheckpoint >= checkpointRecords;
+    final boolean intervalReached = !checkpointInterval.isZero()
+        && Duration.between(lastCheckpointAt, timeSupplier.get()).compareTo(checkpointInterval) >= 0;
+    return recordsReached || intervalReached;
+  }
+
+  /**
+   * @return the checkpoint for the offset debezium last committed, or null if there is no new offset
+   *         that can be checkpointed.
+   */
+  private Checkpoint takeCheckpoint() {
+    final Map<String, String> offset;
+    try {
+      offset = offsetManager.read();
+    } catch (final RuntimeException e) {
+      // debezium rewrites the offset file in place, so it may be read while it is being written.
+      LOGGER.info("Could not read the debezium offset, skipping checkpoint", e);
+      return null;
+    }
+    // the queue count must be read after the offset: the offset only covers events queued before it
+    // was committed.
+    final long queuedEvents = queuedEventCount.getAsLong();
+
+    if (offset.isEmpty() || offset.equals(lastCheckpointOffset) || isSnapshotOffset(offset)) {
+      return null;
+    }
+    lastCheckpointOffset = offset;
+    return new Checkpoint(offset, schemaHistorySupplier.apply(offset), queuedEvents);
+  }
+
+  private static boolean isSnapshotOffset(final Map<String, String> offset) {
+    return offset.values().stream()
+        .map(Jsons::tryDeserialize)
+        .anyMatch(value -> value.isPresent() && value.get().has("snapshot") && value.get().get("snapshot").asBoolean());
+  }
+
+  private static class Checkpoint {
+
+    private final Map<String, String> offset;
+    private final String schemaHistory;
+    private final long queuedEvents;
+
+    private Checkpoint(final Map<String, String> offset, final String schemaHistory, final long queuedEvents) {
+      this.offset = offset;
+      this.schemaHistory = schemaHistory;
+      this.queuedEvents = queuedEvents;
+    }
+
+  }
+
+}
@@ -11,6 +11,18 @@ import io.airbyte.integrations.debezium.internals.DebeziumRecordPublisher;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.SyncMode;
+import io.debezium.embedded.StopConnectorException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.Test;
 
 class DebeziumRecordPublisherTest {
@@ -40,4 +52,69 @@ class DebeziumRecordPublisherTest {
     assertEquals(expectedWhitelist, actualWhitelist);
   }
 
+  @Test
+  public void testHandOverWaitsForRoom() throws Exception {
+    final BlockingQueue<String> queue = new LinkedBlockingQueue<>(1);
+    queue.add("first");
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> handOver = executor.submit(() -> DebeziumRecordPublisher.handOver(queue, "second", new AtomicBoolean(false)));
+
+      assertEquals("first", queue.take());
+      handOver.get(1, TimeUnit.MINUTES);
+      assertEquals("second", queue.take());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testHandOverStopsWhenClosingWithFullQueue() {
+    final BlockingQueue<String> queue = new LinkedBlockingQueue<>(1);
+    queue.add("first");
+
+    assertThrows(StopConnectorException.class, () -> DebeziumRecordPublisher.handOver(queue, "second", new AtomicBoolean(true)));
+    assertEquals(List.of("first"), new ArrayList<>(queue));
+  }
+
+  @Test
+  public void testHandOverStopsWhenInterruptedWhileClosing() throws Exception {
+    final BlockingQueue<String> queue = new LinkedBlockingQueue<>(1);
+    queue.add("first");
+    final AtomicBoolean isClosing = new AtomicBoolean(false);
+    final CountDownLatch started = new CountDownLatch(1);
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      final Future<?> handOver = executor.submit(() -> {
+        started.countDown();
+        DebeziumRecordPublisher.handOver(queue, "second", isClosing);
+      });
+      assertTrue(started.await(1, TimeUnit.MINUTES));
+
+      // mirrors the engine, which interrupts its thread when stopping takes too long.
+      isClosing.set(true);
+      executor.shutdownNow();
+
+      final ExecutionException exception = assertThrows(ExecutionException.class, () -> handOver.get(1, TimeUnit.MINUTES));
+      assertTrue(exception.getCause() instanceof StopConnectorException);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testHandOverFailsWhenInterruptedWhileRunning() {
+    final BlockingQueue<String> queue = new LinkedBlockingQueue<>(1);
+    queue.add("first");
+
+    Thread.currentThread().interrupt();
+    try {
+      final RuntimeException exception =
+          assertThrows(RuntimeException.class, () -> DebeziumRecordPublisher.handOver(queue, "second", new AtomicBoolean(false)));
+      assertTrue(exception.getCause() instanceof InterruptedException);
+    } finally {
+      Thread.interrupted();
+    }
+  }
+
 }
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AirbyteSchemaHistoryStorageTest {
+
+  private static final String SET_CHARSET = ddlRecord("SET character_set_server=utf8mb4, collation_server=utf8mb4_0900_ai_ci");
+  private static final String DROP_USERS = ddlRecord("DROP TABLE IF EXISTS `db`.`users`");
+  private static final String CREATE_USERS = ddlRecord("CREATE TABLE `users` (\n  `id` int NOT NULL,\n  PRIMARY KEY (`id`)\n)");
+  private static final String ALTER_USERS = ddlRecord("ALTER TABLE users ADD COLUMN name varchar(100)");
+  private static final String CREATE_USERS_WITH_NAME = ddlRecord("CREATE TABLE `users` (`id` int NOT NULL, `name` varchar(100))");
+  private static final String CREATE_ORDERS = ddlRecord("CREATE TABLE orders (id int NOT NULL)");
+  // the position of the records above, so that all of them are at or before the offset.
+  private static final Map<String, String> MYSQL_OFFSET = offset("{\"file\": \"binlog.000002\", \"pos\": 156}");
+  private static final Map<String, String> SQL_SERVER_OFFSET = offset("{\"commit_lsn\": \"00000025:00000d98:0002\", \"change_lsn\": \"00000025:00000d98:0002\"}");
+
+  private Path testRoot;
+
+  @BeforeEach
+  void setup() throws IOException {
+    testRoot = Files.createTempDirectory(Path.of("/tmp"), "schema-history-test");
+  }
+
+  @Test
+  void testRoundTrip() throws IOException {
+    final List<String> history = List.of(SET_CHARSET, CREATE_USERS, ALTER_USERS, CREATE_ORDERS);
+    final AirbyteSchemaHistoryStorage storage = storageWith(history);
+
+    final String savedHistory = storage.read(MYSQL_OFFSET);
+
+    assertEquals(history, lines(savedHistory));
+    assertEquals(history, Files.readAllLines(restore(savedHistory).getPath()));
+  }
+
+  @Test
+  void testSupersededRecordsAreCompacted() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = storageWith(List.of(
+        SET_CHARSET,
+        DROP_USERS,
+        CREATE_USERS,
+        ALTER_USERS,
+        CREATE_ORDERS,
+        SET_CHARSET,
+        DROP_USERS,
+        CREATE_USERS_WITH_NAME));
+
+    // the records of users before its last definition are not needed to recover its schema.
+    assertEquals(List.of(SET_CHARSET, CREATE_ORDERS, SET_CHARSET, CREATE_USERS_WITH_NAME), lines(storage.read(MYSQL_OFFSET)));
+  }
+
+  @Test
+  void testCreateTableIfNotExistsDoesNotSupersedeRecords() throws IOException {
+    final String createIfNotExists = ddlRecord("CREATE TABLE IF NOT EXISTS users (id int NOT NULL)");
+    final List<String> history = List.of(CREATE_USERS, ALTER_USERS, createIfNotExists);
+
+    assertEquals(history, lines(storageWith(history).read(MYSQL_OFFSET)));
+  }
+
+  @Test
+  void testRecordsOfTablesReferencedByOtherStatementsAreKept() throws IOException {
+    final List<String> history = List.of(
+        CREATE_USERS,
+        ddlRecord("CREATE TABLE users_copy LIKE users"),
+        DROP_USERS,
+        CREATE_USERS_WITH_NAME);
+
+    assertEquals(history, lines(storageWith(history).read(MYSQL_OFFSET)));
+  }
+
+  @Test
+  void testTableChangesAreCompacted() throws IOException {
+    final String createUsers = tableChangesRecord("CREATE", "\"db\".\"dbo\".\"users\"");
+    final String alterUsers = tableChangesRecord("ALTER", "\"db\".\"dbo\".\"users\"");
+    final String createOrders = tableChangesRecord("CREATE", "\"db\".\"dbo\".\"orders\"");
+
+    // each of these records holds the whole definition of the table.
+    assertEquals(List.of(createOrders, alterUsers), lines(storageWith(List.of(createUsers, createOrders, alterUsers)).read(SQL_SERVER_OFFSET)));
+  }
+
+  @Test
+  void testRecordsAfterOffsetDoNotSupersedeRecords() throws IOException {
+    final List<String> history = List.of(
+        ddlRecord("CREATE TABLE `users` (`id` int NOT NULL)", "binlog.000002", 100),
+        ddlRecord("ALTER TABLE users ADD COLUMN name varchar(100)", "binlog.000002", 150),
+        ddlRecord("DROP TABLE IF EXISTS `db`.`users`", "binlog.000003", 4),
+        ddlRecord("CREATE TABLE `users` (`id` int NOT NULL, `name` varchar(100))", "binlog.000003", 50));
+    final AirbyteSchemaHistoryStorage storage = storageWith(history);
+
+    // debezium ignores the records after the offset when it resumes from it, so they cannot replace
+    // the definition of users.
+    assertEquals(history, lines(storage.read(offset("{\"file\": \"binlog.000002\", \"pos\": 200}"))));
+    assertEquals(history.subList(3, 4), lines(storage.read(offset("{\"file\": \"binlog.000003\", \"pos\": 50}"))));
+  }
+
+  @Test
+  void testUnknownOffsetDisablesCompaction() throws IOException {
+    final List<String> history = List.of(CREATE_USERS, ALTER_USERS, DROP_USERS, CREATE_USERS_WITH_NAME);
+
+    assertEquals(history, lines(storageWith(history).read(Map.of())));
+  }
+
+  @Test
+  void testIsAtOrBefore() {
+    assertTrue(AirbyteSchemaHistoryStorage.isAtOrBefore(Jsons.deserialize("{\"file\": \"binlog.000002\", \"pos\": 156}"),
+        Jsons.deserialize("{\"file\": \"binlog.000002\", \"pos\": 156}")));
+    assertTrue(AirbyteSchemaHistoryStorage.isAtOrBefore(Jsons.deserialize("{\"file\": \"binlog.999999\", \"pos\": 900}"),
+        Jsons.deserialize("{\"file\": \"binlog.1000000\", \"pos\": 4}")));
+    assertFalse(AirbyteSchemaHistoryStorage.isAtOrBefore(Jsons.deserialize("{\"file\": \"binlog.000002\", \"pos\": 157}"),
+        Jsons.deserialize("{\"file\": \"binlog.000002\", \"pos\": 156}")));
+    assertTrue(AirbyteSchemaHistoryStorage.isAtOrBefore(Jsons.deserialize("{\"change_lsn\": \"00000025:00000d98:0002\"}"),
+        Jsons.deserialize("{\"commit_lsn\": \"00000025:00000da0:0001\", \"change_lsn\": \"00000025:00000da0:0001\"}")));
+    assertFalse(AirbyteSchemaHistoryStorage.isAtOrBefore(Jsons.deserialize("{\"lsn\": 10}"), Jsons.deserialize("{\"lsn\": 20}")));
+  }
+
+  @Test
+  void testLargeHistoryIsCompressed() throws IOException {
+    final List<String> history = new ArrayList<>();
+    long size = 0;
+    for (int i = 0; size <= AirbyteSchemaHistoryStorage.COMPRESSION_THRESHOLD_BYTES; i++) {
+      final String record = ddlRecord("CREATE TABLE table_" + i + " (id int NOT NULL, name varchar(100))");
+      history.add(record);
+      size += record.length();
+    }
+
+    final String savedHistory = storageWith(history).read(MYSQL_OFFSET);
+
+    assertTrue(savedHistory.length() < AirbyteSchemaHistoryStorage.COMPRESSION_THRESHOLD_BYTES);
+    assertEquals(history, Files.readAllLines(restore(savedHistory).getPath()));
+  }
+
+  @Test
+  void testIncompleteLastLineIsIgnored() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = storageWith(List.of(SET_CHARSET, CREATE_USERS));
+    Files.writeString(storage.getPath(), CREATE_ORDERS.substring(0, 20), StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+    assertEquals(List.of(SET_CHARSET, CREATE_USERS), lines(storage.read(MYSQL_OFFSET)));
+  }
+
+  @Test
+  void testUnreadableRecordFails() throws IOException {
+    final AirbyteSchemaHistoryStorage storage = storageWith(List.of(SET_CHARSET, "{not json", CREATE_USERS));
+
+    assertThrows(IllegalStateException.class, () -> storage.read(MYSQL_OFFSET));
+  }
+
+  private AirbyteSchemaHistoryStorage storageWith(final List<String> history) throws IOException {
+    final Path path = Files.createTempFile(testRoot, "dbhistory", ".dat");
+    Files.write(path, history, StandardCharsets.UTF_8);
+    return new AirbyteSchemaHistoryStorage(path);
+  }
+
+  private AirbyteSchemaHistoryStorage restore(final String savedHistory) {
+    final AirbyteSchemaHistoryStorage storage = new AirbyteSchemaHistoryStorage(testRoot.resolve("restored.dat"));
+    storage.persist(Optional.of(Jsons.jsonNode(savedHistory)));
+    return storage;
+  }
+
+  private static List<String> lines(final String savedHistory) {
+    return savedHistory.lines().collect(Collectors.toList());
+  }
+
+  private static Map<String, String> offset(final String position) {
+    return Map.of("[\"test\",{\"server\":\"test\"}]", position);
+  }
+
+  private static String ddlRecord(final String ddl) {
+    return ddlRecord(ddl, "binlog.000002", 156);
+  }
+
+  private static String ddlRecord(final String ddl, final String file, final long pos) {
+    return Jsons.serialize(ImmutableMap.of(
+        "source", ImmutableMap.of("server", "test"),
+        "position", ImmutableMap.of("file", file, "pos", pos),
+        "databaseName", "db",
+        "ddl", ddl));
+  }
+
+  private static String tableChangesRecord(final String type, final String id) {
+    return Jsons.serialize(ImmutableMap.of(
+        "source", ImmutableMap.of("server", "test"),
+        "position", ImmutableMap.of("change_lsn", "00000025:00000d98:0002"),
+        "databaseName", "db",
+        "schemaName", "dbo",
+        "tableChanges", List.of(ImmutableMap.of("type", type, "id", id, "table", ImmutableMap.of("columns", List.of())))));
+  }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.debezium.internals;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.Lists;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.integrations.debezium.CdcStateHandler;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DebeziumStateDecoratingIteratorTest {
+
+  private static final Map<String, String> OFFSET = Map.of("offset_key", "{\"lsn\":100}");
+  private static final Map<String, String> SNAPSHOT_OFFSET = Map.of("offset_key", "{\"lsn\":100,\"snapshot\":true}");
+  private static final List<AirbyteMessage> RECORDS = IntStream.range(0, 5)
+      .mapToObj(i -> new AirbyteMessage().withType(Type.RECORD).withRecord(new AirbyteRecordMessage().withData(Jsons.jsonNode(Map.of("id", i)))))
+      .collect(Collectors.toList());
+  private static final CdcStateHandler STATE_HANDLER = (offset, dbHistory) -> new AirbyteMessage()
+      .withType(Type.STATE)
+      .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(offset)));
+
+  private AirbyteFileOffsetBackingStore offsetManager;
+  private AtomicLong queuedEvents;
+  private AtomicReference<Instant> now;
+
+  @BeforeEach
+  void setup() {
+    offsetManager = mock(AirbyteFileOffsetBackingStore.class);
+    queuedEvents = new AtomicLong();
+    now = new AtomicReference<>(Instant.parse("2021-10-20T10:00:00Z"));
+  }
+
+  @Test
+  void testCheckpointIsEmittedOnceQueuedRecordsAreEmitted() {
+    when(offsetManager.read()).thenReturn(Map.of()).thenReturn(OFFSET);
+    // the offset was committed for three events, while two have been emitted.
+    queuedEvents.set(3);
+
+    final List<AirbyteMessage> actual = Lists.newArrayList(iterator(2, Duration.ZERO));
+
+    // the offset does not change afterwards, so it is checkpointed once.
+    assertEquals(List.of(RECORDS.get(0), RECORDS.get(1), RECORDS.get(2), stateMessage(OFFSET), RECORDS.get(3), RECORDS.get(4)), actual);
+  }
+
+  @Test
+  void testSnapshotOffsetIsNotCheckpointed() {
+    when(offsetManager.read()).thenReturn(Map.of()).thenReturn(SNAPSHOT_OFFSET);
+
+    assertEquals(RECORDS, Lists.newArrayList(iterator(2, Duration.ZERO)));
+  }
+
+  @Test
+  void testStartingOffsetIsNotCheckpointed() {
+    when(offsetManager.read()).thenReturn(OFFSET);
+
+    assertEquals(RECORDS, Lists.newArrayList(iterator(1, Duration.ZERO)));
+  }
+
+  @Test
+  void testCheckpointAfterInterval() {
+    when(offsetManager.read()).thenReturn(Map.of()).thenReturn(OFFSET);
+    queuedEvents.set(1);
+    final DebeziumStateDecoratingIterator iterator = iterator(0, Duration.ofMinutes(1));
+
+    assertEquals(RECORDS.get(0), iterator.next());
+    assertEquals(RECORDS.get(1), iterator.next());
+    now.set(now.get().plus(Duration.ofMinutes(1)));
+    assertEquals(stateMessage(OFFSET), iterator.next());
+    assertEquals(RECORDS.get(2), iterator.next());
+  }
+
+  private DebeziumStateDecoratingIterator iterator(final long checkpointRecords, final Duration checkpointInterval) {
+    return new DebeziumStateDecoratingIterator(
+        AutoCloseableIterators.fromIterator(RECORDS.iterator()),
+        offsetManager,
+        offset -> null,
+        STATE_HANDLER,
+        queuedEvents::get,
+        checkpointRecords,
+        checkpointInterval,
+        now::get);
+  }
+
+  private static AirbyteMessage stateMessage(final Map<String, String> offset) {
+    return STATE_HANDLER.saveState(offset, null);
+  }
+
+}
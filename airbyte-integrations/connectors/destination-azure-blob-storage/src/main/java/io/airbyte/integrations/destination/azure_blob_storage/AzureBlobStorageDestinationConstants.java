@@ -10,6 +10,7 @@ public final class AzureBlobStorageDestinationConstants {
   public static final String DEFAULT_STORAGE_ENDPOINT_HTTP_PROTOCOL = "https";
   public static final String DEFAULT_STORAGE_ENDPOINT_DOMAIN_NAME = "blob.core.windows.net";
   public static final String DEFAULT_STORAGE_ENDPOINT_FORMAT = "%s://%s.%s";
+  public static final String MAX_FILE_SIZE_MB_ARG_NAME = "max_file_size_mb";
 
   private AzureBlobStorageDestinationConstants() {}
 
@@ -4,14 +4,33 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.jsonl;
 
+import static io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageDestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
+
+import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageFormat;
 import io.airbyte.integrations.destination.azure_blob_storage.AzureBlobStorageFormatConfig;
 
 public class AzureBlobStorageJsonlFormatConfig implements AzureBlobStorageFormatConfig {
 
+  private static final long MB = 1024L * 1024L;
+
+  private final long maxFileSizeMb;
+
+  public AzureBlobStorageJsonlFormatConfig(JsonNode formatConfig) {
+    this.maxFileSizeMb = AzureBlobStorageFormatConfig.withDefault(formatConfig, MAX_FILE_SIZE_MB_ARG_NAME, 0);
+  }
+
   @Override
   public AzureBlobStorageFormat getFormat() {
     return AzureBlobStorageFormat.JSONL;
   }
 
+  /**
+   * @return size after which the output of a stream rolls over to a new blob, or 0 if the output is
+   *         never split.
+   */
+  public long getMaxFileSizeBytes() {
+    return maxFileSizeMb * MB;
+  }
+
 }
@@ -4,11 +4,14 @@
 
 package io.airbyte.integrations.destination.azure_blob_storage.jsonl;
 
+import com.azure.storage.blob.BlobContainerClient;
+import com.azure.storage.blob.models.BlobItem;
+import com.azure.storage.blob.models.ListBlobsOptions;
 import com.azure.storage.blob.specialized.AppendBlobClient;
-import com.azure.storage.blob.specialized.BlobOutputStream;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.io.CountingOutputStream;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.JavaBaseConstants;
@@ -17,13 +20,25 @@ import io.airbyte.integrations.destination.azure_blob_storage.writer.AzureBlobSt
 import io.airbyte.integrations.destination.azure_blob_storage.writer.BaseAzureBlobStorageWriter;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.SyncMode;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Writes a stream as JSON lines to an append blob named after the stream. When a maximum file size
+ * is configured, the output rolls over to {@code <stream>_part_00001}, {@code <stream>_part_00002},
+ * ... once the current blob reaches it. Append syncs continue on the last existing part; full
+ * refresh syncs delete the parts left by previous syncs. When the sync fails, the parts it created
+ * are deleted again.
+ */
 public class AzureBlobStorageJsonlWriter extends BaseAzureBlobStorageWriter implements
     AzureBlobStorageWriter {
 
@@ -31,18 +46,41 @@ public class AzureBlobStorageJsonlWriter extends BaseAzureBlobStorageWriter impl
 
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
   private static final ObjectWriter WRITER = MAPPER.writer();
+  private static final String PART_SEPARATOR = "_part_";
+
+  private final BlobContainerClient containerClient;
+  private final long maxFileSizeBytes;
+  private final Pattern partPattern;
+  private final List<AppendBlobClient> createdPartBlobClients = new ArrayList<>();
 
-  private final BlobOutputStream blobOutputStream;
-  private final PrintWriter printWriter;
+  private int partIndex = 0;
+  private long existingBlobSize = 0;
+  private CountingOutputStream countingStream;
+  private PrintWriter printWriter;
 
   public AzureBlobStorageJsonlWriter(AzureBlobStorageDestinationConfig config,
                                      AppendBlobClient appendBlobClient,
                                      ConfiguredAirbyteStream configuredStream,
                                      boolean isNewlyCreatedBlob) {
     super(config, appendBlobClient, configuredStream);
+    this.containerClient = appendBlobClient.getContainerClient();
+    this.maxFileSizeBytes = ((AzureBlobStorageJsonlFormatConfig) config.getFormatConfig()).getMaxFileSizeBytes();
+    this.partPattern = Pattern.compile(Pattern.quote(appendBlobClient.getBlobName() + PART_SEPARATOR) + "(\\d+)");
+
     // at this moment we already receive appendBlobClient initialized
-    this.blobOutputStream = appendBlobClient.getBlobOutputStream();
-    this.printWriter = new PrintWriter(blobOutputStream, true, StandardCharsets.UTF_8);
+    AppendBlobClient currentBlobClient = appendBlobClient;
+    if (maxFileSizeBytes > 0) {
+      if (SyncMode.FULL_REFRESH.equals(configuredStream.getSyncMode())) {
+        deleteExistingParts();
+      } else {
+        partIndex = getLastExistingPartIndex();
+        if (partIndex > 0) {
+          currentBlobClient = getPartBlobClient(partIndex);
+        }
+        existingBlobSize = currentBlobClient.getProperties().getBlobSize();
+      }
+    }
+    openWriter(currentBlobClient);
   }
 
   @Override
@@ -52,6 +90,18 @@ public class AzureBlobStorageJsonlWriter extends BaseAzureBlobStorageWriter impl
     json.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
     json.set(JavaBaseConstants.COLUMN_NAME_DATA, recordMessage.getData());
     printWriter.println(Jsons.serialize(json));
+
+    if (maxFileSizeBytes > 0 && existingBlobSize + countingStream.getCount() >= maxFileSizeBytes) {
+      // this would also close the blobOutputStream
+      printWriter.close();
+      partIndex++;
+      existingBlobSize = 0;
+      AppendBlobClient partBlobClient = getPartBlobClient(partIndex);
+      partBlobClient.create(true);
+      createdPartBlobClients.add(partBlobClient);
+      LOGGER.info("Rolled output of stream '{}' over to blob {}", stream.getName(), partBlobClient.getBlobName());
+      openWriter(partBlobClient);
+    }
   }
 
   @Override
@@ -64,6 +114,46 @@ public class AzureBlobStorageJsonlWriter extends BaseAzureBlobStorageWriter impl
   protected void closeWhenFail() throws IOException {
     // this would also close the blobOutputStream
     printWriter.close();
+    for (AppendBlobClient partBlobClient : createdPartBlobClients) {
+      LOGGER.info("Deleting blob {} of the failed sync of stream '{}'", partBlobClient.getBlobName(), stream.getName());
+      partBlobClient.delete();
+    }
+    createdPartBlobClients.clear();
+  }
+
+  private void openWriter(AppendBlobClient blobClient) {
+    this.countingStream = new CountingOutputStream(blobClient.getBlobOutputStream());
+    this.printWriter = new PrintWriter(countingStream, true, StandardCharsets.UTF_8);
+  }
+
+  private AppendBlobClient getPartBlobClient(int index) {
+    return containerClient
+        .getBlobClient(String.format("%s%s%05d", appendBlobClient.getBlobName(), PART_SEPARATOR, index))
+        .getAppendBlobClient();
+  }
+
+  private int getLastExistingPartIndex() {
+    int lastIndex = 0;
+    for (BlobItem blobItem : listExistingParts()) {
+      Matcher matcher = partPattern.matcher(blobItem.getName());
+      if (matcher.matches()) {
+        lastIndex = Math.max(lastIndex, Integer.parseInt(matcher.group(1)));
+      }
+    }
+    return lastIndex;
+  }
+
+  private void deleteExistingParts() {
+    for (BlobItem blobItem : listExistingParts()) {
+      if (partPattern.matcher(blobItem.getName()).matches()) {
+        LOGGER.info("Deleting blob {} left by a previous sync of stream '{}'", blobItem.getName(), stream.getName());
+        containerClient.getBlobClient(blobItem.getName()).delete();
+      }
+    }
+  }
+
+  private Iterable<BlobItem> listExistingParts() {
+    return containerClient.listBlobs(new ListBlobsOptions().setPrefix(appendBlobClient.getBlobName() + PART_SEPARATOR), null);
   }
 
 }
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.destination.azure_blob_storage.csv.AzureBlobStorageCsvFormatConfig;
 import io.airbyte.integrations.destination.azure_blob_storage.csv.AzureBlobStorageCsvFormatConfig.Flattening;
+import io.airbyte.integrations.destination.azure_blob_storage.jsonl.AzureBlobStorageJsonlFormatConfig;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -37,4 +38,21 @@ public class AzureBlobStorageFormatConfigsTest {
     assertEquals(csvFormatConfig.getFlattening(), Flattening.ROOT_LEVEL);
   }
 
+  @Test
+  @DisplayName("When JSONL format is specified, it returns JSONL format config with the max file size")
+  public void testGetJsonlFormatConfig() {
+    ObjectNode stubFormatConfig = mapper.createObjectNode();
+    stubFormatConfig.put("format_type", AzureBlobStorageFormat.JSONL.toString());
+    stubFormatConfig.put("max_file_size_mb", 100);
+
+    ObjectNode stubConfig = mapper.createObjectNode();
+    stubConfig.set("format", stubFormatConfig);
+    AzureBlobStorageFormatConfig formatConfig = AzureBlobStorageFormatConfigs
+        .getAzureBlobStorageFormatConfig(stubConfig);
+    assertEquals(formatConfig.getFormat(), AzureBlobStorageFormat.JSONL);
+    assertTrue(formatConfig instanceof AzureBlobStorageJsonlFormatConfig);
+    AzureBlobStorageJsonlFormatConfig jsonlFormatConfig = (AzureBlobStorageJsonlFormatConfig) formatConfig;
+    assertEquals(100L * 1024 * 1024, jsonlFormatConfig.getMaxFileSizeBytes());
+  }
+
 }
@@ -14,6 +14,8 @@ import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.StandardNameTransformer;
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig;
+import io.airbyte.integrations.destination.local_file.RotatingFileWriter;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -22,12 +24,9 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -75,27 +74,25 @@ public class CsvDestination extends BaseConnector implements Destination {
 
     FileUtils.forceMkdir(destinationDir.toFile());
 
+    final LocalFileWriterConfig fileWriterConfig = LocalFileWriterConfig.fromJson(config);
+    final CSVFormat csvFormat = CSVFormat.DEFAULT.withHeader(JavaBaseConstants.COLUMN_NAME_AB_ID, JavaBaseConstants.COLUMN_NAME_EMITTED_AT,
+        JavaBaseConstants.COLUMN_NAME_DATA);
     final Map<String, WriteConfig> writeConfigs = new HashMap<>();
     for (final ConfiguredAirbyteStream stream : catalog.getStreams()) {
       final String streamName = stream.getStream().getName();
-      final String tableName = namingResolver.getRawTableName(streamName);
-      final String tmpTableName = namingResolver.getTmpTableName(streamName);
-      final Path tmpPath = destinationDir.resolve(tmpTableName + ".csv");
-      final Path finalPath = destinationDir.resolve(tableName + ".csv");
-      CSVFormat csvFormat = CSVFormat.DEFAULT.withHeader(JavaBaseConstants.COLUMN_NAME_AB_ID, JavaBaseConstants.COLUMN_NAME_EMITTED_AT,
-          JavaBaseConstants.COLUMN_NAME_DATA);
       final DestinationSyncMode syncMode = stream.getDestinationSyncMode();
       if (syncMode == null) {
         throw new IllegalStateException("Undefined destination sync mode");
       }
       final boolean isAppendMode = syncMode != DestinationSyncMode.OVERWRITE;
-      if (isAppendMode && finalPath.toFile().exists()) {
-        Files.copy(finalPath, tmpPath, StandardCopyOption.REPLACE_EXISTING);
-        csvFormat = csvFormat.withSkipHeaderRecord();
-      }
-      final FileWriter fileWriter = new FileWriter(tmpPath.toFile(), isAppendMode);
-      final CSVPrinter printer = new CSVPrinter(fileWriter, csvFormat);
-      writeConfigs.put(stream.getStream().getName(), new WriteConfig(printer, tmpPath, finalPath));
+      final RotatingFileWriter fileWriter = new RotatingFileWriter(
+          destinationDir,
+          namingResolver.getTmpTableName(streamName),
+          namingResolver.getRawTableName(streamName),
+          ".csv",
+          fileWriterConfig,
+          isAppendMode);
+      writeConfigs.put(stream.getStream().getName(), new WriteConfig(fileWriter, csvFormat));
     }
 
     return new CsvConsumer(writeConfigs, catalog, outputRecordCollector);
@@ -158,7 +155,7 @@ public class CsvDestination extends BaseConnector implements Destination {
                 Jsons.serialize(catalog), Jsons.serialize(recordMessage)));
       }
 
-      writeConfigs.get(recordMessage.getStream()).getWriter().printRecord(
+      writeConfigs.get(recordMessage.getStream()).getPrinter().printRecord(
           UUID.randomUUID(),
           recordMessage.getEmittedAt(),
           Jsons.serialize(recordMessage.getData()));
@@ -167,7 +164,7 @@ public class CsvDestination extends BaseConnector implements Destination {
     @Override
     public void commit() throws Exception {
       for (WriteConfig writeConfig : writeConfigs.values()) {
-        writeConfig.getWriter().flush();
+        writeConfig.flush();
       }
     }
 
@@ -177,8 +174,7 @@ public class CsvDestination extends BaseConnector implements Destination {
 
       for (final Map.Entry<String, WriteConfig> entries : writeConfigs.entrySet()) {
         try {
-          entries.getValue().getWriter().flush();
-          entries.getValue().getWriter().close();
+          entries.getValue().close();
         } catch (Exception e) {
           hasFailed = true;
           LOGGER.error("failed to close writer for: {}.", entries.getKey());
@@ -188,8 +184,9 @@ public class CsvDestination extends BaseConnector implements Destination {
       try {
         if (!hasFailed) {
           for (final WriteConfig writeConfig : writeConfigs.values()) {
-            Files.move(writeConfig.getTmpPath(), writeConfig.getFinalPath(), StandardCopyOption.REPLACE_EXISTING);
-            LOGGER.info(String.format("File output: %s", writeConfig.getFinalPath()));
+            for (final Path finalPath : writeConfig.getFileWriter().commit()) {
+              LOGGER.info(String.format("File output: %s", finalPath));
+            }
           }
         } else {
           final String message = "Failed to output files in destination";
@@ -199,35 +196,51 @@ public class CsvDestination extends BaseConnector implements Destination {
       } finally {
         // clean up tmp files.
         for (final WriteConfig writeConfig : writeConfigs.values()) {
-          Files.deleteIfExists(writeConfig.getTmpPath());
+          writeConfig.getFileWriter().cleanUp();
         }
       }
     }
 
   }
 
+  /**
+   * Pairs a stream's file writer with the CSV printer for its current part. Every part starts with
+   * the header row, except when appending to a file that already has one.
+   */
   private static class WriteConfig {
 
-    private final CSVPrinter writer;
-    private final Path tmpPath;
-    private final Path finalPath;
+    private final RotatingFileWriter fileWriter;
+    private final CSVFormat csvFormat;
+    private CSVPrinter printer;
+
+    public WriteConfig(RotatingFileWriter fileWriter, CSVFormat csvFormat) throws IOException {
+      this.fileWriter = fileWriter;
+      this.csvFormat = csvFormat;
+      this.printer = newPrinter();
+    }
+
+    public CSVPrinter getPrinter() throws IOException {
+      if (fileWriter.rotateIfNeeded()) {
+        printer = newPrinter();
+      }
+      return printer;
+    }
 
-    public WriteConfig(CSVPrinter writer, Path tmpPath, Path finalPath) {
-      this.writer = writer;
-      this.tmpPath = tmpPath;
-      this.finalPath = finalPath;
+    public RotatingFileWriter getFileWriter() {
+      return fileWriter;
     }
 
-    public CSVPrinter getWriter() {
-      return writer;
+    public void flush() throws IOException {
+      printer.flush();
     }
 
-    public Path getTmpPath() {
-      return tmpPath;
+    public void close() throws IOException {
+      printer.close();
     }
 
-    public Path getFinalPath() {
-      return finalPath;
+    private CSVPrinter newPrinter() throws IOException {
+      final CSVFormat format = fileWriter.appendsToExistingFile() ? csvFormat.withSkipHeaderRecord() : csvFormat;
+      return new CSVPrinter(fileWriter.getWriter(), format);
     }
 
   }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.csv;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.base.JavaBaseConstants;
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig;
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig.Compression;
+import io.airbyte.integrations.destination.local_file.RotatingFileWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares MB/s of the previous unbuffered {@link FileWriter} output with {@link RotatingFileWriter}
+ * in its default, compressed and rotating configurations.
+ */
+public class CsvWriterThroughputTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CsvWriterThroughputTest.class);
+
+  private static final int RECORD_COUNT = 1_000_000;
+  private static final CSVFormat FORMAT = CSVFormat.DEFAULT.withHeader(JavaBaseConstants.COLUMN_NAME_AB_ID,
+      JavaBaseConstants.COLUMN_NAME_EMITTED_AT, JavaBaseConstants.COLUMN_NAME_DATA);
+  private static final String DATA = Jsons.serialize(ImmutableMap.of(
+      "id", 123456789,
+      "name", "some moderately long name to make the record realistic",
+      "description", "lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor"));
+
+  private Path directory;
+
+  @BeforeEach
+  void setup() throws IOException {
+    directory = Files.createTempDirectory("csv_throughput");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    FileUtils.deleteDirectory(directory.toFile());
+  }
+
+  @Test
+  void testThroughput() throws IOException {
+    final double baseline = measureBaseline();
+    final double buffered = measure("buffered", LocalFileWriterConfig.DEFAULT);
+    measure("gzip", new LocalFileWriterConfig(Compression.GZIP, LocalFileWriterConfig.DEFAULT.getBufferSizeBytes(), 0));
+    measure("zstd", new LocalFileWriterConfig(Compression.ZSTD, LocalFileWriterConfig.DEFAULT.getBufferSizeBytes(), 0));
+    measure("buffered, 64MB parts", new LocalFileWriterConfig(Compression.NONE, LocalFileWriterConfig.DEFAULT.getBufferSizeBytes(), 64L * 1024 * 1024));
+
+    // generous bound so the test is not flaky on shared CI machines.
+    assertTrue(buffered > baseline * 0.8, String.format("buffered %.1f MB/s vs baseline %.1f MB/s", buffered, baseline));
+  }
+
+  private double measureBaseline() throws IOException {
+    final Path path = directory.resolve("baseline.csv");
+    final long start = System.nanoTime();
+    try (final CSVPrinter printer = new CSVPrinter(new FileWriter(path.toFile()), FORMAT)) {
+      for (int i = 0; i < RECORD_COUNT; i++) {
+        printer.printRecord(UUID.randomUUID(), System.currentTimeMillis(), DATA);
+      }
+    }
+    return report("FileWriter baseline", List.of(path), start);
+  }
+
+  private double measure(final String name, final LocalFileWriterConfig config) throws IOException {
+    final String baseName = name.replaceAll("[^a-z0-9]", "_");
+    final RotatingFileWriter fileWriter = new RotatingFileWriter(directory, "tmp_" + baseName, baseName, ".csv", config, false);
+    final long start = System.nanoTime();
+    CSVPrinter printer = new CSVPrinter(fileWriter.getWriter(), FORMAT);
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      if (fileWriter.rotateIfNeeded()) {
+        printer = new CSVPrinter(fileWriter.getWriter(), FORMAT);
+      }
+      printer.printRecord(UUID.randomUUID(), System.currentTimeMillis(), DATA);
+    }
+    printer.close();
+    return report(name, fileWriter.commit(), start);
+  }
+
+  /**
+   * Throughput is reported in uncompressed MB so that compressed runs are comparable.
+   */
+  private double report(final String name, final List<Path> files, final long startNanos) throws IOException {
+    final double seconds = (System.nanoTime() - startNanos) / 1e9;
+    final long bytesOnDisk = files.stream().mapToLong(p -> p.toFile().length()).sum();
+    final double uncompressedMb = (double) RECORD_COUNT * (DATA.length() + 60) / (1024 * 1024);
+    final double mbPerSecond = uncompressedMb / seconds;
+    LOGGER.info("{}: {} files, {} bytes on disk, {}s, {} MB/s", name, files.size(), bytesOnDisk, seconds, mbPerSecond);
+    return mbPerSecond;
+  }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import com.amazonaws.services.dynamodbv2.document.BatchWriteItemOutcome;
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.TableWriteItems;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sends {@link TableWriteItems} batches to DynamoDB on a bounded pool of threads so that the
+ * consumer thread is not blocked on each BatchWriteItem round-trip. Unprocessed items are retried
+ * with exponential backoff and full jitter. Any batch that still has unprocessed items once the
+ * retries are exhausted fails the sync when {@link #close()} is called.
+ */
+public class DynamodbBatchWriter implements AutoCloseable {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamodbBatchWriter.class);
+
+  /**
+   * Hard limit on the number of put requests in a single BatchWriteItem call.
+   */
+  public static final int MAX_BATCH_SIZE = 25;
+
+  static final int DEFAULT_CONCURRENCY = 8;
+  static final int DEFAULT_MAX_RETRIES = 10;
+  static final long DEFAULT_BASE_BACKOFF_MS = 50;
+  static final long DEFAULT_MAX_BACKOFF_MS = 10_000;
+
+  private final DynamoDB dynamodb;
+  private final ExecutorService executor;
+  private final Semaphore inFlight;
+  private final int maxRetries;
+  private final long baseBackoffMs;
+  private final long maxBackoffMs;
+  private final List<CompletableFuture<Void>> pending = new ArrayList<>();
+  private final AtomicLong failedItems = new AtomicLong();
+  private final AtomicLong writtenItems = new AtomicLong();
+
+  public DynamodbBatchWriter(final DynamoDB dynamodb) {
+    this(dynamodb, DEFAULT_CONCURRENCY, DEFAULT_MAX_RETRIES, DEFAULT_BASE_BACKOFF_MS, DEFAULT_MAX_BACKOFF_MS);
+  }
+
+  @VisibleForTesting
+  DynamodbBatchWriter(final DynamoDB dynamodb,
+                      final int concurrency,
+                      final int maxRetries,
+                      final long baseBackoffMs,
+                      final long maxBackoffMs) {
+    this.dynamodb = dynamodb;
+    this.executor = Executors.newFixedThreadPool(concurrency, new ThreadFactoryBuilder().setNameFormat("dynamodb-batch-writer-%d").build());
+    // allow one queued batch per worker so the consumer can keep building the next batch while the
+    // pool is busy, but never buffer more than that.
+    this.inFlight = new Semaphore(concurrency * 2);
+    this.maxRetries = maxRetries;
+    this.baseBackoffMs = baseBackoffMs;
+    this.maxBackoffMs = maxBackoffMs;
+  }
+
+  /**
+   * Schedule a batch for writing. Blocks if too many batches are already in flight.
+   *
+   * @param items batch of at most {@link #MAX_BATCH_SIZE} items.
+   * @throws InterruptedException if interrupted while waiting for a free slot.
+   */
+  public void submit(final TableWriteItems items) throws InterruptedException {
+    if (items.getItemsToPut() == null || items.getItemsToPut().isEmpty()) {
+      return;
+    }
+    if (items.getItemsToPut().size() > MAX_BATCH_SIZE) {
+      throw new IllegalArgumentException(String.format("A DynamoDB batch may not contain more than %d items, got %d.",
+          MAX_BATCH_SIZE, items.getItemsToPut().size()));
+    }
+    inFlight.acquire();
+    final CompletableFuture<Void> future;
+    try {
+      future = CompletableFuture.runAsync(() -> writeWithRetries(items), executor);
+    } catch (final RuntimeException e) {
+      inFlight.release();
+      throw e;
+    }
+    future.whenComplete((ignored, throwable) -> inFlight.release());
+    synchronized (pending) {
+      pending.removeIf(CompletableFuture::isDone);
+      pending.add(future);
+    }
+  }
+
+  /**
+   * Wait for every submitted batch to complete.
+   *
+   * @throws Exception if any batch failed or was given up on.
+   */
+  public void flush() throws Exception {
+    final List<CompletableFuture<Void>> toAwait;
+    synchronized (pending) {
+      toAwait = new ArrayList<>(pending);
+      pending.clear();
+    }
+
+    Exception firstFailure = null;
+    for (final CompletableFuture<Void> future : toAwait) {
+      try {
+        future.get();
+      } catch (final ExecutionException e) {
+        if (firstFailure == null) {
+          firstFailure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+      }
+    }
+
+    if (firstFailure != null || failedItems.get() > 0) {
+      throw new RuntimeException(String.format("Failed to write %d items to DynamoDB.", failedItems.get()), firstFailure);
+    }
+  }
+
+  /**
+   * Stop accepting new batches and drop whatever has not been started yet. Used when the sync has
+   * already failed.
+   */
+  public void abort() {
+    executor.shutdownNow();
+  }
+
+  public long getWrittenItems() {
+    return writtenItems.get();
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      flush();
+    } finally {
+      executor.shutdown();
+      if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+        executor.shutdownNow();
+      }
+    }
+  }
+
+  private void writeWithRetries(final TableWriteItems items) {
+    final int total = items.getItemsToPut().size();
+    BatchWriteItemOutcome outcome = dynamodb.batchWriteItem(items);
+    Map<String, List<WriteRequest>> unprocessed = outcome.getUnprocessedItems();
+
+    int attempt = 0;
+    while (countItems(unprocessed) > 0 && attempt < maxRetries) {
+      sleepQuietly(computeBackoff(attempt));
+      outcome = dynamodb.batchWriteItemUnprocessed(unprocessed);
+      unprocessed = outcome.getUnprocessedItems();
+      attempt++;
+    }
+
+    final int remaining = countItems(unprocessed);
+    writtenItems.addAndGet(total - remaining);
+    if (remaining > 0) {
+      failedItems.addAndGet(remaining);
+      LOGGER.error("Giving up on {} unprocessed items for table {} after {} retries.", remaining, items.getTableName(), maxRetries);
+      throw new RuntimeException(String.format("%d items were still unprocessed after %d retries for table %s.",
+          remaining, maxRetries, items.getTableName()));
+    }
+  }
+
+  /**
+   * Exponential backoff with full jitter: a random delay between 0 and min(max, base * 2^attempt).
+   */
+  @VisibleForTesting
+  long computeBackoff(final int attempt) {
+    final long ceiling = Math.min(maxBackoffMs, baseBackoffMs * (1L << Math.min(attempt, 20)));
+    return ThreadLocalRandom.current().nextLong(ceiling + 1);
+  }
+
+  private static int countItems(final Map<String, List<WriteRequest>> unprocessed) {
+    if (unprocessed == null) {
+      return 0;
+    }
+    return unprocessed.values().stream().mapToInt(List::size).sum();
+  }
+
+  private static void sleepQuietly(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+    }
+  }
+
+}
@@ -11,6 +11,7 @@ import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
 import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.AirbyteStreamNameNamespacePair;
 import io.airbyte.integrations.base.FailureTrackingAirbyteMessageConsumer;
@@ -29,6 +30,8 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final Map<AirbyteStreamNameNamespacePair, DynamodbWriter> streamNameAndNamespaceToWriters;
 
+  private DynamodbBatchWriter batchWriter;
+
   private AirbyteMessage lastStateMessage = null;
 
   public DynamodbConsumer(DynamodbDestinationConfig dynamodbDestinationConfig,
@@ -65,9 +68,10 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
     }
 
     var uploadTimestamp = System.currentTimeMillis();
+    batchWriter = new DynamodbBatchWriter(new DynamoDB(amazonDynamodb));
 
     for (ConfiguredAirbyteStream configuredStream : configuredCatalog.getStreams()) {
-      var writer = new DynamodbWriter(dynamodbDestinationConfig, amazonDynamodb, configuredStream, uploadTimestamp);
+      var writer = new DynamodbWriter(dynamodbDestinationConfig, amazonDynamodb, batchWriter, configuredStream, uploadTimestamp);
 
       AirbyteStream stream = configuredStream.getStream();
       AirbyteStreamNameNamespacePair streamNamePair = AirbyteStreamNameNamespacePair
@@ -104,6 +108,14 @@ public class DynamodbConsumer extends FailureTrackingAirbyteMessageConsumer {
     for (DynamodbWriter handler : streamNameAndNamespaceToWriters.values()) {
       handler.close(hasFailed);
     }
+    if (batchWriter != null) {
+      if (hasFailed) {
+        batchWriter.abort();
+      } else {
+        // throws if any batch could not be written, in which case no state is emitted.
+        batchWriter.close();
+      }
+    }
     // DynamoDB stream uploader is all or nothing if a failure happens in the destination.
     if (!hasFailed) {
       outputRecordCollector.accept(lastStateMessage);
@@ -10,7 +10,6 @@ import com.amazonaws.services.dynamodbv2.model.*;
 import com.amazonaws.services.dynamodbv2.util.TableUtils;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
 import io.airbyte.commons.jackson.MoreMappers;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -27,23 +26,25 @@ public class DynamodbWriter {
   protected static final Logger LOGGER = LoggerFactory.getLogger(DynamodbWriter.class);
 
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
-  private static final ObjectWriter WRITER = MAPPER.writer();
+  private static final TypeReference<Map<String, Object>> DATA_MAP_TYPE = new TypeReference<>() {};
 
   private final DynamodbDestinationConfig config;
   private final DynamoDB dynamodb;
+  private final DynamodbBatchWriter batchWriter;
   private final ConfiguredAirbyteStream configuredStream;
   private final long uploadTimestamp;
   private TableWriteItems tableWriteItems;
   private final String outputTableName;
-  private final int batchSize = 25;
 
   public DynamodbWriter(DynamodbDestinationConfig config,
                         AmazonDynamoDB amazonDynamodb,
+                        DynamodbBatchWriter batchWriter,
                         ConfiguredAirbyteStream configuredStream,
                         long uploadTimestamp) {
 
     this.config = config;
     this.dynamodb = new DynamoDB(amazonDynamodb);
+    this.batchWriter = batchWriter;
     this.configuredStream = configuredStream;
     this.uploadTimestamp = uploadTimestamp;
     this.outputTableName = DynamodbOutputTableHelper.getOutputTableName(config.getTableName(), configuredStream.getStream());
@@ -108,57 +109,33 @@ public class DynamodbWriter {
     return new DynamoDB(amazonDynamodb).getTable(tableName);
   }
 
-  public void write(UUID id, AirbyteRecordMessage recordMessage) {
-
-    ObjectMapper mapper = new ObjectMapper();
-    Map<String, Object> dataMap = mapper.convertValue(recordMessage.getData(), new TypeReference<Map<String, Object>>() {});
+  public void write(UUID id, AirbyteRecordMessage recordMessage) throws InterruptedException {
+    Map<String, Object> dataMap = MAPPER.convertValue(recordMessage.getData(), DATA_MAP_TYPE);
 
     var item = new Item()
         .withPrimaryKey(JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID().toString(), "sync_time", uploadTimestamp)
         .withMap(JavaBaseConstants.COLUMN_NAME_DATA, dataMap)
         .withLong(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
     tableWriteItems.addItemToPut(item);
-    BatchWriteItemOutcome outcome;
-    if (tableWriteItems.getItemsToPut().size() >= batchSize) {
-      try {
-        int maxRetries = 5;
-        outcome = dynamodb.batchWriteItem(tableWriteItems);
-        tableWriteItems = new TableWriteItems(this.outputTableName);
-
-        while (outcome.getUnprocessedItems().size() > 0 && maxRetries > 0) {
-          outcome = dynamodb.batchWriteItemUnprocessed(outcome.getUnprocessedItems());
-          maxRetries--;
-        }
-
-        if (maxRetries == 0) {
-          LOGGER.warn(String.format("Unprocessed items count after retry %d times: %s", 5, Integer.toString(outcome.getUnprocessedItems().size())));
-        }
-      } catch (Exception e) {
-        LOGGER.error(e.getMessage());
-      }
+    if (tableWriteItems.getItemsToPut().size() >= DynamodbBatchWriter.MAX_BATCH_SIZE) {
+      batchWriter.submit(tableWriteItems);
+      tableWriteItems = new TableWriteItems(this.outputTableName);
     }
   }
 
-  public void close(boolean hasFailed) throws IOException {
+  /**
+   * Hands the last partial batch to the batch writer. The caller is responsible for waiting on the
+   * batch writer, which fails if any item could not be written.
+   */
+  public void close(boolean hasFailed) throws IOException, InterruptedException {
     if (hasFailed) {
       LOGGER.warn("Failure in writing data to DynamoDB. Aborting...");
     } else {
-      try {
-        int maxRetries = 5;
-        if (tableWriteItems.getItemsToPut().size() > 0) {
-          var outcome = dynamodb.batchWriteItem(tableWriteItems);
-          while (outcome.getUnprocessedItems().size() > 0 && maxRetries > 0) {
-            outcome = dynamodb.batchWriteItemUnprocessed(outcome.getUnprocessedItems());
-            maxRetries--;
-          }
-          if (maxRetries == 0) {
-            LOGGER.warn(String.format("Unprocessed items count after retry %d times: %s", 5, Integer.toString(outcome.getUnprocessedItems().size())));
-          }
-        }
-      } catch (Exception e) {
-        LOGGER.error(e.getMessage());
+      if (tableWriteItems.getItemsToPut() != null && tableWriteItems.getItemsToPut().size() > 0) {
+        batchWriter.submit(tableWriteItems);
+        tableWriteItems = new TableWriteItems(this.outputTableName);
       }
-      LOGGER.info("Data writing completed for DynamoDB.");
+      LOGGER.info("Submitted remaining data for DynamoDB table {}.", outputTableName);
     }
   }
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDB;
+import com.amazonaws.services.dynamodbv2.AmazonDynamoDBClientBuilder;
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.Item;
+import com.amazonaws.services.dynamodbv2.document.TableWriteItems;
+import com.amazonaws.services.dynamodbv2.model.AttributeDefinition;
+import com.amazonaws.services.dynamodbv2.model.BillingMode;
+import com.amazonaws.services.dynamodbv2.model.CreateTableRequest;
+import com.amazonaws.services.dynamodbv2.model.KeySchemaElement;
+import com.amazonaws.services.dynamodbv2.model.KeyType;
+import com.amazonaws.services.dynamodbv2.model.ScalarAttributeType;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Measures how many items per second {@link DynamodbBatchWriter} pushes into DynamoDB Local at
+ * different concurrency levels. Concurrency 1 is equivalent to the previous synchronous writer.
+ */
+public class DynamodbBatchWriterThroughputTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DynamodbBatchWriterThroughputTest.class);
+
+  private static final int DYNAMODB_LOCAL_PORT = 8000;
+  private static final int RECORD_COUNT = 20_000;
+
+  private static GenericContainer<?> container;
+  private static AmazonDynamoDB client;
+
+  @BeforeAll
+  static void init() {
+    container = new GenericContainer<>(DockerImageName.parse("amazon/dynamodb-local:latest"))
+        .withExposedPorts(DYNAMODB_LOCAL_PORT);
+    container.start();
+
+    final String endpoint = String.format("http://%s:%d", container.getHost(), container.getMappedPort(DYNAMODB_LOCAL_PORT));
+    client = AmazonDynamoDBClientBuilder.standard()
+        .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, "us-east-1"))
+        .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("fake", "fake")))
+        .build();
+  }
+
+  @AfterAll
+  static void cleanup() {
+    client.shutdown();
+    container.stop();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 4, 16})
+  void testThroughput(final int concurrency) throws Exception {
+    final String tableName = "throughput_" + concurrency;
+    client.createTable(new CreateTableRequest()
+        .withTableName(tableName)
+        .withAttributeDefinitions(new AttributeDefinition("id", ScalarAttributeType.S))
+        .withKeySchema(new KeySchemaElement("id", KeyType.HASH))
+        .withBillingMode(BillingMode.PAY_PER_REQUEST));
+
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(new DynamoDB(client), concurrency,
+        DynamodbBatchWriter.DEFAULT_MAX_RETRIES, DynamodbBatchWriter.DEFAULT_BASE_BACKOFF_MS, DynamodbBatchWriter.DEFAULT_MAX_BACKOFF_MS);
+
+    final long start = System.nanoTime();
+    TableWriteItems batch = new TableWriteItems(tableName);
+    for (int i = 0; i < RECORD_COUNT; i++) {
+      batch.addItemToPut(new Item().withPrimaryKey("id", UUID.randomUUID().toString()).withString("payload", "record-" + i));
+      if (batch.getItemsToPut().size() == DynamodbBatchWriter.MAX_BATCH_SIZE) {
+        writer.submit(batch);
+        batch = new TableWriteItems(tableName);
+      }
+    }
+    writer.submit(batch);
+    writer.close();
+    final double seconds = (System.nanoTime() - start) / 1e9;
+
+    LOGGER.info("concurrency {}: wrote {} items in {}s ({} items/s)", concurrency, RECORD_COUNT, seconds, RECORD_COUNT / seconds);
+    assertEquals(RECORD_COUNT, writer.getWrittenItems());
+  }
+
+}
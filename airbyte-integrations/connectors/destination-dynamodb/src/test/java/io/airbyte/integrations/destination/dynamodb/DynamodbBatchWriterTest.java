@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.dynamodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.amazonaws.services.dynamodbv2.document.BatchWriteItemOutcome;
+import com.amazonaws.services.dynamodbv2.document.DynamoDB;
+import com.amazonaws.services.dynamodbv2.document.Item;
+import com.amazonaws.services.dynamodbv2.document.TableWriteItems;
+import com.amazonaws.services.dynamodbv2.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodbv2.model.PutRequest;
+import com.amazonaws.services.dynamodbv2.model.WriteRequest;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DynamodbBatchWriterTest {
+
+  private static final String TABLE = "test_table";
+
+  private DynamoDB dynamodb;
+
+  @BeforeEach
+  void setup() {
+    dynamodb = mock(DynamoDB.class);
+  }
+
+  @Test
+  void testWritesAllBatches() throws Exception {
+    when(dynamodb.batchWriteItem(any(TableWriteItems.class))).thenReturn(outcome(Collections.emptyMap()));
+
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(dynamodb, 4, 3, 1, 2);
+    for (int i = 0; i < 10; i++) {
+      writer.submit(batch(DynamodbBatchWriter.MAX_BATCH_SIZE));
+    }
+    writer.close();
+
+    verify(dynamodb, times(10)).batchWriteItem(any(TableWriteItems.class));
+    assertEquals(10L * DynamodbBatchWriter.MAX_BATCH_SIZE, writer.getWrittenItems());
+  }
+
+  @Test
+  void testRetriesUnprocessedItems() throws Exception {
+    final Map<String, List<WriteRequest>> unprocessed = unprocessed(3);
+    when(dynamodb.batchWriteItem(any(TableWriteItems.class))).thenReturn(outcome(unprocessed));
+    when(dynamodb.batchWriteItemUnprocessed(anyMap()))
+        .thenReturn(outcome(unprocessed))
+        .thenReturn(outcome(Collections.emptyMap()));
+
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(dynamodb, 1, 3, 1, 2);
+    writer.submit(batch(5));
+    writer.close();
+
+    verify(dynamodb, times(2)).batchWriteItemUnprocessed(anyMap());
+    assertEquals(5, writer.getWrittenItems());
+  }
+
+  @Test
+  void testFailsWhenRetriesAreExhausted() throws Exception {
+    final Map<String, List<WriteRequest>> unprocessed = unprocessed(2);
+    when(dynamodb.batchWriteItem(any(TableWriteItems.class))).thenReturn(outcome(unprocessed));
+    when(dynamodb.batchWriteItemUnprocessed(anyMap())).thenReturn(outcome(unprocessed));
+
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(dynamodb, 1, 3, 1, 2);
+    writer.submit(batch(5));
+
+    assertThrows(RuntimeException.class, writer::close);
+    verify(dynamodb, times(3)).batchWriteItemUnprocessed(anyMap());
+  }
+
+  @Test
+  void testFailsWhenBatchWriteThrows() throws Exception {
+    when(dynamodb.batchWriteItem(any(TableWriteItems.class))).thenThrow(new IllegalStateException("throttled"));
+
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(dynamodb, 2, 3, 1, 2);
+    writer.submit(batch(5));
+
+    assertThrows(RuntimeException.class, writer::close);
+  }
+
+  @Test
+  void testRejectsOversizedBatch() {
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(dynamodb, 1, 3, 1, 2);
+    assertThrows(IllegalArgumentException.class, () -> writer.submit(batch(DynamodbBatchWriter.MAX_BATCH_SIZE + 1)));
+  }
+
+  @Test
+  void testBackoffIsBounded() {
+    final DynamodbBatchWriter writer = new DynamodbBatchWriter(dynamodb, 1, 3, 10, 100);
+    for (int attempt = 0; attempt < 30; attempt++) {
+      final long backoff = writer.computeBackoff(attempt);
+      assertTrue(backoff >= 0 && backoff <= 100);
+    }
+  }
+
+  private static TableWriteItems batch(final int size) {
+    final TableWriteItems items = new TableWriteItems(TABLE);
+    for (int i = 0; i < size; i++) {
+      items.addItemToPut(new Item().withPrimaryKey("id", String.valueOf(i)));
+    }
+    return items;
+  }
+
+  private static Map<String, List<WriteRequest>> unprocessed(final int size) {
+    final List<WriteRequest> requests = Collections.nCopies(size, new WriteRequest().withPutRequest(new PutRequest()));
+    return Map.of(TABLE, requests);
+  }
+
+  private static BatchWriteItemOutcome outcome(final Map<String, List<WriteRequest>> unprocessed) {
+    return new BatchWriteItemOutcome(new BatchWriteItemResult().withUnprocessedItems(unprocessed));
+  }
+
+}
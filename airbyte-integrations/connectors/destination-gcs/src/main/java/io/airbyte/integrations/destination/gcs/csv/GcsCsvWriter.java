@@ -55,7 +55,8 @@ public class GcsCsvWriter extends BaseGcsWriter implements S3Writer {
         objectKey);
 
     this.uploadManager = S3StreamTransferManagerHelper.getDefault(
-        config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
+        config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize(),
+        config.getFormatConfig().getUploadThreads());
     // We only need one output stream as we only have one input stream. This is reasonably performant.
     this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
     this.csvPrinter = new CSVPrinter(new PrintWriter(outputStream, true, StandardCharsets.UTF_8),
@@ -4,6 +4,7 @@
 
 package io.airbyte.integrations.destination.gcs.parquet;
 
+import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,11 +17,12 @@ import io.airbyte.integrations.destination.gcs.writer.BaseGcsWriter;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.avro.JsonFieldNameUpdater;
 import io.airbyte.integrations.destination.s3.parquet.S3ParquetFormatConfig;
+import io.airbyte.integrations.destination.s3.util.S3ParquetOutputFile;
+import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.io.IOException;
-import java.net.URI;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.util.UUID;
@@ -28,10 +30,8 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericData.Record;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.Path;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
-import org.apache.parquet.hadoop.util.HadoopOutputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tech.allegro.schema.json2avro.converter.JsonAvroConverter;
@@ -44,6 +44,7 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
 
   private final Schema schema;
   private final JsonFieldNameUpdater nameUpdater;
+  private final StreamTransferManager uploadManager;
   private final ParquetWriter<Record> parquetWriter;
   private final JsonAvroConverter converter = new JsonAvroConverter();
 
@@ -60,16 +61,14 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
 
     String outputFilename = BaseGcsWriter.getOutputFilename(uploadTimestamp, S3Format.PARQUET);
     String objectKey = String.join("/", outputPrefix, outputFilename);
-    LOGGER.info("Storage path for stream '{}': {}/{}", stream.getName(), config.getBucketName(), objectKey);
-
-    URI uri = new URI(String.format("s3a://%s/%s/%s", config.getBucketName(), outputPrefix, outputFilename));
-    Path path = new Path(uri);
-
-    LOGGER.info("Full GCS path for stream '{}': {}", stream.getName(), path);
+    LOGGER.info("Full GCS path for stream '{}': {}/{}", stream.getName(), config.getBucketName(), objectKey);
 
     S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
-    Configuration hadoopConfig = getHadoopConfig(config);
-    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(HadoopOutputFile.fromPath(path, hadoopConfig))
+    // GCS accepts S3 multipart uploads through its interoperability API, so the output is streamed
+    // directly instead of going through the Hadoop S3A file system.
+    this.uploadManager = S3StreamTransferManagerHelper.getDefault(
+        config.getBucketName(), objectKey, s3Client, formatConfig.getPartSize(), formatConfig.getUploadThreads());
+    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(new S3ParquetOutputFile(uploadManager))
         .withSchema(schema)
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
@@ -80,6 +79,9 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
         .build();
   }
 
+  /**
+   * Hadoop configuration for reading the output through S3A. The writer itself no longer needs it.
+   */
   public static Configuration getHadoopConfig(GcsDestinationConfig config) {
     GcsHmacKeyCredentialConfig hmacKeyCredential = (GcsHmacKeyCredentialConfig) config.getCredentialConfig();
     Configuration hadoopConfig = new Configuration();
@@ -115,11 +117,16 @@ public class GcsParquetWriter extends BaseGcsWriter implements S3Writer {
   public void close(boolean hasFailed) throws IOException {
     if (hasFailed) {
       LOGGER.warn("Failure detected. Aborting upload of stream '{}'...", stream.getName());
-      parquetWriter.close();
+      try {
+        parquetWriter.close();
+      } finally {
+        uploadManager.abort();
+      }
       LOGGER.warn("Upload of stream '{}' aborted.", stream.getName());
     } else {
       LOGGER.info("Uploading remaining data for stream '{}'.", stream.getName());
       parquetWriter.close();
+      uploadManager.complete();
       LOGGER.info("Upload completed for stream '{}'.", stream.getName());
     }
   }
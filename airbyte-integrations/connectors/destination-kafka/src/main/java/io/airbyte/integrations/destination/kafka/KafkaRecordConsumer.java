@@ -36,8 +36,7 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
   private final ConfiguredAirbyteCatalog catalog;
   private final Consumer<AirbyteMessage> outputRecordCollector;
   private final NamingConventionTransformer nameTransformer;
-
-  private AirbyteMessage lastStateMessage = null;
+  private final KafkaStateTracker stateTracker;
 
   public KafkaRecordConsumer(KafkaDestinationConfig kafkaDestinationConfig,
                              ConfiguredAirbyteCatalog catalog,
@@ -50,6 +49,7 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
     this.catalog = catalog;
     this.outputRecordCollector = outputRecordCollector;
     this.nameTransformer = nameTransformer;
+    this.stateTracker = new KafkaStateTracker();
   }
 
   @Override
@@ -60,7 +60,7 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
   @Override
   protected void acceptTracked(AirbyteMessage airbyteMessage) {
     if (airbyteMessage.getType() == AirbyteMessage.Type.STATE) {
-      lastStateMessage = airbyteMessage;
+      stateTracker.trackState(airbyteMessage);
     } else if (airbyteMessage.getType() == AirbyteMessage.Type.RECORD) {
       final AirbyteRecordMessage recordMessage = airbyteMessage.getRecord();
 
@@ -78,6 +78,7 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
     } else {
       LOGGER.warn("Unexpected message: " + airbyteMessage.getType());
     }
+    emitCommittedState();
   }
 
   Map<AirbyteStreamNameNamespacePair, String> buildTopicMap() {
@@ -89,24 +90,42 @@ public class KafkaRecordConsumer extends FailureTrackingAirbyteMessageConsumer {
                 .replaceAll("\\{stream}", Optional.ofNullable(pair.getName()).orElse("")))));
   }
 
+  /**
+   * In sync mode every record is flushed before the next one is accepted. Otherwise sends are
+   * pipelined and batched by the producer (see batch_size and linger_ms), and a state message is
+   * emitted only once every record sent before it has been acknowledged.
+   */
   private void sendRecord(ProducerRecord<String, JsonNode> record) {
+    stateTracker.throwIfFailed();
+    final KafkaStateTracker.SendCallback callback = stateTracker.trackSend();
     producer.send(record, (recordMetadata, exception) -> {
       if (exception != null) {
         LOGGER.error("Error sending message to topic.", exception);
-        throw new RuntimeException("Cannot send message to Kafka. Error: " + exception.getMessage(), exception);
       }
+      // this runs on the producer I/O thread, so failures are surfaced on the next accept() or close().
+      callback.onCompletion(exception);
     });
     if (sync) {
       producer.flush();
-      outputRecordCollector.accept(lastStateMessage);
     }
+    stateTracker.throwIfFailed();
+  }
+
+  private void emitCommittedState() {
+    stateTracker.pollCommittedState().ifPresent(outputRecordCollector);
   }
 
   @Override
   protected void close(boolean hasFailed) {
-    producer.flush();
-    producer.close();
-    outputRecordCollector.accept(lastStateMessage);
+    try {
+      producer.flush();
+    } finally {
+      producer.close();
+    }
+    if (!hasFailed) {
+      stateTracker.throwIfFailed();
+      emitCommittedState();
+    }
   }
 
 }
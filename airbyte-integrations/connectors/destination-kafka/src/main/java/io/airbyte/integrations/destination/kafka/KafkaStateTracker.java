@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.kafka;
+
+import io.airbyte.protocol.models.AirbyteMessage;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps track of outstanding Kafka sends so that a state message is only released once every record
+ * that was sent before it has been acknowledged by the broker.
+ *
+ * Records are grouped into epochs: every state message closes the current epoch and opens a new
+ * one. Producer callbacks (which run on the Kafka I/O thread) only decrement counters and record
+ * failures; all draining and emitting happens on the consumer thread.
+ */
+public class KafkaStateTracker {
+
+  private final Deque<Epoch> closedEpochs = new ArrayDeque<>();
+  private final AtomicReference<Exception> firstFailure = new AtomicReference<>();
+  private Epoch currentEpoch = new Epoch();
+
+  /**
+   * Register a record that is about to be sent.
+   *
+   * @return a callback to invoke once the send has completed.
+   */
+  public SendCallback trackSend() {
+    final Epoch epoch = currentEpoch;
+    epoch.outstanding.incrementAndGet();
+    return exception -> {
+      if (exception != null) {
+        firstFailure.compareAndSet(null, exception);
+      }
+      epoch.outstanding.decrementAndGet();
+    };
+  }
+
+  /**
+   * Close the current epoch with the given state message. The state is held back until all records
+   * sent so far are acknowledged.
+   */
+  public void trackState(final AirbyteMessage stateMessage) {
+    currentEpoch.stateMessage = stateMessage;
+    closedEpochs.addLast(currentEpoch);
+    currentEpoch = new Epoch();
+  }
+
+  /**
+   * @return the latest state message whose preceding records have all been acknowledged, if any.
+   *         Released states are removed from the tracker. Nothing is released once a send failed.
+   */
+  public Optional<AirbyteMessage> pollCommittedState() {
+    if (firstFailure.get() != null) {
+      return Optional.empty();
+    }
+    AirbyteMessage committed = null;
+    while (!closedEpochs.isEmpty() && closedEpochs.peekFirst().outstanding.get() == 0) {
+      committed = closedEpochs.pollFirst().stateMessage;
+    }
+    // a send may have failed after its epoch was counted as done above.
+    if (firstFailure.get() != null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(committed);
+  }
+
+  /**
+   * @throws RuntimeException if any send has failed so far.
+   */
+  public void throwIfFailed() {
+    final Exception failure = firstFailure.get();
+    if (failure != null) {
+      throw new RuntimeException("Cannot send message to Kafka. Error: " + failure.getMessage(), failure);
+    }
+  }
+
+  public int getPendingStates() {
+    return closedEpochs.size();
+  }
+
+  @FunctionalInterface
+  public interface SendCallback {
+
+    void onCompletion(Exception exception);
+
+  }
+
+  private static class Epoch {
+
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private AirbyteMessage stateMessage;
+
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.StandardNameTransformer;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.KafkaContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares records per second between the sync producer and the pipelined producer against a real
+ * broker, and checks that the pipelined producer still emits every state message.
+ */
+public class KafkaRecordConsumerBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(KafkaRecordConsumerBenchmarkTest.class);
+
+  private static final String NAMESPACE = "public";
+  private static final String STREAM_NAME = "benchmark";
+  private static final int STATE_EVERY_N_RECORDS = 1_000;
+
+  private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog().withStreams(List.of(
+      CatalogHelpers.createConfiguredAirbyteStream(
+          STREAM_NAME,
+          NAMESPACE,
+          Field.of("id", JsonSchemaPrimitive.NUMBER),
+          Field.of("name", JsonSchemaPrimitive.STRING))));
+
+  private static KafkaContainer KAFKA;
+
+  @BeforeAll
+  static void init() {
+    KAFKA = new KafkaContainer(DockerImageName.parse("confluentinc/cp-kafka:6.2.0"));
+    KAFKA.start();
+  }
+
+  @AfterAll
+  static void cleanup() {
+    KAFKA.close();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "true, 0, 2000",
+    "false, 20, 50000"
+  })
+  void testThroughput(final boolean sync, final int lingerMs, final int recordCount) throws Exception {
+    final List<AirbyteMessage> emittedStates = new ArrayList<>();
+    final KafkaDestinationConfig config = KafkaDestinationConfig.getKafkaDestinationConfig(getConfig(sync, lingerMs));
+    final KafkaRecordConsumer consumer = new KafkaRecordConsumer(config, CATALOG, emittedStates::add, new StandardNameTransformer());
+
+    final long start = System.nanoTime();
+    consumer.start();
+    for (int i = 1; i <= recordCount; i++) {
+      consumer.accept(new AirbyteMessage()
+          .withType(AirbyteMessage.Type.RECORD)
+          .withRecord(new AirbyteRecordMessage()
+              .withStream(STREAM_NAME)
+              .withNamespace(NAMESPACE)
+              .withEmittedAt(System.currentTimeMillis())
+              .withData(Jsons.jsonNode(ImmutableMap.of("id", i, "name", "human " + i)))));
+      if (i % STATE_EVERY_N_RECORDS == 0) {
+        consumer.accept(new AirbyteMessage()
+            .withType(AirbyteMessage.Type.STATE)
+            .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(ImmutableMap.of("id", i)))));
+      }
+    }
+    consumer.close();
+    final double seconds = (System.nanoTime() - start) / 1e9;
+
+    LOGGER.info("sync={} linger_ms={}: {} records in {}s ({} records/s), {} states emitted",
+        sync, lingerMs, recordCount, seconds, recordCount / seconds, emittedStates.size());
+    final AirbyteMessage lastState = emittedStates.get(emittedStates.size() - 1);
+    assertEquals(recordCount, lastState.getState().getData().get("id").asInt());
+  }
+
+  private static JsonNode getConfig(final boolean sync, final int lingerMs) {
+    return Jsons.jsonNode(ImmutableMap.builder()
+        .put("bootstrap_servers", KAFKA.getBootstrapServers())
+        .put("topic_pattern", "{namespace}.{stream}.benchmark")
+        .put("sync_producer", sync)
+        .put("protocol", ImmutableMap.of("security_protocol", KafkaProtocol.PLAINTEXT.toString()))
+        .put("client_id", "benchmark-client")
+        .put("acks", "all")
+        .put("enable_idempotence", true)
+        .put("compression_type", "lz4")
+        .put("batch_size", 131072)
+        .put("linger_ms", String.valueOf(lingerMs))
+        .put("max_in_flight_requests_per_connection", 5)
+        .put("client_dns_lookup", "use_all_dns_ips")
+        .put("buffer_memory", 33554432)
+        .put("max_request_size", 1048576)
+        .put("retries", 2147483647)
+        .put("socket_connection_setup_timeout_ms", 10000)
+        .put("socket_connection_setup_timeout_max_ms", 30000)
+        .put("max_block_ms", 60000)
+        .put("request_timeout_ms", 30000)
+        .put("delivery_timeout_ms", 120000)
+        .put("send_buffer_bytes", -1)
+        .put("receive_buffer_bytes", -1)
+        .build());
+  }
+
+}
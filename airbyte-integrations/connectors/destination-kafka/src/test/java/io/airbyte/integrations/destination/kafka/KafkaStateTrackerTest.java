@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteStateMessage;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class KafkaStateTrackerTest {
+
+  @Test
+  void testStateIsHeldUntilPrecedingSendsAreAcked() {
+    final KafkaStateTracker tracker = new KafkaStateTracker();
+    final KafkaStateTracker.SendCallback first = tracker.trackSend();
+    final KafkaStateTracker.SendCallback second = tracker.trackSend();
+    final AirbyteMessage state = state(1);
+    tracker.trackState(state);
+
+    assertTrue(tracker.pollCommittedState().isEmpty());
+    second.onCompletion(null);
+    assertTrue(tracker.pollCommittedState().isEmpty());
+    first.onCompletion(null);
+    assertEquals(Optional.of(state), tracker.pollCommittedState());
+    assertEquals(0, tracker.getPendingStates());
+  }
+
+  @Test
+  void testLaterStateWaitsForEarlierEpochs() {
+    final KafkaStateTracker tracker = new KafkaStateTracker();
+    final KafkaStateTracker.SendCallback first = tracker.trackSend();
+    tracker.trackState(state(1));
+    final KafkaStateTracker.SendCallback second = tracker.trackSend();
+    final AirbyteMessage latest = state(2);
+    tracker.trackState(latest);
+
+    // records after the first state are acked before the records before it.
+    second.onCompletion(null);
+    assertTrue(tracker.pollCommittedState().isEmpty());
+
+    first.onCompletion(null);
+    assertEquals(Optional.of(latest), tracker.pollCommittedState());
+  }
+
+  @Test
+  void testStateWithoutRecordsIsReleasedImmediately() {
+    final KafkaStateTracker tracker = new KafkaStateTracker();
+    final AirbyteMessage state = state(1);
+    tracker.trackState(state);
+    assertEquals(Optional.of(state), tracker.pollCommittedState());
+  }
+
+  @Test
+  void testFailedSendBlocksStates() {
+    final KafkaStateTracker tracker = new KafkaStateTracker();
+    final KafkaStateTracker.SendCallback send = tracker.trackSend();
+    tracker.trackState(state(1));
+    send.onCompletion(new IllegalStateException("broker unavailable"));
+
+    assertTrue(tracker.pollCommittedState().isEmpty());
+    assertThrows(RuntimeException.class, tracker::throwIfFailed);
+  }
+
+  private static AirbyteMessage state(final int value) {
+    return new AirbyteMessage()
+        .withType(AirbyteMessage.Type.STATE)
+        .withState(new AirbyteStateMessage().withData(Jsons.jsonNode(Map.of("cursor", value))));
+  }
+
+}
@@ -15,6 +15,8 @@ import io.airbyte.integrations.base.Destination;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.StandardNameTransformer;
+import io.airbyte.integrations.destination.local_file.LocalFileWriterConfig;
+import io.airbyte.integrations.destination.local_file.RotatingFileWriter;
 import io.airbyte.protocol.models.AirbyteConnectionStatus;
 import io.airbyte.protocol.models.AirbyteConnectionStatus.Status;
 import io.airbyte.protocol.models.AirbyteMessage;
@@ -23,13 +25,10 @@ import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.DestinationSyncMode;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.io.Writer;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -75,22 +74,22 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
 
     FileUtils.forceMkdir(destinationDir.toFile());
 
-    final Map<String, WriteConfig> writeConfigs = new HashMap<>();
+    final LocalFileWriterConfig fileWriterConfig = LocalFileWriterConfig.fromJson(config);
+    final Map<String, RotatingFileWriter> writeConfigs = new HashMap<>();
     for (final ConfiguredAirbyteStream stream : catalog.getStreams()) {
       final String streamName = stream.getStream().getName();
-      final Path finalPath = destinationDir.resolve(namingResolver.getRawTableName(streamName) + ".jsonl");
-      final Path tmpPath = destinationDir.resolve(namingResolver.getTmpTableName(streamName) + ".jsonl");
       final DestinationSyncMode syncMode = stream.getDestinationSyncMode();
       if (syncMode == null) {
         throw new IllegalStateException("Undefined destination sync mode");
       }
       final boolean isAppendMode = syncMode != DestinationSyncMode.OVERWRITE;
-      if (isAppendMode && finalPath.toFile().exists()) {
-        Files.copy(finalPath, tmpPath, StandardCopyOption.REPLACE_EXISTING);
-      }
-
-      final Writer writer = new FileWriter(tmpPath.toFile(), isAppendMode);
-      writeConfigs.put(stream.getStream().getName(), new WriteConfig(writer, tmpPath, finalPath));
+      writeConfigs.put(stream.getStream().getName(), new RotatingFileWriter(
+          destinationDir,
+          namingResolver.getTmpTableName(streamName),
+          namingResolver.getRawTableName(streamName),
+          ".jsonl",
+          fileWriterConfig,
+          isAppendMode));
     }
 
     return new JsonConsumer(writeConfigs, catalog, outputRecordCollector);
@@ -123,10 +122,10 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
    */
   private static class JsonConsumer extends CommitOnStateAirbyteMessageConsumer {
 
-    private final Map<String, WriteConfig> writeConfigs;
+    private final Map<String, RotatingFileWriter> writeConfigs;
     private final ConfiguredAirbyteCatalog catalog;
 
-    public JsonConsumer(Map<String, WriteConfig> writeConfigs, ConfiguredAirbyteCatalog catalog, Consumer<AirbyteMessage> outputRecordCollector) {
+    public JsonConsumer(Map<String, RotatingFileWriter> writeConfigs, ConfiguredAirbyteCatalog catalog, Consumer<AirbyteMessage> outputRecordCollector) {
       super(outputRecordCollector);
       LOGGER.info("initializing consumer.");
       this.catalog = catalog;
@@ -152,7 +151,9 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
                 Jsons.serialize(catalog), Jsons.serialize(recordMessage)));
       }
 
-      final Writer writer = writeConfigs.get(recordMessage.getStream()).getWriter();
+      final RotatingFileWriter fileWriter = writeConfigs.get(recordMessage.getStream());
+      fileWriter.rotateIfNeeded();
+      final Writer writer = fileWriter.getWriter();
       writer.write(Jsons.serialize(ImmutableMap.of(
           JavaBaseConstants.COLUMN_NAME_AB_ID, UUID.randomUUID(),
           JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt(),
@@ -162,8 +163,8 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
 
     @Override
     public void commit() throws Exception {
-      for (WriteConfig writeConfig : writeConfigs.values()) {
-        writeConfig.getWriter().flush();
+      for (RotatingFileWriter fileWriter : writeConfigs.values()) {
+        fileWriter.flush();
       }
     }
 
@@ -171,10 +172,9 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
     protected void close(boolean hasFailed) throws IOException {
       LOGGER.info("finalizing consumer.");
 
-      for (final Map.Entry<String, WriteConfig> entries : writeConfigs.entrySet()) {
+      for (final Map.Entry<String, RotatingFileWriter> entries : writeConfigs.entrySet()) {
         try {
-          entries.getValue().getWriter().flush();
-          entries.getValue().getWriter().close();
+          entries.getValue().close();
         } catch (Exception e) {
           hasFailed = true;
           LOGGER.error("failed to close writer for: {}.", entries.getKey());
@@ -183,9 +183,10 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
       // do not persist the data, if there are any failures.
       try {
         if (!hasFailed) {
-          for (final WriteConfig writeConfig : writeConfigs.values()) {
-            Files.move(writeConfig.getTmpPath(), writeConfig.getFinalPath(), StandardCopyOption.REPLACE_EXISTING);
-            LOGGER.info(String.format("File output: %s", writeConfig.getFinalPath()));
+          for (final RotatingFileWriter fileWriter : writeConfigs.values()) {
+            for (final Path finalPath : fileWriter.commit()) {
+              LOGGER.info(String.format("File output: %s", finalPath));
+            }
           }
         } else {
           final String message = "Failed to output files in destination";
@@ -194,40 +195,14 @@ public class LocalJsonDestination extends BaseConnector implements Destination {
         }
       } finally {
         // clean up tmp files.
-        for (final WriteConfig writeConfig : writeConfigs.values()) {
-          Files.deleteIfExists(writeConfig.getTmpPath());
+        for (final RotatingFileWriter fileWriter : writeConfigs.values()) {
+          fileWriter.cleanUp();
         }
       }
     }
 
   }
 
-  private static class WriteConfig {
-
-    private final Writer writer;
-    private final Path tmpPath;
-    private final Path finalPath;
-
-    public WriteConfig(Writer writer, Path tmpPath, Path finalPath) {
-      this.writer = writer;
-      this.tmpPath = tmpPath;
-      this.finalPath = finalPath;
-    }
-
-    public Writer getWriter() {
-      return writer;
-    }
-
-    public Path getTmpPath() {
-      return tmpPath;
-    }
-
-    public Path getFinalPath() {
-      return finalPath;
-    }
-
-  }
-
   public static void main(String[] args) throws Exception {
     new IntegrationRunner(new LocalJsonDestination()).run(args);
   }
@@ -12,6 +12,21 @@ public interface S3FormatConfig {
 
   Long getPartSize();
 
+  /**
+   * @return number of parts uploaded concurrently, or null to use the default.
+   */
+  default Integer getUploadThreads() {
+    return null;
+  }
+
+  /**
+   * @return size in MB after which the output of a stream rolls over to a new object, or null if the
+   *         output is never split.
+   */
+  default Long getMaxFileSizeMb() {
+    return null;
+  }
+
   static String withDefault(JsonNode config, String property, String defaultValue) {
     JsonNode value = config.get(property);
     if (value == null || value.isNull()) {
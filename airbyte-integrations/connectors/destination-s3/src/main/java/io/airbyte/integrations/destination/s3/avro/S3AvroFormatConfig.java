@@ -4,7 +4,9 @@
 
 package io.airbyte.integrations.destination.s3.avro;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
 import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.UPLOAD_THREADS_ARG_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.integrations.destination.s3.S3Format;
@@ -15,10 +17,14 @@ public class S3AvroFormatConfig implements S3FormatConfig {
 
   private final CodecFactory codecFactory;
   private final Long partSize;
+  private final Integer uploadThreads;
+  private final Long maxFileSizeMb;
 
   public S3AvroFormatConfig(JsonNode formatConfig) {
     this.codecFactory = parseCodecConfig(formatConfig.get("compression_codec"));
     this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.uploadThreads = formatConfig.get(UPLOAD_THREADS_ARG_NAME) != null ? formatConfig.get(UPLOAD_THREADS_ARG_NAME).asInt() : null;
+    this.maxFileSizeMb = formatConfig.get(MAX_FILE_SIZE_MB_ARG_NAME) != null ? formatConfig.get(MAX_FILE_SIZE_MB_ARG_NAME).asLong() : null;
   }
 
   public static CodecFactory parseCodecConfig(JsonNode compressionCodecConfig) {
@@ -90,6 +96,16 @@ public class S3AvroFormatConfig implements S3FormatConfig {
     return partSize;
   }
 
+  @Override
+  public Integer getUploadThreads() {
+    return uploadThreads;
+  }
+
+  @Override
+  public Long getMaxFileSizeMb() {
+    return maxFileSizeMb;
+  }
+
   @Override
   public S3Format getFormat() {
     return S3Format.AVRO;
@@ -4,12 +4,10 @@
 
 package io.airbyte.integrations.destination.s3.avro;
 
-import alex.mojaki.s3upload.MultiPartOutputStream;
-import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
-import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
+import io.airbyte.integrations.destination.s3.util.RollingMultipartUpload;
 import io.airbyte.integrations.destination.s3.writer.BaseS3Writer;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -30,9 +28,10 @@ public class S3AvroWriter extends BaseS3Writer implements S3Writer {
   protected static final Logger LOGGER = LoggerFactory.getLogger(S3AvroWriter.class);
 
   private final AvroRecordFactory avroRecordFactory;
-  private final StreamTransferManager uploadManager;
-  private final MultiPartOutputStream outputStream;
-  private final DataFileWriter<GenericData.Record> dataFileWriter;
+  private final Schema schema;
+  private final S3AvroFormatConfig formatConfig;
+  private final RollingMultipartUpload upload;
+  private DataFileWriter<GenericData.Record> dataFileWriter;
 
   public S3AvroWriter(S3DestinationConfig config,
                       AmazonS3 s3Client,
@@ -43,43 +42,51 @@ public class S3AvroWriter extends BaseS3Writer implements S3Writer {
       throws IOException {
     super(config, s3Client, configuredStream);
 
-    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.AVRO);
-    String objectKey = String.join("/", outputPrefix, outputFilename);
+    this.avroRecordFactory = new AvroRecordFactory(schema, nameUpdater);
+    this.schema = schema;
+    this.formatConfig = (S3AvroFormatConfig) config.getFormatConfig();
+    this.upload = new RollingMultipartUpload(config.getBucketName(), s3Client,
+        partIndex -> String.join("/", outputPrefix, BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.AVRO, partIndex)),
+        formatConfig);
 
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
-        objectKey);
-
-    this.avroRecordFactory = new AvroRecordFactory(schema, nameUpdater);
-    this.uploadManager = S3StreamTransferManagerHelper.getDefault(
-        config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
-    // We only need one output stream as we only have one input stream. This is reasonably performant.
-    this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
+        upload.getCurrentObjectKey());
 
-    S3AvroFormatConfig formatConfig = (S3AvroFormatConfig) config.getFormatConfig();
-    // The DataFileWriter always uses binary encoding.
-    // If json encoding is needed in the future, use the GenericDatumWriter directly.
-    this.dataFileWriter = new DataFileWriter<>(new GenericDatumWriter<Record>())
-        .setCodec(formatConfig.getCodecFactory())
-        .create(schema, outputStream);
+    this.dataFileWriter = createDataFileWriter();
   }
 
   @Override
   public void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException {
     dataFileWriter.append(avroRecordFactory.getAvroRecord(id, recordMessage));
+
+    if (upload.shouldRoll()) {
+      dataFileWriter.close();
+      upload.roll();
+      LOGGER.info("Rolled output of stream '{}' over to s3://{}/{}", stream.getName(), config.getBucketName(),
+          upload.getCurrentObjectKey());
+      // every object is a complete Avro container file with its own schema header.
+      dataFileWriter = createDataFileWriter();
+    }
   }
 
   @Override
   protected void closeWhenSucceed() throws IOException {
     dataFileWriter.close();
-    outputStream.close();
-    uploadManager.complete();
+    upload.complete();
   }
 
   @Override
   protected void closeWhenFail() throws IOException {
     dataFileWriter.close();
-    outputStream.close();
-    uploadManager.abort();
+    upload.abort();
+  }
+
+  private DataFileWriter<GenericData.Record> createDataFileWriter() throws IOException {
+    // The DataFileWriter always uses binary encoding.
+    // If json encoding is needed in the future, use the GenericDatumWriter directly.
+    return new DataFileWriter<>(new GenericDatumWriter<Record>())
+        .setCodec(formatConfig.getCodecFactory())
+        .create(schema, upload.getOutputStream());
   }
 
 }
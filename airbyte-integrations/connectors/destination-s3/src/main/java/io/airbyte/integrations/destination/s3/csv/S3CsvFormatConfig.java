@@ -4,7 +4,9 @@
 
 package io.airbyte.integrations.destination.s3.csv;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
 import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.UPLOAD_THREADS_ARG_NAME;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -43,10 +45,14 @@ public class S3CsvFormatConfig implements S3FormatConfig {
 
   private final Flattening flattening;
   private final Long partSize;
+  private final Integer uploadThreads;
+  private final Long maxFileSizeMb;
 
   public S3CsvFormatConfig(JsonNode formatConfig) {
     this.flattening = Flattening.fromValue(formatConfig.get("flattening").asText());
     this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.uploadThreads = formatConfig.get(UPLOAD_THREADS_ARG_NAME) != null ? formatConfig.get(UPLOAD_THREADS_ARG_NAME).asInt() : null;
+    this.maxFileSizeMb = formatConfig.get(MAX_FILE_SIZE_MB_ARG_NAME) != null ? formatConfig.get(MAX_FILE_SIZE_MB_ARG_NAME).asLong() : null;
   }
 
   @Override
@@ -62,11 +68,23 @@ public class S3CsvFormatConfig implements S3FormatConfig {
     return partSize;
   }
 
+  @Override
+  public Integer getUploadThreads() {
+    return uploadThreads;
+  }
+
+  @Override
+  public Long getMaxFileSizeMb() {
+    return maxFileSizeMb;
+  }
+
   @Override
   public String toString() {
     return "S3CsvFormatConfig{" +
         "flattening=" + flattening +
         ", partSize=" + partSize +
+        ", uploadThreads=" + uploadThreads +
+        ", maxFileSizeMb=" + maxFileSizeMb +
         '}';
   }
 
@@ -4,12 +4,10 @@
 
 package io.airbyte.integrations.destination.s3.csv;
 
-import alex.mojaki.s3upload.MultiPartOutputStream;
-import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
-import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
+import io.airbyte.integrations.destination.s3.util.RollingMultipartUpload;
 import io.airbyte.integrations.destination.s3.writer.BaseS3Writer;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -30,9 +28,8 @@ public class S3CsvWriter extends BaseS3Writer implements S3Writer {
   private static final Logger LOGGER = LoggerFactory.getLogger(S3CsvWriter.class);
 
   private final CsvSheetGenerator csvSheetGenerator;
-  private final StreamTransferManager uploadManager;
-  private final MultiPartOutputStream outputStream;
-  private final CSVPrinter csvPrinter;
+  private final RollingMultipartUpload upload;
+  private CSVPrinter csvPrinter;
 
   public S3CsvWriter(S3DestinationConfig config,
                      AmazonS3 s3Client,
@@ -45,38 +42,46 @@ public class S3CsvWriter extends BaseS3Writer implements S3Writer {
     this.csvSheetGenerator = CsvSheetGenerator.Factory.create(configuredStream.getStream().getJsonSchema(),
         formatConfig);
 
-    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.CSV);
-    String objectKey = String.join("/", outputPrefix, outputFilename);
+    this.upload = new RollingMultipartUpload(config.getBucketName(), s3Client,
+        partIndex -> String.join("/", outputPrefix, BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.CSV, partIndex)),
+        formatConfig);
 
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
-        objectKey);
+        upload.getCurrentObjectKey());
 
-    this.uploadManager = S3StreamTransferManagerHelper.getDefault(
-        config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
-    // We only need one output stream as we only have one input stream. This is reasonably performant.
-    this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    this.csvPrinter = new CSVPrinter(new PrintWriter(outputStream, true, StandardCharsets.UTF_8),
-        CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL)
-            .withHeader(csvSheetGenerator.getHeaderRow().toArray(new String[0])));
+    this.csvPrinter = createCsvPrinter();
   }
 
   @Override
   public void write(UUID id, AirbyteRecordMessage recordMessage) throws IOException {
     csvPrinter.printRecord(csvSheetGenerator.getDataRow(id, recordMessage));
+
+    if (upload.shouldRoll()) {
+      csvPrinter.close();
+      upload.roll();
+      LOGGER.info("Rolled output of stream '{}' over to s3://{}/{}", stream.getName(), config.getBucketName(),
+          upload.getCurrentObjectKey());
+      // every object gets its own header so that each can be read on its own.
+      csvPrinter = createCsvPrinter();
+    }
   }
 
   @Override
   protected void closeWhenSucceed() throws IOException {
     csvPrinter.close();
-    outputStream.close();
-    uploadManager.complete();
+    upload.complete();
   }
 
   @Override
   protected void closeWhenFail() throws IOException {
     csvPrinter.close();
-    outputStream.close();
-    uploadManager.abort();
+    upload.abort();
+  }
+
+  private CSVPrinter createCsvPrinter() throws IOException {
+    return new CSVPrinter(new PrintWriter(upload.getOutputStream(), true, StandardCharsets.UTF_8),
+        CSVFormat.DEFAULT.withQuoteMode(QuoteMode.ALL)
+            .withHeader(csvSheetGenerator.getHeaderRow().toArray(new String[0])));
   }
 
 }
@@ -4,7 +4,9 @@
 
 package io.airbyte.integrations.destination.s3.jsonl;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.MAX_FILE_SIZE_MB_ARG_NAME;
 import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.UPLOAD_THREADS_ARG_NAME;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.integrations.destination.s3.S3Format;
@@ -13,9 +15,13 @@ import io.airbyte.integrations.destination.s3.S3FormatConfig;
 public class S3JsonlFormatConfig implements S3FormatConfig {
 
   private final Long partSize;
+  private final Integer uploadThreads;
+  private final Long maxFileSizeMb;
 
   public S3JsonlFormatConfig(JsonNode formatConfig) {
     this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.uploadThreads = formatConfig.get(UPLOAD_THREADS_ARG_NAME) != null ? formatConfig.get(UPLOAD_THREADS_ARG_NAME).asInt() : null;
+    this.maxFileSizeMb = formatConfig.get(MAX_FILE_SIZE_MB_ARG_NAME) != null ? formatConfig.get(MAX_FILE_SIZE_MB_ARG_NAME).asLong() : null;
   }
 
   @Override
@@ -27,4 +33,14 @@ public class S3JsonlFormatConfig implements S3FormatConfig {
     return partSize;
   }
 
+  @Override
+  public Integer getUploadThreads() {
+    return uploadThreads;
+  }
+
+  @Override
+  public Long getMaxFileSizeMb() {
+    return maxFileSizeMb;
+  }
+
 }
@@ -4,8 +4,6 @@
 
 package io.airbyte.integrations.destination.s3.jsonl;
 
-import alex.mojaki.s3upload.MultiPartOutputStream;
-import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
@@ -15,7 +13,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.integrations.base.JavaBaseConstants;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
-import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
+import io.airbyte.integrations.destination.s3.util.RollingMultipartUpload;
 import io.airbyte.integrations.destination.s3.writer.BaseS3Writer;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
@@ -34,9 +32,8 @@ public class S3JsonlWriter extends BaseS3Writer implements S3Writer {
   private static final ObjectMapper MAPPER = MoreMappers.initMapper();
   private static final ObjectWriter WRITER = MAPPER.writer();
 
-  private final StreamTransferManager uploadManager;
-  private final MultiPartOutputStream outputStream;
-  private final PrintWriter printWriter;
+  private final RollingMultipartUpload upload;
+  private PrintWriter printWriter;
 
   public S3JsonlWriter(S3DestinationConfig config,
                        AmazonS3 s3Client,
@@ -44,17 +41,14 @@ public class S3JsonlWriter extends BaseS3Writer implements S3Writer {
                        Timestamp uploadTimestamp) {
     super(config, s3Client, configuredStream);
 
-    String outputFilename = BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.JSONL);
-    String objectKey = String.join("/", outputPrefix, outputFilename);
+    this.upload = new RollingMultipartUpload(config.getBucketName(), s3Client,
+        partIndex -> String.join("/", outputPrefix, BaseS3Writer.getOutputFilename(uploadTimestamp, S3Format.JSONL, partIndex)),
+        config.getFormatConfig());
 
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
-        objectKey);
+        upload.getCurrentObjectKey());
 
-    this.uploadManager = S3StreamTransferManagerHelper.getDefault(
-        config.getBucketName(), objectKey, s3Client, config.getFormatConfig().getPartSize());
-    // We only need one output stream as we only have one input stream. This is reasonably performant.
-    this.outputStream = uploadManager.getMultiPartOutputStreams().get(0);
-    this.printWriter = new PrintWriter(outputStream, true, StandardCharsets.UTF_8);
+    this.printWriter = new PrintWriter(upload.getOutputStream(), true, StandardCharsets.UTF_8);
   }
 
   @Override
@@ -64,20 +58,26 @@ public class S3JsonlWriter extends BaseS3Writer implements S3Writer {
     json.put(JavaBaseConstants.COLUMN_NAME_EMITTED_AT, recordMessage.getEmittedAt());
     json.set(JavaBaseConstants.COLUMN_NAME_DATA, recordMessage.getData());
     printWriter.println(Jsons.serialize(json));
+
+    if (upload.shouldRoll()) {
+      printWriter.close();
+      upload.roll();
+      LOGGER.info("Rolled output of stream '{}' over to s3://{}/{}", stream.getName(), config.getBucketName(),
+          upload.getCurrentObjectKey());
+      printWriter = new PrintWriter(upload.getOutputStream(), true, StandardCharsets.UTF_8);
+    }
   }
 
   @Override
   protected void closeWhenSucceed() {
     printWriter.close();
-    outputStream.close();
-    uploadManager.complete();
+    upload.complete();
   }
 
   @Override
   protected void closeWhenFail() {
     printWriter.close();
-    outputStream.close();
-    uploadManager.abort();
+    upload.abort();
   }
 
 }
@@ -4,6 +4,9 @@
 
 package io.airbyte.integrations.destination.s3.parquet;
 
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.PART_SIZE_MB_ARG_NAME;
+import static io.airbyte.integrations.destination.s3.S3DestinationConstants.UPLOAD_THREADS_ARG_NAME;
+
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.S3FormatConfig;
@@ -17,6 +20,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
   private final int pageSize;
   private final int dictionaryPageSize;
   private final boolean dictionaryEncoding;
+  private final Long partSize;
+  private final Integer uploadThreads;
 
   public S3ParquetFormatConfig(JsonNode formatConfig) {
     int blockSizeMb = S3FormatConfig.withDefault(formatConfig, "block_size_mb", S3ParquetConstants.DEFAULT_BLOCK_SIZE_MB);
@@ -32,6 +37,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
     this.pageSize = pageSizeKb * 1024;
     this.dictionaryPageSize = dictionaryPageSizeKb * 1024;
     this.dictionaryEncoding = S3FormatConfig.withDefault(formatConfig, "dictionary_encoding", S3ParquetConstants.DEFAULT_DICTIONARY_ENCODING);
+    this.partSize = formatConfig.get(PART_SIZE_MB_ARG_NAME) != null ? formatConfig.get(PART_SIZE_MB_ARG_NAME).asLong() : null;
+    this.uploadThreads = formatConfig.get(UPLOAD_THREADS_ARG_NAME) != null ? formatConfig.get(UPLOAD_THREADS_ARG_NAME).asInt() : null;
   }
 
   @Override
@@ -41,8 +48,12 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
 
   @Override
   public Long getPartSize() {
-    // not applicable for Parquet format
-    return null;
+    return partSize;
+  }
+
+  @Override
+  public Integer getUploadThreads() {
+    return uploadThreads;
   }
 
   public CompressionCodecName getCompressionCodec() {
@@ -78,6 +89,8 @@ public class S3ParquetFormatConfig implements S3FormatConfig {
         "pageSize=" + pageSize + ", " +
         "dictionaryPageSize=" + dictionaryPageSize + ", " +
         "dictionaryEncoding=" + dictionaryEncoding + ", " +
+        "partSize=" + partSize + ", " +
+        "uploadThreads=" + uploadThreads + ", " +
         '}';
   }
 
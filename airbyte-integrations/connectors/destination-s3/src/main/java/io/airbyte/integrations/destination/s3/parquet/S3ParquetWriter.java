@@ -4,17 +4,19 @@
 
 package io.airbyte.integrations.destination.s3.parquet;
 
+import alex.mojaki.s3upload.StreamTransferManager;
 import com.amazonaws.services.s3.AmazonS3;
 import io.airbyte.integrations.destination.s3.S3DestinationConfig;
 import io.airbyte.integrations.destination.s3.S3Format;
 import io.airbyte.integrations.destination.s3.avro.AvroRecordFactory;
 import io.airbyte.integrations.destination.s3.avro.JsonFieldNameUpdater;
+import io.airbyte.integrations.destination.s3.util.S3ParquetOutputFile;
+import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
 import io.airbyte.integrations.destination.s3.writer.BaseS3Writer;
 import io.airbyte.integrations.destination.s3.writer.S3Writer;
 import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import java.io.IOException;
-import java.net.URI;
 import java.net.URISyntaxException;
 import java.sql.Timestamp;
 import java.util.UUID;
@@ -22,11 +24,9 @@ import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericData.Record;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.s3a.Constants;
 import org.apache.parquet.avro.AvroParquetWriter;
 import org.apache.parquet.hadoop.ParquetWriter;
-import org.apache.parquet.hadoop.util.HadoopOutputFile;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,6 +34,7 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(S3ParquetWriter.class);
 
+  private final StreamTransferManager uploadManager;
   private final ParquetWriter<Record> parquetWriter;
   private final AvroRecordFactory avroRecordFactory;
   private final Schema parquetSchema;
@@ -54,13 +55,11 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
     LOGGER.info("Full S3 path for stream '{}': s3://{}/{}", stream.getName(), config.getBucketName(),
         objectKey);
 
-    URI uri = new URI(
-        String.format("s3a://%s/%s/%s", config.getBucketName(), outputPrefix, outputFilename));
-    Path path = new Path(uri);
-
     S3ParquetFormatConfig formatConfig = (S3ParquetFormatConfig) config.getFormatConfig();
-    Configuration hadoopConfig = getHadoopConfig(config);
-    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(HadoopOutputFile.fromPath(path, hadoopConfig))
+    // Stream straight into a multipart upload instead of going through the Hadoop S3A file system.
+    this.uploadManager = S3StreamTransferManagerHelper.getDefault(
+        config.getBucketName(), objectKey, s3Client, formatConfig.getPartSize(), formatConfig.getUploadThreads());
+    this.parquetWriter = AvroParquetWriter.<GenericData.Record>builder(new S3ParquetOutputFile(uploadManager))
         .withSchema(schema)
         .withCompressionCodec(formatConfig.getCompressionCodec())
         .withRowGroupSize(formatConfig.getBlockSize())
@@ -73,6 +72,9 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
     this.parquetSchema = schema;
   }
 
+  /**
+   * Hadoop configuration for reading the output through S3A. The writer itself no longer needs it.
+   */
   public static Configuration getHadoopConfig(S3DestinationConfig config) {
     Configuration hadoopConfig = new Configuration();
     hadoopConfig.set(Constants.ACCESS_KEY, config.getAccessKeyId());
@@ -111,11 +113,16 @@ public class S3ParquetWriter extends BaseS3Writer implements S3Writer {
   @Override
   protected void closeWhenSucceed() throws IOException {
     parquetWriter.close();
+    uploadManager.complete();
   }
 
   @Override
   protected void closeWhenFail() throws IOException {
-    parquetWriter.close();
+    try {
+      parquetWriter.close();
+    } finally {
+      uploadManager.abort();
+    }
   }
 
 }
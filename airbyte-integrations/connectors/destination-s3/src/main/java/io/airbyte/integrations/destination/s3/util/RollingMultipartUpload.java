@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import alex.mojaki.s3upload.MultiPartOutputStream;
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.amazonaws.services.s3.AmazonS3;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.CountingOutputStream;
+import io.airbyte.integrations.destination.s3.S3FormatConfig;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Streams the output of one stream to S3 (or GCS through its S3 interoperability API) as a
+ * multipart upload, rolling over to a new numbered object once the current one reaches
+ * {@link S3FormatConfig#getMaxFileSizeMb()}. Without a maximum file size the output is a single
+ * object, as before.
+ *
+ * Writers wrap {@link #getOutputStream()} in their own format encoder. Since encoders buffer and
+ * may need a header or footer per object, writers check {@link #shouldRoll()} at record
+ * boundaries, close their encoder, call {@link #roll()} and open a new encoder on the new stream.
+ *
+ * Rolling completes the previous object, so it is visible in the bucket right away. To not leave
+ * a partial output behind, {@link #abort()} deletes the objects completed so far. An earlier attempt
+ * at the same keys may have written more objects than this one, so {@link #complete()} deletes the
+ * numbered objects following the last one.
+ */
+public class RollingMultipartUpload {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(RollingMultipartUpload.class);
+  private static final long MB = 1024L * 1024L;
+
+  private final String bucketName;
+  private final AmazonS3 s3Client;
+  private final IntFunction<String> objectKeyForPart;
+  private final Function<String, StreamTransferManager> uploadManagerForKey;
+  private final long maxFileSizeBytes;
+  private final List<String> objectKeys = new ArrayList<>();
+  private final List<String> completedObjectKeys = new ArrayList<>();
+
+  private StreamTransferManager uploadManager;
+  private MultiPartOutputStream multiPartOutputStream;
+  private CountingOutputStream outputStream;
+
+  /**
+   * @param objectKeyForPart returns the object key of the n-th object, starting at 0.
+   */
+  public RollingMultipartUpload(String bucketName,
+                                AmazonS3 s3Client,
+                                IntFunction<String> objectKeyForPart,
+                                S3FormatConfig formatConfig) {
+    this(bucketName, s3Client, objectKeyForPart, formatConfig, objectKey -> S3StreamTransferManagerHelper.getDefault(
+        bucketName, objectKey, s3Client, formatConfig.getPartSize(), formatConfig.getUploadThreads()));
+  }
+
+  @VisibleForTesting
+  RollingMultipartUpload(String bucketName,
+                         AmazonS3 s3Client,
+                         IntFunction<String> objectKeyForPart,
+                         S3FormatConfig formatConfig,
+                         Function<String, StreamTransferManager> uploadManagerForKey) {
+    this.bucketName = bucketName;
+    this.s3Client = s3Client;
+    this.objectKeyForPart = objectKeyForPart;
+    this.uploadManagerForKey = uploadManagerForKey;
+    this.maxFileSizeBytes = formatConfig.getMaxFileSizeMb() != null ? formatConfig.getMaxFileSizeMb() * MB : 0;
+
+    startUpload();
+  }
+
+  /**
+   * @return the stream of the current object. Only valid until the next call to {@link #roll()}.
+   */
+  public OutputStream getOutputStream() {
+    return outputStream;
+  }
+
+  public String getCurrentObjectKey() {
+    return objectKeys.get(objectKeys.size() - 1);
+  }
+
+  /**
+   * @return the keys of all objects started so far, in order.
+   */
+  public List<String> getObjectKeys() {
+    return objectKeys;
+  }
+
+  /**
+   * @return true if a maximum file size is configured and the current object has reached it. The
+   *         count only includes bytes the writer's encoder has already flushed, so objects can end
+   *         up slightly larger than the limit.
+   */
+  public boolean shouldRoll() {
+    return maxFileSizeBytes > 0 && outputStream.getCount() >= maxFileSizeBytes;
+  }
+
+  /**
+   * Completes the current object and starts uploading the next one. The caller must have closed
+   * or flushed its encoder on the previous stream first.
+   */
+  public void roll() {
+    completeCurrentObject();
+    startUpload();
+  }
+
+  /**
+   * Completes the last object and deletes the objects numbered after it that are left from an
+   * earlier upload to the same keys, e.g. one that rolled over more often or was retried.
+   */
+  public void complete() {
+    completeCurrentObject();
+    deleteStaleObjects();
+  }
+
+  private void completeCurrentObject() {
+    multiPartOutputStream.close();
+    uploadManager.complete();
+    completedObjectKeys.add(getCurrentObjectKey());
+    LOGGER.info("Completed upload of s3://{}/{} ({} bytes).", bucketName, getCurrentObjectKey(), outputStream.getCount());
+  }
+
+  /**
+   * Aborts the current upload and deletes the objects that were already completed.
+   */
+  public void abort() {
+    multiPartOutputStream.close();
+    if (!completedObjectKeys.contains(getCurrentObjectKey())) {
+      uploadManager.abort();
+    }
+    for (String objectKey : completedObjectKeys) {
+      LOGGER.info("Deleting completed object s3://{}/{} of the aborted upload.", bucketName, objectKey);
+      s3Client.deleteObject(bucketName, objectKey);
+    }
+    completedObjectKeys.clear();
+  }
+
+  private void deleteStaleObjects() {
+    // the objects of an upload are numbered from 0 without gaps, so the stale ones directly follow
+    // the last object of this upload.
+    String objectKey = objectKeyForPart.apply(objectKeys.size());
+    for (int index = objectKeys.size() + 1; s3Client.doesObjectExist(bucketName, objectKey); index++) {
+      LOGGER.info("Deleting stale object s3://{}/{} of an earlier upload.", bucketName, objectKey);
+      s3Client.deleteObject(bucketName, objectKey);
+      objectKey = objectKeyForPart.apply(index);
+    }
+  }
+
+  private void startUpload() {
+    String objectKey = objectKeyForPart.apply(objectKeys.size());
+    objectKeys.add(objectKey);
+    this.uploadManager = uploadManagerForKey.apply(objectKey);
+    // We only need one output stream as we only have one input stream. This is reasonably performant.
+    this.multiPartOutputStream = uploadManager.getMultiPartOutputStreams().get(0);
+    this.outputStream = new CountingOutputStream(multiPartOutputStream);
+  }
+
+}
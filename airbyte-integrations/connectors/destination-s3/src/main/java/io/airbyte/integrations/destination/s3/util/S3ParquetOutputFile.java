@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import alex.mojaki.s3upload.MultiPartOutputStream;
+import alex.mojaki.s3upload.StreamTransferManager;
+import java.io.IOException;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+
+/**
+ * A Parquet {@link OutputFile} that streams directly into a {@link StreamTransferManager} multipart
+ * upload, so Parquet writers do not need the Hadoop S3A file system (and its local disk buffer,
+ * thread pools and start-up cost). Memory is bounded by the Parquet row group being built plus the
+ * parts buffered by the upload manager.
+ *
+ * The caller owns the upload manager: it must call {@link StreamTransferManager#complete()} after
+ * the Parquet writer is closed, or {@link StreamTransferManager#abort()} on failure.
+ */
+public class S3ParquetOutputFile implements OutputFile {
+
+  private final StreamTransferManager uploadManager;
+  private boolean created = false;
+
+  public S3ParquetOutputFile(final StreamTransferManager uploadManager) {
+    this.uploadManager = uploadManager;
+  }
+
+  @Override
+  public PositionOutputStream create(final long blockSizeHint) throws IOException {
+    if (created) {
+      throw new IOException("A multipart upload can only be written once.");
+    }
+    created = true;
+    return new MultiPartPositionOutputStream(uploadManager.getMultiPartOutputStreams().get(0));
+  }
+
+  @Override
+  public PositionOutputStream createOrOverwrite(final long blockSizeHint) throws IOException {
+    // objects are only visible once the upload completes, so there is never anything to overwrite.
+    return create(blockSizeHint);
+  }
+
+  @Override
+  public boolean supportsBlockSize() {
+    return false;
+  }
+
+  @Override
+  public long defaultBlockSize() {
+    return 0;
+  }
+
+  private static class MultiPartPositionOutputStream extends PositionOutputStream {
+
+    private final MultiPartOutputStream delegate;
+    private long position = 0;
+
+    private MultiPartPositionOutputStream(final MultiPartOutputStream delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public long getPos() {
+      return position;
+    }
+
+    @Override
+    public void write(final int b) {
+      delegate.write(b);
+      position++;
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) {
+      delegate.write(b, off, len);
+      position += len;
+    }
+
+    @Override
+    public void close() {
+      delegate.close();
+    }
+
+  }
+
+}
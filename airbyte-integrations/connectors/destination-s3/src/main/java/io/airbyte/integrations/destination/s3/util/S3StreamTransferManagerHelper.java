@@ -25,17 +25,28 @@ public class S3StreamTransferManagerHelper {
   public static final int MAX_ALLOWED_PART_SIZE_MB = 525;
   public static final int DEFAULT_NUM_STREAMS = 1;
 
+  public static final int MAX_ALLOWED_UPLOAD_THREADS = 32;
+
   public static StreamTransferManager getDefault(String bucketName, String objectKey, AmazonS3 s3Client, Long partSize) {
+    return getDefault(bucketName, objectKey, s3Client, partSize, null);
+  }
+
+  /**
+   * @param uploadThreads number of parts uploaded concurrently. The queue in front of the upload
+   *        threads is sized to match, so memory usage is about 2 * uploadThreads * partSize.
+   */
+  public static StreamTransferManager getDefault(String bucketName, String objectKey, AmazonS3 s3Client, Long partSize, Integer uploadThreads) {
+    int numUploadThreads = getUploadThreads(uploadThreads);
     if (partSize == null) {
       LOGGER.warn(String.format("Part size for StreamTransferManager is not set explicitly. Will use the default one = %sMB. "
           + "Please note server allows up to 10,000 parts to be uploaded for a single object, i.e. 50GB for stream. "
           + "Feel free to increase partSize arg, but make sure you have enough memory resources allocated", DEFAULT_PART_SIZE_MB));
-      return getDefault(bucketName, objectKey, s3Client);
+      return getDefault(bucketName, objectKey, s3Client, numUploadThreads);
     }
     if (partSize < DEFAULT_PART_SIZE_MB) {
       LOGGER.warn(String.format("By the server limitation part size can't be less than %sMB which is already set by default. "
           + "Will use the default value", DEFAULT_PART_SIZE_MB));
-      return getDefault(bucketName, objectKey, s3Client);
+      return getDefault(bucketName, objectKey, s3Client, numUploadThreads);
     }
     if (partSize > MAX_ALLOWED_PART_SIZE_MB) {
       LOGGER.warn(
@@ -47,20 +58,20 @@ public class S3StreamTransferManagerHelper {
               + "So will use max allowed value =" + MAX_ALLOWED_PART_SIZE_MB);
       return new StreamTransferManager(bucketName, objectKey, s3Client)
           .numStreams(DEFAULT_NUM_STREAMS)
-          .queueCapacity(DEFAULT_QUEUE_CAPACITY)
-          .numUploadThreads(DEFAULT_UPLOAD_THREADS)
+          .queueCapacity(numUploadThreads)
+          .numUploadThreads(numUploadThreads)
           .partSize(MAX_ALLOWED_PART_SIZE_MB);
     }
 
     LOGGER.info(String.format("PartSize arg is set to %s MB", partSize));
     return new StreamTransferManager(bucketName, objectKey, s3Client)
         .numStreams(DEFAULT_NUM_STREAMS)
-        .queueCapacity(DEFAULT_QUEUE_CAPACITY)
-        .numUploadThreads(DEFAULT_UPLOAD_THREADS)
+        .queueCapacity(numUploadThreads)
+        .numUploadThreads(numUploadThreads)
         .partSize(partSize);
   }
 
-  private static StreamTransferManager getDefault(String bucketName, String objectKey, AmazonS3 s3Client) {
+  private static StreamTransferManager getDefault(String bucketName, String objectKey, AmazonS3 s3Client, int numUploadThreads) {
     // The stream transfer manager lets us greedily stream into S3. The native AWS SDK does not
     // have support for streaming multipart uploads. The alternative is first writing the entire
     // output to disk before loading into S3. This is not feasible with large input.
@@ -68,9 +79,22 @@ public class S3StreamTransferManagerHelper {
     // once it has reached it's configured part size.
     return new StreamTransferManager(bucketName, objectKey, s3Client)
         .numStreams(DEFAULT_NUM_STREAMS)
-        .queueCapacity(DEFAULT_QUEUE_CAPACITY)
-        .numUploadThreads(DEFAULT_UPLOAD_THREADS)
+        .queueCapacity(numUploadThreads)
+        .numUploadThreads(numUploadThreads)
         .partSize(DEFAULT_PART_SIZE_MB);
   }
 
+  private static int getUploadThreads(Integer uploadThreads) {
+    if (uploadThreads == null) {
+      return DEFAULT_UPLOAD_THREADS;
+    }
+    if (uploadThreads < 1 || uploadThreads > MAX_ALLOWED_UPLOAD_THREADS) {
+      LOGGER.warn(String.format("Upload threads must be between 1 and %s, got %s. Will use the default value = %s",
+          MAX_ALLOWED_UPLOAD_THREADS, uploadThreads, DEFAULT_UPLOAD_THREADS));
+      return DEFAULT_UPLOAD_THREADS;
+    }
+    LOGGER.info(String.format("Upload threads arg is set to %s", uploadThreads));
+    return uploadThreads;
+  }
+
 }
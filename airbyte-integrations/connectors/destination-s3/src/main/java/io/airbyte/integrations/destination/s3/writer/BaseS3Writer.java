@@ -121,12 +121,18 @@ public abstract class BaseS3Writer implements S3Writer {
 
   // Filename: <upload-date>_<upload-millis>_0.<format-extension>
   public static String getOutputFilename(Timestamp timestamp, S3Format format) {
+    return getOutputFilename(timestamp, format, 0);
+  }
+
+  // Filename: <upload-date>_<upload-millis>_<part-index>.<format-extension>
+  public static String getOutputFilename(Timestamp timestamp, S3Format format, int partIndex) {
     DateFormat formatter = new SimpleDateFormat(S3DestinationConstants.YYYY_MM_DD_FORMAT_STRING);
     formatter.setTimeZone(TimeZone.getTimeZone("UTC"));
     return String.format(
-        "%s_%d_0.%s",
+        "%s_%d_%d.%s",
         formatter.format(timestamp),
         timestamp.getTime(),
+        partIndex,
         format.getFileExtension());
   }
 
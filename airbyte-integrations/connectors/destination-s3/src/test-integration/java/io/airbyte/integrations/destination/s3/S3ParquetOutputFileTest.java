@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import io.airbyte.integrations.destination.s3.util.S3ParquetOutputFile;
+import io.airbyte.integrations.destination.s3.util.S3StreamTransferManagerHelper;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.parquet.avro.AvroParquetReader;
+import org.apache.parquet.avro.AvroParquetWriter;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Writes Parquet through {@link S3ParquetOutputFile} into MinIO and reads it back locally.
+ */
+public class S3ParquetOutputFileTest {
+
+  private static final String ACCESS_KEY = "minioadmin";
+  private static final String SECRET_KEY = "minioadmin";
+  private static final String BUCKET = "parquet-output-file-test";
+  private static final int MINIO_PORT = 9000;
+  // enough rows to produce several row groups and several upload parts.
+  private static final int ROW_COUNT = 500_000;
+
+  private static final Schema SCHEMA = SchemaBuilder.record("test").fields()
+      .requiredLong("id")
+      .requiredString("name")
+      .endRecord();
+
+  private static GenericContainer<?> minio;
+  private static AmazonS3 s3Client;
+
+  @BeforeAll
+  static void init() {
+    minio = new GenericContainer<>(DockerImageName.parse("minio/minio:latest"))
+        .withEnv("MINIO_ROOT_USER", ACCESS_KEY)
+        .withEnv("MINIO_ROOT_PASSWORD", SECRET_KEY)
+        .withCommand("server", "/data")
+        .withExposedPorts(MINIO_PORT);
+    minio.start();
+
+    final String endpoint = String.format("http://%s:%d", minio.getHost(), minio.getMappedPort(MINIO_PORT));
+    s3Client = AmazonS3ClientBuilder.standard()
+        .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, "us-east-1"))
+        .withPathStyleAccessEnabled(true)
+        .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials(ACCESS_KEY, SECRET_KEY)))
+        .build();
+    s3Client.createBucket(BUCKET);
+  }
+
+  @AfterAll
+  static void cleanup() {
+    s3Client.shutdown();
+    minio.stop();
+  }
+
+  @Test
+  void testWriteAndReadBack() throws Exception {
+    final String key = "output/test.parquet";
+    final StreamTransferManager uploadManager = S3StreamTransferManagerHelper.getDefault(BUCKET, key, s3Client, null);
+    try (final ParquetWriter<GenericData.Record> writer = AvroParquetWriter.<GenericData.Record>builder(new S3ParquetOutputFile(uploadManager))
+        .withSchema(SCHEMA)
+        .withCompressionCodec(CompressionCodecName.UNCOMPRESSED)
+        .withRowGroupSize(4 * 1024 * 1024)
+        .build()) {
+      for (long i = 0; i < ROW_COUNT; i++) {
+        final GenericData.Record record = new GenericData.Record(SCHEMA);
+        record.put("id", i);
+        record.put("name", "name " + i);
+        writer.write(record);
+      }
+    }
+    uploadManager.complete();
+
+    final Path localCopy = Files.createTempFile("s3_parquet_output_file", ".parquet");
+    try (final InputStream in = s3Client.getObject(BUCKET, key).getObjectContent()) {
+      Files.copy(in, localCopy, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    long count = 0;
+    try (final ParquetReader<GenericRecord> reader = AvroParquetReader.<GenericRecord>builder(
+        HadoopInputFile.fromPath(new org.apache.hadoop.fs.Path(localCopy.toUri()), new org.apache.hadoop.conf.Configuration())).build()) {
+      GenericRecord record;
+      while ((record = reader.read()) != null) {
+        assertEquals(count, record.get("id"));
+        count++;
+      }
+    }
+    assertEquals(ROW_COUNT, count);
+    Files.delete(localCopy);
+  }
+
+  @Test
+  void testAbortLeavesNoObject() throws Exception {
+    final String key = "output/aborted.parquet";
+    final StreamTransferManager uploadManager = S3StreamTransferManagerHelper.getDefault(BUCKET, key, s3Client, null);
+    final ParquetWriter<GenericData.Record> writer = AvroParquetWriter.<GenericData.Record>builder(new S3ParquetOutputFile(uploadManager))
+        .withSchema(SCHEMA)
+        .build();
+    final GenericData.Record record = new GenericData.Record(SCHEMA);
+    record.put("id", 1L);
+    record.put("name", "name");
+    writer.write(record);
+    writer.close();
+    uploadManager.abort();
+
+    assertFalse(s3Client.doesObjectExist(BUCKET, key));
+  }
+
+}
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.s3.jsonl;
 
 import static com.amazonaws.services.s3.internal.Constants.MB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import alex.mojaki.s3upload.StreamTransferManager;
 import com.fasterxml.jackson.databind.JsonNode;
@@ -65,4 +66,50 @@ public class S3JsonlFormatConfigTest {
     assertEquals(MB * 5, partSizeBytes); // 5MB is a default value if nothing provided explicitly
   }
 
+  @Test
+  public void testHandleUploadThreadsAndMaxFileSizeConfig() throws IllegalAccessException {
+
+    JsonNode config = ConfigTestUtils.getBaseConfig(Jsons.deserialize("{\n"
+        + "  \"format_type\": \"JSONL\",\n"
+        + "  \"upload_threads\": 8,\n"
+        + "  \"max_file_size_mb\": 1024\n"
+        + "}"));
+
+    S3DestinationConfig s3DestinationConfig = S3DestinationConfig
+        .getS3DestinationConfig(config);
+    S3FormatConfig formatConfig = s3DestinationConfig.getFormatConfig();
+    assertEquals(8, formatConfig.getUploadThreads());
+    assertEquals(1024, formatConfig.getMaxFileSizeMb());
+
+    StreamTransferManager streamTransferManager = S3StreamTransferManagerHelper.getDefault(
+        s3DestinationConfig.getBucketName(), "objectKey", null,
+        formatConfig.getPartSize(), formatConfig.getUploadThreads());
+
+    Integer numUploadThreads = (Integer) FieldUtils.readField(streamTransferManager, "numUploadThreads", true);
+    Integer queueCapacity = (Integer) FieldUtils.readField(streamTransferManager, "queueCapacity", true);
+    assertEquals(8, numUploadThreads);
+    assertEquals(8, queueCapacity);
+  }
+
+  @Test
+  public void testHandleAbsenceOfUploadThreadsAndMaxFileSizeConfig() throws IllegalAccessException {
+
+    JsonNode config = ConfigTestUtils.getBaseConfig(Jsons.deserialize("{\n"
+        + "  \"format_type\": \"JSONL\"\n"
+        + "}"));
+
+    S3DestinationConfig s3DestinationConfig = S3DestinationConfig
+        .getS3DestinationConfig(config);
+    S3FormatConfig formatConfig = s3DestinationConfig.getFormatConfig();
+    assertNull(formatConfig.getUploadThreads());
+    assertNull(formatConfig.getMaxFileSizeMb());
+
+    StreamTransferManager streamTransferManager = S3StreamTransferManagerHelper.getDefault(
+        s3DestinationConfig.getBucketName(), "objectKey", null,
+        formatConfig.getPartSize(), formatConfig.getUploadThreads());
+
+    Integer numUploadThreads = (Integer) FieldUtils.readField(streamTransferManager, "numUploadThreads", true);
+    assertEquals(S3StreamTransferManagerHelper.DEFAULT_UPLOAD_THREADS, numUploadThreads);
+  }
+
 }
@@ -6,6 +6,7 @@ package io.airbyte.integrations.destination.s3.parquet;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import io.airbyte.commons.json.Jsons;
@@ -22,7 +23,9 @@ class S3ParquetFormatConfigTest {
         + "\t\"max_padding_size_mb\": 1,\n"
         + "\t\"page_size_kb\": 1,\n"
         + "\t\"dictionary_page_size_kb\": 1,\n"
-        + "\t\"dictionary_encoding\": false\n"
+        + "\t\"dictionary_encoding\": false,\n"
+        + "\t\"part_size_mb\": 50,\n"
+        + "\t\"upload_threads\": 4\n"
         + "}");
 
     S3ParquetFormatConfig config = new S3ParquetFormatConfig(formatConfig);
@@ -35,6 +38,17 @@ class S3ParquetFormatConfigTest {
 
     assertEquals(CompressionCodecName.GZIP, config.getCompressionCodec());
     assertFalse(config.isDictionaryEncoding());
+    assertEquals(50, config.getPartSize());
+    assertEquals(4, config.getUploadThreads());
+  }
+
+  @Test
+  public void testDefaultUploadSettings() {
+    S3ParquetFormatConfig config = new S3ParquetFormatConfig(Jsons.deserialize("{}"));
+
+    // null lets S3StreamTransferManagerHelper apply its defaults.
+    assertNull(config.getPartSize());
+    assertNull(config.getUploadThreads());
   }
 
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.destination.s3.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import alex.mojaki.s3upload.MultiPartOutputStream;
+import alex.mojaki.s3upload.StreamTransferManager;
+import com.amazonaws.services.s3.AmazonS3;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.integrations.destination.s3.jsonl.S3JsonlFormatConfig;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RollingMultipartUploadTest {
+
+  private static final String BUCKET_NAME = "bucket";
+
+  private AmazonS3 s3Client;
+  private Map<String, StreamTransferManager> uploadManagers;
+  private RollingMultipartUpload upload;
+
+  @BeforeEach
+  void setup() {
+    s3Client = mock(AmazonS3.class);
+    uploadManagers = new HashMap<>();
+    upload = createUpload("{\"max_file_size_mb\": 1}");
+  }
+
+  @Test
+  void testRollCompletesObject() throws IOException {
+    upload.getOutputStream().write(new byte[1024 * 1024]);
+    assertTrue(upload.shouldRoll());
+
+    upload.roll();
+
+    assertEquals(List.of("object_0", "object_1"), upload.getObjectKeys());
+    assertEquals("object_1", upload.getCurrentObjectKey());
+    verify(uploadManagers.get("object_0")).complete();
+  }
+
+  @Test
+  void testAbortDeletesCompletedObjects() throws IOException {
+    upload.getOutputStream().write(new byte[1024 * 1024]);
+    upload.roll();
+
+    upload.abort();
+
+    verify(uploadManagers.get("object_0"), never()).abort();
+    verify(uploadManagers.get("object_1")).abort();
+    verify(s3Client).deleteObject(BUCKET_NAME, "object_0");
+    verify(s3Client, never()).deleteObject(BUCKET_NAME, "object_1");
+  }
+
+  @Test
+  void testAbortAfterCompleteDeletesAllObjects() throws IOException {
+    upload.getOutputStream().write(new byte[1024 * 1024]);
+    upload.roll();
+    upload.complete();
+
+    upload.abort();
+
+    verify(uploadManagers.get("object_1"), never()).abort();
+    verify(s3Client).deleteObject(BUCKET_NAME, "object_0");
+    verify(s3Client).deleteObject(BUCKET_NAME, "object_1");
+  }
+
+  @Test
+  void testCompleteDeletesStaleObjects() throws IOException {
+    // an earlier attempt rolled over more often and left object_2 and object_3.
+    when(s3Client.doesObjectExist(BUCKET_NAME, "object_2")).thenReturn(true);
+    when(s3Client.doesObjectExist(BUCKET_NAME, "object_3")).thenReturn(true);
+    upload.getOutputStream().write(new byte[1024 * 1024]);
+    upload.roll();
+
+    upload.complete();
+
+    verify(s3Client).deleteObject(BUCKET_NAME, "object_2");
+    verify(s3Client).deleteObject(BUCKET_NAME, "object_3");
+    verify(s3Client).doesObjectExist(BUCKET_NAME, "object_4");
+    verify(s3Client, never()).deleteObject(BUCKET_NAME, "object_0");
+    verify(s3Client, never()).deleteObject(BUCKET_NAME, "object_1");
+  }
+
+  @Test
+  void testCompleteWithoutRollingDeletesStaleObjects() {
+    when(s3Client.doesObjectExist(BUCKET_NAME, "object_1")).thenReturn(true);
+    final RollingMultipartUpload singleObjectUpload = createUpload("{}");
+
+    singleObjectUpload.complete();
+
+    assertEquals(List.of("object_0"), singleObjectUpload.getObjectKeys());
+    verify(s3Client).deleteObject(BUCKET_NAME, "object_1");
+    verify(s3Client, never()).deleteObject(BUCKET_NAME, "object_0");
+  }
+
+  @Test
+  void testRollDoesNotDeleteObjects() throws IOException {
+    when(s3Client.doesObjectExist(BUCKET_NAME, "object_1")).thenReturn(true);
+    upload.getOutputStream().write(new byte[1024 * 1024]);
+
+    upload.roll();
+
+    verify(s3Client, never()).deleteObject(BUCKET_NAME, "object_1");
+  }
+
+  private RollingMultipartUpload createUpload(final String formatConfig) {
+    return new RollingMultipartUpload(
+        BUCKET_NAME,
+        s3Client,
+        index -> "object_" + index,
+        new S3JsonlFormatConfig(Jsons.deserialize(formatConfig)),
+        objectKey -> {
+          final StreamTransferManager uploadManager = mock(StreamTransferManager.class);
+          when(uploadManager.getMultiPartOutputStreams()).thenReturn(List.of(mock(MultiPartOutputStream.class)));
+          uploadManagers.put(objectKey, uploadManager);
+          return uploadManager;
+        });
+  }
+
+}
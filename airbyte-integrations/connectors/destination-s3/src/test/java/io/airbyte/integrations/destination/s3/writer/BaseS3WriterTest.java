@@ -20,4 +20,12 @@ class BaseS3WriterTest {
         BaseS3Writer.getOutputFilename(timestamp, S3Format.CSV));
   }
 
+  @Test
+  public void testGetOutputFilenameWithPartIndex() {
+    Timestamp timestamp = new Timestamp(1471461319000L);
+    assertEquals(
+        "2016_08_17_1471461319000_3.jsonl",
+        BaseS3Writer.getOutputFilename(timestamp, S3Format.JSONL, 3));
+  }
+
 }
@@ -9,25 +9,35 @@ import static com.mongodb.client.model.Filters.gt;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.ImmutableMap;
 import com.mongodb.client.MongoCollection;
+import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.concurrency.VoidCallables;
 import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.util.AutoCloseableIterators;
+import io.airbyte.commons.util.MoreIterators;
 import io.airbyte.db.Databases;
+import io.airbyte.db.IncrementalUtils;
 import io.airbyte.db.mongodb.MongoDatabase;
 import io.airbyte.db.mongodb.MongoUtils;
 import io.airbyte.integrations.base.IntegrationRunner;
 import io.airbyte.integrations.base.Source;
 import io.airbyte.integrations.source.relationaldb.AbstractDbSource;
 import io.airbyte.integrations.source.relationaldb.TableInfo;
+import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.CommonField;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.StringUtils;
@@ -56,6 +66,11 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
   private static final String AUTH_SOURCE = "auth_source";
   private static final String TLS = "tls";
   private static final String PRIMARY_KEY = "_id";
+  private static final String DISCOVERY_PARALLELISM = "discovery_parallelism";
+  private static final int DEFAULT_DISCOVERY_PARALLELISM = 4;
+
+  private int discoveryParallelism = DEFAULT_DISCOVERY_PARALLELISM;
+  private ConfiguredAirbyteCatalog configuredCatalog;
 
   public static void main(String[] args) throws Exception {
     final Source source = new MongoDbSource();
@@ -100,6 +115,7 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
 
   @Override
   protected MongoDatabase createDatabase(JsonNode config) throws Exception {
+    discoveryParallelism = config.has(DISCOVERY_PARALLELISM) ? config.get(DISCOVERY_PARALLELISM).asInt() : DEFAULT_DISCOVERY_PARALLELISM;
     var dbConfig = toDatabaseConfig(config);
     return Databases.createMongoDatabase(dbConfig.get("connectionString").asText(),
         dbConfig.get("database").asText());
@@ -129,30 +145,93 @@ public class MongoDbSource extends AbstractDbSource<BsonType, MongoDatabase> {
     return Collections.emptySet();
   }
 
+  @Override
+  public AutoCloseableIterator<AirbyteMessage> read(JsonNode config, ConfiguredAirbyteCatalog catalog, JsonNode state)
+      throws Exception {
+    configuredCatalog = catalog;
+    return super.read(config, catalog, state);
+  }
+
   @Override
   protected List<TableInfo<CommonField<BsonType>>> discoverInternal(MongoDatabase database)
       throws Exception {
-    List<TableInfo<CommonField<BsonType>>> tableInfos = new ArrayList<>();
+    final List<String> collectionNames = MoreIterators.toList(database.getCollectionNames().iterator());
+    if (configuredCatalog != null) {
+      // a read takes the fields from the catalog it was configured with instead of sampling again, a new
+      // sample could miss a sparse cursor field or find it with another type than the previous sync.
+      final Set<String> existingCollections = new HashSet<>(collectionNames);
+      return configuredCatalog.getStreams().stream()
+          .filter(configuredStream -> existingCollections.contains(configuredStream.getStream().getName()))
+          .map(configuredStream -> getConfiguredCollection(database, configuredStream))
+          .collect(Collectors.toList());
+    }
 
-    for (String collectionName : database.getCollectionNames()) {
-      MongoCollection<Document> collection = database.getCollection(collectionName);
-      Map<String, BsonType> uniqueFields = MongoUtils.getUniqueFields(collection);
+    // collections are sampled in parallel, each by its own queries against the (thread safe) client.
+    final Map<String, TableInfo<CommonField<BsonType>>> tableInfos = new ConcurrentHashMap<>();
+    final List<VoidCallable> tasks = collectionNames.stream()
+        .map(collectionName -> (VoidCallable) () -> tableInfos.put(collectionName, discoverCollection(database, collectionName)))
+        .collect(Collectors.toList());
+    VoidCallables.runInParallel(tasks, discoveryParallelism, "mongodb-discovery-%d");
 
-      List<CommonField<BsonType>> fields = uniqueFields.keySet().stream()
-          .map(field -> new CommonField<>(field, uniqueFields.get(field)))
-          .collect(Collectors.toList());
+    return collectionNames.stream().map(tableInfos::get).collect(Collectors.toList());
+  }
 
-      // The field name _id is reserved for use as a primary key;
-      TableInfo<CommonField<BsonType>> tableInfo = TableInfo.<CommonField<BsonType>>builder()
-          .nameSpace(database.getName())
-          .name(collectionName)
-          .fields(fields)
-          .primaryKeys(List.of(PRIMARY_KEY))
-          .build();
+  private TableInfo<CommonField<BsonType>> getConfiguredCollection(MongoDatabase database, ConfiguredAirbyteStream configuredStream) {
+    final String collectionName = configuredStream.getStream().getName();
+    final String cursorField = configuredStream.getSyncMode() == SyncMode.INCREMENTAL
+        ? IncrementalUtils.getCursorField(configuredStream)
+        : null;
+    final JsonNode properties = configuredStream.getStream().getJsonSchema().get("properties");
 
-      tableInfos.add(tableInfo);
-    }
-    return tableInfos;
+    final List<CommonField<BsonType>> fields = new ArrayList<>();
+    properties.fields().forEachRemaining(property -> {
+      final BsonType schemaType = getBsonType(property.getValue());
+      // the cursor is compared against values of the type the collection holds. Only a string schema type
+      // is ambiguous (dates, timestamps and object ids are declared as strings), the collection is queried
+      // for those alone since the lookup scans it unless the cursor field is indexed.
+      final BsonType type = property.getKey().equals(cursorField) && schemaType == BsonType.STRING
+          ? MongoUtils.getGreatestValueType(database.getCollection(collectionName), cursorField).orElse(schemaType)
+          : schemaType;
+      fields.add(new CommonField<>(property.getKey(), type));
+    });
+
+    return TableInfo.<CommonField<BsonType>>builder()
+        .nameSpace(database.getName())
+        .name(collectionName)
+        .fields(fields)
+        .primaryKeys(List.of(PRIMARY_KEY))
+        .build();
+  }
+
+  private static BsonType getBsonType(JsonNode property) {
+    // nullable fields are declared with a list of types, e.g. ["null", "string"]
+    final JsonNode typeNode = property.path("type");
+    final List<JsonNode> types = typeNode.isArray() ? MoreIterators.toList(typeNode.elements()) : List.of(typeNode);
+    final String type = types.stream().map(JsonNode::asText).filter(t -> !t.equals("null")).findFirst().orElse("string");
+    return switch (type) {
+      case "boolean" -> BsonType.BOOLEAN;
+      case "number", "integer" -> BsonType.DOUBLE;
+      case "object" -> BsonType.DOCUMENT;
+      case "array" -> BsonType.ARRAY;
+      default -> BsonType.STRING;
+    };
+  }
+
+  private TableInfo<CommonField<BsonType>> discoverCollection(MongoDatabase database, String collectionName) {
+    MongoCollection<Document> collection = database.getCollection(collectionName);
+    Map<String, BsonType> uniqueFields = MongoUtils.getUniqueFields(collection);
+
+    List<CommonField<BsonType>> fields = uniqueFields.keySet().stream()
+        .map(field -> new CommonField<>(field, uniqueFields.get(field)))
+        .collect(Collectors.toList());
+
+    // The field name _id is reserved for use as a primary key;
+    return TableInfo.<CommonField<BsonType>>builder()
+        .nameSpace(database.getName())
+        .name(collectionName)
+        .fields(fields)
+        .primaryKeys(List.of(PRIMARY_KEY))
+        .build();
   }
 
   @Override
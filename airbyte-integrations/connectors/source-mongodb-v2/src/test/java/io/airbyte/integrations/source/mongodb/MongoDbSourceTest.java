@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.mongodb;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.client.MongoCollection;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.string.Strings;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.commons.util.MoreIterators;
+import io.airbyte.db.mongodb.MongoDatabase;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteStream;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.utility.DockerImageName;
+
+class MongoDbSourceTest {
+
+  private static final String COLLECTION_NAME = "movies";
+  private static final String CURSOR_FIELD = "updated_at";
+
+  private static MongoDBContainer container;
+
+  private String databaseName;
+  private MongoDatabase database;
+
+  @BeforeAll
+  static void init() {
+    container = new MongoDBContainer(DockerImageName.parse("mongo:4.0.10"));
+    container.start();
+  }
+
+  @AfterAll
+  static void cleanUp() {
+    container.close();
+  }
+
+  @BeforeEach
+  void setup() {
+    databaseName = Strings.addRandomSuffix("db", "_", 10).toLowerCase();
+    database = new MongoDatabase(String.format("mongodb://%s:%s/", container.getHost(), container.getFirstMappedPort()), databaseName);
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    database.close();
+  }
+
+  @Test
+  void testDiscoverSamplesCollection() throws Exception {
+    final MongoCollection<Document> collection = database.createCollection(COLLECTION_NAME);
+    collection.insertMany(IntStream.range(0, 12_000)
+        .mapToObj(i -> new Document("name", "movie " + i).append("field_" + i, i))
+        .collect(Collectors.toList()));
+
+    final AirbyteCatalog catalog = new MongoDbSource().discover(getConfig());
+
+    final JsonNode properties = catalog.getStreams().get(0).getJsonSchema().get("properties");
+    assertTrue(properties.has("_id"));
+    assertTrue(properties.has("name"));
+    // only the fields of the sampled documents are discovered, each document adds its own field.
+    assertTrue(properties.size() < 12_002);
+  }
+
+  @Test
+  void testDiscoverCollectionsInParallel() throws Exception {
+    final List<String> collectionNames = List.of("c1", "c2", "c3", "c4", "c5");
+    collectionNames.forEach(name -> database.createCollection(name).insertOne(new Document(name + "_field", name)));
+
+    final JsonNode config = getConfig();
+    ((ObjectNode) config).put("discovery_parallelism", 2);
+    final Map<String, AirbyteStream> streams = new MongoDbSource().discover(config).getStreams().stream()
+        .collect(Collectors.toMap(AirbyteStream::getName, Function.identity()));
+
+    assertEquals(Set.copyOf(collectionNames), streams.keySet());
+    collectionNames.forEach(name -> {
+      assertEquals(databaseName, streams.get(name).getNamespace());
+      assertTrue(streams.get(name).getJsonSchema().get("properties").has(name + "_field"));
+    });
+  }
+
+  @Test
+  void testIncrementalReadOnSparseCursor() throws Exception {
+    final MongoCollection<Document> collection = database.createCollection(COLLECTION_NAME);
+    // most documents do not have the cursor field, a sample of the collection would likely miss it.
+    collection.insertMany(IntStream.range(0, 100)
+        .mapToObj(i -> new Document("name", "movie " + i))
+        .collect(Collectors.toList()));
+    collection.insertOne(new Document("name", "first").append(CURSOR_FIELD, Date.from(Instant.parse("2021-01-01T00:00:00Z"))));
+
+    // dates are declared as strings in the catalog, their type is found in the collection.
+    final ConfiguredAirbyteCatalog catalog = CatalogHelpers.createConfiguredAirbyteCatalog(
+        COLLECTION_NAME,
+        databaseName,
+        Field.of("_id", JsonSchemaPrimitive.STRING),
+        Field.of("name", JsonSchemaPrimitive.STRING),
+        Field.of(CURSOR_FIELD, JsonSchemaPrimitive.STRING));
+    catalog.getStreams().forEach(stream -> stream.withSyncMode(SyncMode.INCREMENTAL).withCursorField(List.of(CURSOR_FIELD)));
+
+    final List<AirbyteMessage> firstSync = read(catalog, null);
+    final JsonNode state = firstSync.stream().filter(message -> message.getType() == Type.STATE)
+        .reduce((first, second) -> second).orElseThrow().getState().getData();
+
+    collection.insertOne(new Document("name", "second").append(CURSOR_FIELD, Date.from(Instant.parse("2021-02-01T00:00:00Z"))));
+    final List<AirbyteMessage> secondSync = read(catalog, state);
+
+    final List<String> names = secondSync.stream().filter(message -> message.getType() == Type.RECORD)
+        .map(message -> message.getRecord().getData().get("name").asText())
+        .collect(Collectors.toList());
+    assertEquals(List.of("second"), names);
+  }
+
+  private List<AirbyteMessage> read(ConfiguredAirbyteCatalog catalog, JsonNode state) throws Exception {
+    try (final AutoCloseableIterator<AirbyteMessage> messages = new MongoDbSource().read(getConfig(), catalog, state)) {
+      return MoreIterators.toList(messages);
+    }
+  }
+
+  private JsonNode getConfig() {
+    final JsonNode instanceConfig = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", container.getHost())
+        .put("port", container.getFirstMappedPort())
+        .put("tls", false)
+        .build());
+
+    return Jsons.jsonNode(ImmutableMap.builder()
+        .put("instance_type", instanceConfig)
+        .put("database", databaseName)
+        .put("auth_source", "admin")
+        .build());
+  }
+
+}
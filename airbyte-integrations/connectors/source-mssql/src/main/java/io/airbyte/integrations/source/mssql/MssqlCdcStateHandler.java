@@ -37,7 +37,7 @@ public class MssqlCdcStateHandler implements CdcStateHandler {
 
     final JsonNode asJson = Jsons.jsonNode(state);
 
-    LOGGER.info("debezium state: {}", asJson);
+    LOGGER.info("debezium state offset: {}", Jsons.jsonNode(offset));
 
     final CdcState cdcState = new CdcState().withState(asJson);
     stateManager.getCdcStateManager().setCdcState(cdcState);
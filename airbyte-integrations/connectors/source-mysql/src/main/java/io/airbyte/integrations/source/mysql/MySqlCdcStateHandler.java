@@ -38,7 +38,8 @@ public class MySqlCdcStateHandler implements CdcStateHandler {
 
     final JsonNode asJson = Jsons.jsonNode(state);
 
-    LOGGER.info("debezium state: {}", asJson);
+    // the schema history can be large, so only the offset is logged.
+    LOGGER.info("debezium state offset: {}", Jsons.jsonNode(offset));
 
     final CdcState cdcState = new CdcState().withState(asJson);
     stateManager.getCdcStateManager().setCdcState(cdcState);
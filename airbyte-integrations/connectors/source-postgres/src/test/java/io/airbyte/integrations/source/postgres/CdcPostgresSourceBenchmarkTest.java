@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.integrations.source.postgres;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.base.Stopwatch;
+import com.google.common.collect.ImmutableMap;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.util.AutoCloseableIterator;
+import io.airbyte.db.Database;
+import io.airbyte.db.Databases;
+import io.airbyte.protocol.models.AirbyteMessage;
+import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.CatalogHelpers;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.Field;
+import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.jooq.SQLDialect;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+
+/**
+ * Measures how many change events per second a CDC sync reads from the WAL of a Postgres database,
+ * end to end from the debezium engine to airbyte messages. Writing the changes takes a while, so
+ * this is disabled by default and meant to be run manually when changing the debezium pipeline.
+ */
+@Disabled
+class CdcPostgresSourceBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(CdcPostgresSourceBenchmarkTest.class);
+
+  private static final int NUM_CHANGES = 500_000;
+  private static final String SLOT_NAME = "debezium_slot_benchmark";
+  private static final String PUBLICATION = "publication";
+  private static final String SCHEMA_NAME = "public";
+  private static final String TABLE_NAME = "benchmark";
+  private static final ConfiguredAirbyteCatalog CATALOG = new ConfiguredAirbyteCatalog().withStreams(List.of(
+      CatalogHelpers.createConfiguredAirbyteStream(
+          TABLE_NAME,
+          SCHEMA_NAME,
+          Field.of("id", JsonSchemaPrimitive.NUMBER),
+          Field.of("payload", JsonSchemaPrimitive.STRING))
+          .withSyncMode(SyncMode.INCREMENTAL)));
+
+  private static PostgreSQLContainer<?> container;
+  private static Database database;
+  private static JsonNode config;
+
+  @BeforeAll
+  static void setup() throws Exception {
+    final DockerImageName image = DockerImageName.parse("debezium/postgres:13-alpine").asCompatibleSubstituteFor("postgres");
+    container = new PostgreSQLContainer<>(image)
+        .withCopyFileToContainer(MountableFile.forClasspathResource("postgresql.conf"), "/etc/postgresql/postgresql.conf")
+        .withCommand("postgres -c config_file=/etc/postgresql/postgresql.conf");
+    container.start();
+
+    config = Jsons.jsonNode(ImmutableMap.builder()
+        .put("host", container.getHost())
+        .put("port", container.getFirstMappedPort())
+        .put("database", container.getDatabaseName())
+        .put("username", container.getUsername())
+        .put("password", container.getPassword())
+        .put("ssl", false)
+        .put("replication_method", ImmutableMap.of("replication_slot", SLOT_NAME, "publication", PUBLICATION, "plugin", "pgoutput"))
+        .build());
+    database = Databases.createDatabase(
+        container.getUsername(),
+        container.getPassword(),
+        container.getJdbcUrl(),
+        "org.postgresql.Driver",
+        SQLDialect.POSTGRES);
+    database.query(ctx -> {
+      ctx.execute("SELECT pg_create_logical_replication_slot('" + SLOT_NAME + "', 'pgoutput');");
+      ctx.execute("CREATE PUBLICATION " + PUBLICATION + " FOR ALL TABLES;");
+      ctx.execute("CREATE TABLE " + SCHEMA_NAME + "." + TABLE_NAME + "(id INTEGER PRIMARY KEY, payload VARCHAR(200));");
+      return null;
+    });
+  }
+
+  @AfterAll
+  static void tearDown() throws Exception {
+    database.close();
+    container.close();
+  }
+
+  @Test
+  void benchmarkChangeEventsPerSecond() throws Exception {
+    // the first sync snapshots the empty table and returns the position to stream changes from.
+    final AtomicReference<JsonNode> state = new AtomicReference<>();
+    read(null, message -> {
+      if (message.getType() == Type.STATE) {
+        state.set(message.getState().getData());
+      }
+    });
+
+    database.query(ctx -> ctx.execute(
+        "INSERT INTO " + SCHEMA_NAME + "." + TABLE_NAME + " SELECT i, md5(i::text) FROM generate_series(1, ?) AS i",
+        NUM_CHANGES));
+
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    final AtomicLong numRecords = new AtomicLong();
+    read(state.get(), message -> {
+      if (message.getType() == Type.RECORD) {
+        numRecords.incrementAndGet();
+      }
+    });
+    final long elapsedMillis = Math.max(1, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+
+    LOGGER.info("Read {} change events in {} ms: {} events per second", numRecords.get(), elapsedMillis, numRecords.get() * 1000 / elapsedMillis);
+    assertEquals(NUM_CHANGES, numRecords.get());
+  }
+
+  private static void read(final JsonNode state, final Consumer<AirbyteMessage> consumer) throws Exception {
+    try (final AutoCloseableIterator<AirbyteMessage> messages = new PostgresSource().read(config, CATALOG, state)) {
+      messages.forEachRemaining(consumer);
+    }
+  }
+
+}
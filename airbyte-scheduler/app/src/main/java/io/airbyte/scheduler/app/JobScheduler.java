@@ -19,8 +19,12 @@ import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -78,8 +82,11 @@ public class JobScheduler implements Runnable {
     LOGGER.debug("Total active connections: {}", activeConnections.size());
     LOGGER.debug("Time to retrieve all connections: {} ms", queryEnd - start);
 
+    final Map<UUID, Job> lastJobs = getLastReplicationJobs(activeConnections);
+    LOGGER.debug("Time to retrieve last jobs of all connections: {} ms", System.currentTimeMillis() - queryEnd);
+
     for (StandardSync connection : activeConnections) {
-      final Optional<Job> previousJobOptional = jobPersistence.getLastReplicationJob(connection.getConnectionId());
+      final Optional<Job> previousJobOptional = Optional.ofNullable(lastJobs.get(connection.getConnectionId()));
 
       if (scheduleJobPredicate.test(previousJobOptional, connection)) {
         jobFactory.create(connection.getConnectionId());
@@ -95,6 +102,18 @@ public class JobScheduler implements Runnable {
     }
   }
 
+  private Map<UUID, Job> getLastReplicationJobs(List<StandardSync> connections) throws IOException {
+    if (connections.isEmpty()) {
+      return Map.of();
+    }
+    final Set<UUID> connectionIds = connections.stream().map(StandardSync::getConnectionId).collect(Collectors.toSet());
+    // one query for all connections instead of one per connection, so the tick does not grow with the
+    // number of round trips to the jobs database.
+    return jobPersistence.getLastReplicationJobs(connectionIds)
+        .stream()
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), Function.identity()));
+  }
+
   private List<StandardSync> getAllActiveConnections() {
     try {
       return configRepository.listStandardSyncs()
@@ -15,40 +15,75 @@ import io.airbyte.scheduler.app.worker_run.WorkerRun;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.persistence.JobNotifier;
 import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.scheduler.persistence.WorkspaceHelper;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker.JobState;
+import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Optional;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 
+/**
+ * Starts pending jobs on the worker thread pool. Each run claims as many of the oldest startable
+ * jobs as there are free worker threads, at most one per scope, and submits all of them at once, so
+ * a burst of scheduled jobs drains in a few runs instead of one job per run.
+ *
+ * When a limit of jobs per workspace is set, jobs of workspaces that already run that many jobs are
+ * passed over in favor of younger jobs of other workspaces, so that one workspace with many
+ * connections cannot occupy every worker.
+ */
 public class JobSubmitter implements Runnable {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(JobSubmitter.class);
 
+  // how many candidates to consider per thread when some workspaces may be at their limit.
+  private static final int CANDIDATES_PER_THREAD_WITH_WORKSPACE_LIMIT = 10;
+
   private final ExecutorService threadPool;
   private final JobPersistence persistence;
   private final TemporalWorkerRunFactory temporalWorkerRunFactory;
   private final JobTracker jobTracker;
   private final JobNotifier jobNotifier;
+  private final WorkspaceHelper workspaceHelper;
+  private final int maxConcurrentJobs;
+  private final int maxConcurrentJobsPerWorkspace;
 
-  // See attemptJobSubmit() to understand the need for this Concurrent Set.
+  // See claimJobs() to understand the need for this Concurrent Set.
   private final Set<Long> runningJobs = Sets.newConcurrentHashSet();
+  // workspace of each running job, for the jobs whose workspace could be found.
+  private final Map<Long, UUID> runningJobWorkspaces = new ConcurrentHashMap<>();
 
+  /**
+   * @param maxConcurrentJobs number of threads of the thread pool. No more jobs are submitted while
+   *        that many are running, so that jobs wait in the database rather than in the pool's queue.
+   * @param maxConcurrentJobsPerWorkspace maximum number of running jobs per workspace. 0 means no
+   *        limit.
+   */
   public JobSubmitter(final ExecutorService threadPool,
                       final JobPersistence persistence,
                       final TemporalWorkerRunFactory temporalWorkerRunFactory,
                       final JobTracker jobTracker,
-                      final JobNotifier jobNotifier) {
+                      final JobNotifier jobNotifier,
+                      final WorkspaceHelper workspaceHelper,
+                      final int maxConcurrentJobs,
+                      final int maxConcurrentJobsPerWorkspace) {
     this.threadPool = threadPool;
     this.persistence = persistence;
     this.temporalWorkerRunFactory = temporalWorkerRunFactory;
     this.jobTracker = jobTracker;
     this.jobNotifier = jobNotifier;
+    this.workspaceHelper = workspaceHelper;
+    this.maxConcurrentJobs = maxConcurrentJobs;
+    this.maxConcurrentJobsPerWorkspace = maxConcurrentJobsPerWorkspace;
   }
 
   @Override
@@ -57,12 +92,17 @@ public class JobSubmitter implements Runnable {
       LOGGER.debug("Running job-submitter...");
       var start = System.currentTimeMillis();
 
-      final Optional<Job> nextJob = persistence.getNextJob();
-
-      nextJob.ifPresent(attemptJobSubmit());
+      final List<Job> claimedJobs = claimJobs();
+      claimedJobs.forEach(job -> {
+        trackSubmission(job);
+        submitJob(job);
+        var pending = SchedulerApp.PENDING_JOBS.decrementAndGet();
+        LOGGER.info("Job-Submitter Summary. Submitted job with scope {}", job.getScope());
+        LOGGER.debug("Pending jobs: {}", pending);
+      });
 
       var end = System.currentTimeMillis();
-      LOGGER.debug("Completed Job-Submitter. Time taken: {} ms", end - start);
+      LOGGER.debug("Completed Job-Submitter. Submitted {} jobs. Time taken: {} ms", claimedJobs.size(), end - start);
     } catch (Throwable e) {
       LOGGER.error("Job Submitter Error", e);
     }
@@ -70,33 +110,56 @@ public class JobSubmitter implements Runnable {
 
   /**
    * Since job submission and job execution happen in two separate thread pools, and job execution is
-   * what removes a job from the submission queue, it is possible for a job to be submitted multiple
-   * times.
-   *
-   * This synchronised block guarantees only a single thread can utilise the concurrent set to decide
-   * whether a job should be submitted. This job id is added here, and removed in the finish block of
-   * {@link #submitJob(Job)}.
+   * what removes a job from the submission queue, it is possible for a job to be returned by
+   * {@link JobPersistence#getNextJobs(int)} again while it is already submitted.
    *
-   * Since {@link JobPersistence#getNextJob()} returns the next queued job, this solution cause
-   * head-of-line blocking as the JobSubmitter tries to submit the same job. However, this suggests
-   * the Worker Pool needs more workers and is inevitable when dealing with pending jobs.
+   * This method is synchronized so that a single thread at a time uses the concurrent set to decide
+   * whether a job should be submitted, and counts the free threads and the running jobs of each
+   * workspace. The job id is added here, and removed in the finish block of {@link #submitJob(Job)}.
    *
    * See https://github.com/airbytehq/airbyte/issues/4378 for more info.
+   *
+   * @return the jobs this thread must submit.
    */
-  synchronized private Consumer<Job> attemptJobSubmit() {
-    return job -> {
-      if (!runningJobs.contains(job.getId())) {
-        runningJobs.add(job.getId());
-        trackSubmission(job);
-        submitJob(job);
-        var pending = SchedulerApp.PENDING_JOBS.decrementAndGet();
-        LOGGER.info("Job-Submitter Summary. Submitted job with scope {}", job.getScope());
-        LOGGER.debug("Pending jobs: {}", pending);
-      } else {
+  private synchronized List<Job> claimJobs() throws IOException {
+    final int freeThreads = maxConcurrentJobs - runningJobs.size();
+    if (freeThreads <= 0) {
+      LOGGER.debug("All {} submitter threads are busy. Pending jobs: {}", maxConcurrentJobs, SchedulerApp.PENDING_JOBS.get());
+      return Collections.emptyList();
+    }
+
+    // submitted jobs stay pending until their attempt starts, so the candidates may include jobs that
+    // are already running here. asking for one candidate per thread leaves room for them.
+    final int batchSize = maxConcurrentJobsPerWorkspace > 0
+        ? maxConcurrentJobs * CANDIDATES_PER_THREAD_WITH_WORKSPACE_LIMIT
+        : maxConcurrentJobs;
+    final List<Job> claimedJobs = new ArrayList<>();
+    for (final Job job : persistence.getNextJobs(batchSize)) {
+      if (runningJobs.size() >= maxConcurrentJobs) {
+        break;
+      }
+      if (runningJobs.contains(job.getId())) {
         LOGGER.info("Attempting to submit already running job {}. There are probably too many queued jobs.", job.getId());
-        LOGGER.debug("Pending jobs: {}", SchedulerApp.PENDING_JOBS.get());
+        continue;
       }
-    };
+
+      final UUID workspaceId = maxConcurrentJobsPerWorkspace > 0 ? workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(job.getId()) : null;
+      if (workspaceId != null && countRunningJobs(workspaceId) >= maxConcurrentJobsPerWorkspace) {
+        LOGGER.debug("Workspace {} already runs {} jobs. Job {} stays pending.", workspaceId, maxConcurrentJobsPerWorkspace, job.getId());
+        continue;
+      }
+
+      runningJobs.add(job.getId());
+      if (workspaceId != null) {
+        runningJobWorkspaces.put(job.getId(), workspaceId);
+      }
+      claimedJobs.add(job);
+    }
+    return claimedJobs;
+  }
+
+  private long countRunningJobs(final UUID workspaceId) {
+    return runningJobWorkspaces.values().stream().filter(workspaceId::equals).count();
   }
 
   @VisibleForTesting
@@ -138,6 +201,7 @@ public class JobSubmitter implements Runnable {
           trackCompletion(job, io.airbyte.workers.JobStatus.FAILED);
         })
         .setOnFinish(() -> {
+          runningJobWorkspaces.remove(job.getId());
           runningJobs.remove(job.getId());
           LOGGER.debug("Job id {} cleared", job.getId());
           MDC.clear();
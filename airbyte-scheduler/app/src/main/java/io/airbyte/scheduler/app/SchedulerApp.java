@@ -57,7 +57,8 @@ import org.slf4j.MDC;
  * Operations can have thread pools under the hood. An important thread pool to note is that the job
  * submitter thread pool. This pool does the work of submitting jobs to temporal - the size of this
  * pool determines the number of concurrent jobs that can be run. This is controlled via the
- * {@link #SUBMITTER_NUM_THREADS} variable.
+ * {@link #SUBMITTER_NUM_THREADS} variable. The number of those jobs a single workspace can run is
+ * controlled via the {@link #SUBMITTER_MAX_JOBS_PER_WORKSPACE} variable.
  */
 public class SchedulerApp {
 
@@ -67,6 +68,7 @@ public class SchedulerApp {
 
   private static final long GRACEFUL_SHUTDOWN_SECONDS = 30;
   private static final int SUBMITTER_NUM_THREADS = Integer.parseInt(new EnvConfigs().getSubmitterNumThreads());
+  private static final int SUBMITTER_MAX_JOBS_PER_WORKSPACE = new EnvConfigs().getSubmitterMaxJobsPerWorkspace();
   private static final Duration SCHEDULING_DELAY = Duration.ofSeconds(5);
   private static final Duration CLEANING_DELAY = Duration.ofHours(2);
   private static final ThreadFactory THREAD_FACTORY = new ThreadFactoryBuilder().setNameFormat("worker-%d").build();
@@ -105,7 +107,10 @@ public class SchedulerApp {
         jobPersistence,
         temporalWorkerRunFactory,
         new JobTracker(configRepository, jobPersistence),
-        jobNotifier);
+        jobNotifier,
+        new WorkspaceHelper(configRepository, jobPersistence),
+        SUBMITTER_NUM_THREADS,
+        SUBMITTER_MAX_JOBS_PER_WORKSPACE);
 
     Map<String, String> mdc = MDC.getCopyOfContextMap();
 
@@ -201,7 +206,7 @@ public class SchedulerApp {
         configs.getConfigDatabasePassword(),
         configs.getConfigDatabaseUrl())
             .getInitialized();
-    final ConfigPersistence configPersistence = new DatabaseConfigPersistence(configDatabase).withValidation();
+    final ConfigPersistence configPersistence = new DatabaseConfigPersistence(configDatabase).withValidationAndCaching();
     final Optional<SecretPersistence> secretPersistence = SecretPersistence.getLongLived(configs);
     final Optional<SecretPersistence> ephemeralSecretPersistence = SecretPersistence.getEphemeral(configs);
     final SecretsHydrator secretsHydrator = SecretPersistence.getSecretsHydrator(configs);
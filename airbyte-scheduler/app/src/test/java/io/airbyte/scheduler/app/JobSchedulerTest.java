@@ -4,8 +4,11 @@
 
 package io.airbyte.scheduler.app;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,10 +29,13 @@ import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.job_factory.SyncJobFactory;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -87,12 +93,13 @@ class JobSchedulerTest {
     scheduler = new JobScheduler(jobPersistence, configRepository, scheduleJobPredicate, jobFactory);
 
     previousJob = mock(Job.class);
+    when(previousJob.getScope()).thenReturn(STANDARD_SYNC.getConnectionId().toString());
   }
 
   @Test
   public void testScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(List.of(previousJob));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -101,14 +108,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testScheduleJobNoPreviousJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.empty());
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(Collections.emptyList());
     when(scheduleJobPredicate.test(Optional.empty(), STANDARD_SYNC)).thenReturn(true);
     when(jobFactory.create(STANDARD_SYNC.getConnectionId())).thenReturn(JOB_ID);
     setConfigMocks();
@@ -117,14 +124,14 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.empty(), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory).create(STANDARD_SYNC.getConnectionId());
   }
 
   @Test
   public void testDoNotScheduleJob() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(jobPersistence.getLastReplicationJob(STANDARD_SYNC.getConnectionId()))
-        .thenReturn(java.util.Optional.of(previousJob));
+    when(jobPersistence.getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId())))
+        .thenReturn(List.of(previousJob));
     when(scheduleJobPredicate.test(Optional.of(previousJob), STANDARD_SYNC)).thenReturn(false);
     setConfigMocks();
 
@@ -132,7 +139,7 @@ class JobSchedulerTest {
 
     verifyConfigCalls();
     verify(scheduleJobPredicate).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence).getLastReplicationJob(STANDARD_SYNC.getConnectionId());
+    verify(jobPersistence).getLastReplicationJobs(Set.of(STANDARD_SYNC.getConnectionId()));
     verify(jobFactory, never()).create(STANDARD_SYNC.getConnectionId());
   }
 
@@ -146,10 +153,42 @@ class JobSchedulerTest {
 
     verify(configRepository).listStandardSyncs();
     verify(scheduleJobPredicate, never()).test(Optional.of(previousJob), STANDARD_SYNC);
-    verify(jobPersistence, never()).getLastReplicationJob(standardSync.getConnectionId());
+    verify(jobPersistence, never()).getLastReplicationJobs(anySet());
     verify(jobFactory, never()).create(standardSync.getConnectionId());
   }
 
+  @Test
+  public void testFetchesLastJobsOfAllConnectionsInOneCall() throws JsonValidationException, ConfigNotFoundException, IOException {
+    final int numConnections = 5_000;
+    final List<StandardSync> connections = new ArrayList<>();
+    final List<Job> lastJobs = new ArrayList<>();
+    for (int i = 0; i < numConnections; i++) {
+      final StandardSync connection = Jsons.clone(STANDARD_SYNC).withConnectionId(UUID.randomUUID());
+      connections.add(connection);
+      // only every other connection has run before.
+      if (i % 2 == 0) {
+        final Job job = mock(Job.class);
+        when(job.getScope()).thenReturn(connection.getConnectionId().toString());
+        lastJobs.add(job);
+      }
+    }
+    final Set<UUID> connectionIds = connections.stream().map(StandardSync::getConnectionId).collect(Collectors.toSet());
+    when(configRepository.listStandardSyncs()).thenReturn(connections);
+    when(jobPersistence.getLastReplicationJobs(connectionIds)).thenReturn(lastJobs);
+    // schedule only the connections that never ran.
+    when(scheduleJobPredicate.test(any(), any())).thenAnswer(invocation -> ((Optional<?>) invocation.getArgument(0)).isEmpty());
+
+    scheduler.run();
+
+    verify(jobPersistence).getLastReplicationJobs(connectionIds);
+    verify(jobPersistence, never()).getLastReplicationJob(any());
+    verify(scheduleJobPredicate, times(numConnections)).test(any(), any());
+    for (int i = 0; i < numConnections; i++) {
+      final UUID connectionId = connections.get(i).getConnectionId();
+      verify(jobFactory, times(i % 2 == 0 ? 0 : 1)).create(connectionId);
+    }
+  }
+
   // sets all mocks that are related to fetching configs. these are the same for all tests in this
   // test suite.
   private void setConfigMocks() throws JsonValidationException, ConfigNotFoundException, IOException {
@@ -31,6 +31,7 @@ import io.airbyte.scheduler.app.worker_run.WorkerRun;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.persistence.JobNotifier;
 import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.scheduler.persistence.WorkspaceHelper;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker;
 import io.airbyte.scheduler.persistence.job_tracker.JobTracker.JobState;
 import io.airbyte.workers.JobStatus;
@@ -38,10 +39,14 @@ import io.airbyte.workers.OutputAndStatus;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -55,6 +60,8 @@ public class JobSubmitterTest {
   private static final OutputAndStatus<JobOutput> FAILED_OUTPUT = new OutputAndStatus<>(JobStatus.FAILED);
   private static final long JOB_ID = 1L;
   private static final int ATTEMPT_NUMBER = 12;
+  private static final int MAX_CONCURRENT_JOBS = 5;
+  private static final long FIRST_BATCH_JOB_ID = 100L;
 
   private JobPersistence persistence;
   private TemporalWorkerRunFactory workerRunFactory;
@@ -65,6 +72,7 @@ public class JobSubmitterTest {
   private JobSubmitter jobSubmitter;
   private JobTracker jobTracker;
   private JobNotifier jobNotifier;
+  private WorkspaceHelper workspaceHelper;
 
   @BeforeEach
   public void setup() throws IOException {
@@ -82,16 +90,20 @@ public class JobSubmitterTest {
 
     persistence = mock(JobPersistence.class);
     this.logPath = jobRoot.resolve(LogClientSingleton.LOG_FILENAME);
-    when(persistence.getNextJob()).thenReturn(Optional.of(job));
+    when(persistence.getNextJobs(anyInt())).thenReturn(List.of(job));
     when(persistence.createAttempt(JOB_ID, logPath)).thenReturn(ATTEMPT_NUMBER);
     jobNotifier = mock(JobNotifier.class);
+    workspaceHelper = mock(WorkspaceHelper.class);
 
     jobSubmitter = spy(new JobSubmitter(
         MoreExecutors.newDirectExecutorService(),
         persistence,
         workerRunFactory,
         jobTracker,
-        jobNotifier));
+        jobNotifier,
+        workspaceHelper,
+        MAX_CONCURRENT_JOBS,
+        0));
   }
 
   @Test
@@ -106,7 +118,7 @@ public class JobSubmitterTest {
 
   @Test
   public void testPersistenceNoJob() throws Exception {
-    doReturn(Optional.empty()).when(persistence).getNextJob();
+    doReturn(List.of()).when(persistence).getNextJobs(anyInt());
 
     jobSubmitter.run();
 
@@ -214,11 +226,68 @@ public class JobSubmitterTest {
     assertTrue(MDC.getCopyOfContextMap().isEmpty());
   }
 
+  @Test
+  public void testRunSubmitsAllJobsOfTheBatch() throws IOException {
+    final List<Job> jobs = mockJobs(3);
+    when(persistence.getNextJobs(anyInt())).thenReturn(jobs);
+    doNothing().when(jobSubmitter).submitJob(any());
+
+    jobSubmitter.run();
+
+    verify(persistence).getNextJobs(MAX_CONCURRENT_JOBS);
+    jobs.forEach(j -> verify(jobSubmitter).submitJob(j));
+  }
+
+  @Test
+  public void testRunSubmitsNoMoreJobsThanFreeThreads() throws IOException {
+    final List<Job> jobs = mockJobs(MAX_CONCURRENT_JOBS + 2);
+    when(persistence.getNextJobs(anyInt())).thenReturn(jobs);
+    // jobs submitted to this pool never finish.
+    jobSubmitter = spy(new JobSubmitter(mock(ExecutorService.class), persistence, workerRunFactory, jobTracker, jobNotifier, workspaceHelper,
+        MAX_CONCURRENT_JOBS, 0));
+
+    jobSubmitter.run();
+    jobSubmitter.run();
+
+    verify(persistence, Mockito.times(1)).getNextJobs(anyInt());
+    verify(jobSubmitter, Mockito.times(MAX_CONCURRENT_JOBS)).submitJob(any());
+    verify(jobSubmitter, never()).submitJob(jobs.get(MAX_CONCURRENT_JOBS));
+  }
+
+  @Test
+  public void testRunRespectsWorkspaceLimit() throws IOException {
+    final List<Job> jobs = mockJobs(3);
+    final UUID busyWorkspaceId = UUID.randomUUID();
+    when(workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(FIRST_BATCH_JOB_ID)).thenReturn(busyWorkspaceId);
+    when(workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(FIRST_BATCH_JOB_ID + 1)).thenReturn(busyWorkspaceId);
+    when(workspaceHelper.getWorkspaceForJobIdIgnoreExceptions(FIRST_BATCH_JOB_ID + 2)).thenReturn(UUID.randomUUID());
+    when(persistence.getNextJobs(anyInt())).thenReturn(jobs);
+    jobSubmitter = spy(new JobSubmitter(mock(ExecutorService.class), persistence, workerRunFactory, jobTracker, jobNotifier, workspaceHelper,
+        MAX_CONCURRENT_JOBS, 1));
+
+    jobSubmitter.run();
+
+    verify(jobSubmitter).submitJob(jobs.get(0));
+    verify(jobSubmitter, never()).submitJob(jobs.get(1));
+    verify(jobSubmitter).submitJob(jobs.get(2));
+  }
+
+  private List<Job> mockJobs(final int count) {
+    return LongStream.range(FIRST_BATCH_JOB_ID, FIRST_BATCH_JOB_ID + count)
+        .mapToObj(id -> {
+          final Job mockJob = mock(Job.class, RETURNS_DEEP_STUBS);
+          when(mockJob.getId()).thenReturn(id);
+          when(workerRunFactory.create(mockJob)).thenReturn(workerRun);
+          return mockJob;
+        })
+        .collect(Collectors.toList());
+  }
+
   @Nested
   class OnlyOneJobIdRunning {
 
     /**
-     * See {@link JobSubmitter#attemptJobSubmit()} to understand why we need to test that only one job
+     * See {@link JobSubmitter#claimJobs()} to understand why we need to test that only one job
      * id can be successfully submited at once.
      */
     @Test
@@ -244,7 +313,7 @@ public class JobSubmitterTest {
 
       simulatedJobSubmitterPool.shutdownNow();
       // This is expected to be called at least once due to the various threads.
-      verify(persistence, atLeast(2)).getNextJob();
+      verify(persistence, atLeast(2)).getNextJobs(anyInt());
       // Assert that the job is actually only submitted once.
       verify(jobSubmitter, Mockito.times(1)).submitJob(Mockito.any());
     }
@@ -261,7 +330,7 @@ public class JobSubmitterTest {
       // If the id was not removed, the second call would not trigger submitJob().
       jobSubmitter.run();
 
-      verify(persistence, Mockito.times(2)).getNextJob();
+      verify(persistence, Mockito.times(2)).getNextJobs(anyInt());
       verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
     }
 
@@ -277,7 +346,7 @@ public class JobSubmitterTest {
       // If the id was not removed, the second call would not trigger submitJob().
       jobSubmitter.run();
 
-      verify(persistence, Mockito.times(2)).getNextJob();
+      verify(persistence, Mockito.times(2)).getNextJobs(anyInt());
       verify(jobSubmitter, Mockito.times(2)).submitJob(Mockito.any());
     }
 
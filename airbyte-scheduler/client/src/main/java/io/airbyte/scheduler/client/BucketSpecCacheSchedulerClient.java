@@ -68,6 +68,14 @@ public class BucketSpecCacheSchedulerClient implements SynchronousSchedulerClien
     return client.createDiscoverSchemaJob(source, dockerImage);
   }
 
+  @Override
+  public SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source,
+                                                                     final String dockerImage,
+                                                                     final boolean disableCache)
+      throws IOException {
+    return client.createDiscoverSchemaJob(source, dockerImage, disableCache);
+  }
+
   @Override
   public SynchronousResponse<ConnectorSpecification> createGetSpecJob(final String dockerImage) throws IOException {
     LOGGER.debug("getting spec!");
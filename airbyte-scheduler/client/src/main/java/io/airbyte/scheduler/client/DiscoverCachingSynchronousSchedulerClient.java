@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.scheduler.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.StandardCheckConnectionOutput;
+import io.airbyte.config.persistence.DiscoveredCatalogPersistence;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.ConnectorSpecification;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This client caches the catalogs returned by discover jobs in the configs database, so that opening
+ * the same source again (e.g. while setting up several connections from it) does not run the
+ * connector each time. Discovering large databases can take minutes.
+ *
+ * Catalogs are keyed by the docker image and the source configuration as it is stored. Secrets are
+ * stored as coordinates that change version whenever the secret changes, so editing a source or any
+ * of its secrets yields a new key. Cached catalogs are served for the configured time to live, after
+ * which the connector is run again.
+ */
+public class DiscoverCachingSynchronousSchedulerClient implements SynchronousSchedulerClient {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DiscoverCachingSynchronousSchedulerClient.class);
+
+  private final SynchronousSchedulerClient decoratedClient;
+  private final DiscoveredCatalogPersistence catalogPersistence;
+  private final Duration ttl;
+  private final Supplier<Instant> timeSupplier;
+
+  /**
+   * @param ttl how long a discovered catalog is served from the cache. Zero disables the cache.
+   */
+  public DiscoverCachingSynchronousSchedulerClient(final SynchronousSchedulerClient decoratedClient,
+                                                   final DiscoveredCatalogPersistence catalogPersistence,
+                                                   final Duration ttl) {
+    this(decoratedClient, catalogPersistence, ttl, Instant::now);
+  }
+
+  @VisibleForTesting
+  DiscoverCachingSynchronousSchedulerClient(final SynchronousSchedulerClient decoratedClient,
+                                            final DiscoveredCatalogPersistence catalogPersistence,
+                                            final Duration ttl,
+                                            final Supplier<Instant> timeSupplier) {
+    this.decoratedClient = decoratedClient;
+    this.catalogPersistence = catalogPersistence;
+    this.ttl = ttl;
+    this.timeSupplier = timeSupplier;
+  }
+
+  @Override
+  public SynchronousResponse<StandardCheckConnectionOutput> createSourceCheckConnectionJob(final SourceConnection source, final String dockerImage)
+      throws IOException {
+    return decoratedClient.createSourceCheckConnectionJob(source, dockerImage);
+  }
+
+  @Override
+  public SynchronousResponse<StandardCheckConnectionOutput> createDestinationCheckConnectionJob(final DestinationConnection destination,
+                                                                                                final String dockerImage)
+      throws IOException {
+    return decoratedClient.createDestinationCheckConnectionJob(destination, dockerImage);
+  }
+
+  @Override
+  public SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source, final String dockerImage) throws IOException {
+    return createDiscoverSchemaJob(source, dockerImage, false);
+  }
+
+  @Override
+  public SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source,
+                                                                     final String dockerImage,
+                                                                     final boolean disableCache)
+      throws IOException {
+    if (ttl.isZero()) {
+      return decoratedClient.createDiscoverSchemaJob(source, dockerImage);
+    }
+
+    final String cacheKey = getCacheKey(source, dockerImage);
+    final Instant now = timeSupplier.get();
+    if (!disableCache) {
+      final Optional<AirbyteCatalog> cachedCatalog = getCachedCatalog(cacheKey, now.minus(ttl));
+      if (cachedCatalog.isPresent()) {
+        LOGGER.debug("Discover cache: Cache hit for source {}.", source.getSourceId());
+        final SynchronousJobMetadata mockMetadata = new SynchronousJobMetadata(
+            UUID.randomUUID(),
+            ConfigType.DISCOVER_SCHEMA,
+            source.getSourceDefinitionId(),
+            now.toEpochMilli(),
+            now.toEpochMilli(),
+            true,
+            Path.of(""));
+        return new SynchronousResponse<>(cachedCatalog.get(), mockMetadata);
+      }
+      LOGGER.debug("Discover cache: Cache miss for source {}.", source.getSourceId());
+    }
+
+    final SynchronousResponse<AirbyteCatalog> response = decoratedClient.createDiscoverSchemaJob(source, dockerImage);
+    if (response.isSuccess() && response.getOutput() != null) {
+      cacheCatalog(cacheKey, response.getOutput(), now);
+    }
+    return response;
+  }
+
+  @Override
+  public SynchronousResponse<ConnectorSpecification> createGetSpecJob(final String dockerImage) throws IOException {
+    return decoratedClient.createGetSpecJob(dockerImage);
+  }
+
+  /**
+   * The workspace is part of the key because OAuth parameters are injected into the configuration
+   * per workspace before it reaches the connector.
+   */
+  @VisibleForTesting
+  static String getCacheKey(final SourceConnection source, final String dockerImage) {
+    return Hashing.sha256()
+        .hashString(dockerImage + "\n" + source.getWorkspaceId() + "\n" + Jsons.serialize(source.getConfiguration()), StandardCharsets.UTF_8)
+        .toString();
+  }
+
+  // never want to fail a discover because the cache could not be read or written.
+  private Optional<AirbyteCatalog> getCachedCatalog(final String cacheKey, final Instant discoveredAfter) {
+    try {
+      return catalogPersistence.getCatalog(cacheKey, discoveredAfter);
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Discover cache: Call to cache failed.", e);
+      return Optional.empty();
+    }
+  }
+
+  private void cacheCatalog(final String cacheKey, final AirbyteCatalog catalog, final Instant discoveredAt) {
+    try {
+      catalogPersistence.writeCatalog(cacheKey, catalog, discoveredAt);
+      catalogPersistence.deleteCatalogsDiscoveredBefore(discoveredAt.minus(ttl));
+    } catch (final IOException | RuntimeException e) {
+      LOGGER.warn("Discover cache: Could not cache catalog.", e);
+    }
+  }
+
+}
@@ -51,6 +51,14 @@ public class SpecCachingSynchronousSchedulerClient implements CachingSynchronous
     return decoratedClient.createDiscoverSchemaJob(source, dockerImage);
   }
 
+  @Override
+  public SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source,
+                                                                     final String dockerImage,
+                                                                     final boolean disableCache)
+      throws IOException {
+    return decoratedClient.createDiscoverSchemaJob(source, dockerImage, disableCache);
+  }
+
   @Override
   public SynchronousResponse<ConnectorSpecification> createGetSpecJob(String dockerImage) throws IOException {
     final Optional<SynchronousResponse<ConnectorSpecification>> cachedJob = Optional.ofNullable(specCache.getIfPresent(dockerImage));
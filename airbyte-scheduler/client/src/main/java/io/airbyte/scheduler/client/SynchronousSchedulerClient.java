@@ -25,6 +25,17 @@ public interface SynchronousSchedulerClient {
 
   SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(SourceConnection source, String dockerImage) throws IOException;
 
+  /**
+   * @param disableCache when true, the schema is discovered by the connector even if a client along
+   *        the way holds a cached catalog for this source.
+   */
+  default SynchronousResponse<AirbyteCatalog> createDiscoverSchemaJob(final SourceConnection source,
+                                                                      final String dockerImage,
+                                                                      final boolean disableCache)
+      throws IOException {
+    return createDiscoverSchemaJob(source, dockerImage);
+  }
+
   SynchronousResponse<ConnectorSpecification> createGetSpecJob(String dockerImage) throws IOException;
 
 }
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.scheduler.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.SourceConnection;
+import io.airbyte.config.persistence.DiscoveredCatalogPersistence;
+import io.airbyte.protocol.models.AirbyteCatalog;
+import io.airbyte.protocol.models.AirbyteStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DiscoverCachingSynchronousSchedulerClientTest {
+
+  private static final String DOCKER_IMAGE = "airbyte/source-postgres:0.3.11";
+  private static final Duration TTL = Duration.ofMinutes(60);
+  private static final Instant NOW = Instant.parse("2021-10-20T10:00:00Z");
+  private static final SourceConnection SOURCE = new SourceConnection()
+      .withSourceId(UUID.randomUUID())
+      .withSourceDefinitionId(UUID.randomUUID())
+      .withWorkspaceId(UUID.randomUUID())
+      .withConfiguration(Jsons.jsonNode(Map.of("host", "localhost", "password", Map.of("_secret", "airbyte_workspace_secret_v1"))));
+  private static final AirbyteCatalog CATALOG = new AirbyteCatalog().withStreams(List.of(new AirbyteStream().withName("users")));
+
+  private SynchronousSchedulerClient decoratedClient;
+  private DiscoveredCatalogPersistence catalogPersistence;
+  private SynchronousResponse<AirbyteCatalog> response;
+  private DiscoverCachingSynchronousSchedulerClient client;
+
+  @SuppressWarnings("unchecked")
+  @BeforeEach
+  void setup() {
+    decoratedClient = mock(SynchronousSchedulerClient.class);
+    catalogPersistence = mock(DiscoveredCatalogPersistence.class);
+    response = mock(SynchronousResponse.class);
+    when(response.isSuccess()).thenReturn(true);
+    when(response.getOutput()).thenReturn(CATALOG);
+    client = new DiscoverCachingSynchronousSchedulerClient(decoratedClient, catalogPersistence, TTL, () -> NOW);
+  }
+
+  @Test
+  void testCacheHit() throws IOException {
+    when(catalogPersistence.getCatalog(DiscoverCachingSynchronousSchedulerClient.getCacheKey(SOURCE, DOCKER_IMAGE), NOW.minus(TTL)))
+        .thenReturn(Optional.of(CATALOG));
+
+    final SynchronousResponse<AirbyteCatalog> actual = client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE);
+
+    assertEquals(CATALOG, actual.getOutput());
+    assertTrue(actual.isSuccess());
+    assertEquals(ConfigType.DISCOVER_SCHEMA, actual.getMetadata().getConfigType());
+    verifyNoInteractions(decoratedClient);
+  }
+
+  @Test
+  void testCacheMissStoresCatalog() throws IOException {
+    final String cacheKey = DiscoverCachingSynchronousSchedulerClient.getCacheKey(SOURCE, DOCKER_IMAGE);
+    when(catalogPersistence.getCatalog(cacheKey, NOW.minus(TTL))).thenReturn(Optional.empty());
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(response);
+
+    assertEquals(response, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+    verify(catalogPersistence).writeCatalog(cacheKey, CATALOG, NOW);
+    verify(catalogPersistence).deleteCatalogsDiscoveredBefore(NOW.minus(TTL));
+  }
+
+  @Test
+  void testFailedDiscoverIsNotStored() throws IOException {
+    when(catalogPersistence.getCatalog(anyString(), any())).thenReturn(Optional.empty());
+    when(response.isSuccess()).thenReturn(false);
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(response);
+
+    assertEquals(response, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+    verify(catalogPersistence, never()).writeCatalog(anyString(), any(), any());
+  }
+
+  @Test
+  void testDisableCacheDiscoversAgain() throws IOException {
+    final String cacheKey = DiscoverCachingSynchronousSchedulerClient.getCacheKey(SOURCE, DOCKER_IMAGE);
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(response);
+
+    assertEquals(response, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE, true));
+    verify(catalogPersistence, never()).getCatalog(anyString(), any());
+    // the fresh catalog replaces the cached one.
+    verify(catalogPersistence).writeCatalog(cacheKey, CATALOG, NOW);
+  }
+
+  @Test
+  void testZeroTtlDisablesTheCache() throws IOException {
+    client = new DiscoverCachingSynchronousSchedulerClient(decoratedClient, catalogPersistence, Duration.ZERO, () -> NOW);
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(response);
+
+    assertEquals(response, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+    verifyNoInteractions(catalogPersistence);
+  }
+
+  @Test
+  void testCacheFailuresAreIgnored() throws IOException {
+    when(catalogPersistence.getCatalog(anyString(), any())).thenThrow(new IOException("induced exception"));
+    doThrow(new RuntimeException("induced exception")).when(catalogPersistence).writeCatalog(anyString(), any(), any());
+    when(decoratedClient.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE)).thenReturn(response);
+
+    assertEquals(response, client.createDiscoverSchemaJob(SOURCE, DOCKER_IMAGE));
+  }
+
+  @Test
+  void testCacheKeyChangesWithImageAndConfiguration() {
+    final String cacheKey = DiscoverCachingSynchronousSchedulerClient.getCacheKey(SOURCE, DOCKER_IMAGE);
+    final SourceConnection rotatedSecret = Jsons.clone(SOURCE)
+        .withConfiguration(Jsons.jsonNode(Map.of("host", "localhost", "password", Map.of("_secret", "airbyte_workspace_secret_v2"))));
+
+    assertEquals(cacheKey, DiscoverCachingSynchronousSchedulerClient.getCacheKey(Jsons.clone(SOURCE), DOCKER_IMAGE));
+    assertNotEquals(cacheKey, DiscoverCachingSynchronousSchedulerClient.getCacheKey(SOURCE, "airbyte/source-postgres:0.3.12"));
+    assertNotEquals(cacheKey, DiscoverCachingSynchronousSchedulerClient.getCacheKey(rotatedSecret, DOCKER_IMAGE));
+    assertNotEquals(cacheKey, DiscoverCachingSynchronousSchedulerClient.getCacheKey(Jsons.clone(SOURCE).withWorkspaceId(UUID.randomUUID()), DOCKER_IMAGE));
+  }
+
+}
@@ -6,10 +6,10 @@ package io.airbyte.scheduler.persistence;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.JsonNodeType;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Sets;
 import io.airbyte.commons.enums.Enums;
+import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.commons.text.Names;
@@ -27,8 +27,13 @@ import io.airbyte.scheduler.models.Attempt;
 import io.airbyte.scheduler.models.AttemptStatus;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.models.JobStatus;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -36,7 +41,7 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -49,16 +54,15 @@ import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.jooq.DSLContext;
-import org.jooq.Field;
-import org.jooq.InsertValuesStepN;
-import org.jooq.JSONFormat;
-import org.jooq.JSONFormat.RecordFormat;
 import org.jooq.Named;
 import org.jooq.Record;
 import org.jooq.Result;
 import org.jooq.Sequence;
 import org.jooq.Table;
 import org.jooq.impl.DSL;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyInputStream;
+import org.postgresql.copy.PGCopyOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,7 +78,7 @@ public class DefaultJobPersistence implements JobPersistence {
       .of("pg_toast", "information_schema", "pg_catalog", "import_backup", "pg_internal",
           "catalog_history");
 
-  private static final JSONFormat DB_JSON_FORMAT = new JSONFormat().recordFormat(RecordFormat.OBJECT);
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
   protected static final String DEFAULT_SCHEMA = "public";
   private static final String BACKUP_SCHEMA = "import_backup";
   public static final String DEPLOYMENT_ID_KEY = "deployment_id";
@@ -302,14 +306,37 @@ public class DefaultJobPersistence implements JobPersistence {
   @Override
   public <T> void writeOutput(long jobId, int attemptNumber, T output) throws IOException {
     final LocalDateTime now = LocalDateTime.ofInstant(timeSupplier.get(), ZoneOffset.UTC);
+    final Optional<State> state = getSyncState(output);
 
-    database.query(
-        ctx -> ctx.execute(
-            "UPDATE attempts SET output = CAST(? as JSONB), updated_at = ? WHERE job_id = ? AND attempt_number = ?",
-            Jsons.serialize(output),
+    database.transaction(ctx -> {
+      ctx.execute(
+          "UPDATE attempts SET output = CAST(? as JSONB), updated_at = ? WHERE job_id = ? AND attempt_number = ?",
+          Jsons.serialize(output),
+          now,
+          jobId,
+          attemptNumber);
+      // keep the current state of the connection next to the attempt output it comes from, so that it can
+      // be read without scanning the outputs of every attempt.
+      if (state.isPresent()) {
+        ctx.execute(
+            "INSERT INTO connection_state(scope, state, job_id, attempt_number, updated_at) " +
+                "SELECT scope, CAST(? as JSONB), id, ?, ? FROM jobs WHERE id = ? AND config_type IN " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) +
+                " ON CONFLICT (scope) DO UPDATE SET state = EXCLUDED.state, job_id = EXCLUDED.job_id, " +
+                "attempt_number = EXCLUDED.attempt_number, updated_at = EXCLUDED.updated_at",
+            Jsons.serialize(state.get()),
+            attemptNumber,
             now,
-            jobId,
-            attemptNumber));
+            jobId);
+      }
+      return null;
+    });
+  }
+
+  private static <T> Optional<State> getSyncState(T output) {
+    if (!(output instanceof JobOutput)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(((JobOutput) output).getSync()).map(StandardSyncOutput::getState);
   }
 
   @Override
@@ -332,15 +359,33 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public List<Job> listJobs(Set<ConfigType> configTypes, String configId, int pagesize, int offset) throws IOException {
+    // page on jobs before joining their attempts, so that a page holds pagesize jobs, not pagesize
+    // attempts.
     return database.query(ctx -> getJobsFromResult(ctx.fetch(
-        BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(config_type AS VARCHAR) in " + Sqls.toSqlInFragment(configTypes) + " " +
-            "AND scope = ? " +
-            ORDER_BY_JOB_TIME_ATTEMPT_TIME +
-            "LIMIT ? OFFSET ?",
+        BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT id FROM jobs " +
+            "WHERE config_type IN " + Sqls.toSqlInFragment(configTypes) + " AND scope = ? " +
+            "ORDER BY created_at DESC, id DESC " +
+            "LIMIT ? OFFSET ?) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
         configId, pagesize, offset)));
   }
 
+  @Override
+  public List<Job> listJobsBefore(Set<ConfigType> configTypes, String configId, long lastJobId, int pagesize) throws IOException {
+    // the created_at <= bound lets the (scope, config_type, created_at) index seek to the cursor,
+    // so every page costs the same no matter how deep it is. the row comparison then breaks ties.
+    return database.query(ctx -> getJobsFromResult(ctx.fetch(
+        BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT page.id FROM jobs AS page, (SELECT created_at, id FROM jobs WHERE id = ?) AS last_job " +
+            "WHERE page.config_type IN " + Sqls.toSqlInFragment(configTypes) + " AND page.scope = ? " +
+            "AND page.created_at <= last_job.created_at AND (page.created_at, page.id) < (last_job.created_at, last_job.id) " +
+            "ORDER BY page.created_at DESC, page.id DESC " +
+            "LIMIT ?) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+        lastJobId, configId, pagesize)));
+  }
+
   @Override
   public List<Job> listJobsWithStatus(JobStatus status) throws IOException {
     return listJobsWithStatus(Sets.newHashSet(ConfigType.values()), status);
@@ -350,8 +395,8 @@ public class DefaultJobPersistence implements JobPersistence {
   public List<Job> listJobsWithStatus(Set<ConfigType> configTypes, JobStatus status) throws IOException {
     return database.query(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(config_type AS VARCHAR) IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
-            "CAST(jobs.status AS VARCHAR) = ? " +
+            "config_type IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            "jobs.status = CAST(? AS JOB_STATUS) " +
             ORDER_BY_JOB_TIME_ATTEMPT_TIME,
             Sqls.toSqlName(status))));
   }
@@ -363,51 +408,73 @@ public class DefaultJobPersistence implements JobPersistence {
 
   @Override
   public Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException {
-    return database.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.config_type AS VARCHAR) in " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
-            "scope = ? AND " +
-            "CAST(jobs.status AS VARCHAR) <> ? " +
-            "ORDER BY jobs.created_at DESC LIMIT 1",
-            connectionId.toString(),
-            Sqls.toSqlName(JobStatus.CANCELLED))
-        .stream()
-        .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
+    return getLastReplicationJobs(Set.of(connectionId)).stream().findFirst();
+  }
+
+  @Override
+  public List<Job> getLastReplicationJobs(Set<UUID> connectionIds) throws IOException {
+    return getLastJobs(Job.REPLICATION_TYPES, connectionIds, Set.of(JobStatus.CANCELLED));
+  }
+
+  @Override
+  public List<Job> getLastSyncJobs(Set<UUID> connectionIds) throws IOException {
+    return getLastJobs(Set.of(ConfigType.SYNC), connectionIds, Collections.emptySet());
+  }
+
+  private List<Job> getLastJobs(Set<ConfigType> configTypes, Set<UUID> connectionIds, Set<JobStatus> excludedStatuses) throws IOException {
+    if (connectionIds.isEmpty()) {
+      return Collections.emptyList();
+    }
+    // DISTINCT ON keeps the first row of each scope, i.e. its most recently created job, so the jobs
+    // of all connections and their attempts come back in a single round trip.
+    final String[] scopes = connectionIds.stream().map(UUID::toString).toArray(String[]::new);
+    final String statusCondition = excludedStatuses.isEmpty() ? "" : "status NOT IN " + Sqls.toSqlInFragment(excludedStatuses) + " AND ";
+    return database.query(ctx -> getJobsFromResult(ctx
+        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT DISTINCT ON (scope) id FROM jobs WHERE " +
+            "config_type IN " + Sqls.toSqlInFragment(configTypes) + " AND " +
+            statusCondition +
+            "scope = ANY(?) " +
+            "ORDER BY scope, created_at DESC, id DESC) " +
+            ORDER_BY_JOB_TIME_ATTEMPT_TIME,
+            (Object) scopes)));
   }
 
   @Override
   public Optional<State> getCurrentState(UUID connectionId) throws IOException {
     return database.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.config_type AS VARCHAR) in " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND " +
-            "scope = ? AND " +
-            "output->'sync'->'state' IS NOT NULL " +
-            "ORDER BY attempts.created_at DESC LIMIT 1",
-            connectionId.toString())
+        .fetch("SELECT state FROM connection_state WHERE scope = ?", connectionId.toString())
         .stream()
         .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class)))
-        .flatMap(Job::getLastAttemptWithOutput)
-        .flatMap(Attempt::getOutput)
-        .map(JobOutput::getSync)
-        .map(StandardSyncOutput::getState));
+        .map(r -> Jsons.deserialize(r.get("state", String.class), State.class)));
   }
 
   @Override
   public Optional<Job> getNextJob() throws IOException {
+    // the oldest pending job is always the oldest pending job of its scope, so this is the first job
+    // of the batch.
+    return getNextJobs(1).stream().findFirst();
+  }
+
+  @Override
+  public List<Job> getNextJobs(int limit) throws IOException {
     // rules:
-    // 1. get oldest, pending job
+    // 1. get the oldest pending jobs
     // 2. job is excluded if another job of the same scope is already running
     // 3. job is excluded if another job of the same scope is already incomplete
-    return database.query(ctx -> ctx
-        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(jobs.status AS VARCHAR) = 'pending' AND " +
-            "jobs.scope NOT IN ( SELECT scope FROM jobs WHERE status = 'running' OR status = 'incomplete' ) " +
-            "ORDER BY jobs.created_at ASC LIMIT 1")
-        .stream()
-        .findFirst()
-        .flatMap(r -> getJobOptional(ctx, r.get("job_id", Long.class))));
+    // 4. job is excluded if an older job of the same scope is also pending, so a batch holds at most
+    // one job per scope
+    // nothing is locked or marked here, so concurrent callers can get the same jobs. the scheduler
+    // claims them in a single synchronized JobSubmitter.claimJobs.
+    return database.query(ctx -> getJobsFromResult(ctx
+        .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE jobs.id IN (" +
+            "SELECT id FROM jobs WHERE " +
+            "jobs.status = 'pending' AND " +
+            "NOT EXISTS ( SELECT 1 FROM jobs AS blocking WHERE blocking.scope = jobs.scope AND blocking.status IN ('running', 'incomplete') ) AND " +
+            "NOT EXISTS ( SELECT 1 FROM jobs AS older WHERE older.scope = jobs.scope AND older.status = 'pending' AND older.id < jobs.id ) " +
+            "ORDER BY jobs.created_at ASC, jobs.id ASC LIMIT ?) " +
+            "ORDER BY jobs.created_at ASC, jobs.id ASC, attempts.created_at ASC, attempts.id ASC",
+            limit)));
   }
 
   @Override
@@ -415,7 +482,7 @@ public class DefaultJobPersistence implements JobPersistence {
     final LocalDateTime timeConvertedIntoLocalDateTime = LocalDateTime.ofInstant(attemptEndedAtTimestamp, ZoneOffset.UTC);
     return database.query(ctx -> getJobsFromResult(ctx
         .fetch(BASE_JOB_SELECT_AND_JOIN + "WHERE " +
-            "CAST(config_type AS VARCHAR) =  ? AND " +
+            "config_type = CAST(? AS JOB_CONFIG_TYPE) AND " +
             " attempts.ended_at > ? ORDER BY jobs.created_at ASC, attempts.created_at ASC", Sqls.toSqlName(configType),
             timeConvertedIntoLocalDateTime)));
   }
@@ -529,13 +596,13 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   @Override
-  public Map<JobsDatabaseSchema, Stream<JsonNode>> exportDatabase() throws IOException {
-    return exportDatabase(DEFAULT_SCHEMA);
+  public void exportTable(final JobsDatabaseSchema table, final CheckedConsumer<JsonNode, IOException> rowConsumer) throws IOException {
+    exportTable(DEFAULT_SCHEMA, table.getTableName(), rowConsumer);
   }
 
   /**
-   * This is different from {@link #exportDatabase()} cause it exports all the tables in all the
-   * schemas available
+   * This is different from {@link #exportTable(JobsDatabaseSchema, CheckedConsumer)} cause it exports
+   * all the tables in all the schemas available
    */
   @Override
   public Map<String, Stream<JsonNode>> dump() throws IOException {
@@ -547,39 +614,15 @@ public class DefaultJobPersistence implements JobPersistence {
         if (result.containsKey(table)) {
           throw new RuntimeException("Multiple tables found with the same name " + table);
         }
-        result.put(table.toUpperCase(), exportTable(schema, table));
+        final List<JsonNode> rows = new ArrayList<>();
+        exportTable(schema, table, rows::add);
+        result.put(table.toUpperCase(), rows.stream());
       }
     }
 
     return result;
   }
 
-  private Map<JobsDatabaseSchema, Stream<JsonNode>> exportDatabase(final String schema) throws IOException {
-    final List<String> tables = listTables(schema);
-    final Map<JobsDatabaseSchema, Stream<JsonNode>> result = new HashMap<>();
-
-    for (final String table : tables) {
-      result.put(JobsDatabaseSchema.valueOf(table.toUpperCase()), exportTable(schema, table));
-    }
-
-    return result;
-  }
-
-  /**
-   * List tables from @param schema and @return their names
-   */
-  private List<String> listTables(final String schema) throws IOException {
-    if (schema != null) {
-      return database.query(context -> context.meta().getSchemas(schema).stream()
-          .flatMap(s -> context.meta(s).getTables().stream())
-          .map(Named::getName)
-          .filter(table -> JobsDatabaseSchema.getTableNames().contains(table.toLowerCase()))
-          .collect(Collectors.toList()));
-    } else {
-      return List.of();
-    }
-  }
-
   @Override
   public void purgeJobHistory() {
     purgeJobHistory(LocalDateTime.now());
@@ -619,21 +662,28 @@ public class DefaultJobPersistence implements JobPersistence {
 
   }
 
-  private Stream<JsonNode> exportTable(final String schema, final String tableName) throws IOException {
-    final Table<Record> tableSql = getTable(schema, tableName);
-    try (final Stream<Record> records = database.query(ctx -> ctx.select(DSL.asterisk()).from(tableSql).fetchStream())) {
-      return records.map(record -> {
-        final Set<String> jsonFieldNames = Arrays.stream(record.fields())
-            .filter(f -> f.getDataType().getTypeName().equals("jsonb"))
-            .map(Field::getName)
-            .collect(Collectors.toSet());
-        final JsonNode row = Jsons.deserialize(record.formatJSON(DB_JSON_FORMAT));
-        // for json fields, deserialize them so they are treated as objects instead of strings. this is to
-        // get around that formatJson doesn't handle deserializing them for us.
-        jsonFieldNames.forEach(jsonFieldName -> ((ObjectNode) row).replace(jsonFieldName, Jsons.deserialize(row.get(jsonFieldName).asText())));
-        return row;
+  /**
+   * Streams the rows of the table out of Postgres with COPY, letting the database render each row as
+   * JSON, including its jsonb columns. The rows are written as CSV with a quote and a delimiter that
+   * Postgres always escapes in JSON, so that each line is the JSON of a row, as is.
+   */
+  private void exportTable(final String schema, final String tableName, final CheckedConsumer<JsonNode, IOException> rowConsumer)
+      throws IOException {
+    final String copySql = String.format(
+        "COPY (SELECT row_to_json(t) FROM %s.%s t) TO STDOUT WITH (FORMAT csv, QUOTE E'\\x01', DELIMITER E'\\x02')", schema, tableName);
+    database.query(ctx -> {
+      ctx.connection(connection -> {
+        try (final BufferedReader rows = new BufferedReader(
+            new InputStreamReader(new PGCopyInputStream(connection.unwrap(PGConnection.class), copySql), StandardCharsets.UTF_8),
+            COPY_BUFFER_SIZE)) {
+          String row;
+          while ((row = rows.readLine()) != null) {
+            rowConsumer.accept(Jsons.deserialize(row));
+          }
+        }
       });
-    }
+      return null;
+    });
   }
 
   @Override
@@ -655,6 +705,7 @@ public class DefaultJobPersistence implements JobPersistence {
           }
           importTable(ctx, targetSchema, tableType, data.get(tableType));
         }
+        rebuildConnectionState(ctx, targetSchema);
         registerImportMetadata(ctx, airbyteVersion);
         return null;
       });
@@ -679,36 +730,38 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   /**
+   * Loads the rows into the table with COPY, streaming them to Postgres as CSV.
+   *
    * TODO: we need version specific importers to copy data to the database. Issue: #5682.
    */
   private static void importTable(DSLContext ctx, final String schema, final JobsDatabaseSchema tableType, final Stream<JsonNode> jsonStream) {
-    final Table<Record> tableSql = getTable(schema, tableType.name());
     final JsonNode jsonSchema = tableType.getTableDefinition();
     if (jsonSchema != null) {
       // Use an ArrayList to mirror the order of columns from the schema file since columns may not be
       // written consistently in the same order in the stream
-      final List<Field<?>> columns = getFields(jsonSchema);
-      // Build a Stream of List of Values using the same order as columns, filling blanks if needed (when
-      // stream omits them for nullable columns)
-      final Stream<List<?>> data = jsonStream.map(node -> {
-        final List<Object> values = new ArrayList<>();
-        for (final Field<?> column : columns) {
-          values.add(getJsonNodeValue(node, column.getName()));
+      final List<String> columns = getColumns(jsonSchema);
+      final String copySql = String.format("COPY %s.%s (%s) FROM STDIN WITH (FORMAT csv)", schema, tableType.name(), String.join(", ", columns));
+      ctx.connection(connection -> {
+        final PGCopyOutputStream copyStream = new PGCopyOutputStream(connection.unwrap(PGConnection.class), copySql, COPY_BUFFER_SIZE);
+        try {
+          // Write the values using the same order as columns, leaving blanks if needed (when stream omits
+          // them for nullable columns)
+          final Writer writer = new OutputStreamWriter(copyStream, StandardCharsets.UTF_8);
+          final Iterator<JsonNode> rows = jsonStream.iterator();
+          while (rows.hasNext()) {
+            writer.write(toCsvRow(rows.next(), columns));
+          }
+          writer.flush();
+          copyStream.endCopy();
+        } finally {
+          if (copyStream.isActive()) {
+            copyStream.cancelCopy();
+          }
         }
-        return values;
       });
-      // Then Insert rows into table
-      final InsertValuesStepN<Record> insertStep = ctx
-          .insertInto(tableSql)
-          .columns(columns);
-      data.forEach(insertStep::values);
-      if (insertStep.getBindValues().size() > 0) {
-        // LOGGER.debug(insertStep.toString());
-        ctx.batch(insertStep).execute();
-      }
-      final Optional<Field<?>> idColumn = columns.stream().filter(f -> f.getName().equals("id")).findFirst();
-      if (idColumn.isPresent())
+      if (columns.contains("id")) {
         resetIdentityColumn(ctx, schema, tableType);
+      }
     }
   }
 
@@ -732,6 +785,27 @@ public class DefaultJobPersistence implements JobPersistence {
     }
   }
 
+  /**
+   * The connection_state table is derived from the attempts, so it is not part of the exported data.
+   * Rebuild it from the imported attempts instead. If the database has not been migrated yet, the
+   * migration that creates the table fills it.
+   */
+  private static void rebuildConnectionState(final DSLContext ctx, final String schema) {
+    final boolean tableExists = ctx.fetchOne("SELECT to_regclass(?) IS NOT NULL AS table_exists", schema + ".connection_state")
+        .get("table_exists", Boolean.class);
+    if (!tableExists) {
+      return;
+    }
+    ctx.execute(String.format("DELETE FROM %s.connection_state", schema));
+    ctx.execute(String.format("INSERT INTO %1$s.connection_state(scope, state, job_id, attempt_number, updated_at) " +
+        "SELECT DISTINCT ON (jobs.scope) jobs.scope, attempts.output->'sync'->'state', attempts.job_id, attempts.attempt_number, " +
+        "COALESCE(attempts.updated_at, attempts.created_at, now()) " +
+        "FROM %1$s.attempts JOIN %1$s.jobs ON jobs.id = attempts.job_id " +
+        "WHERE jobs.config_type IN " + Sqls.toSqlInFragment(Job.REPLICATION_TYPES) + " AND jobs.scope IS NOT NULL AND " +
+        "attempts.output->'sync'->'state' IS NOT NULL " +
+        "ORDER BY jobs.scope, attempts.created_at DESC", schema));
+  }
+
   /**
    * Insert records into the metadata table to keep track of import Events that were applied on the
    * database. Update and overwrite the corresponding @param airbyteVersion.
@@ -747,22 +821,39 @@ public class DefaultJobPersistence implements JobPersistence {
   }
 
   /**
-   * Read @param jsonSchema and @returns a list of properties (converted as Field objects)
+   * Read @param jsonSchema and @returns a list of properties (the names of the columns)
    */
-  private static List<Field<?>> getFields(final JsonNode jsonSchema) {
-    final List<Field<?>> result = new ArrayList<>();
+  private static List<String> getColumns(final JsonNode jsonSchema) {
+    final List<String> result = new ArrayList<>();
     final JsonNode properties = jsonSchema.get("properties");
     for (Iterator<String> it = properties.fieldNames(); it.hasNext();) {
-      final String fieldName = it.next();
-      result.add(DSL.field(fieldName));
+      result.add(it.next());
     }
     return result;
   }
 
   /**
-   * @return Java Values for the @param columnName in @param jsonNode
+   * @return the values of the @param columns in @param jsonNode as a line of CSV. Values are always
+   *         quoted, so that only missing values are read as NULL.
+   */
+  private static String toCsvRow(final JsonNode jsonNode, final List<String> columns) {
+    final StringBuilder row = new StringBuilder();
+    for (int i = 0; i < columns.size(); i++) {
+      if (i > 0) {
+        row.append(',');
+      }
+      final String value = getJsonNodeValue(jsonNode, columns.get(i));
+      if (value != null) {
+        row.append('"').append(value.replace("\"", "\"\"")).append('"');
+      }
+    }
+    return row.append('\n').toString();
+  }
+
+  /**
+   * @return the text value for the @param columnName in @param jsonNode
    */
-  private static Object getJsonNodeValue(final JsonNode jsonNode, final String columnName) {
+  private static String getJsonNodeValue(final JsonNode jsonNode, final String columnName) {
     if (!jsonNode.has(columnName)) {
       return null;
     }
@@ -773,7 +864,8 @@ public class DefaultJobPersistence implements JobPersistence {
     } else if (nodeType == JsonNodeType.STRING) {
       return valueNode.asText();
     } else if (nodeType == JsonNodeType.NUMBER) {
-      return valueNode.asDouble();
+      // ids are integers, but may have been written as doubles by older archives.
+      return valueNode.decimalValue().stripTrailingZeros().toPlainString();
     } else if (nodeType == JsonNodeType.NULL) {
       return null;
     }
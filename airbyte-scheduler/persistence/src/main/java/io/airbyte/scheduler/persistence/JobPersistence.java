@@ -5,6 +5,7 @@
 package io.airbyte.scheduler.persistence;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.functional.CheckedConsumer;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
 import io.airbyte.config.State;
@@ -127,6 +128,18 @@ public interface JobPersistence {
    */
   List<Job> listJobs(Set<JobConfig.ConfigType> configTypes, String configId, int limit, int offset) throws IOException;
 
+  /**
+   * Keyset version of {@link #listJobs(Set, String, int, int)}: returns the page of jobs that follows
+   * the given job in the same (created_at, id) descending order. Unlike an offset, the cost of a page
+   * does not grow with its depth and pages do not shift when new jobs are created meanwhile.
+   *
+   * @param lastJobId - id of the last job of the previous page.
+   * @return lists up to limit jobs in descending order by created_at. Empty if the job of the cursor
+   *         no longer exists.
+   * @throws IOException - exception due to interaction with persistence
+   */
+  List<Job> listJobsBefore(Set<JobConfig.ConfigType> configTypes, String configId, long lastJobId, int limit) throws IOException;
+
   /**
    *
    * @param configType The type of job
@@ -146,6 +159,28 @@ public interface JobPersistence {
 
   Optional<Job> getLastReplicationJob(UUID connectionId) throws IOException;
 
+  /**
+   * Batch version of {@link #getLastReplicationJob(UUID)} that fetches the last replication job of
+   * every given connection in a single query.
+   *
+   * @param connectionIds - ids of the connections whose last job we want to fetch.
+   * @return the last non-cancelled replication job of each connection that has one. Connections
+   *         without such a job are absent from the list.
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<Job> getLastReplicationJobs(Set<UUID> connectionIds) throws IOException;
+
+  /**
+   * Fetches the most recent sync job of every given connection in a single query, whatever its
+   * status.
+   *
+   * @param connectionIds - ids of the connections whose last sync job we want to fetch.
+   * @return the last sync job of each connection that has one. Connections without a sync job are
+   *         absent from the list.
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<Job> getLastSyncJobs(Set<UUID> connectionIds) throws IOException;
+
   /**
    * if a job does not succeed, we assume that it synced nothing. that is the most conservative
    * assumption we can make. as long as all destinations write the final data output in a
@@ -153,6 +188,9 @@ public interface JobPersistence {
    * with our incremental append only. this is preferable to failing to send data at all. our
    * incremental append only most closely resembles a deliver at least once strategy anyway.
    *
+   * The state is kept up to date by {@link #writeOutput(long, int, Object)}, so reading it is a
+   * single primary key lookup regardless of how many jobs the connection has run.
+   *
    * @param connectionId - id of the connection whose state we want to fetch.
    * @return the current state, if any of, the connection
    * @throws IOException exception due to interaction with persistence
@@ -161,6 +199,17 @@ public interface JobPersistence {
 
   Optional<Job> getNextJob() throws IOException;
 
+  /**
+   * Returns the jobs that can be started now, oldest first. A job can be started if it is pending and
+   * no other job of its scope is running, incomplete or pending since before it, so the returned
+   * jobs all have different scopes.
+   *
+   * @param limit - maximum number of jobs to return
+   * @return the jobs to start
+   * @throws IOException exception due to interaction with persistence
+   */
+  List<Job> getNextJobs(int limit) throws IOException;
+
   /// ARCHIVE
 
   /**
@@ -186,10 +235,11 @@ public interface JobPersistence {
   void setDeployment(UUID uuid) throws IOException;
 
   /**
-   * Export all SQL tables from @param schema into streams of JsonNode objects. This returns a Map of
-   * table schemas to the associated streams of records that is being exported.
+   * Export the SQL table @param table row by row, handing each record to @param rowConsumer as a
+   * JsonNode object. Records are streamed from the database as they are consumed, so that tables of
+   * any size can be exported, and different tables can be exported concurrently.
    */
-  Map<JobsDatabaseSchema, Stream<JsonNode>> exportDatabase() throws IOException;
+  void exportTable(JobsDatabaseSchema table, CheckedConsumer<JsonNode, IOException> rowConsumer) throws IOException;
 
   Map<String, Stream<JsonNode>> dump() throws IOException;
 
@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.scheduler.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.common.base.Stopwatch;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.JobConfig;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.JobOutput;
+import io.airbyte.config.JobOutput.OutputType;
+import io.airbyte.config.JobSyncConfig;
+import io.airbyte.config.StandardSyncOutput;
+import io.airbyte.config.State;
+import io.airbyte.db.Database;
+import io.airbyte.db.instance.DatabaseMigrator;
+import io.airbyte.db.instance.jobs.JobsDatabaseInstance;
+import io.airbyte.db.instance.jobs.JobsDatabaseMigrator;
+import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.models.JobStatus;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Runs the job queries the scheduler and the API issue most often against a jobs database of a
+ * million jobs, the size large deployments reach. Seeding takes a few minutes, so this is disabled
+ * by default and meant to be run manually when changing these queries or the jobs table indexes.
+ */
+@Disabled
+class DefaultJobPersistenceBenchmarkTest {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(DefaultJobPersistenceBenchmarkTest.class);
+
+  private static final int NUM_CONNECTIONS = 5_000;
+  private static final int NUM_JOBS = 1_000_000;
+  private static final int NUM_PENDING_JOBS = 100;
+  private static final int NUM_ITERATIONS = 10;
+  private static final JobConfig SYNC_JOB_CONFIG = new JobConfig()
+      .withConfigType(ConfigType.SYNC)
+      .withSync(new JobSyncConfig());
+  private static final JobOutput SYNC_OUTPUT = new JobOutput()
+      .withOutputType(OutputType.SYNC)
+      .withSync(new StandardSyncOutput().withState(new State().withState(Jsons.jsonNode(1))));
+
+  private static PostgreSQLContainer<?> container;
+  private static Database database;
+  private static JobPersistence jobPersistence;
+  private static Set<UUID> connectionIds;
+
+  @BeforeAll
+  public static void dbSetup() throws Exception {
+    container = new PostgreSQLContainer<>("postgres:13-alpine")
+        .withDatabaseName("airbyte")
+        .withUsername("docker")
+        .withPassword("docker");
+    container.start();
+
+    database = new JobsDatabaseInstance(container.getUsername(), container.getPassword(), container.getJdbcUrl()).getAndInitialize();
+    final DatabaseMigrator jobDbMigrator = new JobsDatabaseMigrator(database, DefaultJobPersistenceBenchmarkTest.class.getSimpleName());
+    jobDbMigrator.createBaseline();
+    jobDbMigrator.migrate();
+    jobPersistence = new DefaultJobPersistence(database);
+
+    seed();
+  }
+
+  @AfterAll
+  public static void dbDown() throws Exception {
+    database.close();
+    container.close();
+  }
+
+  /**
+   * Every connection gets NUM_JOBS / NUM_CONNECTIONS jobs with one attempt each. Every tenth attempt
+   * of each connection saved a state. The most recent jobs are pending.
+   */
+  private static void seed() throws Exception {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    database.query(ctx -> ctx.execute(
+        "INSERT INTO jobs(config_type, scope, config, status, created_at, updated_at) " +
+            "SELECT 'sync', md5('connection' || (i % ?))::uuid::text, CAST(? AS JSONB), " +
+            "CASE WHEN i > ? THEN 'pending'::job_status WHEN i % 7 = 0 THEN 'failed'::job_status ELSE 'succeeded'::job_status END, " +
+            "now() - (? - i) * interval '1 second', now() - (? - i) * interval '1 second' " +
+            "FROM generate_series(1, ?) AS i",
+        NUM_CONNECTIONS, Jsons.serialize(SYNC_JOB_CONFIG), NUM_JOBS - NUM_PENDING_JOBS, NUM_JOBS, NUM_JOBS, NUM_JOBS));
+    database.query(ctx -> ctx.execute(
+        "INSERT INTO attempts(job_id, attempt_number, log_path, output, status, created_at, updated_at, ended_at) " +
+            "SELECT id, 0, '/tmp/logs', CASE WHEN (id / ?) % 10 = 0 THEN CAST(? AS JSONB) ELSE NULL END, " +
+            "CASE WHEN status = 'failed' THEN 'failed'::attempt_status ELSE 'succeeded'::attempt_status END, " +
+            "created_at, updated_at, updated_at " +
+            "FROM jobs WHERE status <> 'pending'",
+        NUM_CONNECTIONS, Jsons.serialize(SYNC_OUTPUT)));
+    // attempts are inserted directly, so fill the current state of each connection the way
+    // writeOutput would have.
+    database.query(ctx -> ctx.execute(
+        "INSERT INTO connection_state(scope, state, job_id, attempt_number, updated_at) " +
+            "SELECT DISTINCT ON (jobs.scope) jobs.scope, attempts.output->'sync'->'state', attempts.job_id, attempts.attempt_number, attempts.updated_at " +
+            "FROM attempts JOIN jobs ON jobs.id = attempts.job_id WHERE attempts.output IS NOT NULL " +
+            "ORDER BY jobs.scope, attempts.created_at DESC"));
+    database.query(ctx -> ctx.execute("ANALYZE jobs"));
+    database.query(ctx -> ctx.execute("ANALYZE attempts"));
+    database.query(ctx -> ctx.execute("ANALYZE connection_state"));
+
+    connectionIds = database.query(ctx -> ctx.fetch("SELECT DISTINCT scope FROM jobs"))
+        .stream()
+        .map(r -> UUID.fromString(r.get("scope", String.class)))
+        .collect(Collectors.toSet());
+    LOGGER.info("Seeded {} jobs for {} connections in {} s", NUM_JOBS, connectionIds.size(), stopwatch.elapsed(TimeUnit.SECONDS));
+  }
+
+  @Test
+  void benchmarkGetLastReplicationJobs() throws Exception {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    List<Job> lastJobs = List.of();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      lastJobs = jobPersistence.getLastReplicationJobs(connectionIds);
+    }
+    LOGGER.info("getLastReplicationJobs for {} connections: {} ms per call", connectionIds.size(),
+        stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+    assertEquals(NUM_CONNECTIONS, lastJobs.size());
+  }
+
+  @Test
+  void benchmarkGetLastReplicationJob() throws Exception {
+    final UUID connectionId = connectionIds.iterator().next();
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertTrue(jobPersistence.getLastReplicationJob(connectionId).isPresent());
+    }
+    LOGGER.info("getLastReplicationJob: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+  @Test
+  void benchmarkGetCurrentState() throws Exception {
+    final UUID connectionId = connectionIds.iterator().next();
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertTrue(jobPersistence.getCurrentState(connectionId).isPresent());
+    }
+    LOGGER.info("getCurrentState: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+  @Test
+  void benchmarkGetNextJob() throws Exception {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertTrue(jobPersistence.getNextJob().isPresent());
+    }
+    LOGGER.info("getNextJob: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+  @Test
+  void benchmarkGetNextJobs() throws Exception {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertEquals(NUM_PENDING_JOBS, jobPersistence.getNextJobs(NUM_PENDING_JOBS).size());
+    }
+    LOGGER.info("getNextJobs: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+  @Test
+  void benchmarkListJobs() throws Exception {
+    final String scope = connectionIds.iterator().next().toString();
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertEquals(50, jobPersistence.listJobs(ConfigType.SYNC, scope, 50, 0).size());
+    }
+    LOGGER.info("listJobs: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+  @Test
+  void benchmarkListJobsLastPage() throws Exception {
+    final String scope = connectionIds.iterator().next().toString();
+    final int pageSize = 10;
+    final int lastPageOffset = NUM_JOBS / NUM_CONNECTIONS - pageSize;
+    final long cursor = jobPersistence.listJobs(ConfigType.SYNC, scope, 1, lastPageOffset - 1).get(0).getId();
+
+    Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertEquals(pageSize, jobPersistence.listJobs(ConfigType.SYNC, scope, pageSize, lastPageOffset).size());
+    }
+    LOGGER.info("listJobs last page by offset: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+
+    stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertEquals(pageSize, jobPersistence.listJobsBefore(Set.of(ConfigType.SYNC), scope, cursor, pageSize).size());
+    }
+    LOGGER.info("listJobs last page by cursor: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+  @Test
+  void benchmarkListJobsWithStatus() throws Exception {
+    final Stopwatch stopwatch = Stopwatch.createStarted();
+    for (int i = 0; i < NUM_ITERATIONS; i++) {
+      assertEquals(NUM_PENDING_JOBS, jobPersistence.listJobsWithStatus(JobStatus.PENDING).size());
+    }
+    LOGGER.info("listJobsWithStatus: {} ms per call", stopwatch.elapsed(TimeUnit.MILLISECONDS) / NUM_ITERATIONS);
+  }
+
+}
@@ -47,6 +47,7 @@ import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -153,11 +154,10 @@ class DefaultJobPersistenceTest {
   @BeforeEach
   public void setup() throws Exception {
     database = new JobsDatabaseInstance(container.getUsername(), container.getPassword(), container.getJdbcUrl()).getAndInitialize();
-    resetDb();
-
     DatabaseMigrator jobDbMigrator = new JobsDatabaseMigrator(database, "test");
     jobDbMigrator.createBaseline();
     jobDbMigrator.migrate();
+    resetDb();
 
     timeSupplier = mock(Supplier.class);
     when(timeSupplier.get()).thenReturn(NOW);
@@ -175,6 +175,17 @@ class DefaultJobPersistenceTest {
     database.query(ctx -> ctx.execute("TRUNCATE TABLE jobs"));
     database.query(ctx -> ctx.execute("TRUNCATE TABLE attempts"));
     database.query(ctx -> ctx.execute("TRUNCATE TABLE airbyte_metadata"));
+    database.query(ctx -> ctx.execute("TRUNCATE TABLE connection_state"));
+  }
+
+  private Map<JobsDatabaseSchema, List<JsonNode>> exportDatabase() throws IOException {
+    final Map<JobsDatabaseSchema, List<JsonNode>> tables = new HashMap<>();
+    for (final JobsDatabaseSchema table : JobsDatabaseSchema.values()) {
+      final List<JsonNode> rows = new ArrayList<>();
+      jobPersistence.exportTable(table, rows::add);
+      tables.put(table, rows);
+    }
+    return tables;
   }
 
   private Result<Record> getJobRecord(long jobId) throws SQLException {
@@ -275,15 +286,11 @@ class DefaultJobPersistenceTest {
     final int attemptNumber1 = jobPersistence.createAttempt(jobId, secondAttemptLogPath);
     jobPersistence.succeedAttempt(jobId, attemptNumber1);
 
-    final Map<JobsDatabaseSchema, Stream<JsonNode>> inputStreams = jobPersistence.exportDatabase();
-
-    // Collect streams to memory for temporary storage
-    final Map<JobsDatabaseSchema, List<JsonNode>> tempData = new HashMap<>();
+    // Collect tables to memory for temporary storage
+    final Map<JobsDatabaseSchema, List<JsonNode>> tempData = exportDatabase();
     final Map<JobsDatabaseSchema, Stream<JsonNode>> outputStreams = new HashMap<>();
-    for (Entry<JobsDatabaseSchema, Stream<JsonNode>> entry : inputStreams.entrySet()) {
-      final List<JsonNode> tableData = entry.getValue().collect(Collectors.toList());
-      tempData.put(entry.getKey(), tableData);
-      outputStreams.put(entry.getKey(), tableData.stream());
+    for (Entry<JobsDatabaseSchema, List<JsonNode>> entry : tempData.entrySet()) {
+      outputStreams.put(entry.getKey(), entry.getValue().stream());
     }
     resetDb();
 
@@ -305,6 +312,26 @@ class DefaultJobPersistenceTest {
     assertEquals(expected, actual);
   }
 
+  @Test
+  @DisplayName("Should import exported records with characters that have a meaning in CSV or JSON")
+  void testExportImportSpecialCharacters() throws IOException, SQLException {
+    final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+    final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+    final JobOutput jobOutput = new JobOutput().withSync(new StandardSyncOutput().withState(new State()
+        .withState(Jsons.jsonNode(ImmutableMap.of("cursor", "a \"quoted\", back\\slashed,\nmulti-line \u0001\u0002 value \u00fc")))));
+    jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+
+    final Map<JobsDatabaseSchema, Stream<JsonNode>> outputStreams = new HashMap<>();
+    for (final Entry<JobsDatabaseSchema, List<JsonNode>> entry : exportDatabase().entrySet()) {
+      outputStreams.put(entry.getKey(), entry.getValue().stream());
+    }
+    resetDb();
+
+    jobPersistence.importDatabase("test", outputStreams);
+
+    assertEquals(jobOutput, jobPersistence.getJob(jobId).getAttempts().get(0).getOutput().orElseThrow());
+  }
+
   @Test
   @DisplayName("Should return correct set of jobs when querying on end timestamp")
   void testListJobsWithTimestamp() throws IOException {
@@ -400,13 +427,13 @@ class DefaultJobPersistenceTest {
     jobPersistence.succeedAttempt(jobId, attemptNumber1);
     final JsonSchemaValidator jsonSchemaValidator = new JsonSchemaValidator();
 
-    final Map<JobsDatabaseSchema, Stream<JsonNode>> inputStreams = jobPersistence.exportDatabase();
-    inputStreams.forEach((tableSchema, tableStream) -> {
+    final Map<JobsDatabaseSchema, List<JsonNode>> tables = exportDatabase();
+    tables.forEach((tableSchema, tableRows) -> {
       final String tableName = tableSchema.name();
       final JsonNode schema = tableSchema.getTableDefinition();
       assertNotNull(schema,
           "Json schema files should be created in airbyte-scheduler/src/main/resources/tables for every table in the Database to validate its content");
-      tableStream.forEach(row -> {
+      tableRows.forEach(row -> {
         try {
           jsonSchemaValidator.ensure(schema, row);
         } catch (JsonValidationException e) {
@@ -715,6 +742,81 @@ class DefaultJobPersistenceTest {
       assertEquals(Optional.of(expected), actual);
     }
 
+    @Test
+    @DisplayName("Should ignore cancelled jobs")
+    public void testGetLastSyncJobIgnoresCancelledJobs() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1000));
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId2);
+
+      final Optional<Job> actual = jobPersistence.getLastReplicationJob(CONNECTION_ID);
+
+      assertEquals(jobId1, actual.orElseThrow().getId());
+      assertEquals(1, actual.get().getAttempts().size());
+    }
+
+    @Test
+    @DisplayName("Should return the last job of each connection in one call")
+    public void testGetLastSyncJobsForManyConnections() throws IOException {
+      final int numConnections = 2_000;
+      final Set<UUID> connectionIds = new HashSet<>();
+      final Map<UUID, Long> expectedJobIds = new HashMap<>();
+      for (int i = 0; i < numConnections; i++) {
+        final UUID connectionId = UUID.randomUUID();
+        connectionIds.add(connectionId);
+        // a quarter of the connections never ran.
+        if (i % 4 == 0) {
+          continue;
+        }
+        when(timeSupplier.get()).thenReturn(NOW);
+        final long olderJobId = jobPersistence.enqueueJob(connectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+        jobPersistence.failAttempt(olderJobId, jobPersistence.createAttempt(olderJobId, LOG_PATH));
+        jobPersistence.failJob(olderJobId);
+
+        when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1000));
+        final long newerJobId = jobPersistence.enqueueJob(connectionId.toString(), SYNC_JOB_CONFIG).orElseThrow();
+        jobPersistence.succeedAttempt(newerJobId, jobPersistence.createAttempt(newerJobId, LOG_PATH));
+        expectedJobIds.put(connectionId, newerJobId);
+      }
+      // jobs of connections that were not asked for must not be returned.
+      jobPersistence.enqueueJob(UUID.randomUUID().toString(), SYNC_JOB_CONFIG);
+
+      final List<Job> actual = jobPersistence.getLastReplicationJobs(connectionIds);
+
+      final Map<UUID, Long> actualJobIds = actual.stream()
+          .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), Job::getId));
+      assertEquals(expectedJobIds, actualJobIds);
+      actual.forEach(job -> assertEquals(1, job.getAttempts().size()));
+    }
+
+    @Test
+    @DisplayName("Should return nothing when no connection is given")
+    public void testGetLastSyncJobsForNoConnection() throws IOException {
+      jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG);
+
+      assertTrue(jobPersistence.getLastReplicationJobs(Set.of()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return the last sync job of each connection, including cancelled ones")
+    public void testGetLastSyncJobsIncludesCancelledJobs() throws IOException {
+      final long jobId1 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.succeedAttempt(jobId1, jobPersistence.createAttempt(jobId1, LOG_PATH));
+
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1000));
+      final long jobId2 = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      jobPersistence.cancelJob(jobId2);
+
+      final List<Job> actual = jobPersistence.getLastSyncJobs(Set.of(CONNECTION_ID, UUID.randomUUID()));
+
+      assertEquals(1, actual.size());
+      assertEquals(jobId2, actual.get(0).getId());
+      assertEquals(JobStatus.CANCELLED, actual.get(0).getStatus());
+    }
+
   }
 
   @Nested
@@ -816,6 +918,40 @@ class DefaultJobPersistenceTest {
       assertEquals(Optional.of(jobOutput2.getSync().getState()), jobPersistence.getCurrentState(CONNECTION_ID));
     }
 
+    @Test
+    @DisplayName("Should not take state from jobs that are not replication jobs")
+    void testGetCurrentStateIgnoresNonReplicationJobs() throws IOException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, CHECK_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final JobOutput jobOutput = new JobOutput()
+          .withSync(new StandardSyncOutput().withState(new State().withState(Jsons.jsonNode(ImmutableMap.of("checkpoint", "1")))));
+      jobPersistence.writeOutput(jobId, attemptNumber, jobOutput);
+
+      assertEquals(jobOutput, jobPersistence.getJob(jobId).getAttempts().get(0).getOutput().orElseThrow());
+      assertEquals(Optional.empty(), jobPersistence.getCurrentState(CONNECTION_ID));
+    }
+
+    @Test
+    @DisplayName("Should rebuild the current state when importing an exported database")
+    void testGetCurrentStateAfterImport() throws IOException, SQLException {
+      final long jobId = jobPersistence.enqueueJob(SCOPE, SYNC_JOB_CONFIG).orElseThrow();
+      final int attemptNumber = jobPersistence.createAttempt(jobId, LOG_PATH);
+      final State state = new State().withState(Jsons.jsonNode(ImmutableMap.of("checkpoint", "1")));
+      jobPersistence.writeOutput(jobId, attemptNumber, new JobOutput().withSync(new StandardSyncOutput().withState(state)));
+      jobPersistence.succeedAttempt(jobId, attemptNumber);
+
+      final Map<JobsDatabaseSchema, Stream<JsonNode>> outputStreams = new HashMap<>();
+      for (final Entry<JobsDatabaseSchema, List<JsonNode>> entry : exportDatabase().entrySet()) {
+        outputStreams.put(entry.getKey(), entry.getValue().stream());
+      }
+      resetDb();
+      assertEquals(Optional.empty(), jobPersistence.getCurrentState(CONNECTION_ID));
+
+      jobPersistence.importDatabase("test", outputStreams);
+
+      assertEquals(Optional.of(state), jobPersistence.getCurrentState(CONNECTION_ID));
+    }
+
   }
 
   @Nested
@@ -950,6 +1086,46 @@ class DefaultJobPersistenceTest {
       assertTrue(actual.isEmpty());
     }
 
+    @Test
+    @DisplayName("Should return the oldest pending job of each scope, oldest first")
+    public void testGetNextJobsReturnsOnePendingJobPerScope() throws IOException {
+      final String otherScope = UUID.randomUUID().toString();
+      final long jobId = createJobAt(NOW);
+      createJobAt(NOW.plusSeconds(1000));
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(500));
+      final long otherJobId = jobPersistence.enqueueJob(otherScope, SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.getNextJobs(10);
+
+      assertEquals(List.of(jobId, otherJobId), actual.stream().map(Job::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should return at most the requested number of jobs")
+    public void testGetNextJobsRespectsLimit() throws IOException {
+      final long jobId = createJobAt(NOW);
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1000));
+      jobPersistence.enqueueJob(UUID.randomUUID().toString(), SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.getNextJobs(1);
+
+      assertEquals(List.of(jobId), actual.stream().map(Job::getId).collect(Collectors.toList()));
+    }
+
+    @Test
+    @DisplayName("Should not return pending jobs of scopes with a running job")
+    public void testGetNextJobsSkipsBlockedScopes() throws IOException {
+      final long runningJobId = createJobAt(NOW.minusSeconds(1000));
+      jobPersistence.createAttempt(runningJobId, LOG_PATH);
+      createJobAt(NOW);
+      when(timeSupplier.get()).thenReturn(NOW.plusSeconds(1000));
+      final long otherJobId = jobPersistence.enqueueJob(UUID.randomUUID().toString(), SPEC_JOB_CONFIG).orElseThrow();
+
+      final List<Job> actual = jobPersistence.getNextJobs(10);
+
+      assertEquals(List.of(otherJobId), actual.stream().map(Job::getId).collect(Collectors.toList()));
+    }
+
   }
 
   @Nested
@@ -972,6 +1148,49 @@ class DefaultJobPersistenceTest {
       assertEquals(ids.get(ids.size() - 1 - offset), actualList.get(0).getId());
     }
 
+    @Test
+    @DisplayName("Should size pages in jobs rather than attempts")
+    public void testListJobsPagesOnJobs() throws IOException {
+      for (int i = 0; i < 5; i++) {
+        final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+        jobPersistence.failAttempt(jobId, jobPersistence.createAttempt(jobId, LOG_PATH));
+      }
+
+      final List<Job> actualList = jobPersistence.listJobs(SPEC_JOB_CONFIG.getConfigType(), SCOPE, 3, 1);
+
+      assertEquals(3, actualList.size());
+      actualList.forEach(job -> assertEquals(2, job.getAttempts().size()));
+    }
+
+    @Test
+    @DisplayName("Should return the same pages with a cursor as with an offset")
+    public void testListJobsBefore() throws IOException {
+      final List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 25; i++) {
+        // every other job shares its created_at with the previous one, so the cursor has to break ties
+        // on id.
+        when(timeSupplier.get()).thenReturn(NOW.plusSeconds(i / 2));
+        final long jobId = jobPersistence.enqueueJob(SCOPE, SPEC_JOB_CONFIG).orElseThrow();
+        jobPersistence.createAttempt(jobId, LOG_PATH);
+        ids.add(jobId);
+      }
+      Collections.reverse(ids);
+
+      final int pagesize = 10;
+      final List<Long> actualIds = new ArrayList<>();
+      List<Job> page = jobPersistence.listJobs(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, pagesize, 0);
+      while (!page.isEmpty()) {
+        for (int i = 0; i < page.size(); i++) {
+          assertEquals(jobPersistence.listJobs(SPEC_JOB_CONFIG.getConfigType(), SCOPE, pagesize, actualIds.size()).get(i), page.get(i));
+        }
+        page.forEach(job -> actualIds.add(job.getId()));
+        page = jobPersistence.listJobsBefore(Set.of(SPEC_JOB_CONFIG.getConfigType()), SCOPE, page.get(page.size() - 1).getId(), pagesize);
+      }
+
+      assertEquals(ids, actualIds);
+    }
+
     @Test
     @DisplayName("Should return the results in the correct sort order")
     public void testListJobsSortsDescending() throws IOException {
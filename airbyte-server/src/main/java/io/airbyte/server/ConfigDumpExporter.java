@@ -5,6 +5,8 @@
 package io.airbyte.server;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.concurrency.VoidCallables;
 import io.airbyte.commons.io.Archives;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.commons.lang.CloseableConsumer;
@@ -18,19 +20,17 @@ import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.db.instance.jobs.JobsDatabaseSchema;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.scheduler.persistence.WorkspaceHelper;
 import io.airbyte.validation.json.JsonValidationException;
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,6 +58,7 @@ public class ConfigDumpExporter {
   private static final String CONFIG_FOLDER_NAME = "airbyte_config";
   private static final String DB_FOLDER_NAME = "airbyte_db";
   private static final String VERSION_FILE_NAME = "VERSION";
+  private static final int DUMP_PARALLELISM = 4;
   private final ConfigRepository configRepository;
   private final JobPersistence jobPersistence;
   private final WorkspaceHelper workspaceHelper;
@@ -71,13 +72,21 @@ public class ConfigDumpExporter {
   public File dump() {
     try {
       final Path tempFolder = Files.createTempDirectory(Path.of("/tmp"), ARCHIVE_FILE_NAME);
-      final File dump = Files.createTempFile(ARCHIVE_FILE_NAME, ".tar.gz").toFile();
-      exportVersionFile(tempFolder);
-      dumpConfigsDatabase(tempFolder);
-      dumpJobsDatabase(tempFolder);
-
-      Archives.createArchive(tempFolder, dump.toPath());
-      return dump;
+      try {
+        final File dump = Files.createTempFile(ARCHIVE_FILE_NAME, ".tar.gz").toFile();
+        exportVersionFile(tempFolder);
+        // every config type and every table is written to its own file, so they can all be written at
+        // the same time.
+        final List<VoidCallable> dumpTasks = new ArrayList<>();
+        dumpTasks.addAll(dumpConfigsDatabase(tempFolder));
+        dumpTasks.addAll(dumpJobsDatabase(tempFolder));
+        VoidCallables.runInParallel(dumpTasks, DUMP_PARALLELISM, "config-dump-%d");
+
+        Archives.createArchive(tempFolder, dump.toPath());
+        return dump;
+      } finally {
+        FileUtils.deleteDirectory(tempFolder.toFile());
+      }
     } catch (Exception e) {
       throw new RuntimeException(e);
     }
@@ -89,22 +98,17 @@ public class ConfigDumpExporter {
     FileUtils.writeStringToFile(versionFile, version, Charset.defaultCharset());
   }
 
-  private void dumpJobsDatabase(Path parentFolder) throws Exception {
-    final Map<String, Stream<JsonNode>> tables = jobPersistence.exportDatabase().entrySet().stream()
-        .collect(Collectors.toMap(e -> e.getKey().name(), Entry::getValue));
+  private List<VoidCallable> dumpJobsDatabase(Path parentFolder) throws IOException {
     Files.createDirectories(parentFolder.resolve(DB_FOLDER_NAME));
-    for (Map.Entry<String, Stream<JsonNode>> table : tables.entrySet()) {
-      final Path tablePath = buildTablePath(parentFolder, table.getKey());
-      writeTableToArchive(tablePath, table.getValue());
-    }
+    return Stream.of(JobsDatabaseSchema.values())
+        .map(table -> (VoidCallable) () -> writeTableToArchive(buildTablePath(parentFolder, table.name()), table))
+        .collect(Collectors.toList());
   }
 
-  private void writeTableToArchive(final Path tablePath, final Stream<JsonNode> tableStream) throws Exception {
-    Files.createDirectories(tablePath.getParent());
-    final BufferedWriter recordOutputWriter = new BufferedWriter(new FileWriter(tablePath.toFile()));
-    final CloseableConsumer<JsonNode> recordConsumer = Yamls.listWriter(recordOutputWriter);
-    tableStream.forEach(row -> Exceptions.toRuntime(() -> recordConsumer.accept(row)));
-    recordConsumer.close();
+  private void writeTableToArchive(final Path tablePath, final JobsDatabaseSchema table) throws Exception {
+    try (final CloseableConsumer<JsonNode> recordConsumer = Yamls.listWriter(Files.newBufferedWriter(tablePath))) {
+      jobPersistence.exportTable(table, recordConsumer::accept);
+    }
   }
 
   protected static Path buildTablePath(final Path storageRoot, final String tableName) {
@@ -113,33 +117,26 @@ public class ConfigDumpExporter {
         .resolve(String.format("%s.yaml", tableName.toUpperCase()));
   }
 
-  private void dumpConfigsDatabase(Path parentFolder) throws IOException {
-    for (Map.Entry<String, Stream<JsonNode>> configEntry : configRepository.dumpConfigs().entrySet()) {
-      writeConfigsToArchive(parentFolder, configEntry.getKey(), configEntry.getValue());
-    }
+  private List<VoidCallable> dumpConfigsDatabase(Path parentFolder) throws IOException {
+    return configRepository.dumpConfigs().entrySet().stream()
+        .map(configEntry -> (VoidCallable) () -> writeConfigsToArchive(parentFolder, configEntry.getKey(), configEntry.getValue()))
+        .collect(Collectors.toList());
   }
 
   private static void writeConfigsToArchive(final Path storageRoot,
                                             final String schemaType,
                                             final Stream<JsonNode> configs)
       throws IOException {
-    writeConfigsToArchive(storageRoot, schemaType, configs.collect(Collectors.toList()));
-  }
-
-  private static void writeConfigsToArchive(final Path storageRoot,
-                                            final String schemaType,
-                                            final List<JsonNode> configList)
-      throws IOException {
     final Path configPath = buildConfigPath(storageRoot, schemaType);
     Files.createDirectories(configPath.getParent());
-    if (!configList.isEmpty()) {
-      final List<JsonNode> sortedConfigs = configList.stream()
-          .sorted(Comparator.comparing(JsonNode::toString)).collect(
-              Collectors.toList());
-      Files.writeString(configPath, Yamls.serialize(sortedConfigs));
-    } else {
-      // Create empty file
-      Files.createFile(configPath);
+    final CloseableConsumer<JsonNode> configConsumer = Yamls.listWriter(Files.newBufferedWriter(configPath));
+    try {
+      // sort by the serialized configs, serializing each config once instead of at every comparison.
+      configs.map(config -> Map.entry(config.toString(), config))
+          .sorted(Entry.comparingByKey())
+          .forEach(entry -> configConsumer.accept(entry.getValue()));
+    } finally {
+      Exceptions.toRuntime(configConsumer::close);
     }
   }
 
@@ -150,12 +147,16 @@ public class ConfigDumpExporter {
 
   public File exportWorkspace(UUID workspaceId) throws JsonValidationException, IOException, ConfigNotFoundException {
     final Path tempFolder = Files.createTempDirectory(Path.of("/tmp"), ARCHIVE_FILE_NAME);
-    final File dump = Files.createTempFile(ARCHIVE_FILE_NAME, ".tar.gz").toFile();
-    exportVersionFile(tempFolder);
-    exportConfigsDatabase(tempFolder, workspaceId);
+    try {
+      final File dump = Files.createTempFile(ARCHIVE_FILE_NAME, ".tar.gz").toFile();
+      exportVersionFile(tempFolder);
+      exportConfigsDatabase(tempFolder, workspaceId);
 
-    Archives.createArchive(tempFolder, dump.toPath());
-    return dump;
+      Archives.createArchive(tempFolder, dump.toPath());
+      return dump;
+    } finally {
+      FileUtils.deleteDirectory(tempFolder.toFile());
+    }
   }
 
   private void exportConfigsDatabase(Path parentFolder, UUID workspaceId) throws IOException, JsonValidationException, ConfigNotFoundException {
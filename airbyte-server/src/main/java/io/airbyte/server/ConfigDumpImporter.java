@@ -10,11 +10,14 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Streams;
 import io.airbyte.analytics.TrackingClientSingleton;
 import io.airbyte.api.model.UploadRead;
+import io.airbyte.commons.concurrency.VoidCallable;
+import io.airbyte.commons.concurrency.VoidCallables;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.io.Archives;
-import io.airbyte.commons.io.IOs;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.commons.lang.Exceptions;
 import io.airbyte.commons.stream.MoreStreams;
+import io.airbyte.commons.util.AutoCloseableIterator;
 import io.airbyte.commons.version.AirbyteVersion;
 import io.airbyte.commons.yaml.Yamls;
 import io.airbyte.config.AirbyteConfig;
@@ -38,12 +41,14 @@ import io.airbyte.server.handlers.DestinationHandler;
 import io.airbyte.server.handlers.SourceHandler;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
+import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -52,13 +57,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.Spliterator;
-import java.util.Spliterators;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,6 +72,7 @@ public class ConfigDumpImporter {
   private static final String DB_FOLDER_NAME = "airbyte_db";
   private static final String VERSION_FILE_NAME = "VERSION";
   private static final Path TMP_AIRBYTE_STAGED_RESOURCES = Path.of("/tmp/airbyte_staged_resources");
+  private static final int VALIDATION_PARALLELISM = 4;
 
   private final ConfigRepository configRepository;
   private final WorkspaceHelper workspaceHelper;
@@ -125,6 +128,7 @@ public class ConfigDumpImporter {
       // 2. dry run
       try {
         checkImport(targetVersion, sourceRoot);
+        validateArchive(sourceRoot);
         importConfigsFromArchive(sourceRoot, true);
       } catch (Exception e) {
         LOGGER.error("Dry run failed.", e);
@@ -132,7 +136,7 @@ public class ConfigDumpImporter {
       }
 
       // 3. Import Postgres content
-      importDatabaseFromArchive(sourceRoot, targetVersion);
+      importDatabaseFromArchive(sourceRoot, targetVersion, false);
 
       // 4. Import Configs and update connector definitions
       importConfigsFromArchive(sourceRoot, false);
@@ -153,6 +157,35 @@ public class ConfigDumpImporter {
     configRepository.listStandardWorkspaces(true).forEach(workspace -> TrackingClientSingleton.get().identify(workspace.getWorkspaceId()));
   }
 
+  /**
+   * Reads every config and every table of the archive once, validating them against their schemas.
+   * Each file is independent of the others, so they are all validated at the same time.
+   */
+  private void validateArchive(final Path sourceRoot) throws IOException {
+    final List<VoidCallable> validationTasks = new ArrayList<>();
+    for (final ConfigSchema configSchema : listConfigSchemas(sourceRoot)) {
+      validationTasks.add(() -> {
+        try (final Stream<?> configs = readConfigsFromArchive(sourceRoot, configSchema)) {
+          configs.forEach(config -> {});
+        }
+      });
+    }
+    for (final JobsDatabaseSchema tableType : JobsDatabaseSchema.values()) {
+      validationTasks.add(() -> {
+        try (final Stream<JsonNode> rows = readTableFromArchive(tableType, buildTablePath(sourceRoot, tableType.name()), true)) {
+          rows.forEach(row -> {});
+        }
+      });
+    }
+    try {
+      VoidCallables.runInParallel(validationTasks, VALIDATION_PARALLELISM, "archive-validation-%d");
+    } catch (IOException | RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private void checkImport(String targetVersion, Path tempFolder) throws IOException {
     final Path versionFile = tempFolder.resolve(VERSION_FILE_NAME);
     final String importVersion = Files.readString(versionFile, Charset.defaultCharset())
@@ -174,32 +207,35 @@ public class ConfigDumpImporter {
     }
   }
 
+  private List<ConfigSchema> listConfigSchemas(final Path sourceRoot) throws IOException {
+    return listDirectories(sourceRoot).stream()
+        .map(directory -> Enums.toEnum(directory.replace(".yaml", ""), ConfigSchema.class))
+        .flatMap(Optional::stream)
+        .collect(Collectors.toList());
+  }
+
   private void importConfigsFromArchive(final Path sourceRoot, final boolean dryRun) throws IOException {
-    final List<String> directories = listDirectories(sourceRoot);
     final Map<AirbyteConfig, Stream<?>> data = new LinkedHashMap<>();
-
-    for (final String directory : directories) {
-      final Optional<ConfigSchema> configSchemaOptional = Enums.toEnum(directory.replace(".yaml", ""), ConfigSchema.class);
-
-      if (configSchemaOptional.isEmpty()) {
-        continue;
+    try {
+      for (final ConfigSchema configSchema : listConfigSchemas(sourceRoot)) {
+        data.put(configSchema, readConfigsFromArchive(sourceRoot, configSchema));
       }
-
-      final ConfigSchema configSchema = configSchemaOptional.get();
-      data.put(configSchema, readConfigsFromArchive(sourceRoot, configSchema));
+      configRepository.replaceAllConfigs(data, dryRun);
+    } finally {
+      data.values().forEach(Stream::close);
     }
-    configRepository.replaceAllConfigs(data, dryRun);
   }
 
+  /**
+   * @return the configs of the archive, read one at a time from the file as the stream is consumed.
+   *         The stream must be closed.
+   */
   private <T> Stream<T> readConfigsFromArchive(final Path storageRoot, final ConfigSchema schemaType)
       throws IOException {
 
     final Path configPath = buildConfigPath(storageRoot, schemaType);
     if (configPath.toFile().exists()) {
-      final String configStr = Files.readString(configPath);
-      final JsonNode node = Yamls.deserialize(configStr);
-      return StreamSupport
-          .stream(Spliterators.spliteratorUnknownSize(node.elements(), Spliterator.ORDERED), false)
+      return readYamlArray(configPath)
           .map(element -> {
             final T config = Jsons.object(element, schemaType.getClassName());
             try {
@@ -216,6 +252,18 @@ public class ConfigDumpImporter {
     }
   }
 
+  /**
+   * Streams the elements of the YAML list in @param path, without reading the whole file in memory.
+   * Empty files are empty lists.
+   */
+  private static Stream<JsonNode> readYamlArray(final Path path) throws IOException {
+    if (Files.size(path) == 0) {
+      return Stream.empty();
+    }
+    final AutoCloseableIterator<JsonNode> elements = Yamls.deserializeArray(new BufferedInputStream(Files.newInputStream(path)));
+    return MoreStreams.toStream(elements).onClose(() -> Exceptions.toRuntime(elements::close));
+  }
+
   private <T> void validateJson(final T config, final ConfigSchema configType) throws JsonValidationException {
     JsonNode schema = JsonSchemaValidator.getSchema(configType.getConfigSchemaFile());
     jsonSchemaValidator.ensure(schema, Jsons.jsonNode(config));
@@ -228,11 +276,19 @@ public class ConfigDumpImporter {
 
   // Postgres Portion
   public void importDatabaseFromArchive(final Path storageRoot, final String airbyteVersion) throws IOException {
+    importDatabaseFromArchive(storageRoot, airbyteVersion, true);
+  }
+
+  /**
+   * @param validate whether the records need to be validated while they are imported, which is not
+   *        the case when {@link #validateArchive(Path)} already did.
+   */
+  private void importDatabaseFromArchive(final Path storageRoot, final String airbyteVersion, final boolean validate) throws IOException {
+    final Map<JobsDatabaseSchema, Stream<JsonNode>> data = new HashMap<>();
     try {
-      final Map<JobsDatabaseSchema, Stream<JsonNode>> data = new HashMap<>();
       for (JobsDatabaseSchema tableType : JobsDatabaseSchema.values()) {
         final Path tablePath = buildTablePath(storageRoot, tableType.name());
-        Stream<JsonNode> tableStream = readTableFromArchive(tableType, tablePath);
+        Stream<JsonNode> tableStream = readTableFromArchive(tableType, tablePath, validate);
 
         if (tableType == JobsDatabaseSchema.AIRBYTE_METADATA) {
           tableStream = replaceDeploymentMetadata(jobPersistence, tableStream);
@@ -245,6 +301,8 @@ public class ConfigDumpImporter {
     } catch (Exception e) {
       LOGGER.warn("Postgres database version upgrade failed, reverting to state previous to migration.");
       throw e;
+    } finally {
+      data.values().forEach(Stream::close);
     }
   }
 
@@ -285,19 +343,23 @@ public class ConfigDumpImporter {
   }
 
   private Stream<JsonNode> readTableFromArchive(final JobsDatabaseSchema tableSchema,
-                                                final Path tablePath)
-      throws FileNotFoundException {
+                                                final Path tablePath,
+                                                final boolean validate)
+      throws IOException {
     final JsonNode schema = tableSchema.getTableDefinition();
     if (schema != null) {
-      return MoreStreams.toStream(Yamls.deserialize(IOs.readFile(tablePath)).elements())
-          .peek(r -> {
-            try {
-              jsonSchemaValidator.ensure(schema, r);
-            } catch (JsonValidationException e) {
-              throw new IllegalArgumentException(
-                  "Archived Data Schema does not match current Airbyte Data Schemas", e);
-            }
-          });
+      final Stream<JsonNode> rows = readYamlArray(tablePath);
+      if (!validate) {
+        return rows;
+      }
+      return rows.peek(r -> {
+        try {
+          jsonSchemaValidator.ensure(schema, r);
+        } catch (JsonValidationException e) {
+          throw new IllegalArgumentException(
+              "Archived Data Schema does not match current Airbyte Data Schemas", e);
+        }
+      });
     } else {
       throw new FileNotFoundException(String
           .format("Airbyte Database table %s was not found in the archive", tableSchema.name()));
@@ -386,6 +448,10 @@ public class ConfigDumpImporter {
       final Stream<T> configs = readConfigsFromArchive(sourceRoot, configSchema);
 
       if (dryRun) {
+        // read the configs to validate them
+        try (configs) {
+          configs.forEach(config -> {});
+        }
         continue;
       }
 
@@ -452,6 +518,9 @@ public class ConfigDumpImporter {
             configRepository::writeStandardSyncOperation));
         default -> {}
       }
+      if (configSchema != ConfigSchema.STANDARD_SYNC) {
+        configs.close();
+      }
     }
 
     if (standardSyncs != null) {
@@ -494,6 +563,7 @@ public class ConfigDumpImporter {
             }
             configRepository.writeStandardSync(standardSync);
           });
+      standardSyncs.close();
     }
   }
 
@@ -7,6 +7,7 @@ package io.airbyte.server.converters;
 import io.airbyte.api.model.AttemptInfoRead;
 import io.airbyte.api.model.AttemptRead;
 import io.airbyte.api.model.AttemptStatus;
+import io.airbyte.api.model.JobAttemptLogsRead;
 import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobRead;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
 public class JobConverter {
 
   private static final int LOG_TAIL_SIZE = 1000000;
+  private static final int LOG_CHUNK_SIZE_BYTES = 1024 * 1024;
 
   public static JobInfoRead getJobInfoRead(Job job) {
     return new JobInfoRead()
@@ -87,6 +89,15 @@ public class JobConverter {
     }
   }
 
+  public static JobAttemptLogsRead getJobAttemptLogsRead(Path logPath, long offset) {
+    try {
+      var logChunk = LogClientSingleton.getJobLogChunk(new EnvConfigs(), logPath, offset, LOG_CHUNK_SIZE_BYTES);
+      return new JobAttemptLogsRead().logLines(logChunk.getLines()).nextOffset(logChunk.getNextOffset());
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   public static SynchronousJobRead getSynchronousJobRead(SynchronousResponse<?> response) {
     return getSynchronousJobRead(response.getMetadata());
   }
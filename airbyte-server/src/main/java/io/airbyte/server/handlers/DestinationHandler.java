@@ -7,7 +7,7 @@ package io.airbyte.server.handlers;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
-import io.airbyte.api.model.ConnectionRead;
+import io.airbyte.api.model.ConnectionIdRequestBody;
 import io.airbyte.api.model.DestinationCreate;
 import io.airbyte.api.model.DestinationIdRequestBody;
 import io.airbyte.api.model.DestinationRead;
@@ -19,6 +19,7 @@ import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
 import io.airbyte.config.StandardDestinationDefinition;
+import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
@@ -28,9 +29,13 @@ import io.airbyte.server.converters.SpecFetcher;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -109,13 +114,12 @@ public class DestinationHandler {
       throws JsonValidationException, IOException, ConfigNotFoundException {
     // disable all connections associated with this destination
     // Delete connections first in case it it fails in the middle, destination will still be visible
-    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(destination.getWorkspaceId());
-    for (ConnectionRead connectionRead : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      if (!connectionRead.getDestinationId().equals(destination.getDestinationId())) {
+    for (StandardSync standardSync : configRepository.listStandardSyncsUsingDestination(destination.getDestinationId())) {
+      if (standardSync.getStatus() == StandardSync.Status.DEPRECATED) {
         continue;
       }
 
-      connectionsHandler.deleteConnection(connectionRead);
+      connectionsHandler.deleteConnection(new ConnectionIdRequestBody().connectionId(standardSync.getConnectionId()));
     }
 
     final var fullConfig = configRepository.getDestinationConnectionWithSecrets(destination.getDestinationId()).getConfiguration();
@@ -169,17 +173,28 @@ public class DestinationHandler {
   public DestinationReadList listDestinationsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<DestinationRead> reads = Lists.newArrayList();
+    // definitions and specs are shared by many destinations, so they are looked up once for the whole
+    // workspace instead of once per destination.
+    final Map<UUID, StandardDestinationDefinition> destinationDefinitions = configRepository.listStandardDestinationDefinitions().stream()
+        .collect(Collectors.toMap(StandardDestinationDefinition::getDestinationDefinitionId, Function.identity()));
+    final Map<UUID, ConnectorSpecification> specs = new HashMap<>();
 
-    for (DestinationConnection dci : configRepository.listDestinationConnection()) {
-      if (!dci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
-
+    for (DestinationConnection dci : configRepository.listDestinationConnectionsForWorkspace(workspaceIdRequestBody.getWorkspaceId())) {
       if (dci.getTombstone()) {
         continue;
       }
 
-      reads.add(buildDestinationRead(dci.getDestinationId()));
+      final StandardDestinationDefinition destinationDefinition = destinationDefinitions.get(dci.getDestinationDefinitionId());
+      if (destinationDefinition == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_DESTINATION_DEFINITION, dci.getDestinationDefinitionId().toString());
+      }
+      ConnectorSpecification spec = specs.get(destinationDefinition.getDestinationDefinitionId());
+      if (spec == null) {
+        spec = getSpec(specFetcher, destinationDefinition);
+        specs.put(destinationDefinition.getDestinationDefinitionId(), spec);
+      }
+      dci.setConfiguration(secretsProcessor.maskSecrets(dci.getConfiguration(), spec.getConnectionSpecification()));
+      reads.add(buildDestinationRead(dci, destinationDefinition));
     }
 
     return new DestinationReadList().destinations(reads);
@@ -5,20 +5,28 @@
 package io.airbyte.server.handlers;
 
 import com.google.common.base.Preconditions;
+import io.airbyte.api.model.JobAttemptLogsRead;
+import io.airbyte.api.model.JobAttemptLogsRequestBody;
 import io.airbyte.api.model.JobIdRequestBody;
 import io.airbyte.api.model.JobInfoRead;
 import io.airbyte.api.model.JobListRequestBody;
+import io.airbyte.api.model.JobRead;
 import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobWithAttemptsRead;
+import io.airbyte.api.model.Pagination;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.config.JobConfig;
 import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.scheduler.models.Attempt;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.persistence.JobPersistence;
 import io.airbyte.server.converters.JobConverter;
+import io.airbyte.server.errors.IdNotFoundKnownException;
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 public class JobHistoryHandler {
@@ -41,15 +49,34 @@ public class JobHistoryHandler {
         .collect(Collectors.toSet());
     final String configId = request.getConfigId();
 
-    final List<JobWithAttemptsRead> jobReads = jobPersistence.listJobs(configTypes,
-        configId,
-        (request.getPagination() != null && request.getPagination().getPageSize() != null) ? request.getPagination().getPageSize()
-            : DEFAULT_PAGE_SIZE,
-        (request.getPagination() != null && request.getPagination().getRowOffset() != null) ? request.getPagination().getRowOffset() : 0)
+    final Pagination pagination = request.getPagination() != null ? request.getPagination() : new Pagination();
+    final int pageSize = pagination.getPageSize() != null ? pagination.getPageSize() : DEFAULT_PAGE_SIZE;
+
+    final List<Job> jobs;
+    if (pagination.getCursor() != null) {
+      jobs = jobPersistence.listJobsBefore(configTypes, configId, pagination.getCursor(), pageSize);
+    } else {
+      jobs = jobPersistence.listJobs(configTypes, configId, pageSize, pagination.getRowOffset() != null ? pagination.getRowOffset() : 0);
+    }
+
+    final List<JobWithAttemptsRead> jobReads = jobs
         .stream()
         .map(JobConverter::getJobWithAttemptsRead)
         .collect(Collectors.toList());
-    return new JobReadList().jobs(jobReads);
+    // a short page is the last one. a full page may be followed by an empty one.
+    final Long nextCursor = !jobs.isEmpty() && jobs.size() == pageSize ? jobs.get(jobs.size() - 1).getId() : null;
+    return new JobReadList().jobs(jobReads).nextCursor(nextCursor);
+  }
+
+  /**
+   * @return the most recent sync job of each given connection that has run one, whatever its status,
+   *         keyed by connection id. Fetched in a single query regardless of the number of
+   *         connections.
+   */
+  public Map<UUID, JobRead> getLatestSyncJobs(Set<UUID> connectionIds) throws IOException {
+    return jobPersistence.getLastSyncJobs(connectionIds)
+        .stream()
+        .collect(Collectors.toMap(job -> UUID.fromString(job.getScope()), job -> JobConverter.getJobWithAttemptsRead(job).getJob()));
   }
 
   public JobInfoRead getJobInfo(JobIdRequestBody jobIdRequestBody) throws IOException {
@@ -58,4 +85,21 @@ public class JobHistoryHandler {
     return JobConverter.getJobInfoRead(job);
   }
 
+  /**
+   * Only reads the requested window of the log, so that the UI can poll a running attempt for the
+   * lines written since its last call instead of fetching the whole log each time.
+   */
+  public JobAttemptLogsRead getJobAttemptLogs(JobAttemptLogsRequestBody request) throws IOException {
+    final Job job = jobPersistence.getJob(request.getJobId());
+    final Attempt attempt = job.getAttempts()
+        .stream()
+        .filter(a -> a.getId() == request.getAttemptNumber())
+        .findFirst()
+        .orElseThrow(() -> new IdNotFoundKnownException(
+            String.format("Job %s has no attempt %s", request.getJobId(), request.getAttemptNumber()),
+            String.valueOf(request.getAttemptNumber())));
+
+    return JobConverter.getJobAttemptLogsRead(attempt.getLogPath(), request.getOffset() != null ? request.getOffset() : -1);
+  }
+
 }
@@ -6,7 +6,7 @@ package io.airbyte.server.handlers;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.google.common.collect.Lists;
-import io.airbyte.api.model.ConnectionRead;
+import io.airbyte.api.model.ConnectionIdRequestBody;
 import io.airbyte.api.model.SourceCreate;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
@@ -17,6 +17,7 @@ import io.airbyte.commons.docker.DockerUtils;
 import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardSourceDefinition;
+import io.airbyte.config.StandardSync;
 import io.airbyte.config.persistence.ConfigNotFoundException;
 import io.airbyte.config.persistence.ConfigRepository;
 import io.airbyte.config.persistence.split_secrets.JsonSecretsProcessor;
@@ -26,9 +27,13 @@ import io.airbyte.server.converters.SpecFetcher;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 public class SourceHandler {
 
@@ -130,16 +135,27 @@ public class SourceHandler {
   public SourceReadList listSourcesForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
     final List<SourceRead> reads = Lists.newArrayList();
+    // definitions and specs are shared by many sources, so they are looked up once for the whole
+    // workspace instead of once per source.
+    final Map<UUID, StandardSourceDefinition> sourceDefinitions = configRepository.listStandardSources().stream()
+        .collect(Collectors.toMap(StandardSourceDefinition::getSourceDefinitionId, Function.identity()));
+    final Map<UUID, ConnectorSpecification> specs = new HashMap<>();
 
-    for (SourceConnection sci : configRepository.listSourceConnection()) {
-      if (!sci.getWorkspaceId().equals(workspaceIdRequestBody.getWorkspaceId())) {
-        continue;
-      }
+    for (SourceConnection sci : configRepository.listSourceConnectionsForWorkspace(workspaceIdRequestBody.getWorkspaceId())) {
       if (sci.getTombstone()) {
         continue;
       }
 
-      reads.add(buildSourceRead(sci.getSourceId()));
+      final StandardSourceDefinition sourceDefinition = sourceDefinitions.get(sci.getSourceDefinitionId());
+      if (sourceDefinition == null) {
+        throw new ConfigNotFoundException(ConfigSchema.STANDARD_SOURCE_DEFINITION, sci.getSourceDefinitionId().toString());
+      }
+      ConnectorSpecification spec = specs.get(sourceDefinition.getSourceDefinitionId());
+      if (spec == null) {
+        spec = getSpecFromSourceDefinitionId(specFetcher, sourceDefinition);
+        specs.put(sourceDefinition.getSourceDefinitionId(), spec);
+      }
+      reads.add(buildSourceRead(sci, sourceDefinition, spec));
     }
 
     return new SourceReadList().sources(reads);
@@ -156,15 +172,12 @@ public class SourceHandler {
       throws JsonValidationException, IOException, ConfigNotFoundException {
     // "delete" all connections associated with source as well.
     // Delete connections first in case it it fails in the middle, source will still be visible
-    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody()
-        .workspaceId(source.getWorkspaceId());
-    for (ConnectionRead connectionRead : connectionsHandler
-        .listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      if (!connectionRead.getSourceId().equals(source.getSourceId())) {
+    for (StandardSync standardSync : configRepository.listStandardSyncsUsingSource(source.getSourceId())) {
+      if (standardSync.getStatus() == StandardSync.Status.DEPRECATED) {
         continue;
       }
 
-      connectionsHandler.deleteConnection(connectionRead);
+      connectionsHandler.deleteConnection(new ConnectionIdRequestBody().connectionId(standardSync.getConnectionId()));
     }
 
     final ConnectorSpecification spec = getSpecFromSourceId(source.getSourceId());
@@ -201,6 +214,12 @@ public class SourceHandler {
     final SourceConnection sourceConnection = configRepository.getSourceConnection(sourceId);
     final StandardSourceDefinition standardSourceDefinition = configRepository
         .getStandardSourceDefinition(sourceConnection.getSourceDefinitionId());
+    return buildSourceRead(sourceConnection, standardSourceDefinition, spec);
+  }
+
+  private SourceRead buildSourceRead(final SourceConnection sourceConnection,
+                                     final StandardSourceDefinition standardSourceDefinition,
+                                     final ConnectorSpecification spec) {
     final JsonNode sanitizedConfig = secretsProcessor.maskSecrets(
         sourceConnection.getConfiguration(), spec.getConnectionSpecification());
     sourceConnection.setConfiguration(sanitizedConfig);
@@ -29,9 +29,11 @@ import io.airbyte.api.model.JobReadList;
 import io.airbyte.api.model.JobStatus;
 import io.airbyte.api.model.JobWithAttemptsRead;
 import io.airbyte.api.model.OperationCreate;
+import io.airbyte.api.model.OperationRead;
 import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
 import io.airbyte.api.model.SourceSearch;
@@ -54,7 +56,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.util.Strings;
 
 public class WebBackendConnectionsHandler {
@@ -85,9 +89,45 @@ public class WebBackendConnectionsHandler {
   public WebBackendConnectionReadList webBackendListConnectionsForWorkspace(WorkspaceIdRequestBody workspaceIdRequestBody)
       throws ConfigNotFoundException, IOException, JsonValidationException {
 
+    // everything the page shows is fetched per workspace rather than per connection, so the number of
+    // queries does not grow with the number of connections.
+    final List<ConnectionRead> connections = connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections();
+    final Map<UUID, SourceRead> sourcesById = sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody).getSources()
+        .stream()
+        .collect(toMap(SourceRead::getSourceId, Function.identity()));
+    final Map<UUID, DestinationRead> destinationsById = destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody).getDestinations()
+        .stream()
+        .collect(toMap(DestinationRead::getDestinationId, Function.identity()));
+    final Map<UUID, OperationRead> operationsById = operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody).getOperations()
+        .stream()
+        .collect(toMap(OperationRead::getOperationId, Function.identity()));
+    final Map<UUID, JobRead> latestSyncJobs = jobHistoryHandler.getLatestSyncJobs(connections
+        .stream()
+        .map(ConnectionRead::getConnectionId)
+        .collect(Collectors.toSet()));
+
     final List<WebBackendConnectionRead> reads = Lists.newArrayList();
-    for (ConnectionRead connection : connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody).getConnections()) {
-      reads.add(buildWebBackendConnectionRead(connection));
+    for (ConnectionRead connection : connections) {
+      // a connection whose source, destination or operations are not among the workspace's live ones
+      // falls back to the individual lookups, which fail the same way they always have.
+      final SourceRead source = sourcesById.containsKey(connection.getSourceId())
+          ? sourcesById.get(connection.getSourceId())
+          : getSourceRead(connection);
+      final DestinationRead destination = destinationsById.containsKey(connection.getDestinationId())
+          ? destinationsById.get(connection.getDestinationId())
+          : getDestinationRead(connection);
+      final OperationReadList operations = operationsById.keySet().containsAll(connection.getOperationIds())
+          ? new OperationReadList().operations(connection.getOperationIds().stream().map(operationsById::get).collect(Collectors.toList()))
+          : getOperationReadList(connection);
+
+      final WebBackendConnectionRead webBackendConnectionRead = getWebBackendConnectionRead(connection, source, destination, operations);
+      final JobRead latestSyncJob = latestSyncJobs.get(connection.getConnectionId());
+      webBackendConnectionRead.setIsSyncing(latestSyncJob != null && !TERMINAL_STATUSES.contains(latestSyncJob.getStatus()));
+      if (latestSyncJob != null) {
+        webBackendConnectionRead.setLatestSyncJobCreatedAt(latestSyncJob.getCreatedAt());
+        webBackendConnectionRead.setLatestSyncJobStatus(latestSyncJob.getStatus());
+      }
+      reads.add(webBackendConnectionRead);
     }
     return new WebBackendConnectionReadList().connections(reads);
   }
@@ -276,8 +316,11 @@ public class WebBackendConnectionsHandler {
     final ConnectionRead connection = connectionsHandler.getConnection(connectionIdRequestBody);
 
     if (MoreBooleans.isTruthy(webBackendConnectionRequestBody.getWithRefreshedCatalog())) {
-      final SourceIdRequestBody sourceId = new SourceIdRequestBody().sourceId(connection.getSourceId());
-      final SourceDiscoverSchemaRead discoverSchema = schedulerHandler.discoverSchemaForSourceFromSourceId(sourceId);
+      // the user asked for the current schema of the source, so do not serve it from the cache.
+      final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody = new SourceDiscoverSchemaRequestBody()
+          .sourceId(connection.getSourceId())
+          .disableCache(true);
+      final SourceDiscoverSchemaRead discoverSchema = schedulerHandler.discoverSchemaForSourceFromSourceId(discoverSchemaRequestBody);
 
       final AirbyteCatalog original = connection.getSyncCatalog();
       final AirbyteCatalog discovered = discoverSchema.getCatalog();
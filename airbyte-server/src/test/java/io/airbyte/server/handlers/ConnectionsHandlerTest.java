@@ -312,12 +312,8 @@ class ConnectionsHandlerTest {
 
   @Test
   void testListConnectionsForWorkspace() throws JsonValidationException, ConfigNotFoundException, IOException {
-    when(configRepository.listStandardSyncs())
+    when(configRepository.listStandardSyncsForWorkspace(source.getWorkspaceId()))
         .thenReturn(Lists.newArrayList(standardSync));
-    when(configRepository.getSourceConnection(source.getSourceId()))
-        .thenReturn(source);
-    when(configRepository.getStandardSync(standardSync.getConnectionId()))
-        .thenReturn(standardSync);
 
     final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(source.getWorkspaceId());
     final ConnectionReadList actualConnectionReadList = connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody);
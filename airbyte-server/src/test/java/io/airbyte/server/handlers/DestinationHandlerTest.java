@@ -6,15 +6,16 @@ package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.Lists;
-import io.airbyte.api.model.ConnectionRead;
-import io.airbyte.api.model.ConnectionReadList;
+import io.airbyte.api.model.ConnectionIdRequestBody;
 import io.airbyte.api.model.DestinationCreate;
 import io.airbyte.api.model.DestinationDefinitionIdRequestBody;
 import io.airbyte.api.model.DestinationDefinitionSpecificationRead;
@@ -40,7 +41,7 @@ import io.airbyte.server.helpers.DestinationHelpers;
 import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
@@ -146,9 +147,6 @@ class DestinationHandlerTest {
     final DestinationConnection expectedDestinationConnection = Jsons.clone(destinationConnection).withTombstone(true);
     final DestinationIdRequestBody destinationId = new DestinationIdRequestBody().destinationId(destinationConnection.getDestinationId());
     final StandardSync standardSync = ConnectionHelpers.generateSyncWithDestinationId(destinationConnection.getDestinationId());
-    final ConnectionRead connectionRead = ConnectionHelpers.generateExpectedConnectionRead(standardSync);
-    final ConnectionReadList connectionReadList = new ConnectionReadList().connections(Collections.singletonList(connectionRead));
-    final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(destinationConnection.getWorkspaceId());
 
     when(configRepository.getDestinationConnectionWithSecrets(destinationConnection.getDestinationId()))
         .thenReturn(destinationConnection)
@@ -159,13 +157,12 @@ class DestinationHandlerTest {
     when(configRepository.getStandardDestinationDefinition(standardDestinationDefinition.getDestinationDefinitionId()))
         .thenReturn(standardDestinationDefinition);
     when(specFetcher.execute(imageName)).thenReturn(connectorSpecification);
-    when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
+    when(configRepository.listStandardSyncsUsingDestination(destinationConnection.getDestinationId())).thenReturn(List.of(standardSync));
 
     destinationHandler.deleteDestination(destinationId);
 
     verify(configRepository).writeDestinationConnection(expectedDestinationConnection, connectorSpecification);
-    verify(connectionsHandler).listConnectionsForWorkspace(workspaceIdRequestBody);
-    verify(connectionsHandler).deleteConnection(connectionRead);
+    verify(connectionsHandler).deleteConnection(new ConnectionIdRequestBody().connectionId(standardSync.getConnectionId()));
   }
 
   @Test
@@ -260,11 +257,9 @@ class DestinationHandlerTest {
         .destinationName(standardDestinationDefinition.getName());
     final WorkspaceIdRequestBody workspaceIdRequestBody = new WorkspaceIdRequestBody().workspaceId(destinationConnection.getWorkspaceId());
 
-    when(configRepository.getDestinationConnection(destinationConnection.getDestinationId())).thenReturn(destinationConnection);
-    when(configRepository.listDestinationConnection()).thenReturn(Lists.newArrayList(destinationConnection));
+    when(configRepository.listDestinationConnectionsForWorkspace(destinationConnection.getWorkspaceId())).thenReturn(Lists.newArrayList(destinationConnection));
     when(specFetcher.execute(imageName)).thenReturn(connectorSpecification);
-    when(configRepository.getStandardDestinationDefinition(standardDestinationDefinition.getDestinationDefinitionId()))
-        .thenReturn(standardDestinationDefinition);
+    when(configRepository.listStandardDestinationDefinitions()).thenReturn(Lists.newArrayList(standardDestinationDefinition));
     when(secretsProcessor.maskSecrets(destinationConnection.getConfiguration(), destinationDefinitionSpecificationRead.getConnectionSpecification()))
         .thenReturn(destinationConnection.getConfiguration());
 
@@ -273,6 +268,8 @@ class DestinationHandlerTest {
     assertEquals(expectedDestinationRead, actualDestinationRead.getDestinations().get(0));
     verify(secretsProcessor)
         .maskSecrets(destinationConnection.getConfiguration(), destinationDefinitionSpecificationRead.getConnectionSpecification());
+    // destinations are not looked up one by one.
+    verify(configRepository, never()).getDestinationConnection(any());
   }
 
 }
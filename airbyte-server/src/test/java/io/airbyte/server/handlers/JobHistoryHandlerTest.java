@@ -5,6 +5,7 @@
 package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -12,6 +13,8 @@ import static org.mockito.Mockito.when;
 import com.google.common.collect.ImmutableList;
 import io.airbyte.api.model.AttemptInfoRead;
 import io.airbyte.api.model.AttemptRead;
+import io.airbyte.api.model.JobAttemptLogsRead;
+import io.airbyte.api.model.JobAttemptLogsRequestBody;
 import io.airbyte.api.model.JobConfigType;
 import io.airbyte.api.model.JobIdRequestBody;
 import io.airbyte.api.model.JobInfoRead;
@@ -30,6 +33,7 @@ import io.airbyte.scheduler.models.AttemptStatus;
 import io.airbyte.scheduler.models.Job;
 import io.airbyte.scheduler.models.JobStatus;
 import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.server.errors.IdNotFoundKnownException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -180,6 +184,26 @@ public class JobHistoryHandlerTest {
       assertEquals(expectedJobReadList, jobReadList);
     }
 
+
+    @Test
+    @DisplayName("Should continue from the cursor and return the next cursor when the page is full")
+    public void testListJobsWithCursor() throws IOException {
+      final int pagesize = 1;
+      final long cursor = JOB_ID + 100;
+      when(jobPersistence.listJobsBefore(Set.of(Enums.convertTo(CONFIG_TYPE_FOR_API, ConfigType.class)), JOB_CONFIG_ID, cursor, pagesize))
+          .thenReturn(List.of(testJob));
+
+      final var requestBody = new JobListRequestBody()
+          .configTypes(Collections.singletonList(CONFIG_TYPE_FOR_API))
+          .configId(JOB_CONFIG_ID)
+          .pagination(new Pagination().pageSize(pagesize).rowOffset(5).cursor(cursor));
+      final var jobReadList = jobHistoryHandler.listJobsFor(requestBody);
+
+      final JobReadList expectedJobReadList = new JobReadList()
+          .jobs(List.of(new JobWithAttemptsRead().job(toJobInfo(testJob)).attempts(ImmutableList.of(toAttemptRead(testJobAttempt)))))
+          .nextCursor(JOB_ID);
+      assertEquals(expectedJobReadList, jobReadList);
+    }
   }
 
   @Test
@@ -195,6 +219,26 @@ public class JobHistoryHandlerTest {
     assertEquals(exp, jobInfoActual);
   }
 
+  @Test
+  @DisplayName("Should return the logs of the requested attempt")
+  public void testGetJobAttemptLogs() throws IOException {
+    when(jobPersistence.getJob(JOB_ID)).thenReturn(testJob);
+
+    final JobAttemptLogsRequestBody requestBody = new JobAttemptLogsRequestBody().jobId(JOB_ID).attemptNumber(ATTEMPT_ID);
+    final JobAttemptLogsRead logsActual = jobHistoryHandler.getJobAttemptLogs(requestBody);
+
+    assertEquals(new JobAttemptLogsRead().logLines(List.of()).nextOffset(0L), logsActual);
+  }
+
+  @Test
+  @DisplayName("Should fail for an attempt the job does not have")
+  public void testGetJobAttemptLogsOfUnknownAttempt() throws IOException {
+    when(jobPersistence.getJob(JOB_ID)).thenReturn(testJob);
+
+    final JobAttemptLogsRequestBody requestBody = new JobAttemptLogsRequestBody().jobId(JOB_ID).attemptNumber(ATTEMPT_ID + 1).offset(0L);
+    assertThrows(IdNotFoundKnownException.class, () -> jobHistoryHandler.getJobAttemptLogs(requestBody));
+  }
+
   @Test
   @DisplayName("Should have compatible config enums")
   public void testEnumConversion() {
@@ -6,7 +6,11 @@ package io.airbyte.server.handlers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,6 +30,7 @@ import io.airbyte.api.model.ConnectionStatus;
 import io.airbyte.api.model.ConnectionUpdate;
 import io.airbyte.api.model.DestinationIdRequestBody;
 import io.airbyte.api.model.DestinationRead;
+import io.airbyte.api.model.DestinationReadList;
 import io.airbyte.api.model.DestinationSearch;
 import io.airbyte.api.model.DestinationSyncMode;
 import io.airbyte.api.model.JobConfigType;
@@ -41,8 +46,10 @@ import io.airbyte.api.model.OperationReadList;
 import io.airbyte.api.model.OperationUpdate;
 import io.airbyte.api.model.ResourceRequirements;
 import io.airbyte.api.model.SourceDiscoverSchemaRead;
+import io.airbyte.api.model.SourceDiscoverSchemaRequestBody;
 import io.airbyte.api.model.SourceIdRequestBody;
 import io.airbyte.api.model.SourceRead;
+import io.airbyte.api.model.SourceReadList;
 import io.airbyte.api.model.SourceSearch;
 import io.airbyte.api.model.SyncMode;
 import io.airbyte.api.model.SynchronousJobRead;
@@ -56,28 +63,47 @@ import io.airbyte.api.model.WebBackendOperationCreateOrUpdate;
 import io.airbyte.api.model.WorkspaceIdRequestBody;
 import io.airbyte.commons.enums.Enums;
 import io.airbyte.commons.json.Jsons;
+import io.airbyte.config.ConfigSchema;
 import io.airbyte.config.DestinationConnection;
+import io.airbyte.config.JobConfig.ConfigType;
+import io.airbyte.config.OperatorNormalization;
+import io.airbyte.config.OperatorNormalization.Option;
 import io.airbyte.config.SourceConnection;
 import io.airbyte.config.StandardDestinationDefinition;
 import io.airbyte.config.StandardSourceDefinition;
 import io.airbyte.config.StandardSync;
+import io.airbyte.config.StandardSyncOperation;
 import io.airbyte.config.persistence.ConfigNotFoundException;
+import io.airbyte.config.persistence.ConfigPersistence;
+import io.airbyte.config.persistence.ConfigRepository;
+import io.airbyte.config.persistence.FileSystemConfigPersistence;
+import io.airbyte.config.persistence.split_secrets.SecretsHydrator;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.scheduler.models.Job;
+import io.airbyte.scheduler.persistence.JobPersistence;
+import io.airbyte.scheduler.persistence.WorkspaceHelper;
+import io.airbyte.server.converters.SpecFetcher;
 import io.airbyte.server.helpers.ConnectionHelpers;
+import io.airbyte.server.helpers.ConnectorSpecificationHelpers;
 import io.airbyte.server.helpers.DestinationDefinitionHelpers;
 import io.airbyte.server.helpers.DestinationHelpers;
 import io.airbyte.server.helpers.SourceDefinitionHelpers;
 import io.airbyte.server.helpers.SourceHelpers;
+import io.airbyte.validation.json.JsonSchemaValidator;
 import io.airbyte.validation.json.JsonValidationException;
 import io.airbyte.workers.WorkerUtils;
 import java.io.IOException;
 import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -87,12 +113,17 @@ import org.junit.jupiter.api.Test;
 class WebBackendConnectionsHandlerTest {
 
   private ConnectionsHandler connectionsHandler;
+  private SourceHandler sourceHandler;
+  private DestinationHandler destinationHandler;
+  private JobHistoryHandler jobHistoryHandler;
   private OperationsHandler operationsHandler;
   private SchedulerHandler schedulerHandler;
   private WebBackendConnectionsHandler wbHandler;
 
   private SourceRead sourceRead;
+  private DestinationRead destinationRead;
   private ConnectionRead connectionRead;
+  private JobWithAttemptsRead jobRead;
   private OperationReadList operationReadList;
   private WebBackendConnectionRead expected;
   private WebBackendConnectionRead expectedWithNewSchema;
@@ -101,9 +132,9 @@ class WebBackendConnectionsHandlerTest {
   public void setup() throws IOException, JsonValidationException, ConfigNotFoundException {
     connectionsHandler = mock(ConnectionsHandler.class);
     operationsHandler = mock(OperationsHandler.class);
-    final SourceHandler sourceHandler = mock(SourceHandler.class);
-    final DestinationHandler destinationHandler = mock(DestinationHandler.class);
-    final JobHistoryHandler jobHistoryHandler = mock(JobHistoryHandler.class);
+    sourceHandler = mock(SourceHandler.class);
+    destinationHandler = mock(DestinationHandler.class);
+    jobHistoryHandler = mock(JobHistoryHandler.class);
     schedulerHandler = mock(SchedulerHandler.class);
     wbHandler = new WebBackendConnectionsHandler(connectionsHandler, sourceHandler, destinationHandler, jobHistoryHandler, schedulerHandler,
         operationsHandler);
@@ -114,7 +145,7 @@ class WebBackendConnectionsHandlerTest {
 
     final StandardDestinationDefinition destinationDefinition = DestinationDefinitionHelpers.generateDestination();
     final DestinationConnection destination = DestinationHelpers.generateDestination(UUID.randomUUID());
-    final DestinationRead destinationRead = DestinationHelpers.getDestinationRead(destination, destinationDefinition);
+    destinationRead = DestinationHelpers.getDestinationRead(destination, destinationDefinition);
 
     final StandardSync standardSync = ConnectionHelpers.generateSyncWithSourceId(source.getSourceId());
     connectionRead = ConnectionHelpers.generateExpectedConnectionRead(standardSync);
@@ -132,7 +163,7 @@ class WebBackendConnectionsHandlerTest {
     when(destinationHandler.getDestination(destinationIdRequestBody)).thenReturn(destinationRead);
 
     final Instant now = Instant.now();
-    final JobWithAttemptsRead jobRead = new JobWithAttemptsRead()
+    jobRead = new JobWithAttemptsRead()
         .job(new JobRead()
             .configId(connectionRead.getConnectionId().toString())
             .configType(JobConfigType.SYNC)
@@ -182,7 +213,10 @@ class WebBackendConnectionsHandlerTest {
 
     final AirbyteCatalog modifiedCatalog = ConnectionHelpers.generateBasicApiCatalog();
 
-    when(schedulerHandler.discoverSchemaForSourceFromSourceId(sourceIdRequestBody)).thenReturn(
+    final SourceDiscoverSchemaRequestBody discoverSchemaRequestBody = new SourceDiscoverSchemaRequestBody()
+        .sourceId(connectionRead.getSourceId())
+        .disableCache(true);
+    when(schedulerHandler.discoverSchemaForSourceFromSourceId(discoverSchemaRequestBody)).thenReturn(
         new SourceDiscoverSchemaRead()
             .jobInfo(mock(SynchronousJobRead.class))
             .catalog(modifiedCatalog));
@@ -224,11 +258,96 @@ class WebBackendConnectionsHandlerTest {
     final ConnectionIdRequestBody connectionIdRequestBody = new ConnectionIdRequestBody();
     connectionIdRequestBody.setConnectionId(connectionRead.getConnectionId());
     when(connectionsHandler.listConnectionsForWorkspace(workspaceIdRequestBody)).thenReturn(connectionReadList);
-    when(operationsHandler.listOperationsForConnection(connectionIdRequestBody)).thenReturn(operationReadList);
+    when(sourceHandler.listSourcesForWorkspace(workspaceIdRequestBody)).thenReturn(new SourceReadList().sources(List.of(sourceRead)));
+    when(destinationHandler.listDestinationsForWorkspace(workspaceIdRequestBody))
+        .thenReturn(new DestinationReadList().destinations(List.of(destinationRead)));
+    when(operationsHandler.listOperationsForWorkspace(workspaceIdRequestBody)).thenReturn(operationReadList);
+    when(jobHistoryHandler.getLatestSyncJobs(Set.of(connectionRead.getConnectionId())))
+        .thenReturn(Map.of(connectionRead.getConnectionId(), jobRead.getJob()));
 
     final WebBackendConnectionReadList WebBackendConnectionReadList = wbHandler.webBackendListConnectionsForWorkspace(workspaceIdRequestBody);
     assertEquals(1, WebBackendConnectionReadList.getConnections().size());
     assertEquals(expected, WebBackendConnectionReadList.getConnections().get(0));
+    // the list is built from the workspace-wide lookups only.
+    verify(sourceHandler, never()).getSource(any());
+    verify(destinationHandler, never()).getDestination(any());
+    verify(operationsHandler, never()).listOperationsForConnection(any());
+    verify(jobHistoryHandler, never()).listJobsFor(any());
+  }
+
+  @Test
+  public void testWebBackendListConnectionsForWorkspaceQueryCountDoesNotGrowWithConnections() throws Exception {
+    final long queriesFor10Connections = countQueriesToListConnections(10);
+    final long queriesFor400Connections = countQueriesToListConnections(400);
+
+    assertEquals(queriesFor10Connections, queriesFor400Connections);
+  }
+
+  /**
+   * Seeds a workspace with the given number of connections, each with its own source, destination
+   * and operation, through real handlers on top of a config persistence and a job persistence that
+   * count their calls. Each call is a database query in production.
+   *
+   * @return the number of persistence calls made to list the connections of the workspace.
+   */
+  private long countQueriesToListConnections(final int numConnections) throws Exception {
+    final Path storageRoot = Files.createTempDirectory(Path.of("/tmp"), "web_backend_connections");
+    final ConfigPersistence configPersistence = spy(new FileSystemConfigPersistence(storageRoot));
+    final JobPersistence jobPersistence = mock(JobPersistence.class);
+    final ConfigRepository configRepository =
+        new ConfigRepository(configPersistence, mock(SecretsHydrator.class), Optional.empty(), Optional.empty());
+    final SpecFetcher specFetcher = mock(SpecFetcher.class);
+    when(specFetcher.execute(any())).thenReturn(ConnectorSpecificationHelpers.generateConnectorSpecification());
+
+    final UUID workspaceId = UUID.randomUUID();
+    final StandardSourceDefinition sourceDefinition = SourceDefinitionHelpers.generateSource();
+    final StandardDestinationDefinition destinationDefinition = DestinationDefinitionHelpers.generateDestination();
+    configPersistence.writeConfig(ConfigSchema.STANDARD_SOURCE_DEFINITION, sourceDefinition.getSourceDefinitionId().toString(), sourceDefinition);
+    configPersistence.writeConfig(ConfigSchema.STANDARD_DESTINATION_DEFINITION, destinationDefinition.getDestinationDefinitionId().toString(),
+        destinationDefinition);
+    final List<Job> lastSyncJobs = Lists.newArrayList();
+    for (int i = 0; i < numConnections; i++) {
+      final SourceConnection source = SourceHelpers.generateSource(sourceDefinition.getSourceDefinitionId()).withWorkspaceId(workspaceId);
+      final DestinationConnection destination =
+          DestinationHelpers.generateDestination(destinationDefinition.getDestinationDefinitionId()).withWorkspaceId(workspaceId);
+      final StandardSyncOperation operation = new StandardSyncOperation()
+          .withWorkspaceId(workspaceId)
+          .withOperationId(UUID.randomUUID())
+          .withName("normalization")
+          .withOperatorType(StandardSyncOperation.OperatorType.NORMALIZATION)
+          .withOperatorNormalization(new OperatorNormalization().withOption(Option.BASIC))
+          .withTombstone(false);
+      final StandardSync standardSync = ConnectionHelpers.generateSyncWithSourceId(source.getSourceId())
+          .withDestinationId(destination.getDestinationId())
+          .withOperationIds(List.of(operation.getOperationId()));
+      configPersistence.writeConfig(ConfigSchema.SOURCE_CONNECTION, source.getSourceId().toString(), source);
+      configPersistence.writeConfig(ConfigSchema.DESTINATION_CONNECTION, destination.getDestinationId().toString(), destination);
+      configPersistence.writeConfig(ConfigSchema.STANDARD_SYNC_OPERATION, operation.getOperationId().toString(), operation);
+      configPersistence.writeConfig(ConfigSchema.STANDARD_SYNC, standardSync.getConnectionId().toString(), standardSync);
+      lastSyncJobs.add(new Job(i, ConfigType.SYNC, standardSync.getConnectionId().toString(), null, List.of(),
+          io.airbyte.scheduler.models.JobStatus.SUCCEEDED, null, 0, 0));
+    }
+    when(jobPersistence.getLastSyncJobs(any())).thenReturn(lastSyncJobs);
+
+    final ConnectionsHandler connectionsHandler = new ConnectionsHandler(configRepository, mock(WorkspaceHelper.class));
+    final WebBackendConnectionsHandler handler = new WebBackendConnectionsHandler(
+        connectionsHandler,
+        new SourceHandler(configRepository, mock(JsonSchemaValidator.class), specFetcher, connectionsHandler),
+        new DestinationHandler(configRepository, mock(JsonSchemaValidator.class), specFetcher, connectionsHandler),
+        new JobHistoryHandler(jobPersistence),
+        schedulerHandler,
+        new OperationsHandler(configRepository));
+    clearInvocations(configPersistence);
+
+    final List<WebBackendConnectionRead> reads =
+        handler.webBackendListConnectionsForWorkspace(new WorkspaceIdRequestBody().workspaceId(workspaceId)).getConnections();
+
+    assertEquals(numConnections, reads.size());
+    reads.forEach(read -> {
+      assertEquals(1, read.getOperations().size());
+      assertEquals(JobStatus.SUCCEEDED, read.getLatestSyncJobStatus());
+    });
+    return mockingDetails(configPersistence).getInvocations().size() + mockingDetails(jobPersistence).getInvocations().size();
   }
 
   @Test
@@ -51,25 +51,19 @@ public class DatabaseArchiver {
    * Serializes each internal Airbyte Database table into a single archive file stored in YAML.
    */
   public void exportDatabaseToArchive(final Path storageRoot) throws Exception {
-    final Map<JobsDatabaseSchema, Stream<JsonNode>> tables = persistence.exportDatabase();
     Files.createDirectories(storageRoot.resolve(DB_FOLDER_NAME));
     for (final JobsDatabaseSchema tableSchema : JobsDatabaseSchema.values()) {
       final Path tablePath = buildTablePath(storageRoot, tableSchema.name());
-      if (tables.containsKey(tableSchema)) {
-        writeTableToArchive(tableSchema, tablePath, tables.get(tableSchema));
-      } else {
-        // Create empty file
-        Files.createFile(tablePath);
-      }
+      writeTableToArchive(tableSchema, tablePath);
     }
     LOGGER.debug("Successful export of airbyte database");
   }
 
-  private void writeTableToArchive(final JobsDatabaseSchema tableSchema, final Path tablePath, final Stream<JsonNode> tableStream) throws Exception {
+  private void writeTableToArchive(final JobsDatabaseSchema tableSchema, final Path tablePath) throws Exception {
     Files.createDirectories(tablePath.getParent());
     final BufferedWriter recordOutputWriter = new BufferedWriter(new FileWriter(tablePath.toFile()));
     final CloseableConsumer<JsonNode> recordConsumer = Yamls.listWriter(recordOutputWriter);
-    tableStream.forEach(row -> Exceptions.toRuntime(() -> {
+    persistence.exportTable(tableSchema, row -> Exceptions.toRuntime(() -> {
       jsonSchemaValidator.ensure(tableSchema.getTableDefinition(), row);
       recordConsumer.accept(row);
     }));
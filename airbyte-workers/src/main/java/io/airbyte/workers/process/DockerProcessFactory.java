@@ -8,19 +8,19 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
+import io.airbyte.commons.docker.DockerUtils;
+import io.airbyte.commons.functional.CheckedFunction;
 import io.airbyte.commons.io.IOs;
-import io.airbyte.commons.io.LineGobbler;
-import io.airbyte.commons.resources.MoreResources;
 import io.airbyte.config.ResourceRequirements;
 import io.airbyte.workers.WorkerException;
-import io.airbyte.workers.WorkerUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,33 +30,44 @@ public class DockerProcessFactory implements ProcessFactory {
 
   private static final Path DATA_MOUNT_DESTINATION = Path.of("/data");
   private static final Path LOCAL_MOUNT_DESTINATION = Path.of("/local");
-  private static final String IMAGE_EXISTS_SCRIPT = "image_exists.sh";
 
   private final String workspaceMountSource;
   private final Path workspaceRoot;
   private final String localMountSource;
   private final String networkName;
-  private final Path imageExistsScriptPath;
+  private final CheckedFunction<String, Optional<String>, InterruptedException> imageIdLookup;
+  // ids of the images known to exist, by tagged image name. docker run pulls an image that was removed
+  // since it was cached, so only images that exist are cached and entries never need to be evicted.
+  private final Map<String, String> imageIds = new ConcurrentHashMap<>();
 
   public DockerProcessFactory(Path workspaceRoot, String workspaceMountSource, String localMountSource, String networkName) {
+    this(workspaceRoot, workspaceMountSource, localMountSource, networkName, DockerUtils::getOrPullImageId);
+    warmImageCache();
+  }
+
+  @VisibleForTesting
+  DockerProcessFactory(final Path workspaceRoot,
+                       final String workspaceMountSource,
+                       final String localMountSource,
+                       final String networkName,
+                       final CheckedFunction<String, Optional<String>, InterruptedException> imageIdLookup) {
     this.workspaceRoot = workspaceRoot;
     this.workspaceMountSource = workspaceMountSource;
     this.localMountSource = localMountSource;
     this.networkName = networkName;
-    this.imageExistsScriptPath = prepareImageExistsScript();
+    this.imageIdLookup = imageIdLookup;
   }
 
-  private static Path prepareImageExistsScript() {
+  /**
+   * The images of the connectors that have synced on this machine are available locally, so listing
+   * them once saves looking each of them up before its first job.
+   */
+  private void warmImageCache() {
     try {
-      final Path basePath = Files.createTempDirectory("scripts");
-      final String scriptContents = MoreResources.readResource(IMAGE_EXISTS_SCRIPT);
-      final Path scriptPath = IOs.writeFile(basePath, IMAGE_EXISTS_SCRIPT, scriptContents);
-      if (!scriptPath.toFile().setExecutable(true)) {
-        throw new RuntimeException(String.format("Could not set %s to executable", scriptPath));
-      }
-      return scriptPath;
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+      imageIds.putAll(DockerUtils.getLocalImageIds());
+      LOGGER.info("Found {} local images", imageIds.size());
+    } catch (final RuntimeException e) {
+      LOGGER.warn("Could not list local images, they will be looked up when they are first used", e);
     }
   }
 
@@ -129,6 +140,9 @@ public class DockerProcessFactory implements ProcessFactory {
       return new ProcessBuilder(cmd).start();
     } catch (IOException e) {
       throw new WorkerException(e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new WorkerException("Interrupted while looking up image: " + imageName, e);
     }
   }
 
@@ -137,23 +151,28 @@ public class DockerProcessFactory implements ProcessFactory {
     return DATA_MOUNT_DESTINATION.resolve(relativePath);
   }
 
+  /**
+   * Checks whether the image exists locally or, if it does not, pulls it.
+   */
   @VisibleForTesting
-  boolean checkImageExists(String imageName) throws WorkerException {
-    try {
-      final Process process = new ProcessBuilder(imageExistsScriptPath.toString(), imageName).start();
-      LineGobbler.gobble(process.getErrorStream(), LOGGER::error);
-      LineGobbler.gobble(process.getInputStream(), LOGGER::info);
-
-      WorkerUtils.gentleClose(process, 10, TimeUnit.MINUTES);
+  boolean checkImageExists(String imageName) throws InterruptedException {
+    final String taggedImageName = DockerUtils.getImageNameWithTag(imageName);
+    if (imageIds.containsKey(taggedImageName)) {
+      return true;
+    }
 
-      if (process.isAlive()) {
-        throw new WorkerException("Process to check if image exists is stuck. Exiting.");
-      } else {
-        return process.exitValue() == 0;
-      }
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+    LOGGER.info("Checking if {} exists...", imageName);
+    final Optional<String> imageId;
+    try {
+      imageId = imageIdLookup.apply(taggedImageName);
+    } catch (final RuntimeException e) {
+      // e.g. the docker daemon is unreachable. the job fails with a WorkerException like for a missing
+      // image.
+      LOGGER.error("Could not look up image {}", imageName, e);
+      return false;
     }
+    imageId.ifPresent(id -> imageIds.put(taggedImageName, id));
+    return imageId.isPresent();
   }
 
 }
@@ -4,14 +4,16 @@
 
 package io.airbyte.workers.protocols.airbyte;
 
-import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.AirbyteMessage.Type;
+import io.airbyte.protocol.models.AirbyteRecordMessage;
 import io.airbyte.protocol.models.AirbyteStream;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
 import io.airbyte.workers.protocols.Mapper;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import org.apache.logging.log4j.util.Strings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,47 +38,91 @@ public class NamespacingMapper implements Mapper<AirbyteMessage> {
     this.streamPrefix = streamPrefix;
   }
 
+  /**
+   * Catalogs can hold thousands of streams, so instead of deep-cloning the input the mapped catalog
+   * is built out of new stream objects that share the unchanged fields (json schema, sync modes,
+   * cursor and primary key) with the input. Neither catalog must be mutated afterwards. When the
+   * mapping does not change anything, the input catalog is returned as is.
+   */
   @Override
   public ConfiguredAirbyteCatalog mapCatalog(final ConfiguredAirbyteCatalog inputCatalog) {
-    final ConfiguredAirbyteCatalog catalog = Jsons.clone(inputCatalog);
-    catalog.getStreams().forEach(s -> {
-      final AirbyteStream stream = s.getStream();
-      // Default behavior if namespaceDefinition is not set is to follow SOURCE
-      if (namespaceDefinition != null) {
-        if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
-          stream.withNamespace(null);
-        } else if (namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT)) {
-          final String namespace = formatNamespace(stream.getNamespace(), namespaceFormat);
-          if (namespace == null) {
-            LOGGER.error("Namespace Format cannot be blank for Stream {}. Falling back to default namespace from destination settings",
-                stream.getName());
-          }
-          stream.withNamespace(namespace);
-        }
-      }
-      stream.withName(transformStreamName(stream.getName(), streamPrefix));
-    });
+    if (isIdentity()) {
+      return inputCatalog;
+    }
+    final ConfiguredAirbyteCatalog catalog = new ConfiguredAirbyteCatalog()
+        .withStreams(inputCatalog.getStreams().stream().map(this::mapConfiguredStream).collect(Collectors.toList()));
+    inputCatalog.getAdditionalProperties().forEach(catalog::setAdditionalProperty);
     return catalog;
   }
 
   @Override
   public AirbyteMessage mapMessage(final AirbyteMessage inputMessage) {
-    if (inputMessage.getType() == Type.RECORD) {
-      final AirbyteMessage message = Jsons.clone(inputMessage);
-      // Default behavior if namespaceDefinition is not set is to follow SOURCE
-      if (namespaceDefinition != null) {
-        if (namespaceDefinition.equals(NamespaceDefinitionType.DESTINATION)) {
-          message.getRecord().withNamespace(null);
-        } else if (namespaceDefinition.equals(NamespaceDefinitionType.CUSTOMFORMAT)) {
-          message.getRecord().withNamespace(formatNamespace(message.getRecord().getNamespace(), namespaceFormat));
-        }
-      }
-      message.getRecord().setStream(transformStreamName(message.getRecord().getStream(), streamPrefix));
+    if (inputMessage.getType() == Type.RECORD && !isIdentity()) {
+      final AirbyteRecordMessage inputRecord = inputMessage.getRecord();
+      // the record data is shared rather than cloned, only the stream and namespace change.
+      final AirbyteRecordMessage record = new AirbyteRecordMessage()
+          .withStream(transformStreamName(inputRecord.getStream(), streamPrefix))
+          .withNamespace(mapNamespace(inputRecord.getNamespace()))
+          .withData(inputRecord.getData())
+          .withEmittedAt(inputRecord.getEmittedAt());
+      inputRecord.getAdditionalProperties().forEach(record::setAdditionalProperty);
+      final AirbyteMessage message = new AirbyteMessage()
+          .withType(inputMessage.getType())
+          .withLog(inputMessage.getLog())
+          .withSpec(inputMessage.getSpec())
+          .withCatalog(inputMessage.getCatalog())
+          .withRecord(record)
+          .withState(inputMessage.getState());
+      inputMessage.getAdditionalProperties().forEach(message::setAdditionalProperty);
       return message;
     }
     return inputMessage;
   }
 
+  private boolean isIdentity() {
+    // Default behavior if namespaceDefinition is not set is to follow SOURCE
+    return (namespaceDefinition == null || namespaceDefinition.equals(NamespaceDefinitionType.SOURCE)) && Strings.isBlank(streamPrefix);
+  }
+
+  private ConfiguredAirbyteStream mapConfiguredStream(final ConfiguredAirbyteStream inputConfiguredStream) {
+    final ConfiguredAirbyteStream configuredStream = new ConfiguredAirbyteStream()
+        .withStream(mapStream(inputConfiguredStream.getStream()))
+        .withSyncMode(inputConfiguredStream.getSyncMode())
+        .withCursorField(inputConfiguredStream.getCursorField())
+        .withDestinationSyncMode(inputConfiguredStream.getDestinationSyncMode())
+        .withPrimaryKey(inputConfiguredStream.getPrimaryKey());
+    inputConfiguredStream.getAdditionalProperties().forEach(configuredStream::setAdditionalProperty);
+    return configuredStream;
+  }
+
+  private AirbyteStream mapStream(final AirbyteStream inputStream) {
+    final String namespace = mapNamespace(inputStream.getNamespace());
+    if (namespace == null && NamespaceDefinitionType.CUSTOMFORMAT.equals(namespaceDefinition)) {
+      LOGGER.error("Namespace Format cannot be blank for Stream {}. Falling back to default namespace from destination settings",
+          inputStream.getName());
+    }
+    final AirbyteStream stream = new AirbyteStream()
+        .withName(transformStreamName(inputStream.getName(), streamPrefix))
+        .withNamespace(namespace)
+        .withJsonSchema(inputStream.getJsonSchema())
+        .withSupportedSyncModes(inputStream.getSupportedSyncModes())
+        .withSourceDefinedCursor(inputStream.getSourceDefinedCursor())
+        .withDefaultCursorField(inputStream.getDefaultCursorField())
+        .withSourceDefinedPrimaryKey(inputStream.getSourceDefinedPrimaryKey());
+    inputStream.getAdditionalProperties().forEach(stream::setAdditionalProperty);
+    return stream;
+  }
+
+  private String mapNamespace(final String sourceNamespace) {
+    // Default behavior if namespaceDefinition is not set is to follow SOURCE
+    if (NamespaceDefinitionType.DESTINATION.equals(namespaceDefinition)) {
+      return null;
+    } else if (NamespaceDefinitionType.CUSTOMFORMAT.equals(namespaceDefinition)) {
+      return formatNamespace(sourceNamespace, namespaceFormat);
+    }
+    return sourceNamespace;
+  }
+
   private static String formatNamespace(final String sourceNamespace, final String namespaceFormat) {
     String result = "";
     if (Strings.isNotBlank(namespaceFormat)) {
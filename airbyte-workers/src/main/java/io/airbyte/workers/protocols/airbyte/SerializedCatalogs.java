@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2021 Airbyte, Inc., all rights reserved.
+ */
+
+package io.airbyte.workers.protocols.airbyte;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.airbyte.commons.json.Jsons;
+import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+
+/**
+ * Serializes each catalog instance once, so that the launches of an attempt which are handed the
+ * same catalog (e.g. the source and the destination when the {@link NamespacingMapper} leaves the
+ * catalog unchanged) share its json instead of each writing out thousands of streams again.
+ *
+ * Entries are keyed by identity and dropped once the catalog is garbage collected. A catalog must
+ * therefore not be mutated after it has been serialized; mappers build a new catalog instead.
+ */
+public class SerializedCatalogs {
+
+  private static final Cache<ConfiguredAirbyteCatalog, String> CACHE = CacheBuilder.newBuilder()
+      .weakKeys()
+      .build();
+
+  public static String serialize(final ConfiguredAirbyteCatalog catalog) {
+    return CACHE.asMap().computeIfAbsent(catalog, Jsons::serialize);
+  }
+
+}
@@ -10,15 +10,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableMap;
 import io.airbyte.commons.io.IOs;
-import io.airbyte.commons.io.LineGobbler;
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.workers.WorkerException;
 import io.airbyte.workers.WorkerUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 import org.junit.jupiter.api.Test;
 
 // todo (cgardens) - these are not truly "unit" tests as they are check resources on the internet.
@@ -27,44 +28,45 @@ class DockerProcessFactoryTest {
 
   private static final Path TEST_ROOT = Path.of("/tmp/airbyte_tests");
 
-  /**
-   * {@link DockerProcessFactoryTest#testImageExists()} will fail if jq is not installed. The logs get
-   * swallowed when run from gradle. This test exists to explicitly fail with a clear error message
-   * when jq is not installed.
-   */
   @Test
-  public void testJqExists() throws IOException {
-    final Process process = new ProcessBuilder("jq", "--version").start();
-    final StringBuilder out = new StringBuilder();
-    final StringBuilder err = new StringBuilder();
-    LineGobbler.gobble(process.getInputStream(), out::append);
-    LineGobbler.gobble(process.getErrorStream(), err::append);
-
-    WorkerUtils.gentleClose(process, 1, TimeUnit.MINUTES);
+  public void testImageExists() throws IOException, InterruptedException {
+    Path workspaceRoot = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), "process_factory");
 
-    assertEquals(0, process.exitValue(),
-        String.format("Error while checking for jq. STDOUT: %s STDERR: %s Please make sure jq is installed (used by testImageExists)", out, err));
+    final DockerProcessFactory processFactory = new DockerProcessFactory(workspaceRoot, "", "", "");
+    assertTrue(processFactory.checkImageExists("busybox"));
   }
 
-  /**
-   * This test will fail if jq is not installed. If run from gradle the log line that mentions the jq
-   * issue will be swallowed. The exception is visible if run from intellij or with STDERR logging
-   * turned on in gradle.
-   */
   @Test
-  public void testImageExists() throws IOException, WorkerException {
+  public void testImageDoesNotExist() throws IOException, InterruptedException {
     Path workspaceRoot = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), "process_factory");
 
     final DockerProcessFactory processFactory = new DockerProcessFactory(workspaceRoot, "", "", "");
-    assertTrue(processFactory.checkImageExists("busybox"));
+    assertFalse(processFactory.checkImageExists("airbyte/fake:0.1.2"));
   }
 
   @Test
-  public void testImageDoesNotExist() throws IOException, WorkerException {
-    Path workspaceRoot = Files.createTempDirectory(Files.createDirectories(TEST_ROOT), "process_factory");
+  public void testExistingImagesAreCached() throws InterruptedException {
+    final List<String> lookups = new ArrayList<>();
+    final DockerProcessFactory processFactory = new DockerProcessFactory(TEST_ROOT, "", "", "", imageName -> {
+      lookups.add(imageName);
+      return imageName.startsWith("airbyte/fake") ? Optional.empty() : Optional.of("sha256:abc");
+    });
 
-    final DockerProcessFactory processFactory = new DockerProcessFactory(workspaceRoot, "", "", "");
+    assertTrue(processFactory.checkImageExists("busybox"));
+    assertTrue(processFactory.checkImageExists("busybox:latest"));
+    assertFalse(processFactory.checkImageExists("airbyte/fake:0.1.2"));
     assertFalse(processFactory.checkImageExists("airbyte/fake:0.1.2"));
+
+    assertEquals(List.of("busybox:latest", "airbyte/fake:0.1.2", "airbyte/fake:0.1.2"), lookups);
+  }
+
+  @Test
+  public void testFailedLookupMeansImageDoesNotExist() throws InterruptedException {
+    final DockerProcessFactory processFactory = new DockerProcessFactory(TEST_ROOT, "", "", "", imageName -> {
+      throw new RuntimeException("Status 500: pull access denied");
+    });
+
+    assertFalse(processFactory.checkImageExists("airbyte/private:0.1.0"));
   }
 
   @Test
@@ -5,14 +5,19 @@
 package io.airbyte.workers.protocols.airbyte;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.airbyte.commons.json.Jsons;
 import io.airbyte.config.JobSyncConfig.NamespaceDefinitionType;
 import io.airbyte.protocol.models.AirbyteMessage;
 import io.airbyte.protocol.models.CatalogHelpers;
 import io.airbyte.protocol.models.ConfiguredAirbyteCatalog;
+import io.airbyte.protocol.models.ConfiguredAirbyteStream;
+import io.airbyte.protocol.models.DestinationSyncMode;
 import io.airbyte.protocol.models.Field;
 import io.airbyte.protocol.models.JsonSchemaPrimitive;
+import io.airbyte.protocol.models.SyncMode;
+import java.util.List;
 import org.junit.jupiter.api.Test;
 
 class NamespacingMapperTest {
@@ -201,4 +206,46 @@ class NamespacingMapperTest {
     assertEquals(expectedMessage, actualMessage);
   }
 
+  @Test
+  void testIdentityMappingReturnsInput() {
+    final NamespacingMapper mapper = new NamespacingMapper(null, null, null);
+
+    assertSame(CATALOG, mapper.mapCatalog(CATALOG));
+    assertSame(RECORD_MESSAGE, mapper.mapMessage(RECORD_MESSAGE));
+  }
+
+  @Test
+  void testMappingKeepsOtherFields() {
+    final NamespacingMapper mapper = new NamespacingMapper(NamespaceDefinitionType.DESTINATION, null, OUTPUT_PREFIX);
+
+    final ConfiguredAirbyteCatalog inputCatalog = Jsons.clone(CATALOG);
+    inputCatalog.setAdditionalProperty("catalog_property", "a");
+    final ConfiguredAirbyteStream inputStream = inputCatalog.getStreams().get(0)
+        .withSyncMode(SyncMode.INCREMENTAL)
+        .withCursorField(List.of(FIELD_NAME))
+        .withDestinationSyncMode(DestinationSyncMode.APPEND_DEDUP)
+        .withPrimaryKey(List.of(List.of(FIELD_NAME)));
+    inputStream.setAdditionalProperty("configured_stream_property", "b");
+    inputStream.getStream()
+        .withSupportedSyncModes(List.of(SyncMode.FULL_REFRESH, SyncMode.INCREMENTAL))
+        .withSourceDefinedCursor(true)
+        .withDefaultCursorField(List.of(FIELD_NAME))
+        .withSourceDefinedPrimaryKey(List.of(List.of(FIELD_NAME)))
+        .setAdditionalProperty("stream_property", "c");
+
+    final ConfiguredAirbyteCatalog expectedCatalog = Jsons.clone(inputCatalog);
+    expectedCatalog.getStreams().get(0).getStream().withName(OUTPUT_PREFIX + STREAM_NAME).withNamespace(null);
+
+    assertEquals(expectedCatalog, mapper.mapCatalog(inputCatalog));
+
+    final AirbyteMessage inputMessage = Jsons.clone(RECORD_MESSAGE);
+    inputMessage.setAdditionalProperty("message_property", "d");
+    inputMessage.getRecord().setAdditionalProperty("record_property", "e");
+
+    final AirbyteMessage expectedMessage = Jsons.clone(inputMessage);
+    expectedMessage.getRecord().withStream(OUTPUT_PREFIX + STREAM_NAME).withNamespace(null);
+
+    assertEquals(expectedMessage, mapper.mapMessage(inputMessage));
+  }
+
 }